@@ -281,6 +281,8 @@ private ElasticsearchBackendSettings() {
 	 * {@link org.hibernate.search.engine.search.query.SearchFetchable#scroll(int) scroll} will be usable if no
 	 * other results are fetched from Elasticsearch.
 	 * <p>
+	 * Also applies to {@link org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchPointInTime points in time}.
+	 * <p>
 	 * Expects a positive Integer value in seconds, such as 60,
 	 * or a String that can be parsed into such Integer value.
 	 * <p>
@@ -303,6 +305,22 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_KEEP_ALIVE = "max_keep_alive";
 
+	/**
+	 * Whether HTTP bodies exchanged with the Elasticsearch cluster should be compressed with gzip.
+	 * <p>
+	 * When enabled, request bodies are compressed progressively as they are sent,
+	 * and Elasticsearch is asked to compress response bodies,
+	 * which are decompressed progressively as they are parsed.
+	 * This reduces network usage significantly, especially for bulk indexing requests,
+	 * at the cost of some CPU usage on both ends.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * This property defines if partial shard failures are ignored.
 	 * <p>
@@ -320,6 +338,23 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String QUERY_SHARD_FAILURE_IGNORE = "query.shard_failure.ignore";
 
+	/**
+	 * Whether hits should be extracted from search responses while they are being parsed.
+	 * <p>
+	 * When enabled, the content of each hit is read, extracted and released one hit at a time,
+	 * instead of building the JSON tree of the whole response first.
+	 * This reduces memory usage for queries returning many hits or large documents.
+	 * As a consequence, {@link org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult#responseBody()}
+	 * only retains the metadata of each hit (index, id, score, routing, sort values);
+	 * the rest of the response, including aggregations, is retained as usual.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_STREAMING_EXTRACTION_ENABLED}.
+	 */
+	public static final String QUERY_STREAMING_EXTRACTION_ENABLED = "query.streaming_extraction.enabled";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -359,5 +394,7 @@ private Defaults() {
 				BeanReference.of( IndexLayoutStrategy.class, SimpleIndexLayoutStrategy.NAME );
 		public static final int SCROLL_TIMEOUT = 60;
 		public static final boolean QUERY_SHARD_FAILURE_IGNORE = false;
+		public static final boolean QUERY_STREAMING_EXTRACTION_ENABLED = false;
+		public static final boolean COMPRESSION_ENABLED = false;
 	}
 }
@@ -157,6 +157,75 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size in bytes of bulk requests created when processing indexing queues.
+	 * <p>
+	 * This size is estimated from the JSON of bulked works before they are sent.
+	 * A single work larger than this size will still be sent, alone in its bulk.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to no value, meaning the size of bulks in bytes is not limited
+	 * and bulked works are not estimated.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * Whether the size of bulk requests created when processing indexing queues
+	 * should be adjusted at runtime depending on the load of the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, the maximum number of works in each bulk is halved
+	 * whenever Elasticsearch rejects bulked works because it is overloaded (HTTP status 429),
+	 * or whenever a bulk request takes longer than {@link #INDEXING_ADAPTIVE_BULK_SIZE_LATENCY_TARGET},
+	 * then increased progressively back to {@link #INDEXING_MAX_BULK_SIZE}.
+	 * Additionally, bulked works rejected because Elasticsearch is overloaded are retried with a backoff
+	 * instead of being reported as failed immediately.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE_ENABLED}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE_ENABLED =
+			INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE_ENABLED;
+
+	/**
+	 * The execution time, in milliseconds, above which a bulk request is considered too slow
+	 * and the size of following bulk requests is reduced.
+	 * <p>
+	 * Only effective when {@link #INDEXING_ADAPTIVE_BULK_SIZE_ENABLED adaptive bulk size} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 2000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE_LATENCY_TARGET}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE_LATENCY_TARGET =
+			INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE_LATENCY_TARGET;
+
+	/**
+	 * The maximum number of bulk requests that can be executing at the same time for each indexing queue.
+	 * <p>
+	 * Works pertaining to the same document are never sent in concurrent bulk requests,
+	 * so that they are always executed in the order they were submitted in.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_CONCURRENT_BULKS}.
+	 */
+	public static final String INDEXING_MAX_CONCURRENT_BULKS = INDEXING_PREFIX + IndexingRadicals.MAX_CONCURRENT_BULKS;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -168,6 +237,10 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String ADAPTIVE_BULK_SIZE_ENABLED = "adaptive_bulk_size.enabled";
+		public static final String ADAPTIVE_BULK_SIZE_LATENCY_TARGET = "adaptive_bulk_size.latency_target";
+		public static final String MAX_CONCURRENT_BULKS = "max_concurrent_bulks";
 	}
 
 	/**
@@ -189,6 +262,9 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final boolean INDEXING_ADAPTIVE_BULK_SIZE_ENABLED = false;
+		public static final int INDEXING_ADAPTIVE_BULK_SIZE_LATENCY_TARGET = 2_000;
+		public static final int INDEXING_MAX_CONCURRENT_BULKS = 1;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
@@ -137,6 +137,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.asLongStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	@Override
 	public ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
@@ -165,7 +171,7 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 
 		return new ElasticsearchClientImpl(
 				restClientHolder, sniffer, timeoutExecutorService,
-				requestTimeoutMs, connectionTimeoutMs,
+				requestTimeoutMs, connectionTimeoutMs, COMPRESSION_ENABLED.get( propertySource ),
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
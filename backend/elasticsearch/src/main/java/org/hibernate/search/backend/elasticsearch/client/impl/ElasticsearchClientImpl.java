@@ -23,6 +23,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
@@ -37,6 +38,7 @@
 import com.google.gson.JsonObject;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
@@ -61,27 +63,35 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Optional<Integer> requestTimeoutMs;
 	private final int connectionTimeoutMs;
+	private final boolean compressionEnabled;
 
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(BeanHolder<? extends RestClient> restClientHolder, Sniffer sniffer,
 			SimpleScheduledExecutor timeoutExecutorService,
-			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs, boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClientHolder = restClientHolder;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
 		this.connectionTimeoutMs = connectionTimeoutMs;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		return submit( request, null );
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request,
+			ElasticsearchResponseBodyParser bodyParser) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( response, bodyParser ) );
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -104,6 +114,9 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 		HttpEntity entity;
 		try {
 			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			if ( compressionEnabled && entity != null ) {
+				entity = new GzipHttpEntity( entity );
+			}
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -169,7 +182,16 @@ public void onFailure(Exception exception) {
 
 	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
-		setPerRequestSocketTimeout( elasticsearchRequest, request );
+		RequestOptions.Builder requestOptions = null;
+		if ( compressionEnabled ) {
+			// Responses are decompressed by the RestClient, progressively as we parse them.
+			requestOptions = RequestOptions.DEFAULT.toBuilder()
+					.addHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" );
+		}
+		requestOptions = setPerRequestSocketTimeout( elasticsearchRequest, requestOptions );
+		if ( requestOptions != null ) {
+			request.setOptions( requestOptions );
+		}
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
 			request.addParameter( parameter.getKey(), parameter.getValue() );
@@ -180,10 +202,11 @@ private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity
 		return request;
 	}
 
-	private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchRequest, Request request) {
+	private RequestOptions.Builder setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchRequest,
+			RequestOptions.Builder requestOptions) {
 		Deadline deadline = elasticsearchRequest.deadline();
 		if ( deadline == null ) {
-			return;
+			return requestOptions;
 		}
 
 		long timeToHardTimeout = deadline.checkRemainingTimeMillis();
@@ -196,15 +219,13 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 				.setConnectTimeout( connectionTimeoutMs )
 				.build();
 
-		RequestOptions.Builder requestOptions = RequestOptions.DEFAULT.toBuilder()
+		return ( requestOptions == null ? RequestOptions.DEFAULT.toBuilder() : requestOptions )
 				.setRequestConfig( requestConfig );
-
-		request.setOptions( requestOptions );
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(Response response, ElasticsearchResponseBodyParser bodyParser) {
 		try {
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( response, bodyParser );
 			return new ElasticsearchResponse(
 					response.getHost(),
 					response.getStatusLine().getStatusCode(),
@@ -217,7 +238,7 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(Response response, ElasticsearchResponseBodyParser bodyParser) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
@@ -226,7 +247,12 @@ private JsonObject parseBody(Response response) throws IOException {
 		Charset charset = getCharset( entity );
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
+			if ( bodyParser == null ) {
+				return gson.fromJson( reader, JsonObject.class );
+			}
+			else {
+				return bodyParser.parse( gson.newJsonReader( reader ) );
+			}
 		}
 	}
 
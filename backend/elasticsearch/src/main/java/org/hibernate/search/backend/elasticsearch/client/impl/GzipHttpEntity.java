@@ -0,0 +1,229 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.apache.http.protocol.HTTP;
+
+/**
+ * Adapter compressing the content of another entity with gzip.
+ * <p>
+ * Unlike {@link org.apache.http.client.entity.GzipCompressingEntity},
+ * which the Elasticsearch client uses when compression is enabled
+ * and which compresses the whole content into a byte array before sending it,
+ * this entity compresses content progressively as the HTTP client asks for more:
+ * the content of the wrapped entity is read one page at a time,
+ * and only the compressed output of that page is held in memory
+ * until flow control allows writing it.
+ */
+final class GzipHttpEntity implements HttpEntity, HttpAsyncContentProducer {
+
+	private static final BasicHeader CONTENT_ENCODING = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
+	/**
+	 * The size of pages of uncompressed content read from the wrapped entity.
+	 */
+	private static final int PAGE_SIZE = 4096;
+
+	private final HttpEntity wrapped;
+
+	/**
+	 * The state of the current, partial production of content,
+	 * or null if production hasn't started yet or was reset.
+	 */
+	private ProductionState state;
+
+	GzipHttpEntity(HttpEntity wrapped) {
+		Contracts.assertNotNull( wrapped, "wrapped" );
+		this.wrapped = wrapped;
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return wrapped.isRepeatable();
+	}
+
+	@Override
+	public boolean isChunked() {
+		// The length of compressed content is not known in advance.
+		return true;
+	}
+
+	@Override
+	public long getContentLength() {
+		return -1;
+	}
+
+	@Override
+	public Header getContentType() {
+		return wrapped.getContentType();
+	}
+
+	@Override
+	public Header getContentEncoding() {
+		return CONTENT_ENCODING;
+	}
+
+	@Override
+	public InputStream getContent() {
+		return new HttpAsyncContentProducerInputStream( this, PAGE_SIZE );
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		// Closing the gzip stream releases the native resources of its deflater,
+		// but we must not close the output stream that was passed as a parameter.
+		OutputStream nonClosingOut = new FilterOutputStream( out ) {
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				out.write( b, off, len );
+			}
+
+			@Override
+			public void close() throws IOException {
+				flush();
+			}
+		};
+		try ( GZIPOutputStream gzipStream = new GZIPOutputStream( nonClosingOut, PAGE_SIZE ) ) {
+			wrapped.writeTo( gzipStream );
+		}
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("deprecation") // javac warns about this method being deprecated, but we have to implement it
+	public void consumeContent() {
+		//not used (and deprecated)
+	}
+
+	@Override
+	public void close() throws IOException {
+		// Discard the current state so that we can start from the beginning if needed
+		ProductionState stateToClose = state;
+		state = null;
+		if ( stateToClose != null ) {
+			stateToClose.close();
+		}
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+		Contracts.assertNotNull( encoder, "encoder" );
+		// Warning: this method is possibly invoked multiple times, depending on the output buffers
+		// to have available space !
+		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
+		if ( state == null ) {
+			state = new ProductionState( wrapped.getContent() );
+		}
+		while ( true ) {
+			//First write unfinished business from previous attempts
+			if ( !state.writePendingOutput( encoder ) ) {
+				//Flow control is pushing back: return control to the caller and trust we'll be called again.
+				return;
+			}
+			if ( state.finished ) {
+				encoder.complete();
+				return;
+			}
+			state.compressNextPage();
+		}
+	}
+
+	private static final class ProductionState {
+		private final InputStream source;
+		private final byte[] page = new byte[PAGE_SIZE];
+		private final CompressedOutput output = new CompressedOutput();
+		private final GZIPOutputStream gzipStream;
+
+		/**
+		 * Compressed output that has not been accepted by the encoder yet, or null.
+		 */
+		private ByteBuffer pendingOutput;
+		private boolean finished = false;
+
+		private ProductionState(InputStream source) throws IOException {
+			this.source = source;
+			// This writes the gzip header to the output
+			this.gzipStream = new GZIPOutputStream( output, PAGE_SIZE );
+		}
+
+		private void compressNextPage() throws IOException {
+			int read = source.read( page );
+			if ( read < 0 ) {
+				// This writes the last compressed bytes and the gzip trailer to the output
+				gzipStream.finish();
+				finished = true;
+			}
+			else if ( read > 0 ) {
+				gzipStream.write( page, 0, read );
+			}
+		}
+
+		/**
+		 * @return {@code true} if all compressed output was written, {@code false} if flow control pushed back.
+		 */
+		private boolean writePendingOutput(ContentEncoder encoder) throws IOException {
+			if ( pendingOutput == null ) {
+				if ( output.size() == 0 ) {
+					return true;
+				}
+				pendingOutput = output.asByteBuffer();
+			}
+			// We should never do 0-length writes, see HSEARCH-2854
+			if ( pendingOutput.hasRemaining() ) {
+				encoder.write( pendingOutput );
+				if ( pendingOutput.hasRemaining() ) {
+					return false;
+				}
+			}
+			pendingOutput = null;
+			output.reset();
+			return true;
+		}
+
+		private void close() throws IOException {
+			try {
+				source.close();
+			}
+			finally {
+				gzipStream.close();
+			}
+		}
+	}
+
+	/**
+	 * A growable buffer of compressed bytes, which can be written without copying.
+	 */
+	private static final class CompressedOutput extends ByteArrayOutputStream {
+		private CompressedOutput() {
+			super( PAGE_SIZE );
+		}
+
+		private ByteBuffer asByteBuffer() {
+			return ByteBuffer.wrap( buf, 0, count );
+		}
+	}
+}
@@ -23,6 +23,19 @@ public interface ElasticsearchClient {
 	 */
 	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request);
 
+	/**
+	 * @param request A request to execute asynchronously
+	 * @param bodyParser A parser for the body of the response.
+	 * @return The future that will ultimately hold the response
+	 * (or throw an exception if an error occurred or if the request timed out).
+	 * Its body will be the one returned by {@code bodyParser}.
+	 * Clients that do not support custom parsers will ignore {@code bodyParser} and return the full body.
+	 */
+	default CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request,
+			ElasticsearchResponseBodyParser bodyParser) {
+		return submit( request );
+	}
+
 	/**
 	 * Unwrap the client to some implementation-specific type.
 	 *
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+import java.io.IOException;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A parser for the body of Elasticsearch responses,
+ * allowing to process the body as it is read instead of building the full JSON tree first.
+ */
+@FunctionalInterface
+public interface ElasticsearchResponseBodyParser {
+
+	/**
+	 * @param reader A reader for the response body.
+	 * @return The body to expose through {@link ElasticsearchResponse#body()}.
+	 * May omit parts of the response that were already processed by this parser.
+	 * @throws IOException If reading from {@code reader} fails.
+	 */
+	JsonObject parse(JsonReader reader) throws IOException;
+
+}
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.ElasticsearchDistributionName;
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch7ModelDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch812ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch8ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.ElasticsearchModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.AmazonOpenSearchServerlessProtocolDialect;
@@ -19,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.OpenSearch13ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.annotation.Incubating;
@@ -94,8 +96,12 @@ private ElasticsearchModelDialect createModelDialectElastic(ElasticsearchVersion
 		else if ( major == 7 ) {
 			return new Elasticsearch7ModelDialect();
 		}
+		else if ( major == 8 && ( minorOptional.isEmpty() || minorOptional.getAsInt() < 12 ) ) {
+			// Without a minor version, we cannot assume features added in later 8.x versions are available.
+			return new Elasticsearch8ModelDialect( version );
+		}
 		else {
-			return new Elasticsearch8ModelDialect();
+			return new Elasticsearch812ModelDialect();
 		}
 	}
 
@@ -208,7 +214,7 @@ else if ( major == 2 ) {
 		}
 		else {
 			log.unknownElasticsearchVersion( version );
-			return new Elasticsearch70ProtocolDialect();
+			return new OpenSearch13ProtocolDialect();
 		}
 	}
 
@@ -216,14 +222,14 @@ private ElasticsearchProtocolDialect createProtocolDialectOpenSearchV1(Elasticse
 		if ( minor > 3 ) {
 			log.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		return new OpenSearch13ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectOpenSearchV2(ElasticsearchVersion version, int minor) {
 		if ( minor > 10 ) {
 			log.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		return new OpenSearch13ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectAmazonOpenSearchServerless(ElasticsearchVersion version) {
@@ -6,18 +6,28 @@
  */
 package org.hibernate.search.backend.elasticsearch.dialect.model.impl;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.Elasticsearch7IndexFieldTypeFactoryProvider;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
 
 import com.google.gson.Gson;
 
 /**
- * The model dialect for Elasticsearch 8.x.
+ * The model dialect for Elasticsearch 8.0 to 8.11.
  */
 public class Elasticsearch8ModelDialect implements ElasticsearchModelDialect {
 
+	private final ElasticsearchVersion version;
+
+	public Elasticsearch8ModelDialect(ElasticsearchVersion version) {
+		this.version = version;
+	}
+
 	@Override
 	public ElasticsearchIndexFieldTypeFactoryProvider createIndexTypeFieldFactoryProvider(Gson userFacingGson) {
-		return new Elasticsearch7IndexFieldTypeFactoryProvider( userFacingGson );
+		// Without a minor version, we cannot tell whether the cluster supports vector fields (8.12+):
+		// remember it so that attempts to use vector fields fail with a helpful message.
+		return new Elasticsearch7IndexFieldTypeFactoryProvider( userFacingGson,
+				version.minor().isPresent() ? null : version );
 	}
 }
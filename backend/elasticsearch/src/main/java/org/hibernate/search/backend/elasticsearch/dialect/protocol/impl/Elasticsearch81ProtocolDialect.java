@@ -37,7 +37,7 @@ public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider, Boo
 	}
 
 	@Override
-	public ElasticsearchSearchResultExtractorFactory createSearchResultExtractorFactory() {
-		return new Elasticsearch7SearchResultExtractorFactory();
+	public ElasticsearchSearchResultExtractorFactory createSearchResultExtractorFactory(Boolean streamingExtraction) {
+		return new Elasticsearch7SearchResultExtractorFactory( streamingExtraction );
 	}
 }
@@ -39,6 +39,6 @@ public interface ElasticsearchProtocolDialect {
 
 	ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures);
 
-	ElasticsearchSearchResultExtractorFactory createSearchResultExtractorFactory();
+	ElasticsearchSearchResultExtractorFactory createSearchResultExtractorFactory(Boolean streamingExtraction);
 
 }
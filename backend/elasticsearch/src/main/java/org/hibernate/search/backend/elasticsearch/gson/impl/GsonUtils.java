@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.gson.impl;
 
+import java.util.Map;
+
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 public final class GsonUtils {
 
@@ -49,6 +52,40 @@ else if ( JsonElementTypes.ARRAY.isInstance( currentValue ) ) {
 		}
 	}
 
+	/**
+	 * Estimates the size of the JSON representation of the given element, without serializing it.
+	 * <p>
+	 * The estimate is the number of characters, ignoring escaping and multi-byte characters,
+	 * which is good enough to cap the size of requests.
+	 *
+	 * @param element The element whose size should be estimated. May be {@code null}.
+	 * @return The estimated size of the JSON representation of {@code element}.
+	 */
+	public static long estimateSerializedSize(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			long size = 2; // {}
+			for ( Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet() ) {
+				size += entry.getKey().length() + 4; // "":,
+				size += estimateSerializedSize( entry.getValue() );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			long size = 2; // []
+			for ( JsonElement child : element.getAsJsonArray() ) {
+				size += estimateSerializedSize( child ) + 1; // ,
+			}
+			return size;
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			return primitive.isString() ? primitive.getAsString().length() + 2 : primitive.getAsString().length();
+		}
+	}
+
 	/**
 	 * Efficiently performs a deep copy of a given object using Gson serialization/deserialization.
 	 * @param gson The {@link Gson} object.
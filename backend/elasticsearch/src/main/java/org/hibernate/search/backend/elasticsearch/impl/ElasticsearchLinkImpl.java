@@ -61,6 +61,12 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_SHARD_FAILURE_IGNORE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUERY_STREAMING_EXTRACTION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_STREAMING_EXTRACTION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_STREAMING_EXTRACTION_ENABLED )
+					.build();
+
 	private final BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder;
 	private final BackendThreads threads;
 	private final GsonProvider defaultGsonProvider;
@@ -152,7 +158,8 @@ void onStart(BeanResolver beanResolver, ConfigurationPropertySource propertySour
 			indexMetadataSyntax = protocolDialect.createIndexMetadataSyntax();
 			searchSyntax = protocolDialect.createSearchSyntax();
 			workFactory = protocolDialect.createWorkFactory( gsonProvider, QUERY_SHARD_FAILURE_IGNORE.get( propertySource ) );
-			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory();
+			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory(
+					QUERY_STREAMING_EXTRACTION_ENABLED.get( propertySource ) );
 			scrollTimeout = SCROLL_TIMEOUT.get( propertySource );
 		}
 	}
@@ -842,4 +842,62 @@ SearchException unexpectedAwsOpenSearchServerlessVersion(ElasticsearchVersion co
 			+ " so index status requirements cannot be enforced.")
 	SearchException cannotRequireIndexStatus();
 
+	@Message(id = ID_OFFSET + 178,
+			value = "Invalid dimension for a vector field: '%1$s'."
+					+ " The dimension must be set, strictly positive, and at most %2$s.")
+	SearchException invalidVectorDimension(int dimension, int maxDimension, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 179,
+			value = "Invalid vector for the 'knn' predicate: this field expects vectors of type '%1$s',"
+					+ " but the given vector is of type '%2$s'.")
+	SearchException invalidKnnVectorType(String expectedType, String actualType, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 180,
+			value = "Invalid vector for the 'knn' predicate: this field expects vectors of dimension %1$s,"
+					+ " but the given vector has dimension %2$s.")
+	SearchException invalidKnnVectorDimension(int expectedDimension, int actualDimension,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 181,
+			value = "Vector fields are not supported with this version of Elasticsearch/OpenSearch."
+					+ " Vector fields require Elasticsearch 8.12 or later."
+					+ " If the cluster runs Elasticsearch 8.12 or later and the Elasticsearch version is set explicitly"
+					+ " in the configuration, make sure to set the minor version too, e.g. '8.12'.")
+	SearchException vectorFieldsNotSupported(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 182,
+			value = "Point-in-time scrolling is not supported with this distribution of Elasticsearch/OpenSearch."
+					+ " Point-in-time scrolling requires Elasticsearch 7.10 or later;"
+					+ " use a regular scroll instead.")
+	SearchException pointInTimeNotSupported();
+
+	@Message(id = ID_OFFSET + 183,
+			value = "Invalid slice: slice id is '%1$s' and slice count is '%2$s'."
+					+ " The slice count must be strictly positive,"
+					+ " and the slice id must be positive and strictly lower than the slice count.")
+	SearchException invalidPointInTimeSlice(int sliceId, int sliceCount);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 184,
+			value = "Elasticsearch rejected %1$s bulked works because it is overloaded."
+					+ " Retrying in %2$sms (attempt %3$s out of %4$s).")
+	void retryingRejectedBulkedWorks(int rejectedCount, long delayMs, int attempt, int maxAttempts);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET + 185,
+			value = "A search query with a 'knn' predicate on fields %1$s was executed on %2$s shards."
+					+ " Elasticsearch looks for the k nearest neighbours in each shard independently,"
+					+ " so the 'knn' predicate may have matched up to k documents per shard instead of k documents in total."
+					+ " To only retrieve the k nearest neighbours, sort by score and fetch at most k hits,"
+					+ " or use an index with a single shard.")
+	void knnPredicateExecutedOnMultipleShards(Set<String> fieldPaths, int shardCount);
+
+	@Message(id = ID_OFFSET + 186,
+			value = "Vector fields cannot be used with the configured Elasticsearch version '%1$s'."
+					+ " Vector fields require Elasticsearch 8.12 or later,"
+					+ " and the configured version does not include a minor version number."
+					+ " If the cluster runs Elasticsearch 8.12 or later,"
+					+ " set the Elasticsearch version in the configuration to '8.12' or a more precise version.")
+	SearchException vectorFieldsNotSupportedImpreciseVersion(ElasticsearchVersion version, @Param EventContext context);
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adjusts the maximum number of works in bulks at runtime, depending on the load of the Elasticsearch cluster,
+ * following an additive-increase/multiplicative-decrease strategy:
+ * the bulk size is halved whenever Elasticsearch rejects bulked works because it is overloaded
+ * or a bulk takes longer than the latency target,
+ * and increased by one after every other bulk, up to the configured maximum.
+ * <p>
+ * This class is thread-safe: a single instance is shared by all queues of an orchestrator.
+ */
+final class ElasticsearchAdaptiveBulkSize {
+
+	private final int maxBulkSize;
+	private final long latencyTargetNanos;
+
+	private final AtomicInteger currentBulkSize;
+
+	ElasticsearchAdaptiveBulkSize(int maxBulkSize, long latencyTargetMs) {
+		this.maxBulkSize = maxBulkSize;
+		this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos( latencyTargetMs );
+		this.currentBulkSize = new AtomicInteger( maxBulkSize );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxBulkSize=" + maxBulkSize
+				+ ", latencyTargetNanos=" + latencyTargetNanos
+				+ ", currentBulkSize=" + currentBulkSize
+				+ "]";
+	}
+
+	/**
+	 * @return The current maximum number of works in a single bulk.
+	 */
+	int get() {
+		return currentBulkSize.get();
+	}
+
+	/**
+	 * @param latencyNanos The time it took to execute a bulk request.
+	 * @param rejected Whether Elasticsearch rejected some of the bulked works because it is overloaded.
+	 */
+	void onBulkExecuted(long latencyNanos, boolean rejected) {
+		if ( rejected || latencyNanos > latencyTargetNanos ) {
+			currentBulkSize.updateAndGet( size -> Math.max( 1, size / 2 ) );
+		}
+		else {
+			currentBulkSize.updateAndGet( size -> Math.min( maxBulkSize, size + 1 ) );
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A bulk work that reports its execution to an {@link ElasticsearchAdaptiveBulkSize},
+ * and retries bulked works that Elasticsearch rejected because it is overloaded (HTTP status 429),
+ * with an exponential backoff.
+ * <p>
+ * Elasticsearch rejects bulked works per shard,
+ * so all works targeting the same document in a bulk are rejected together,
+ * and retrying them in their original order preserves the order of operations on each document.
+ */
+final class ElasticsearchAdaptiveBulkWork implements NonBulkableWork<BulkResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<Integer> STATUS_ACCESSOR = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+
+	static final int MAX_RETRIES = 8;
+	private static final long INITIAL_BACKOFF_MS = 100L;
+	private static final long MAX_BACKOFF_MS = 5_000L;
+
+	private final List<? extends BulkableWork<?>> works;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy,
+			NonBulkableWork<BulkResult>> bulkWorkFactory;
+	private final ElasticsearchAdaptiveBulkSize adaptiveBulkSize;
+	private final SimpleScheduledExecutor scheduler;
+
+	ElasticsearchAdaptiveBulkWork(List<? extends BulkableWork<?>> works, DocumentRefreshStrategy refreshStrategy,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			ElasticsearchAdaptiveBulkSize adaptiveBulkSize, SimpleScheduledExecutor scheduler) {
+		// The list passed by the bulker is reused for the next bulk: copy it.
+		this.works = new ArrayList<>( works );
+		this.refreshStrategy = refreshStrategy;
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.adaptiveBulkSize = adaptiveBulkSize;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "works=" + works
+				+ ", refreshStrategy=" + refreshStrategy
+				+ "]";
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		List<Integer> indexes = new ArrayList<>( works.size() );
+		for ( int i = 0; i < works.size(); i++ ) {
+			indexes.add( i );
+		}
+		MergedBulkResult result = new MergedBulkResult( works.size() );
+		return attempt( context, indexes, result, 1 )
+				.thenApply( ignored -> result );
+	}
+
+	private CompletableFuture<Void> attempt(ElasticsearchWorkExecutionContext context,
+			List<Integer> indexes, MergedBulkResult result, int attempt) {
+		List<BulkableWork<?>> attemptWorks = new ArrayList<>( indexes.size() );
+		for ( Integer index : indexes ) {
+			attemptWorks.add( works.get( index ) );
+		}
+		long startTime = System.nanoTime();
+		CompletableFuture<BulkResult> bulkResultFuture = bulkWorkFactory.apply( attemptWorks, refreshStrategy )
+				.execute( context );
+		bulkResultFuture.whenComplete( (ignored, throwable) -> {
+			if ( throwable != null ) {
+				// The whole bulk failed, possibly because the cluster is overloaded: back off.
+				adaptiveBulkSize.onBulkExecuted( System.nanoTime() - startTime, true );
+			}
+		} );
+		if ( attempt == 1 ) {
+			// Nothing was executed yet: if the whole bulk fails, all works fail.
+			return bulkResultFuture.thenCompose(
+					bulkResult -> onBulkResult( context, indexes, result, attempt, startTime, bulkResult ) );
+		}
+		return bulkResultFuture.handle( Futures.handler( (bulkResult, throwable) -> {
+			if ( throwable != null ) {
+				// Works executed successfully in previous attempts must not be reported as failed:
+				// only fail the works that were retried.
+				for ( Integer index : indexes ) {
+					result.fail( index, throwable );
+				}
+				return CompletableFuture.<Void>completedFuture( null );
+			}
+			return onBulkResult( context, indexes, result, attempt, startTime, bulkResult );
+		} ) )
+				.thenCompose( Function.identity() );
+	}
+
+	private CompletableFuture<Void> onBulkResult(ElasticsearchWorkExecutionContext context,
+			List<Integer> indexes, MergedBulkResult result, int attempt, long startTime, BulkResult bulkResult) {
+		List<Integer> rejectedIndexes = new ArrayList<>();
+		for ( int i = 0; i < indexes.size(); i++ ) {
+			JsonObject item = bulkResult.item( i );
+			int index = indexes.get( i );
+			result.items[index] = item;
+			if ( isRejected( item ) ) {
+				rejectedIndexes.add( index );
+			}
+		}
+		adaptiveBulkSize.onBulkExecuted( System.nanoTime() - startTime, !rejectedIndexes.isEmpty() );
+
+		if ( rejectedIndexes.isEmpty() || attempt > MAX_RETRIES ) {
+			// Either everything succeeded, or we give up:
+			// remaining rejections will be reported as failures when extracting results.
+			return CompletableFuture.completedFuture( null );
+		}
+		long delayMs = backoffMs( attempt );
+		log.retryingRejectedBulkedWorks( rejectedIndexes.size(), delayMs, attempt, MAX_RETRIES );
+		return delay( delayMs )
+				.thenCompose( ignored -> attempt( context, rejectedIndexes, result, attempt + 1 ) );
+	}
+
+	private CompletableFuture<Void> delay(long delayMs) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		scheduler.schedule( () -> future.complete( null ), delayMs, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	static long backoffMs(int attempt) {
+		return Math.min( MAX_BACKOFF_MS, INITIAL_BACKOFF_MS << Math.min( attempt - 1, 16 ) );
+	}
+
+	private static boolean isRejected(JsonObject item) {
+		// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+		if ( item == null || item.size() == 0 ) {
+			return false;
+		}
+		JsonObject itemBody = item.entrySet().iterator().next().getValue().getAsJsonObject();
+		return STATUS_ACCESSOR.get( itemBody ).map( status -> status == TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+				.orElse( false );
+	}
+
+	private static final class MergedBulkResult implements BulkResult {
+		private final JsonObject[] items;
+		private final Throwable[] failures;
+
+		private MergedBulkResult(int size) {
+			this.items = new JsonObject[size];
+			this.failures = new Throwable[size];
+		}
+
+		private void fail(int index, Throwable throwable) {
+			failures[index] = throwable;
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			Throwable failure = failures[index];
+			if ( failure != null ) {
+				throw log.elasticsearchFailedBecauseOfBulkFailure( failure.getMessage(), failure );
+			}
+			return work.handleBulkResult( context, item( index ) );
+		}
+
+		@Override
+		public JsonObject item(int index) {
+			return items[index];
+		}
+	}
+}
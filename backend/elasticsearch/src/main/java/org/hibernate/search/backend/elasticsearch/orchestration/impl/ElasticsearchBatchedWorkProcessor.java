@@ -6,42 +6,89 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
-import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
 
 /**
  * A processor for batched works that triggers work execution
  * in the order they are submitted in.
  * <p>
- * Works are added by submitting as many works as necessary through {@link #submit(BulkableWork)}.
+ * Works are added by submitting as many works as necessary through {@link #submit(IndexingWork)}.
  * Execution starts as soon as possible,
  * which may be as late as when {@link #endBatch()} is called.
  * <p>
  * Two works submitted to this orchestrator in the same batch will always be executed
  * one after the other, never in parallel.
  * <p>
- * This class is mutable and not thread-safe.
+ * Up to {@code maxInFlightBatches} batches may be executing at the same time,
+ * so that the executor can prepare the next batch while waiting for Elasticsearch to answer.
+ * Batches containing works for a document that is part of a batch still executing
+ * only start executing when that batch is complete,
+ * so that works pertaining to the same document are always executed in the order they were submitted in.
+ * <p>
+ * This class is mutable and not thread-safe,
+ * except for the tracking of in-flight batches which may be updated from other threads.
  */
 class ElasticsearchBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final ElasticsearchWorkBulker bulker;
+	private final int maxInFlightBatches;
+
+	// Only used if maxInFlightBatches > 1; guarded by "this"
+	private final Set<CompletableFuture<Void>> inFlightBatches = new HashSet<>();
+	private final Map<String, CompletableFuture<Void>> inFlightBatchesByQueuingKey = new HashMap<>();
+	private CompletableFuture<Void> capacityFuture;
+
+	// Only used if maxInFlightBatches > 1; state of the current batch
+	private CompletableFuture<Void> currentBatchStart;
+	private List<String> currentBatchQueuingKeys;
+	private List<CompletableFuture<Void>> currentBatchDependencies;
 
 	public ElasticsearchBatchedWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			ElasticsearchWorkBulker bulker) {
+		this( sequenceBuilder, bulker, 1 );
+	}
+
+	public ElasticsearchBatchedWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			ElasticsearchWorkBulker bulker, int maxInFlightBatches) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulker = bulker;
+		this.maxInFlightBatches = maxInFlightBatches;
 	}
 
 	@Override
 	public void beginBatch() {
 		bulker.reset();
-		sequenceBuilder.init( CompletableFuture.completedFuture( null ) );
+		if ( maxInFlightBatches == 1 ) {
+			// The executor only starts a batch after the previous one is complete: no need to wait.
+			sequenceBuilder.init( CompletableFuture.completedFuture( null ) );
+		}
+		else {
+			currentBatchStart = new CompletableFuture<>();
+			currentBatchQueuingKeys = new ArrayList<>();
+			currentBatchDependencies = new ArrayList<>();
+			sequenceBuilder.init( currentBatchStart );
+		}
 	}
 
-	public <T> CompletableFuture<T> submit(BulkableWork<T> work) {
+	public <T> CompletableFuture<T> submit(IndexingWork<T> work) {
+		if ( maxInFlightBatches > 1 ) {
+			String queuingKey = work.getQueuingKey();
+			CompletableFuture<Void> inFlightBatch = inFlightBatchForQueuingKey( queuingKey );
+			if ( inFlightBatch != null ) {
+				currentBatchDependencies.add( inFlightBatch );
+			}
+			currentBatchQueuingKeys.add( queuingKey );
+		}
 		return bulker.add( work );
 	}
 
@@ -49,13 +96,75 @@ public <T> CompletableFuture<T> submit(BulkableWork<T> work) {
 	public CompletableFuture<Void> endBatch() {
 		CompletableFuture<Void> future = sequenceBuilder.build();
 		bulker.finalizeBulkWork();
+		if ( maxInFlightBatches == 1 ) {
+			// Sequence futures are not expected to fail even if one work fails,
+			// so we can safely return this future directly.
+			return future;
+		}
+
+		CompletableFuture<Void> start = currentBatchStart;
+		List<String> queuingKeys = currentBatchQueuingKeys;
+		CompletableFuture<Void> capacity = startTracking( future, queuingKeys );
 		// Sequence futures are not expected to fail even if one work fails,
-		// so we can safely return this future directly.
-		return future;
+		// so we don't need to handle failures here.
+		future.whenComplete( (ignoredResult, ignoredThrowable) -> stopTracking( future, queuingKeys ) );
+		// Only start executing the batch after batches it conflicts with are complete.
+		CompletableFuture.allOf( currentBatchDependencies.toArray( new CompletableFuture<?>[0] ) )
+				.whenComplete( (ignoredResult, ignoredThrowable) -> start.complete( null ) );
+
+		currentBatchStart = null;
+		currentBatchQueuingKeys = null;
+		currentBatchDependencies = null;
+
+		return capacity;
 	}
 
 	@Override
 	public void complete() {
 		// Nothing to do: if all individual works have completed, we're done.
 	}
+
+	/**
+	 * @return A future that completes when all batches that are currently executing are complete.
+	 */
+	public synchronized CompletableFuture<Void> completion() {
+		if ( inFlightBatches.isEmpty() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return CompletableFuture.allOf( inFlightBatches.toArray( new CompletableFuture<?>[0] ) );
+	}
+
+	private synchronized CompletableFuture<Void> inFlightBatchForQueuingKey(String queuingKey) {
+		return inFlightBatchesByQueuingKey.get( queuingKey );
+	}
+
+	private synchronized CompletableFuture<Void> startTracking(CompletableFuture<Void> batch, List<String> queuingKeys) {
+		inFlightBatches.add( batch );
+		for ( String queuingKey : queuingKeys ) {
+			inFlightBatchesByQueuingKey.put( queuingKey, batch );
+		}
+		if ( inFlightBatches.size() < maxInFlightBatches ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		// Too many batches executing: the executor must wait before starting another batch.
+		capacityFuture = new CompletableFuture<>();
+		return capacityFuture;
+	}
+
+	private void stopTracking(CompletableFuture<Void> batch, List<String> queuingKeys) {
+		CompletableFuture<Void> capacityFutureToComplete;
+		synchronized (this) {
+			inFlightBatches.remove( batch );
+			for ( String queuingKey : queuingKeys ) {
+				// Only remove the key if a later batch didn't take over.
+				inFlightBatchesByQueuingKey.remove( queuingKey, batch );
+			}
+			capacityFutureToComplete = capacityFuture;
+			capacityFuture = null;
+		}
+		// Complete outside of the lock, since this may trigger execution of the next batch.
+		if ( capacityFutureToComplete != null ) {
+			capacityFutureToComplete.complete( null );
+		}
+	}
 }
@@ -6,17 +6,25 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
 import org.hibernate.search.util.common.data.impl.ModuloHashTable;
@@ -54,10 +62,34 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_BULK_SIZE_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ADAPTIVE_BULK_SIZE_LATENCY_TARGET =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE_LATENCY_TARGET )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE_LATENCY_TARGET )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_CONCURRENT_BULKS =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_CONCURRENT_BULKS )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_CONCURRENT_BULKS )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
 	private HashTable<BatchingExecutor<ElasticsearchBatchedWorkProcessor, ElasticsearchBatchedWork<?>>> executors;
+	private List<ElasticsearchBatchedWorkProcessor> processors;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
@@ -85,13 +117,23 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		// Estimating the size of bulked works has a cost: only do it if the size of bulks in bytes is limited.
+		long maxBulkBytes = MAX_BULK_BYTES.get( propertySource ).map( Integer::longValue ).orElse( Long.MAX_VALUE );
+		int maxConcurrentBulks = MAX_CONCURRENT_BULKS.get( propertySource );
+		// Shared by all queues: the load of the cluster is the same for all of them.
+		ElasticsearchAdaptiveBulkSize adaptiveBulkSize = ADAPTIVE_BULK_SIZE_ENABLED.get( propertySource )
+				? new ElasticsearchAdaptiveBulkSize( maxBulkSize, ADAPTIVE_BULK_SIZE_LATENCY_TARGET.get( propertySource ) )
+				: null;
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
+		processors = new ArrayList<>( queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize, maxBulkBytes,
+					adaptiveBulkSize, maxConcurrentBulks );
+			processors.add( processor );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
@@ -117,7 +159,10 @@ protected void doSubmit(ElasticsearchBatchedWork<?> work, OperationSubmitter ope
 	protected CompletableFuture<?> completion() {
 		CompletableFuture<?>[] completions = new CompletableFuture[executors.size()];
 		for ( int i = 0; i < executors.size(); i++ ) {
-			completions[i] = executors.get( i ).completion();
+			ElasticsearchBatchedWorkProcessor processor = processors.get( i );
+			// Bulks may still be executing after the executor went idle if concurrent bulks are allowed.
+			completions[i] = executors.get( i ).completion()
+					.thenCompose( ignored -> processor.completion() );
 		}
 		return CompletableFuture.allOf( completions );
 	}
@@ -130,14 +175,30 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, long maxBulkBytes, ElasticsearchAdaptiveBulkSize adaptiveBulkSizeOrNull,
+			int maxConcurrentBulks) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
-		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
-				sequenceBuilder,
-				(worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
-		);
-		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
+		BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory =
+				(worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build();
+		ElasticsearchWorkBulker bulker;
+		if ( adaptiveBulkSizeOrNull == null ) {
+			bulker = new ElasticsearchDefaultWorkBulker(
+					sequenceBuilder,
+					bulkWorkFactory,
+					() -> maxBulkSize,
+					maxBulkBytes
+			);
+		}
+		else {
+			bulker = new ElasticsearchDefaultWorkBulker(
+					sequenceBuilder,
+					(worksToBulk, refreshStrategy) -> new ElasticsearchAdaptiveBulkWork( worksToBulk, refreshStrategy,
+							bulkWorkFactory, adaptiveBulkSizeOrNull, threads.getWorkExecutor() ),
+					adaptiveBulkSizeOrNull::get,
+					maxBulkBytes
+			);
+		}
+		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker, maxConcurrentBulks );
 	}
 
 }
@@ -6,21 +6,28 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.predicate.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 
 public class PredicateRequestContext {
 
 	private final BackendSessionContext sessionContext;
 	private final String nestedPath;
+	// Shared between the root context and its nested contexts
+	private final Set<String> knnFieldPaths;
 
 	public PredicateRequestContext(BackendSessionContext sessionContext) {
-		this.sessionContext = sessionContext;
-		this.nestedPath = null;
+		this( sessionContext, null, new LinkedHashSet<>() );
 	}
 
-	private PredicateRequestContext(BackendSessionContext sessionContext, String nestedPath) {
+	private PredicateRequestContext(BackendSessionContext sessionContext, String nestedPath,
+			Set<String> knnFieldPaths) {
 		this.sessionContext = sessionContext;
 		this.nestedPath = nestedPath;
+		this.knnFieldPaths = knnFieldPaths;
 	}
 
 	String getTenantId() {
@@ -28,10 +35,18 @@ String getTenantId() {
 	}
 
 	public PredicateRequestContext withNestedPath(String path) {
-		return new PredicateRequestContext( sessionContext, path );
+		return new PredicateRequestContext( sessionContext, path, knnFieldPaths );
 	}
 
 	public String getNestedPath() {
 		return nestedPath;
 	}
+
+	public void knnPredicate(String absoluteFieldPath) {
+		knnFieldPaths.add( absoluteFieldPath );
+	}
+
+	public Set<String> getKnnFieldPaths() {
+		return Collections.unmodifiableSet( knnFieldPaths );
+	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A point in time opened on the indexes targeted by an Elasticsearch query,
+ * i.e. a single snapshot of these indexes that can be scrolled through with {@code search_after}.
+ * <p>
+ * Unlike a {@link ElasticsearchSearchFetchable#scroll(int) regular scroll},
+ * a point in time does not hold one search context per shard and per scroll:
+ * it can be scrolled through by multiple {@link #slice(int, int, int) slices} in parallel,
+ * and scrolling can {@link #scroll(int, JsonArray) resume} from the sort values of the last hit that was processed.
+ * <p>
+ * Scrolls created from a point in time use the sorts of the query,
+ * followed by a tiebreaker sort on the shard and document,
+ * so that the order of hits is total and no hit is ever skipped or returned twice.
+ * <p>
+ * The client must call {@link #close()} when it no longer needs the point in time, after all its scrolls are done.
+ * Additionally, the point in time will automatically close on the Elasticsearch side
+ * if no scroll fetches results for longer than the
+ * {@link org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings#SCROLL_TIMEOUT scroll timeout}.
+ *
+ * @param <H> The type of hits.
+ * @see ElasticsearchSearchQuery#openPointInTime()
+ */
+@Incubating
+public interface ElasticsearchSearchPointInTime<H> extends AutoCloseable {
+
+	/**
+	 * Releases the point in time on the Elasticsearch side.
+	 * <p>
+	 * Scrolls created from this point in time can no longer be used afterwards.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Starts scrolling through all hits of this point in time.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link ElasticsearchSearchScroll#next()}.
+	 * @return A scroll. Must be used by a single thread at a time.
+	 */
+	ElasticsearchSearchPointInTimeScroll<H> scroll(int chunkSize);
+
+	/**
+	 * Resumes scrolling through all hits of this point in time, after the hit with the given sort values.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link ElasticsearchSearchScroll#next()}.
+	 * @param searchAfter The sort values of the last hit that was processed,
+	 * as returned by {@link ElasticsearchSearchPointInTimeScroll#searchAfter()},
+	 * or {@code null} to start from the first hit.
+	 * @return A scroll. Must be used by a single thread at a time.
+	 */
+	ElasticsearchSearchPointInTimeScroll<H> scroll(int chunkSize, JsonArray searchAfter);
+
+	/**
+	 * Starts scrolling through one slice of the hits of this point in time.
+	 * <p>
+	 * The hits are split into {@code sliceCount} disjoint slices,
+	 * which can be scrolled through in parallel, by different threads.
+	 *
+	 * @param sliceId The identifier of the slice to scroll through, between {@code 0} (inclusive) and
+	 * {@code sliceCount} (exclusive).
+	 * @param sliceCount The total number of slices.
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link ElasticsearchSearchScroll#next()}.
+	 * @return A scroll. Must be used by a single thread at a time.
+	 */
+	ElasticsearchSearchPointInTimeScroll<H> slice(int sliceId, int sliceCount, int chunkSize);
+
+	/**
+	 * Resumes scrolling through one slice of the hits of this point in time,
+	 * after the hit with the given sort values.
+	 *
+	 * @param sliceId The identifier of the slice to scroll through, between {@code 0} (inclusive) and
+	 * {@code sliceCount} (exclusive).
+	 * @param sliceCount The total number of slices.
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link ElasticsearchSearchScroll#next()}.
+	 * @param searchAfter The sort values of the last hit of this slice that was processed,
+	 * as returned by {@link ElasticsearchSearchPointInTimeScroll#searchAfter()},
+	 * or {@code null} to start from the first hit of this slice.
+	 * @return A scroll. Must be used by a single thread at a time.
+	 */
+	ElasticsearchSearchPointInTimeScroll<H> slice(int sliceId, int sliceCount, int chunkSize, JsonArray searchAfter);
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A scroll through the hits of an {@link ElasticsearchSearchPointInTime}, using {@code search_after}.
+ * <p>
+ * Closing this scroll does not release any resource on the Elasticsearch side:
+ * the point in time itself must be {@link ElasticsearchSearchPointInTime#close() closed}.
+ *
+ * @param <H> The type of hits.
+ */
+@Incubating
+public interface ElasticsearchSearchPointInTimeScroll<H> extends ElasticsearchSearchScroll<H> {
+
+	/**
+	 * @return The sort values of the last hit returned by this scroll,
+	 * to pass to {@link ElasticsearchSearchPointInTime#scroll(int, JsonArray)}
+	 * or {@link ElasticsearchSearchPointInTime#slice(int, int, int, JsonArray)}
+	 * in order to resume scrolling after that hit, e.g. after a failure.
+	 * {@code null} if this scroll did not return any hit yet and was not resumed.
+	 */
+	JsonArray searchAfter();
+
+}
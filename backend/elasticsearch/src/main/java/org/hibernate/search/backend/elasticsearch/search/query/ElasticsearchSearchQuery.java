@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.search.query;
 
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import com.google.gson.JsonObject;
 
@@ -43,4 +44,20 @@
 	 */
 	JsonObject explain(String typeName, Object id);
 
+	/**
+	 * Open a point in time on the indexes targeted by this query,
+	 * to scroll through its hits using {@code search_after}, possibly in parallel slices.
+	 * <p>
+	 * Compared to {@link #scroll(int)}, this puts less pressure on the Elasticsearch cluster
+	 * and allows resuming scrolling after a failure.
+	 * The point in time must be {@link ElasticsearchSearchPointInTime#close() closed}
+	 * when it's no longer needed.
+	 *
+	 * @return A point in time.
+	 * @throws org.hibernate.search.util.common.SearchException If the Elasticsearch distribution
+	 * does not support points in time, or if opening the point in time fails.
+	 */
+	@Incubating
+	ElasticsearchSearchPointInTime<H> openPointInTime();
+
 }
@@ -6,15 +6,19 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionExtractContext;
@@ -24,14 +28,20 @@
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
+import org.hibernate.search.util.common.impl.CollectionHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 
 class Elasticsearch7SearchResultExtractor<H>
 		implements ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	protected static final JsonObjectAccessor HITS_ACCESSOR =
 			JsonAccessor.root().property( "hits" ).asObject();
 
@@ -53,6 +63,9 @@
 	private static final JsonAccessor<Boolean> TIMED_OUT_ACCESSOR =
 			JsonAccessor.root().property( "timed_out" ).asBoolean();
 
+	private static final JsonAccessor<Integer> SHARDS_TOTAL_ACCESSOR =
+			JsonAccessor.root().property( "_shards" ).property( "total" ).asInteger();
+
 	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
 			JsonAccessor.root().property( "_scroll_id" ).asString();
 
@@ -61,18 +74,25 @@
 
 	private static final String HITS_TOTAL_RELATION_EXACT_VALUE = "eq";
 
+	// Properties of hits that are kept in the response body after streaming extraction.
+	private static final Set<String> STREAMING_RETAINED_HIT_PROPERTIES =
+			CollectionHelper.asImmutableSet( "_index", "_id", "_score", "_routing", "sort" );
+
 	private final ElasticsearchSearchQueryRequestContext requestContext;
 
 	private final ElasticsearchSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
+	private final boolean streamingExtractionEnabled;
 
 	Elasticsearch7SearchResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection.Extractor<?, H> rootExtractor,
-			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
+			boolean streamingExtractionEnabled) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
+		this.streamingExtractionEnabled = streamingExtractionEnabled;
 	}
 
 	@Override
@@ -82,15 +102,8 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 				responseBody
 		);
 
-		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
-		boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).get();
-
-		SearchResultTotal total = extractTotal( responseBody );
-		if ( timedOut ) {
-			// Elasticsearch doesn't return the correct relation in this case:
-			// it tells us the count is exact, but it obviously isn't.
-			total = SimpleSearchResultTotal.lowerBound( total.hitCountLowerBound() );
-		}
+		SearchResultTotal total = extractTotalTakingTimeoutIntoAccount( responseBody );
+		checkKnnShardCount( responseBody );
 
 		List<Object> extractedHits = ( total.isHitCountLowerBound() || total.hitCount() > 0 )
 				? extractHits( extractContext )
@@ -99,6 +112,46 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 		Map<AggregationKey<?>, ?> extractedAggregations =
 				aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations( extractContext, responseBody );
 
+		return createResult( extractContext, responseBody, total, extractedHits, extractedAggregations, deadline );
+	}
+
+	@Override
+	public StreamingExtraction<ElasticsearchLoadableSearchResult<H>> startStreamingExtraction(Deadline deadline) {
+		if ( !streamingExtractionEnabled ) {
+			return null;
+		}
+		return new StreamingExtractionImpl( deadline );
+	}
+
+	private SearchResultTotal extractTotalTakingTimeoutIntoAccount(JsonObject responseBody) {
+		SearchResultTotal total = extractTotal( responseBody );
+		if ( TIMED_OUT_ACCESSOR.get( responseBody ).get() ) {
+			// Elasticsearch doesn't return the correct relation in this case:
+			// it tells us the count is exact, but it obviously isn't.
+			total = SimpleSearchResultTotal.lowerBound( total.hitCountLowerBound() );
+		}
+		return total;
+	}
+
+	private void checkKnnShardCount(JsonObject responseBody) {
+		Set<String> knnFieldPaths = requestContext.getRootPredicateContext().getKnnFieldPaths();
+		if ( knnFieldPaths.isEmpty() ) {
+			return;
+		}
+		// "knn" queries are executed per shard: they match up to k documents per shard,
+		// whereas the Lucene backend matches up to k documents in total.
+		int shardCount = SHARDS_TOTAL_ACCESSOR.get( responseBody ).orElse( 1 );
+		if ( shardCount > 1 ) {
+			log.knnPredicateExecutedOnMultipleShards( knnFieldPaths, shardCount );
+		}
+	}
+
+	private ElasticsearchLoadableSearchResult<H> createResult(ElasticsearchSearchQueryExtractContext extractContext,
+			JsonObject responseBody, SearchResultTotal total,
+			List<Object> extractedHits, Map<AggregationKey<?>, ?> extractedAggregations,
+			Deadline deadline) {
+		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
+		boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).get();
 		String scrollId = extractScrollId( responseBody );
 
 		return new ElasticsearchLoadableSearchResult<>(
@@ -159,4 +212,131 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 	protected String extractScrollId(JsonObject responseBody) {
 		return SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
 	}
+
+	/**
+	 * Extracts hits while the response body is being parsed,
+	 * so that the JSON tree of all hits never needs to be held in memory.
+	 * <p>
+	 * Hits are read property by property: the content of a hit is only held in memory until it has been extracted,
+	 * while its metadata (index, id, score, routing, sort values) is retained in the response body
+	 * returned by {@link #parse(JsonReader)}.
+	 * Everything else in the response, aggregations in particular, is retained in the response body as usual.
+	 */
+	private final class StreamingExtractionImpl
+			implements StreamingExtraction<ElasticsearchLoadableSearchResult<H>> {
+		private final Deadline deadline;
+
+		private ElasticsearchSearchQueryExtractContext extractContext;
+		private ProjectionExtractContext projectionExtractContext;
+		private List<Object> extractedHits;
+		private RuntimeException extractionFailure;
+
+		private StreamingExtractionImpl(Deadline deadline) {
+			this.deadline = deadline;
+		}
+
+		@Override
+		public JsonObject parse(JsonReader reader) throws IOException {
+			JsonObject responseBody = new JsonObject();
+			extractContext = requestContext.createExtractContext( responseBody );
+			projectionExtractContext = extractContext.createProjectionExtractContext();
+			extractedHits = new ArrayList<>();
+
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( "hits".equals( name ) ) {
+					responseBody.add( name, parseHits( reader ) );
+				}
+				else {
+					responseBody.add( name, JsonParser.parseReader( reader ) );
+				}
+			}
+			reader.endObject();
+			return responseBody;
+		}
+
+		@Override
+		public ElasticsearchLoadableSearchResult<H> result(JsonObject responseBody) {
+			if ( extractContext == null ) {
+				// The client ignored our parser: fall back to extracting from the full response body.
+				return extract( responseBody, deadline );
+			}
+			if ( extractionFailure != null ) {
+				throw extractionFailure;
+			}
+
+			SearchResultTotal total = extractTotalTakingTimeoutIntoAccount( responseBody );
+			checkKnnShardCount( responseBody );
+
+			// Aggregations are retained in the response body: extract them as usual.
+			Map<AggregationKey<?>, ?> extractedAggregations =
+					aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations( extractContext, responseBody );
+
+			return createResult( extractContext, responseBody, total, extractedHits, extractedAggregations, deadline );
+		}
+
+		private JsonObject parseHits(JsonReader reader) throws IOException {
+			JsonObject hits = new JsonObject();
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( "hits".equals( name ) ) {
+					JsonArray retainedHits = new JsonArray();
+					reader.beginArray();
+					while ( reader.hasNext() ) {
+						JsonObject retainedHit = new JsonObject();
+						extractHit( parseHit( reader, retainedHit ) );
+						retainedHits.add( retainedHit );
+					}
+					reader.endArray();
+					hits.add( name, retainedHits );
+				}
+				else {
+					hits.add( name, JsonParser.parseReader( reader ) );
+				}
+			}
+			reader.endObject();
+			return hits;
+		}
+
+		private JsonObject parseHit(JsonReader reader, JsonObject retainedHit) throws IOException {
+			JsonObject hitObject = new JsonObject();
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				boolean retained = STREAMING_RETAINED_HIT_PROPERTIES.contains( name );
+				if ( !retained && extractionFailure != null ) {
+					// Extraction will fail anyway: don't bother building the JSON tree of the hit content.
+					reader.skipValue();
+					continue;
+				}
+				JsonElement value = JsonParser.parseReader( reader );
+				hitObject.add( name, value );
+				if ( retained ) {
+					retainedHit.add( name, value );
+				}
+			}
+			reader.endObject();
+			return hitObject;
+		}
+
+		private void extractHit(JsonObject hitObject) {
+			if ( extractionFailure != null ) {
+				// Extraction will fail anyway: just consume the rest of the response.
+				return;
+			}
+			try {
+				JsonObject source = HIT_SOURCE_ACCESSOR.get( hitObject ).orElse( null );
+				extractedHits.add( rootExtractor.extract(
+						extractContext.getProjectionHitMapper(), hitObject, source, projectionExtractContext
+				) );
+			}
+			catch (RuntimeException e) {
+				// Don't fail while the response is being parsed:
+				// the response must be assessed first, and failures reported as usual.
+				extractionFailure = e;
+			}
+		}
+	}
 }
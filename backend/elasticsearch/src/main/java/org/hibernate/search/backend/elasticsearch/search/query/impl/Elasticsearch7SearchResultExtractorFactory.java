@@ -17,6 +17,13 @@
  * @see Elasticsearch7SearchResultExtractor
  */
 public class Elasticsearch7SearchResultExtractorFactory implements ElasticsearchSearchResultExtractorFactory {
+
+	private final boolean streamingExtractionEnabled;
+
+	public Elasticsearch7SearchResultExtractorFactory(boolean streamingExtractionEnabled) {
+		this.streamingExtractionEnabled = streamingExtractionEnabled;
+	}
+
 	@Override
 	public <H> ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> createResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
@@ -24,7 +31,8 @@ public <H> ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<
 			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
 		return new Elasticsearch7SearchResultExtractor<>(
 				requestContext,
-				rootExtractor, aggregations
+				rootExtractor, aggregations,
+				streamingExtractionEnabled
 		);
 	}
 }
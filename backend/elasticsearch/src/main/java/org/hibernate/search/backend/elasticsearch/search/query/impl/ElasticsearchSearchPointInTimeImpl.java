@@ -0,0 +1,127 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchPointInTime;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchPointInTimeScroll;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+class ElasticsearchSearchPointInTimeImpl<H> implements ElasticsearchSearchPointInTime<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWorkFactory workFactory;
+	private final JsonObject payload;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer;
+	private final Supplier<TimeoutManager> timeoutManagerFactory;
+	private final String keepAliveString;
+	private final AtomicBoolean closed = new AtomicBoolean( false );
+
+	// Elasticsearch may return a different id with each response: we always use the latest one.
+	private volatile String id;
+
+	ElasticsearchSearchPointInTimeImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchWorkFactory workFactory,
+			JsonObject payload,
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer,
+			Supplier<TimeoutManager> timeoutManagerFactory,
+			String id, String keepAliveString) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.requestTransformer = requestTransformer;
+		this.timeoutManagerFactory = timeoutManagerFactory;
+		this.id = id;
+		this.keepAliveString = keepAliveString;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[id=" + id + "]";
+	}
+
+	@Override
+	public void close() {
+		if ( !closed.compareAndSet( false, true ) ) {
+			return;
+		}
+		Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit(
+						workFactory.closePointInTime( id ).build(),
+						OperationSubmitter.blocking()
+				)
+		);
+	}
+
+	@Override
+	public ElasticsearchSearchPointInTimeScroll<H> scroll(int chunkSize) {
+		return scroll( chunkSize, null );
+	}
+
+	@Override
+	public ElasticsearchSearchPointInTimeScroll<H> scroll(int chunkSize, JsonArray searchAfter) {
+		return new ElasticsearchSearchPointInTimeScrollImpl<>( this, timeoutManagerFactory.get(),
+				chunkSize, null, null, searchAfter );
+	}
+
+	@Override
+	public ElasticsearchSearchPointInTimeScroll<H> slice(int sliceId, int sliceCount, int chunkSize) {
+		return slice( sliceId, sliceCount, chunkSize, null );
+	}
+
+	@Override
+	public ElasticsearchSearchPointInTimeScroll<H> slice(int sliceId, int sliceCount, int chunkSize,
+			JsonArray searchAfter) {
+		if ( sliceCount < 1 || sliceId < 0 || sliceId >= sliceCount ) {
+			throw log.invalidPointInTimeSlice( sliceId, sliceCount );
+		}
+		if ( sliceCount == 1 ) {
+			// Elasticsearch rejects slicing into a single slice.
+			return scroll( chunkSize, searchAfter );
+		}
+		return new ElasticsearchSearchPointInTimeScrollImpl<>( this, timeoutManagerFactory.get(),
+				chunkSize, sliceId, sliceCount, searchAfter );
+	}
+
+	ElasticsearchLoadableSearchResult<H> search(SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder) {
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = builder
+				.pointInTime( id, keepAliveString )
+				.requestTransformer( requestTransformer )
+				.build();
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
+	}
+
+	SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
+		return workFactory.search( payload, searchResultExtractor );
+	}
+
+	void updateId(String newId) {
+		id = newId;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchPointInTimeScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+class ElasticsearchSearchPointInTimeScrollImpl<H> implements ElasticsearchSearchPointInTimeScroll<H> {
+
+	private static final JsonAccessor<String> PIT_ID_ACCESSOR =
+			JsonAccessor.root().property( "pit_id" ).asString();
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+
+	private static final JsonAccessor<JsonArray> HIT_SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
+	private final ElasticsearchSearchPointInTimeImpl<H> pointInTime;
+	private final TimeoutManager timeoutManager;
+	private final int chunkSize;
+	private final Integer sliceId;
+	private final Integer sliceCount;
+
+	private JsonArray searchAfter;
+	// The total hit count is only computed for the first chunk, to spare the cluster from computing it again.
+	private SearchResultTotal total;
+
+	ElasticsearchSearchPointInTimeScrollImpl(ElasticsearchSearchPointInTimeImpl<H> pointInTime,
+			TimeoutManager timeoutManager, int chunkSize, Integer sliceId, Integer sliceCount,
+			JsonArray searchAfter) {
+		this.pointInTime = pointInTime;
+		this.timeoutManager = timeoutManager;
+		this.chunkSize = chunkSize;
+		this.sliceId = sliceId;
+		this.sliceCount = sliceCount;
+		this.searchAfter = searchAfter;
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do: the resources are held by the point in time, which is closed separately.
+	}
+
+	@Override
+	public JsonArray searchAfter() {
+		return searchAfter;
+	}
+
+	@Override
+	public ElasticsearchSearchScrollResult<H> next() {
+		timeoutManager.start();
+
+		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder = pointInTime.searchWorkBuilder()
+				.paging( chunkSize, null )
+				.searchAfter( searchAfter )
+				.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() );
+		if ( sliceId != null ) {
+			builder.slice( sliceId, sliceCount );
+		}
+		if ( total != null ) {
+			builder.disableTrackTotalHits();
+		}
+
+		ElasticsearchLoadableSearchResult<H> loadableSearchResult = pointInTime.search( builder );
+		ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
+
+		JsonObject responseBody = searchResult.responseBody();
+		String pointInTimeId = PIT_ID_ACCESSOR.get( responseBody )
+				.orElseThrow( () -> new AssertionFailure( "Elasticsearch response lacked a value for pit_id" ) );
+		pointInTime.updateId( pointInTimeId );
+
+		JsonArray hits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+		if ( !hits.isEmpty() ) {
+			JsonObject lastHit = hits.get( hits.size() - 1 ).getAsJsonObject();
+			Optional<JsonArray> sortValues = HIT_SORT_ACCESSOR.get( lastHit );
+			searchAfter = sortValues.orElseThrow(
+					() -> new AssertionFailure( "Elasticsearch response lacked sort values for a hit" ) );
+		}
+
+		if ( total == null ) {
+			total = searchResult.total();
+		}
+
+		timeoutManager.stop();
+
+		return new ElasticsearchSearchScrollResultImpl<>( total, loadableSearchResult.hasHits(),
+				searchResult.hits(), searchResult.took(), searchResult.timedOut() );
+	}
+}
@@ -41,7 +41,6 @@
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.SearchSort;
-import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.impl.CollectionHelper;
 import org.hibernate.search.util.common.impl.Contracts;
@@ -268,9 +267,6 @@ public ElasticsearchSearchQuery<H> build() {
 			REQUEST_SOURCE_ACCESSOR.set( payload, new JsonPrimitive( Boolean.FALSE ) );
 		}
 
-		TimeoutManager timeoutManager = scope.createTimeoutManager(
-				timeoutValue, timeoutUnit, exceptionOnTimeout );
-
 		ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor =
 				searchResultExtractorFactory.createResultExtractor(
 						requestContext,
@@ -283,7 +279,7 @@ public ElasticsearchSearchQuery<H> build() {
 				scope, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
-				timeoutManager,
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
 				scrollTimeout, totalHitCountThreshold
 		);
 	}
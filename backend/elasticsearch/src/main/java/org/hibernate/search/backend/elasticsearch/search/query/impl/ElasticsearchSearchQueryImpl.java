@@ -18,6 +18,7 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexContext;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchPointInTime;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
@@ -27,6 +28,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -42,6 +44,7 @@
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
@@ -50,6 +53,8 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JsonAccessor<JsonArray> SORT_ACCESSOR = JsonAccessor.root().property( "sort" ).asArray();
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
 	private final ElasticsearchSearchIndexScope<?> scope;
@@ -67,6 +72,9 @@
 	 */
 	private final int maxResultWindow;
 
+	private Long timeoutValue;
+	private TimeUnit timeoutUnit;
+	private boolean exceptionOnTimeout;
 	private TimeoutManager timeoutManager;
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkFactory workFactory,
@@ -78,7 +86,8 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Integer scrollTimeout, Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.scope = scope;
@@ -88,7 +97,10 @@
 		this.payload = payload;
 		this.requestTransformer = requestTransformer;
 		this.searchResultExtractor = searchResultExtractor;
-		this.timeoutManager = timeoutManager;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.timeoutManager = scope.createTimeoutManager( timeoutValue, timeoutUnit, exceptionOnTimeout );
 		this.scrollTimeout = scrollTimeout;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.maxResultWindow = scope.maxResultWindow();
@@ -205,6 +217,30 @@ public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 				scrollTimeoutString, firstScroll, timeoutManager );
 	}
 
+	@Override
+	public ElasticsearchSearchPointInTime<H> openPointInTime() {
+		String keepAliveString = this.scrollTimeout + "s";
+
+		OpenPointInTimeWork.Builder builder = workFactory.openPointInTime( keepAliveString );
+		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+			builder.index( index.names().read() );
+		}
+		builder.routingKeys( routingKeys );
+		String pointInTimeId = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit( builder.build(), OperationSubmitter.blocking() ) );
+
+		// Capture the current timeout settings: each scroll needs its own timeout manager,
+		// since slices may be scrolled through in parallel.
+		Long currentTimeoutValue = timeoutValue;
+		TimeUnit currentTimeoutUnit = timeoutUnit;
+		boolean currentExceptionOnTimeout = exceptionOnTimeout;
+		return new ElasticsearchSearchPointInTimeImpl<>( queryOrchestrator, workFactory,
+				pointInTimePayload(), searchResultExtractor,
+				ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer ),
+				() -> scope.createTimeoutManager( currentTimeoutValue, currentTimeoutUnit, currentExceptionOnTimeout ),
+				pointInTimeId, keepAliveString );
+	}
+
 	@Override
 	public JsonObject explain(Object id) {
 		Contracts.assertNotNull( id, "id" );
@@ -248,6 +284,32 @@ private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuild
 		return builder;
 	}
 
+	private JsonObject pointInTimePayload() {
+		// Shallow copy: we only replace the sort.
+		JsonObject result = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+			result.add( entry.getKey(), entry.getValue() );
+		}
+
+		JsonArray sort = new JsonArray();
+		Optional<JsonArray> querySort = SORT_ACCESSOR.get( payload );
+		if ( querySort.isPresent() ) {
+			sort.addAll( querySort.get() );
+		}
+		else {
+			// Elasticsearch sorts by score by default
+			sort.add( "_score" );
+		}
+		// The tiebreaker makes the order total, which search_after relies on.
+		// Since it comes last, it doesn't affect the position of distance sorts.
+		JsonObject tiebreaker = new JsonObject();
+		tiebreaker.addProperty( "_shard_doc", "asc" );
+		sort.add( tiebreaker );
+		result.add( "sort", sort );
+
+		return result;
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -299,6 +361,9 @@ private URLEncodedString toElasticsearchId(ElasticsearchSearchIndexContext index
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		// replace the timeout manager on already created query instance
+		timeoutValue = timeout;
+		timeoutUnit = timeUnit;
+		exceptionOnTimeout = true;
 		timeoutManager = scope.createTimeoutManager( timeout, timeUnit, true );
 	}
 }
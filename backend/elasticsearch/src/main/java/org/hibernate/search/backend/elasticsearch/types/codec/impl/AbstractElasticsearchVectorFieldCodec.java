@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.codec.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonElementTypes;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+public abstract class AbstractElasticsearchVectorFieldCodec<F> implements ElasticsearchFieldCodec<F> {
+
+	private final Class<F> vectorType;
+	private final int dimension;
+	private final String similarity;
+
+	protected AbstractElasticsearchVectorFieldCodec(Class<F> vectorType, int dimension, String similarity) {
+		this.vectorType = vectorType;
+		this.dimension = dimension;
+		this.similarity = similarity;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "dimension=" + dimension
+				+ ", similarity=" + similarity
+				+ "]";
+	}
+
+	@Override
+	public JsonElement encode(F value) {
+		if ( value == null ) {
+			return JsonNull.INSTANCE;
+		}
+		return toJsonArray( value );
+	}
+
+	@Override
+	public F decode(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return null;
+		}
+		return fromJsonArray( JsonElementTypes.ARRAY.fromElement( element ) );
+	}
+
+	@Override
+	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( getClass() != obj.getClass() ) {
+			return false;
+		}
+		AbstractElasticsearchVectorFieldCodec<?> other = (AbstractElasticsearchVectorFieldCodec<?>) obj;
+		return dimension == other.dimension
+				&& similarity.equals( other.similarity );
+	}
+
+	public Class<F> vectorType() {
+		return vectorType;
+	}
+
+	public int dimension() {
+		return dimension;
+	}
+
+	/**
+	 * @param vector A vector, which must have the same type as vectors indexed by this codec.
+	 * @return The number of components of the given vector.
+	 */
+	public abstract int dimension(F vector);
+
+	protected abstract JsonArray toJsonArray(F value);
+
+	protected abstract F fromJsonArray(JsonArray array);
+
+}
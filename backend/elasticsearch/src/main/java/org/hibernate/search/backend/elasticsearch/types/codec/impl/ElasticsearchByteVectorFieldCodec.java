@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.codec.impl;
+
+import com.google.gson.JsonArray;
+
+public final class ElasticsearchByteVectorFieldCodec extends AbstractElasticsearchVectorFieldCodec<byte[]> {
+
+	public ElasticsearchByteVectorFieldCodec(int dimension, String similarity) {
+		super( byte[].class, dimension, similarity );
+	}
+
+	@Override
+	public int dimension(byte[] vector) {
+		return vector.length;
+	}
+
+	@Override
+	protected JsonArray toJsonArray(byte[] value) {
+		JsonArray array = new JsonArray( value.length );
+		for ( byte component : value ) {
+			array.add( component );
+		}
+		return array;
+	}
+
+	@Override
+	protected byte[] fromJsonArray(JsonArray array) {
+		byte[] result = new byte[array.size()];
+		for ( int i = 0; i < result.length; i++ ) {
+			result[i] = array.get( i ).getAsByte();
+		}
+		return result;
+	}
+}
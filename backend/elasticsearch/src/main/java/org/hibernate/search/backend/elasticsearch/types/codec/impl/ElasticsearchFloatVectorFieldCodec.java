@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.codec.impl;
+
+import com.google.gson.JsonArray;
+
+public final class ElasticsearchFloatVectorFieldCodec extends AbstractElasticsearchVectorFieldCodec<float[]> {
+
+	public ElasticsearchFloatVectorFieldCodec(int dimension, String similarity) {
+		super( float[].class, dimension, similarity );
+	}
+
+	@Override
+	public int dimension(float[] vector) {
+		return vector.length;
+	}
+
+	@Override
+	protected JsonArray toJsonArray(float[] value) {
+		JsonArray array = new JsonArray( value.length );
+		for ( float component : value ) {
+			array.add( component );
+		}
+		return array;
+	}
+
+	@Override
+	protected float[] fromJsonArray(JsonArray array) {
+		float[] result = new float[array.size()];
+		for ( int i = 0; i < result.length; i++ ) {
+			result[i] = array.get( i ).getAsFloat();
+		}
+		return result;
+	}
+}
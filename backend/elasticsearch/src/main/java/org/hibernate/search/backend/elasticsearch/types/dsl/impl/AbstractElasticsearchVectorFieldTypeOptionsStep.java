@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.DataTypes;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.PropertyMapping;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchExistsPredicate;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchFieldProjection;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.AbstractElasticsearchVectorFieldCodec;
+import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchKnnPredicate;
+import org.hibernate.search.engine.backend.types.IndexFieldType;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
+import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <F> The type of field values.
+ */
+abstract class AbstractElasticsearchVectorFieldTypeOptionsStep<
+		S extends AbstractElasticsearchVectorFieldTypeOptionsStep<?, F>,
+		F>
+		extends AbstractElasticsearchIndexFieldTypeOptionsStep<S, F>
+		implements VectorFieldTypeOptionsStep<S, F> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// The maximum dimension of indexed dense vectors, as of Elasticsearch 8.11.
+	private static final int MAX_DIMENSION = 4096;
+
+	private int dimension = 0;
+	private VectorSimilarity vectorSimilarity = VectorSimilarity.DEFAULT;
+	private Projectable projectable = Projectable.DEFAULT;
+	private Searchable searchable = Searchable.DEFAULT;
+
+	AbstractElasticsearchVectorFieldTypeOptionsStep(ElasticsearchIndexFieldTypeBuildContext buildContext,
+			Class<F> valueType, String elementType) {
+		super( buildContext, valueType, new PropertyMapping() );
+		builder.mapping().setType( DataTypes.DENSE_VECTOR );
+		builder.mapping().setElementType( elementType );
+	}
+
+	@Override
+	public S dimension(int dimension) {
+		this.dimension = dimension;
+		return thisAsS();
+	}
+
+	@Override
+	public S vectorSimilarity(VectorSimilarity vectorSimilarity) {
+		this.vectorSimilarity = vectorSimilarity;
+		return thisAsS();
+	}
+
+	@Override
+	public S projectable(Projectable projectable) {
+		this.projectable = projectable;
+		return thisAsS();
+	}
+
+	@Override
+	public S searchable(Searchable searchable) {
+		this.searchable = searchable;
+		return thisAsS();
+	}
+
+	@Override
+	public IndexFieldType<F> toIndexFieldType() {
+		if ( dimension <= 0 || dimension > MAX_DIMENSION ) {
+			throw log.invalidVectorDimension( dimension, MAX_DIMENSION, buildContext.getEventContext() );
+		}
+
+		PropertyMapping mapping = builder.mapping();
+		boolean resolvedProjectable = AbstractElasticsearchStandardIndexFieldTypeOptionsStep.resolveDefault( projectable );
+		boolean resolvedSearchable = AbstractElasticsearchStandardIndexFieldTypeOptionsStep.resolveDefault( searchable );
+		String resolvedSimilarity = resolveDefault( vectorSimilarity );
+
+		mapping.setDims( dimension );
+		mapping.setIndex( resolvedSearchable );
+		if ( resolvedSearchable ) {
+			// Elasticsearch rejects the similarity for non-indexed vectors.
+			mapping.setSimilarity( resolvedSimilarity );
+		}
+
+		AbstractElasticsearchVectorFieldCodec<F> codec = createCodec( dimension, resolvedSimilarity );
+		builder.codec( codec );
+
+		if ( resolvedSearchable ) {
+			builder.searchable( true );
+			builder.queryElementFactory( PredicateTypeKeys.EXISTS, new ElasticsearchExistsPredicate.Factory<>() );
+			builder.queryElementFactory( PredicateTypeKeys.KNN, new ElasticsearchKnnPredicate.Factory<>( codec ) );
+		}
+
+		if ( resolvedProjectable ) {
+			builder.projectable( true );
+			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new ElasticsearchFieldProjection.Factory<>( codec ) );
+		}
+
+		return builder.build();
+	}
+
+	protected abstract AbstractElasticsearchVectorFieldCodec<F> createCodec(int dimension, String similarity);
+
+	private static String resolveDefault(VectorSimilarity vectorSimilarity) {
+		switch ( vectorSimilarity ) {
+			case DEFAULT:
+			case COSINE:
+				return "cosine";
+			case L2:
+				return "l2_norm";
+			case DOT_PRODUCT:
+				return "dot_product";
+			case MAX_INNER_PRODUCT:
+				return "max_inner_product";
+			default:
+				throw new AssertionFailure( "Unexpected value for VectorSimilarity: " + vectorSimilarity );
+		}
+	}
+}
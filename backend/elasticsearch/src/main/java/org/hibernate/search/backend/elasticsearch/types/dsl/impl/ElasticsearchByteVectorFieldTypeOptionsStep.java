@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
+
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.AbstractElasticsearchVectorFieldCodec;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchByteVectorFieldCodec;
+
+class ElasticsearchByteVectorFieldTypeOptionsStep
+		extends AbstractElasticsearchVectorFieldTypeOptionsStep<ElasticsearchByteVectorFieldTypeOptionsStep, byte[]> {
+
+	ElasticsearchByteVectorFieldTypeOptionsStep(ElasticsearchIndexFieldTypeBuildContext buildContext) {
+		super( buildContext, byte[].class, "byte" );
+	}
+
+	@Override
+	protected ElasticsearchByteVectorFieldTypeOptionsStep thisAsS() {
+		return this;
+	}
+
+	@Override
+	protected AbstractElasticsearchVectorFieldCodec<byte[]> createCodec(int dimension, String similarity) {
+		return new ElasticsearchByteVectorFieldCodec( dimension, similarity );
+	}
+}
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
+
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.AbstractElasticsearchVectorFieldCodec;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFloatVectorFieldCodec;
+
+class ElasticsearchFloatVectorFieldTypeOptionsStep
+		extends AbstractElasticsearchVectorFieldTypeOptionsStep<ElasticsearchFloatVectorFieldTypeOptionsStep, float[]> {
+
+	ElasticsearchFloatVectorFieldTypeOptionsStep(ElasticsearchIndexFieldTypeBuildContext buildContext) {
+		// Float is the default element type: no need to set it explicitly.
+		super( buildContext, float[].class, null );
+	}
+
+	@Override
+	protected ElasticsearchFloatVectorFieldTypeOptionsStep thisAsS() {
+		return this;
+	}
+
+	@Override
+	protected AbstractElasticsearchVectorFieldCodec<float[]> createCodec(int dimension, String similarity) {
+		return new ElasticsearchFloatVectorFieldCodec( dimension, similarity );
+	}
+}
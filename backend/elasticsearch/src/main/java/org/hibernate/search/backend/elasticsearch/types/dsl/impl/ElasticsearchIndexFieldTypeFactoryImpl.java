@@ -20,6 +20,7 @@
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.types.dsl.ElasticsearchIndexFieldTypeFactory;
 import org.hibernate.search.backend.elasticsearch.types.dsl.ElasticsearchNativeIndexFieldTypeMappingStep;
@@ -29,6 +30,7 @@
 import org.hibernate.search.engine.backend.types.dsl.ScaledNumberIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -46,16 +48,21 @@
 	private final Gson userFacingGson;
 	private final ElasticsearchDefaultFieldFormatProvider defaultFieldFormatProvider;
 	private final IndexFieldTypeDefaultsProvider typeDefaultsProvider;
+	private final boolean vectorFieldsSupported;
+	private final ElasticsearchVersion impreciseVersionOrNull;
 
 	public ElasticsearchIndexFieldTypeFactoryImpl(EventContext eventContext, BackendMapperContext backendMapperContext,
 			Gson userFacingGson,
 			ElasticsearchDefaultFieldFormatProvider defaultFieldFormatProvider,
-			IndexFieldTypeDefaultsProvider typeDefaultsProvider) {
+			IndexFieldTypeDefaultsProvider typeDefaultsProvider,
+			boolean vectorFieldsSupported, ElasticsearchVersion impreciseVersionOrNull) {
 		this.eventContext = eventContext;
 		this.backendMapperContext = backendMapperContext;
 		this.userFacingGson = userFacingGson;
 		this.defaultFieldFormatProvider = defaultFieldFormatProvider;
 		this.typeDefaultsProvider = typeDefaultsProvider;
+		this.vectorFieldsSupported = vectorFieldsSupported;
+		this.impreciseVersionOrNull = impreciseVersionOrNull;
 	}
 
 	@Override
@@ -234,11 +241,33 @@ public ScaledNumberIndexFieldTypeOptionsStep<?, BigInteger> asBigInteger() {
 		return new ElasticsearchBigIntegerIndexFieldTypeOptionsStep( this, typeDefaultsProvider );
 	}
 
+	@Override
+	public VectorFieldTypeOptionsStep<?, float[]> asFloatVector() {
+		checkVectorFieldsSupported();
+		return new ElasticsearchFloatVectorFieldTypeOptionsStep( this );
+	}
+
+	@Override
+	public VectorFieldTypeOptionsStep<?, byte[]> asByteVector() {
+		checkVectorFieldsSupported();
+		return new ElasticsearchByteVectorFieldTypeOptionsStep( this );
+	}
+
 	@Override
 	public ElasticsearchNativeIndexFieldTypeMappingStep asNative() {
 		return new ElasticsearchNativeIndexFieldTypeMappingStepImpl( this );
 	}
 
+	private void checkVectorFieldsSupported() {
+		if ( vectorFieldsSupported ) {
+			return;
+		}
+		if ( impreciseVersionOrNull != null ) {
+			throw log.vectorFieldsNotSupportedImpreciseVersion( impreciseVersionOrNull, eventContext );
+		}
+		throw log.vectorFieldsNotSupported( eventContext );
+	}
+
 	@Override
 	public EventContext getEventContext() {
 		return eventContext;
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.types.dsl.ElasticsearchIndexFieldTypeFactory;
 import org.hibernate.search.backend.elasticsearch.types.dsl.impl.ElasticsearchIndexFieldTypeFactoryImpl;
 import org.hibernate.search.backend.elasticsearch.types.format.impl.Elasticsearch7DefaultFieldFormatProvider;
@@ -22,18 +23,27 @@
 		implements ElasticsearchIndexFieldTypeFactoryProvider {
 
 	private final Gson userFacingGson;
+	private final ElasticsearchVersion impreciseVersionOrNull;
 	private final Elasticsearch7DefaultFieldFormatProvider defaultFieldFormatProvider =
 			new Elasticsearch7DefaultFieldFormatProvider();
 
 	public Elasticsearch7IndexFieldTypeFactoryProvider(Gson userFacingGson) {
+		this( userFacingGson, null );
+	}
+
+	public Elasticsearch7IndexFieldTypeFactoryProvider(Gson userFacingGson,
+			ElasticsearchVersion impreciseVersionOrNull) {
 		this.userFacingGson = userFacingGson;
+		this.impreciseVersionOrNull = impreciseVersionOrNull;
 	}
 
 	@Override
 	public ElasticsearchIndexFieldTypeFactory create(EventContext eventContext,
 			BackendMapperContext backendMapperContext, IndexFieldTypeDefaultsProvider typeDefaultsProvider) {
 		return new ElasticsearchIndexFieldTypeFactoryImpl(
-				eventContext, backendMapperContext, userFacingGson, defaultFieldFormatProvider, typeDefaultsProvider
+				eventContext, backendMapperContext, userFacingGson, defaultFieldFormatProvider, typeDefaultsProvider,
+				// Vector fields are only supported with Elasticsearch 8.12+.
+				false, impreciseVersionOrNull
 		);
 	}
 }
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.predicate.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.AbstractElasticsearchCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexValueFieldContext;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.AbstractElasticsearchSingleFieldPredicate;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchPredicate;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.AbstractElasticsearchVectorFieldCodec;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchKnnPredicate extends AbstractElasticsearchSingleFieldPredicate {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonObjectAccessor KNN_ACCESSOR = JsonAccessor.root().property( "knn" ).asObject();
+	private static final JsonAccessor<String> FIELD_ACCESSOR = JsonAccessor.root().property( "field" ).asString();
+	private static final JsonAccessor<JsonElement> QUERY_VECTOR_ACCESSOR =
+			JsonAccessor.root().property( "query_vector" );
+	private static final JsonAccessor<Integer> NUM_CANDIDATES_ACCESSOR =
+			JsonAccessor.root().property( "num_candidates" ).asInteger();
+	private static final JsonObjectAccessor FILTER_ACCESSOR = JsonAccessor.root().property( "filter" ).asObject();
+
+	private final int k;
+	private final JsonElement vector;
+	private final ElasticsearchSearchPredicate filter;
+
+	private ElasticsearchKnnPredicate(Builder<?> builder) {
+		super( builder );
+		k = builder.k;
+		vector = builder.vector;
+		filter = builder.filter;
+	}
+
+	@Override
+	protected JsonObject doToJsonQuery(PredicateRequestContext context, JsonObject outerObject,
+			JsonObject innerObject) {
+		FIELD_ACCESSOR.set( innerObject, absoluteFieldPath );
+		QUERY_VECTOR_ACCESSOR.set( innerObject, vector );
+		// The "knn" query does not accept a "k" parameter:
+		// each shard returns its "num_candidates" nearest neighbours,
+		// so this predicate matches up to k documents per shard, unlike in the Lucene backend.
+		// We record the predicate so that a warning is logged if the query ends up hitting multiple shards.
+		NUM_CANDIDATES_ACCESSOR.set( innerObject, k );
+		context.knnPredicate( absoluteFieldPath );
+		if ( filter != null ) {
+			// The filter is applied while exploring the HNSW graph, not after the fact,
+			// so that we still get k results when the nearest neighbours do not match the filter.
+			FILTER_ACCESSOR.set( innerObject, filter.toJsonQuery( context ) );
+		}
+
+		KNN_ACCESSOR.set( outerObject, innerObject );
+		return outerObject;
+	}
+
+	public static class Factory<F>
+			extends AbstractElasticsearchCodecAwareSearchQueryElementFactory<KnnPredicateBuilder, F> {
+		private final AbstractElasticsearchVectorFieldCodec<F> vectorCodec;
+
+		public Factory(AbstractElasticsearchVectorFieldCodec<F> codec) {
+			super( codec );
+			this.vectorCodec = codec;
+		}
+
+		@Override
+		public Builder<F> create(ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<F> field) {
+			return new Builder<>( vectorCodec, scope, field );
+		}
+	}
+
+	private static class Builder<F> extends AbstractBuilder implements KnnPredicateBuilder {
+		private final AbstractElasticsearchVectorFieldCodec<F> codec;
+		private final ElasticsearchSearchIndexValueFieldContext<F> field;
+
+		private int k;
+		private JsonElement vector;
+		private ElasticsearchSearchPredicate filter;
+
+		private Builder(AbstractElasticsearchVectorFieldCodec<F> codec, ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<F> field) {
+			super( scope, field );
+			this.codec = codec;
+			this.field = field;
+		}
+
+		@Override
+		public void k(int k) {
+			this.k = k;
+		}
+
+		@Override
+		public void vector(float[] vector) {
+			this.vector = codec.encode( checkVector( vector ) );
+		}
+
+		@Override
+		public void vector(byte[] vector) {
+			this.vector = codec.encode( checkVector( vector ) );
+		}
+
+		@Override
+		public void filter(SearchPredicate filter) {
+			this.filter = ElasticsearchSearchPredicate.from( scope, filter );
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new ElasticsearchKnnPredicate( this );
+		}
+
+		private F checkVector(Object vector) {
+			Class<F> vectorType = codec.vectorType();
+			if ( !vectorType.isInstance( vector ) ) {
+				throw log.invalidKnnVectorType( vectorType.getSimpleName(), vector.getClass().getSimpleName(),
+						field.eventContext() );
+			}
+			F castedVector = vectorType.cast( vector );
+			int dimension = codec.dimension( castedVector );
+			if ( dimension != codec.dimension() ) {
+				throw log.invalidKnnVectorDimension( codec.dimension(), dimension, field.eventContext() );
+			}
+			return castedVector;
+		}
+	}
+}
@@ -65,6 +65,8 @@ public void validate(ValidationErrorCollector errorCollector, PropertyMapping ex
 				expectedMapping.getTermVector(), actualMapping.getTermVector(), "no"
 		);
 
+		validateVectorOptions( errorCollector, expectedMapping, actualMapping );
+
 		super.validate( errorCollector, expectedMapping, actualMapping );
 	}
 
@@ -86,6 +88,25 @@ private void validateAnalyzerOptions(ValidationErrorCollector errorCollector, Pr
 		);
 	}
 
+	private void validateVectorOptions(ValidationErrorCollector errorCollector, PropertyMapping expectedMapping,
+			PropertyMapping actualMapping) {
+		if ( !DataTypes.DENSE_VECTOR.equals( expectedMapping.getType() ) ) {
+			return;
+		}
+		LeafValidators.EQUAL.validateWithDefault(
+				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "element_type",
+				expectedMapping.getElementType(), actualMapping.getElementType(), "float"
+		);
+		LeafValidators.EQUAL.validate(
+				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "dims",
+				expectedMapping.getDims(), actualMapping.getDims()
+		);
+		LeafValidators.EQUAL.validate(
+				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "similarity",
+				expectedMapping.getSimilarity(), actualMapping.getSimilarity()
+		);
+	}
+
 	private void validateIndexOptions(ValidationErrorCollector errorCollector, PropertyMapping expectedMapping,
 			PropertyMapping actualMapping) {
 		Boolean expectedIndex = expectedMapping.getIndex();
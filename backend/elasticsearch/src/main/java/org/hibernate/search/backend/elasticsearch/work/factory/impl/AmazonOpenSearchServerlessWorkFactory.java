@@ -13,10 +13,12 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteByQueryWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.FlushWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.RefreshWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.WaitForIndexStatusWork;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -98,4 +100,14 @@ public WaitForIndexStatusWork.Builder waitForIndexStatus(URLEncodedString indexN
 	public boolean isWaitForIndexStatusSupported() {
 		return false;
 	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		throw log.cannotExecuteOperationOnAmazonOpenSearchServerless( "openPointInTime" );
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		throw log.cannotExecuteOperationOnAmazonOpenSearchServerless( "closePointInTime" );
+	}
 }
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.factory.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A work builder factory for OpenSearch 1.3+.
+ * <p>
+ * OpenSearch exposes points in time through different endpoints than Elasticsearch,
+ * so point-in-time scrolling is not supported.
+ */
+public class OpenSearch13WorkFactory extends Elasticsearch7WorkFactory {
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public OpenSearch13WorkFactory(GsonProvider gsonProvider, Boolean ignoreShardFailures) {
+		super( gsonProvider, ignoreShardFailures );
+	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		throw log.pointInTimeNotSupported();
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		throw log.pointInTimeNotSupported();
+	}
+}
@@ -52,7 +52,7 @@ public ElasticsearchRequest request() {
 	@Override
 	public final CompletableFuture<R> execute(ElasticsearchWorkExecutionContext executionContext) {
 		return Futures.create( () -> beforeExecute( executionContext, request ) )
-				.thenCompose( ignored -> executionContext.getClient().submit( request ) )
+				.thenCompose( ignored -> submit( executionContext, request ) )
 				.exceptionally( Futures.handler( throwable -> {
 					// if we already have a SearchException, throw that,
 					// since it will be more specific
@@ -76,6 +76,11 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 		return SUCCESSFUL_FUTURE;
 	}
 
+	protected CompletableFuture<ElasticsearchResponse> submit(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		return executionContext.getClient().submit( request );
+	}
+
 	protected abstract R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response);
 
 	private R handleResult(ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response) {
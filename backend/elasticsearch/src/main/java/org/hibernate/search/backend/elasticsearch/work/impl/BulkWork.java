@@ -88,8 +88,12 @@ public BulkResultImpl(JsonArray results) {
 
 		@Override
 		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
-			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
-			return work.handleBulkResult( context, bulkItemResponse );
+			return work.handleBulkResult( context, item( index ) );
+		}
+
+		@Override
+		public JsonObject item(int index) {
+			return results.get( index ).getAsJsonObject();
 		}
 	}
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.engine.common.timing.Deadline;
 
 import com.google.gson.JsonObject;
@@ -14,4 +15,25 @@
 
 	R extract(JsonObject responseBody, Deadline deadline);
 
+	/**
+	 * @param deadline The deadline for the extraction, or {@code null}.
+	 * @return A streaming extraction, extracting results while the response body is being parsed,
+	 * or {@code null} to extract results from the fully parsed response body
+	 * through {@link #extract(JsonObject, Deadline)}.
+	 */
+	default StreamingExtraction<R> startStreamingExtraction(Deadline deadline) {
+		return null;
+	}
+
+	interface StreamingExtraction<R> extends ElasticsearchResponseBodyParser {
+
+		/**
+		 * @param responseBody The response body, as returned by {@link #parse(com.google.gson.stream.JsonReader)},
+		 * or the full response body if the client ignored this parser.
+		 * @return The extracted result.
+		 */
+		R result(JsonObject responseBody);
+
+	}
+
 }
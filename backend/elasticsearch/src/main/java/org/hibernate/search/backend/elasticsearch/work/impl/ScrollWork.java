@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
@@ -19,6 +21,9 @@
 	private final Deadline deadline;
 	private final boolean failOnDeadline;
 
+	// Works are built for a single execution, so this is safe.
+	private ElasticsearchSearchResultExtractor.StreamingExtraction<R> streamingExtraction;
+
 	protected ScrollWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
@@ -26,9 +31,22 @@ protected ScrollWork(Builder<R> builder) {
 		this.failOnDeadline = builder.failOnDeadline;
 	}
 
+	@Override
+	protected CompletableFuture<ElasticsearchResponse> submit(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		streamingExtraction = resultExtractor.startStreamingExtraction( failOnDeadline ? deadline : null );
+		if ( streamingExtraction == null ) {
+			return super.submit( executionContext, request );
+		}
+		return executionContext.getClient().submit( request, streamingExtraction );
+	}
+
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject body = response.body();
+		if ( streamingExtraction != null ) {
+			return streamingExtraction.result( body );
+		}
 		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
 	}
 
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -19,6 +20,8 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
@@ -29,6 +32,9 @@
 	private final Deadline deadline;
 	private final boolean failOnDeadline;
 
+	// Works are built for a single execution, so this is safe.
+	private ElasticsearchSearchResultExtractor.StreamingExtraction<R> streamingExtraction;
+
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
@@ -47,9 +53,22 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 		return super.beforeExecute( executionContext, request );
 	}
 
+	@Override
+	protected CompletableFuture<ElasticsearchResponse> submit(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		streamingExtraction = resultExtractor.startStreamingExtraction( failOnDeadline ? deadline : null );
+		if ( streamingExtraction == null ) {
+			return super.submit( executionContext, request );
+		}
+		return executionContext.getClient().submit( request, streamingExtraction );
+	}
+
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject body = response.body();
+		if ( streamingExtraction != null ) {
+			return streamingExtraction.result( body );
+		}
 		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
 	}
 
@@ -71,6 +90,11 @@ public static <T> Builder<T> create(JsonObject payload, ElasticsearchSearchResul
 		private Integer size;
 		private Integer scrollSize;
 		private String scrollTimeout;
+		private String pointInTimeId;
+		private String pointInTimeKeepAlive;
+		private JsonArray searchAfter;
+		private Integer sliceId;
+		private Integer sliceCount;
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
@@ -101,6 +125,23 @@ public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			return this;
 		}
 
+		public Builder<R> pointInTime(String pointInTimeId, String keepAlive) {
+			this.pointInTimeId = pointInTimeId;
+			this.pointInTimeKeepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder<R> searchAfter(JsonArray searchAfter) {
+			this.searchAfter = searchAfter;
+			return this;
+		}
+
+		public Builder<R> slice(int sliceId, int sliceCount) {
+			this.sliceId = sliceId;
+			this.sliceCount = sliceCount;
+			return this;
+		}
+
 		public Builder<R> routingKeys(Set<String> routingKeys) {
 			this.routingKeys = routingKeys;
 			return this;
@@ -137,11 +178,18 @@ public Builder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
 
 		@Override
 		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-							.multiValuedPathComponent( indexes )
-							.pathComponent( Paths._SEARCH )
-							.body( payload );
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+			if ( pointInTimeId == null ) {
+				builder.multiValuedPathComponent( indexes )
+						.pathComponent( Paths._SEARCH )
+						.body( payload );
+			}
+			else {
+				// Indexes and routing keys were set when opening the point in time:
+				// Elasticsearch rejects searches that specify them again.
+				builder.pathComponent( Paths._SEARCH )
+						.body( pointInTimePayload() );
+			}
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -156,7 +204,7 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "scroll", scrollTimeout );
 			}
 
-			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+			if ( pointInTimeId == null && routingKeys != null && !routingKeys.isEmpty() ) {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
@@ -180,6 +228,32 @@ public SearchWork<R> build() {
 			return new SearchWork<>( this );
 		}
 
+		private JsonObject pointInTimePayload() {
+			// Shallow copy: the payload is shared by all requests of the query.
+			JsonObject result = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				result.add( entry.getKey(), entry.getValue() );
+			}
+
+			JsonObject pit = new JsonObject();
+			pit.addProperty( "id", pointInTimeId );
+			pit.addProperty( "keep_alive", pointInTimeKeepAlive );
+			result.add( "pit", pit );
+
+			if ( searchAfter != null ) {
+				result.add( "search_after", searchAfter );
+			}
+
+			if ( sliceId != null && sliceCount != null ) {
+				JsonObject slice = new JsonObject();
+				slice.addProperty( "id", sliceId );
+				slice.addProperty( "max", sliceCount );
+				result.add( "slice", slice );
+			}
+
+			return result;
+		}
+
 		private void handleDeadline(ElasticsearchRequest.Builder builder) {
 			if ( deadline == null ) {
 				return;
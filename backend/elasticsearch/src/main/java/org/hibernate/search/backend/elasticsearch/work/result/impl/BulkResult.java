@@ -9,8 +9,16 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 
+import com.google.gson.JsonObject;
+
 public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @param index The index of a bulked work.
+	 * @return The part of the bulk JSON result relevant to the bulked work at the given index.
+	 */
+	JsonObject item(int index);
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.apache.http.nio.ContentEncoder;
+
+@RunWith(Parameterized.class)
+public class GzipHttpEntityTest {
+
+	@Parameterized.Parameters(name = "{0}")
+	public static List<Object[]> params() {
+		List<Object[]> params = new ArrayList<>();
+
+		JsonObject bodyPart1 = JsonParser.parseString( "{ \"foo\": \"bar\" }" ).getAsJsonObject();
+		JsonObject bodyPart2 = JsonParser.parseString( "{ \"foobar\": 235 }" ).getAsJsonObject();
+		JsonObject bodyPart3 = JsonParser.parseString( "{ \"obj1\": " + bodyPart1.toString()
+				+ ", \"obj2\": " + bodyPart2.toString() + "}" ).getAsJsonObject();
+
+		params.add( new Object[] { "1 small object", Collections.singletonList( bodyPart1 ) } );
+		params.add( new Object[] {
+				"10,000 small objects",
+				Stream.generate( () -> Arrays.asList( bodyPart1, bodyPart2, bodyPart3 ) )
+						.flatMap( List::stream ).limit( 10_000 ).collect( Collectors.toList() ) } );
+		params.add( new Object[] {
+				"1 very large object",
+				Stream.generate( () -> {
+					JsonObject object = new JsonObject();
+					JsonArray array = new JsonArray();
+					object.add( "array", array );
+					Stream.generate( () -> Arrays.asList( bodyPart1, bodyPart2, bodyPart3 ) )
+							.flatMap( List::stream ).limit( 100_000 ).forEach( array::add );
+					return object;
+				} )
+						.limit( 1 ).collect( Collectors.toList() ) } );
+		return params;
+	}
+
+	private final GzipHttpEntity gzipEntity;
+	private final String expectedPayloadString;
+
+	public GzipHttpEntityTest(String ignoredLabel, List<JsonObject> payload) throws IOException {
+		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+		this.gzipEntity = new GzipHttpEntity( new GsonHttpEntity( gson, payload ) );
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject object : payload ) {
+			gson.toJson( object, builder );
+			builder.append( "\n" );
+		}
+		this.expectedPayloadString = builder.toString();
+	}
+
+	@Test
+	public void headers() {
+		assertThat( gzipEntity.getContentEncoding().getValue() ).isEqualTo( "gzip" );
+		assertThat( gzipEntity.getContentType().getValue() ).isEqualTo( "application/json; charset=UTF-8" );
+		assertThat( gzipEntity.getContentLength() ).isEqualTo( -1L );
+	}
+
+	@Test
+	public void produceContent_noPushBack() throws IOException {
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( decompress( doProduceContent( Integer.MAX_VALUE, false ) ) )
+					.isEqualTo( expectedPayloadString );
+		}
+	}
+
+	@Test
+	public void produceContent_pushBack_everyOtherWrite() throws IOException {
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( decompress( doProduceContent( Integer.MAX_VALUE, true ) ) )
+					.isEqualTo( expectedPayloadString );
+		}
+	}
+
+	@Test
+	public void produceContent_partialWrites_every7Bytes() throws IOException {
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( decompress( doProduceContent( 7, false ) ) )
+					.isEqualTo( expectedPayloadString );
+		}
+	}
+
+	@Test
+	public void writeTo() throws IOException {
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+				gzipEntity.writeTo( outputStream );
+				assertThat( decompress( outputStream.toByteArray() ) ).isEqualTo( expectedPayloadString );
+			}
+		}
+	}
+
+	@Test
+	public void getContent() throws IOException {
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			try ( InputStream inputStream = gzipEntity.getContent();
+					ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+				byte[] buffer = new byte[1000];
+				int read;
+				while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+					outputStream.write( buffer, 0, read );
+				}
+				assertThat( decompress( outputStream.toByteArray() ) ).isEqualTo( expectedPayloadString );
+			}
+		}
+	}
+
+	private byte[] doProduceContent(int maxBytesPerWrite, boolean pushBackEveryOtherWrite) throws IOException {
+		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			ContentEncoder contentEncoder = new LimitingContentEncoder( outputStream, maxBytesPerWrite,
+					pushBackEveryOtherWrite );
+			while ( !contentEncoder.isCompleted() ) {
+				gzipEntity.produceContent( contentEncoder, StubIOControl.INSTANCE );
+			}
+			return outputStream.toByteArray();
+		}
+		finally {
+			gzipEntity.close();
+		}
+	}
+
+	private static String decompress(byte[] compressed) throws IOException {
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( compressed ) );
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			byte[] buffer = new byte[1000];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
+			}
+			return outputStream.toString( StandardCharsets.UTF_8.name() );
+		}
+	}
+
+	/**
+	 * An encoder that accepts at most a given number of bytes per call,
+	 * and optionally refuses to write anything every other call.
+	 */
+	private static class LimitingContentEncoder implements ContentEncoder {
+		private final ByteArrayOutputStream outputStream;
+		private final int maxBytesPerWrite;
+		private final boolean pushBackEveryOtherWrite;
+		private boolean complete = false;
+		private boolean pushedBack = false;
+
+		private LimitingContentEncoder(ByteArrayOutputStream outputStream, int maxBytesPerWrite,
+				boolean pushBackEveryOtherWrite) {
+			this.outputStream = outputStream;
+			this.maxBytesPerWrite = maxBytesPerWrite;
+			this.pushBackEveryOtherWrite = pushBackEveryOtherWrite;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			if ( pushBackEveryOtherWrite && !pushedBack ) {
+				pushedBack = true;
+				return 0;
+			}
+			pushedBack = false;
+			int toWrite = Math.min( src.remaining(), maxBytesPerWrite );
+			outputStream.write( src.array(), src.arrayOffset() + src.position(), toWrite );
+			src.position( src.position() + toWrite );
+			return toWrite;
+		}
+
+		@Override
+		public void complete() {
+			this.complete = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return this.complete;
+		}
+	}
+}
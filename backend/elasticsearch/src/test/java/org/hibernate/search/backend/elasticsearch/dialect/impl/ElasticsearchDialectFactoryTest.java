@@ -15,12 +15,14 @@
 import org.hibernate.search.backend.elasticsearch.ElasticsearchDistributionName;
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch7ModelDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch812ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch8ModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.model.impl.ElasticsearchModelDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.OpenSearch13ProtocolDialect;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
 
@@ -232,12 +234,24 @@ public static List<Object[]> params() {
 						Elasticsearch8ModelDialect.class, Elasticsearch81ProtocolDialect.class
 				),
 				successWithWarning(
-						ElasticsearchDistributionName.ELASTIC, "9.0.0", "9.0.0",
+						ElasticsearchDistributionName.ELASTIC, "8.11", "8.11.0",
 						Elasticsearch8ModelDialect.class, Elasticsearch81ProtocolDialect.class
 				),
+				successWithWarning(
+						ElasticsearchDistributionName.ELASTIC, "8.12", "8.12.0",
+						Elasticsearch812ModelDialect.class, Elasticsearch81ProtocolDialect.class
+				),
+				successWithWarning(
+						ElasticsearchDistributionName.ELASTIC, "8.12.0", "8.12.0",
+						Elasticsearch812ModelDialect.class, Elasticsearch81ProtocolDialect.class
+				),
+				successWithWarning(
+						ElasticsearchDistributionName.ELASTIC, "9.0.0", "9.0.0",
+						Elasticsearch812ModelDialect.class, Elasticsearch81ProtocolDialect.class
+				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1", "1.3.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				unsupported( ElasticsearchDistributionName.OPENSEARCH, "1.0" ),
 				unsupported( ElasticsearchDistributionName.OPENSEARCH, "1.0.0-rc1" ),
@@ -248,107 +262,107 @@ public static List<Object[]> params() {
 				unsupported( ElasticsearchDistributionName.OPENSEARCH, "1.2.1" ),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1.3", "1.3.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1.3.0", "1.3.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1.3.1", "1.3.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "1.4", "1.4.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "1.4.0", "1.4.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2", "2.3.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.0", "2.3.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.0.0", "2.0.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.1.0", "2.1.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.2.1", "2.2.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.3.0", "2.3.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.4.0", "2.4.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.5.0", "2.5.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.6.0", "2.6.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.7.0", "2.7.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.8", "2.8.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.8.0", "2.8.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.9", "2.9.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.9.0", "2.9.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.10", "2.10.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "2.10.0", "2.10.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "2.11", "2.11.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "2.11.0", "2.11.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "3", "3.0.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "3.0", "3.0.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.OPENSEARCH, "3.0.0", "3.0.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, OpenSearch13ProtocolDialect.class
 				)
 		);
 	}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.dialect.model.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
+import org.hibernate.search.backend.elasticsearch.types.dsl.ElasticsearchIndexFieldTypeFactory;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+public class Elasticsearch8ModelDialectTest {
+
+	@Test
+	public void vectorField_impreciseVersion() {
+		ElasticsearchIndexFieldTypeFactory typeFactory = createTypeFactory( "8" );
+
+		assertThatThrownBy( typeFactory::asFloatVector )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Vector fields cannot be used with the configured Elasticsearch version 'elastic:8'",
+						"the configured version does not include a minor version number",
+						"set the Elasticsearch version in the configuration to '8.12' or a more precise version" );
+	}
+
+	@Test
+	public void vectorField_preciseVersion() {
+		ElasticsearchIndexFieldTypeFactory typeFactory = createTypeFactory( "8.11" );
+
+		assertThatThrownBy( typeFactory::asByteVector )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Vector fields require Elasticsearch 8.12 or later" )
+				.hasMessageNotContaining( "does not include a minor version number" );
+	}
+
+	private static ElasticsearchIndexFieldTypeFactory createTypeFactory(String version) {
+		return new Elasticsearch8ModelDialect( ElasticsearchVersion.of( version ) )
+				.createIndexTypeFieldFactoryProvider( new Gson() )
+				.create( EventContexts.fromIndexName( "indexName" ), null, null );
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
+public class ElasticsearchAdaptiveBulkWorkTest {
+
+	private static final int MAX_BULK_SIZE = 10;
+
+	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy,
+			NonBulkableWork<BulkResult>> bulkWorkFactoryMock;
+	@Mock
+	private SimpleScheduledExecutor schedulerMock;
+	@Mock
+	private ElasticsearchWorkExecutionContext contextMock;
+
+	private final ElasticsearchAdaptiveBulkSize adaptiveBulkSize =
+			new ElasticsearchAdaptiveBulkSize( MAX_BULK_SIZE, 60_000L );
+
+	@Before
+	public void setup() {
+		// Execute delayed tasks immediately
+		lenient().when( schedulerMock.schedule( any(), anyLong(), eq( TimeUnit.MILLISECONDS ) ) ).thenAnswer( invocation -> {
+			( (Runnable) invocation.getArgument( 0 ) ).run();
+			return null;
+		} );
+	}
+
+	@Test
+	public void noRejection() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		JsonObject item1 = item( 201 );
+		JsonObject item2 = item( 200 );
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkMock( item1, item2 );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+
+		CompletableFuture<BulkResult> future = adaptiveBulkWork( work1, work2 ).execute( contextMock );
+
+		assertThatFuture( future ).isSuccessful( result -> {
+			assertThat( result.item( 0 ) ).isSameAs( item1 );
+			assertThat( result.item( 1 ) ).isSameAs( item2 );
+		} );
+		verify( schedulerMock, times( 0 ) ).schedule( any(), anyLong(), any() );
+		// Already at the maximum: can't increase further
+		assertThat( adaptiveBulkSize.get() ).isEqualTo( MAX_BULK_SIZE );
+	}
+
+	@Test
+	public void rejection_retry() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		JsonObject item1 = item( 201 );
+		JsonObject item3Retried = item( 201 );
+		JsonObject item2Retried = item( 201 );
+		NonBulkableWork<BulkResult> bulkWork1 = bulkWorkMock( item1, item( 429 ), item( 429 ) );
+		NonBulkableWork<BulkResult> bulkWork2 = bulkWorkMock( item2Retried, item3Retried );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2, work3 ), DEFAULT_REFRESH ) )
+				.thenReturn( bulkWork1 );
+		// Only rejected works are retried, in their original order
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work2, work3 ), DEFAULT_REFRESH ) )
+				.thenReturn( bulkWork2 );
+
+		CompletableFuture<BulkResult> future = adaptiveBulkWork( work1, work2, work3 ).execute( contextMock );
+
+		assertThatFuture( future ).isSuccessful( result -> {
+			assertThat( result.item( 0 ) ).isSameAs( item1 );
+			assertThat( result.item( 1 ) ).isSameAs( item2Retried );
+			assertThat( result.item( 2 ) ).isSameAs( item3Retried );
+		} );
+		verify( schedulerMock ).schedule( any(), eq( ElasticsearchAdaptiveBulkWork.backoffMs( 1 ) ),
+				eq( TimeUnit.MILLISECONDS ) );
+		// Halved after the rejection, then increased by one after the successful retry
+		assertThat( adaptiveBulkSize.get() ).isEqualTo( MAX_BULK_SIZE / 2 + 1 );
+	}
+
+	@Test
+	public void rejection_retryFails() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		JsonObject item1 = item( 201 );
+		NonBulkableWork<BulkResult> bulkWork1 = bulkWorkMock( item1, item( 429 ), item( 429 ) );
+		RuntimeException retryFailure = new RuntimeException( "Some failure" );
+		NonBulkableWork<BulkResult> bulkWork2 = mock( NonBulkableWork.class );
+		CompletableFuture<BulkResult> bulkWork2Future = new CompletableFuture<>();
+		bulkWork2Future.completeExceptionally( retryFailure );
+		when( bulkWork2.execute( contextMock ) ).thenReturn( bulkWork2Future );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2, work3 ), DEFAULT_REFRESH ) )
+				.thenReturn( bulkWork1 );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work2, work3 ), DEFAULT_REFRESH ) )
+				.thenReturn( bulkWork2 );
+		when( work1.handleBulkResult( contextMock, item1 ) ).thenReturn( null );
+
+		CompletableFuture<BulkResult> future = adaptiveBulkWork( work1, work2, work3 ).execute( contextMock );
+
+		// The work that succeeded in the first attempt is still reported as successful;
+		// only the retried works are reported as failed.
+		assertThatFuture( future ).isSuccessful( result -> {
+			assertThat( result.extract( contextMock, work1, 0 ) ).isNull();
+			assertThatThrownBy( () -> result.extract( contextMock, work2, 1 ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Call to the bulk REST API failed" )
+					.hasCause( retryFailure );
+			assertThatThrownBy( () -> result.extract( contextMock, work3, 2 ) )
+					.isInstanceOf( SearchException.class )
+					.hasCause( retryFailure );
+		} );
+		verify( work2, never() ).handleBulkResult( any(), any() );
+		verify( work3, never() ).handleBulkResult( any(), any() );
+	}
+
+	@Test
+	public void rejection_giveUp() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		JsonObject rejectedItem = item( 429 );
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkMock( rejectedItem );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+
+		CompletableFuture<BulkResult> future = adaptiveBulkWork( work1 ).execute( contextMock );
+
+		// The rejection is eventually returned as is, to be reported as a failure when extracting the result.
+		assertThatFuture( future ).isSuccessful( result -> assertThat( result.item( 0 ) ).isSameAs( rejectedItem ) );
+		verify( bulkWorkFactoryMock, times( ElasticsearchAdaptiveBulkWork.MAX_RETRIES + 1 ) )
+				.apply( Arrays.asList( work1 ), DEFAULT_REFRESH );
+		assertThat( adaptiveBulkSize.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void backoff() {
+		assertThat( ElasticsearchAdaptiveBulkWork.backoffMs( 1 ) ).isEqualTo( 100L );
+		assertThat( ElasticsearchAdaptiveBulkWork.backoffMs( 2 ) ).isEqualTo( 200L );
+		assertThat( ElasticsearchAdaptiveBulkWork.backoffMs( 3 ) ).isEqualTo( 400L );
+		assertThat( ElasticsearchAdaptiveBulkWork.backoffMs( 100 ) ).isEqualTo( 5_000L );
+	}
+
+	@Test
+	public void adaptiveBulkSize_latency() {
+		ElasticsearchAdaptiveBulkSize size = new ElasticsearchAdaptiveBulkSize( MAX_BULK_SIZE, 1_000L );
+		size.onBulkExecuted( TimeUnit.MILLISECONDS.toNanos( 1_500L ), false );
+		assertThat( size.get() ).isEqualTo( 5 );
+		size.onBulkExecuted( TimeUnit.MILLISECONDS.toNanos( 1_500L ), false );
+		assertThat( size.get() ).isEqualTo( 2 );
+		size.onBulkExecuted( TimeUnit.MILLISECONDS.toNanos( 1_500L ), false );
+		size.onBulkExecuted( TimeUnit.MILLISECONDS.toNanos( 1_500L ), false );
+		assertThat( size.get() ).isEqualTo( 1 );
+		size.onBulkExecuted( TimeUnit.MILLISECONDS.toNanos( 100L ), false );
+		assertThat( size.get() ).isEqualTo( 2 );
+	}
+
+	private ElasticsearchAdaptiveBulkWork adaptiveBulkWork(BulkableWork<?>... works) {
+		return new ElasticsearchAdaptiveBulkWork( Arrays.asList( works ), DEFAULT_REFRESH, bulkWorkFactoryMock,
+				adaptiveBulkSize, schedulerMock );
+	}
+
+	private NonBulkableWork<BulkResult> bulkWorkMock(JsonObject... items) {
+		BulkResult bulkResult = mock( BulkResult.class );
+		for ( int i = 0; i < items.length; i++ ) {
+			when( bulkResult.item( i ) ).thenReturn( items[i] );
+		}
+		NonBulkableWork<BulkResult> bulkWork = mock( NonBulkableWork.class );
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		return bulkWork;
+	}
+
+	private static JsonObject item(int status) {
+		JsonObject itemBody = new JsonObject();
+		itemBody.addProperty( "status", status );
+		JsonObject item = new JsonObject();
+		item.add( "index", itemBody );
+		return item;
+	}
+
+	private <T> BulkableWork<T> bulkableWorkMock(int index) {
+		return mock( BulkableWork.class, "bulkableWork" + index );
+	}
+}
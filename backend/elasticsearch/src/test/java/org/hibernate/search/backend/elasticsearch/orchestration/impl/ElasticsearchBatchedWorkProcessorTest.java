@@ -16,11 +16,12 @@
 
 import java.util.concurrent.CompletableFuture;
 
-import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -45,7 +46,7 @@ private static <T> T unusedReturnValue() {
 
 	@Test
 	public void simple_singleWork() {
-		BulkableWork<Object> work = bulkableWorkMock( 1 );
+		IndexingWork<Object> work = indexingWorkMock( 1 );
 
 		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
 
@@ -79,8 +80,8 @@ public void simple_singleWork() {
 
 	@Test
 	public void simple_multipleWorks() {
-		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
-		BulkableWork<Object> work2 = bulkableWorkMock( 2 );
+		IndexingWork<Object> work1 = indexingWorkMock( 1 );
+		IndexingWork<Object> work2 = indexingWorkMock( 2 );
 
 		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
 
@@ -118,9 +119,9 @@ public void simple_multipleWorks() {
 
 	@Test
 	public void newSequenceBetweenBatches() {
-		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		IndexingWork<Object> work1 = indexingWorkMock( 1 );
 
-		BulkableWork<Object> work2 = bulkableWorkMock( 2 );
+		IndexingWork<Object> work2 = indexingWorkMock( 2 );
 
 		CompletableFuture<Void> sequence1Future = new CompletableFuture<>();
 		CompletableFuture<Void> sequence2Future = new CompletableFuture<>();
@@ -170,6 +171,137 @@ public void newSequenceBetweenBatches() {
 		checkComplete( processor );
 	}
 
+	@Test
+	public void concurrentBatches_noConflict() {
+		IndexingWork<Object> work1 = indexingWorkMock( 1 );
+		IndexingWork<Object> work2 = indexingWorkMock( 2 );
+		IndexingWork<Object> work3 = indexingWorkMock( 3 );
+
+		CompletableFuture<Void> sequence1Future = new CompletableFuture<>();
+		CompletableFuture<Void> sequence2Future = new CompletableFuture<>();
+
+		ElasticsearchBatchedWorkProcessor processor =
+				new ElasticsearchBatchedWorkProcessor( sequenceBuilderMock, bulkerMock, 2 );
+		verifyNoOtherInteractionsAndReset();
+
+		CompletableFuture<Void> sequence1Start = beginBatch( processor );
+
+		when( work1.getQueuingKey() ).thenReturn( "1" );
+		when( bulkerMock.add( work1 ) ).thenReturn( unusedReturnValue() );
+		processor.submit( work1 );
+		verifyNoOtherInteractionsAndReset();
+
+		when( sequenceBuilderMock.build() ).thenReturn( sequence1Future );
+		CompletableFuture<Void> batch1Future = processor.endBatch();
+		verify( bulkerMock ).finalizeBulkWork();
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( sequence1Start ).isSuccessful();
+		// Only one batch is executing: the executor can start another batch right away.
+		assertThatFuture( batch1Future ).isSuccessful();
+
+		CompletableFuture<Void> sequence2Start = beginBatch( processor );
+
+		when( work2.getQueuingKey() ).thenReturn( "2" );
+		when( work3.getQueuingKey() ).thenReturn( "3" );
+		when( bulkerMock.add( work2 ) ).thenReturn( unusedReturnValue() );
+		when( bulkerMock.add( work3 ) ).thenReturn( unusedReturnValue() );
+		processor.submit( work2 );
+		processor.submit( work3 );
+		verifyNoOtherInteractionsAndReset();
+
+		when( sequenceBuilderMock.build() ).thenReturn( sequence2Future );
+		CompletableFuture<Void> batch2Future = processor.endBatch();
+		verify( bulkerMock ).finalizeBulkWork();
+		verifyNoOtherInteractionsAndReset();
+		// No work in common with the executing batch: the second batch can start executing right away.
+		assertThatFuture( sequence2Start ).isSuccessful();
+		// Two batches are executing: the executor must wait before starting another batch.
+		assertThatFuture( batch2Future ).isPending();
+		CompletableFuture<Void> completion = processor.completion();
+		assertThatFuture( completion ).isPending();
+
+		sequence1Future.complete( null );
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( batch2Future ).isSuccessful();
+		assertThatFuture( completion ).isPending();
+
+		sequence2Future.complete( null );
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( completion ).isSuccessful();
+		assertThatFuture( processor.completion() ).isSuccessful();
+
+		checkComplete( processor );
+	}
+
+	@Test
+	public void concurrentBatches_conflict() {
+		IndexingWork<Object> work1 = indexingWorkMock( 1 );
+		IndexingWork<Object> work2 = indexingWorkMock( 2 );
+		IndexingWork<Object> work3 = indexingWorkMock( 3 );
+
+		CompletableFuture<Void> sequence1Future = new CompletableFuture<>();
+		CompletableFuture<Void> sequence2Future = new CompletableFuture<>();
+
+		ElasticsearchBatchedWorkProcessor processor =
+				new ElasticsearchBatchedWorkProcessor( sequenceBuilderMock, bulkerMock, 3 );
+		verifyNoOtherInteractionsAndReset();
+
+		CompletableFuture<Void> sequence1Start = beginBatch( processor );
+
+		when( work1.getQueuingKey() ).thenReturn( "1" );
+		when( bulkerMock.add( work1 ) ).thenReturn( unusedReturnValue() );
+		processor.submit( work1 );
+		verifyNoOtherInteractionsAndReset();
+
+		when( sequenceBuilderMock.build() ).thenReturn( sequence1Future );
+		CompletableFuture<Void> batch1Future = processor.endBatch();
+		verify( bulkerMock ).finalizeBulkWork();
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( sequence1Start ).isSuccessful();
+		assertThatFuture( batch1Future ).isSuccessful();
+
+		CompletableFuture<Void> sequence2Start = beginBatch( processor );
+
+		// Same document as work1
+		when( work2.getQueuingKey() ).thenReturn( "1" );
+		when( work3.getQueuingKey() ).thenReturn( "3" );
+		when( bulkerMock.add( work2 ) ).thenReturn( unusedReturnValue() );
+		when( bulkerMock.add( work3 ) ).thenReturn( unusedReturnValue() );
+		processor.submit( work2 );
+		processor.submit( work3 );
+		verifyNoOtherInteractionsAndReset();
+
+		when( sequenceBuilderMock.build() ).thenReturn( sequence2Future );
+		CompletableFuture<Void> batch2Future = processor.endBatch();
+		verify( bulkerMock ).finalizeBulkWork();
+		verifyNoOtherInteractionsAndReset();
+		// The second batch must wait for the first one to complete before it starts executing...
+		assertThatFuture( sequence2Start ).isPending();
+		// ... but the executor can still prepare another batch.
+		assertThatFuture( batch2Future ).isSuccessful();
+
+		sequence1Future.complete( null );
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( sequence2Start ).isSuccessful();
+		assertThatFuture( processor.completion() ).isPending();
+
+		sequence2Future.complete( null );
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( processor.completion() ).isSuccessful();
+
+		checkComplete( processor );
+	}
+
+	@SuppressWarnings("unchecked") // Raw types are the only way to capture parameterized types
+	private CompletableFuture<Void> beginBatch(ElasticsearchBatchedWorkProcessor processor) {
+		ArgumentCaptor<CompletableFuture<?>> sequenceStartCaptor = ArgumentCaptor.forClass( CompletableFuture.class );
+		processor.beginBatch();
+		verify( bulkerMock ).reset();
+		verify( sequenceBuilderMock ).init( sequenceStartCaptor.capture() );
+		verifyNoOtherInteractionsAndReset();
+		return (CompletableFuture<Void>) sequenceStartCaptor.getValue();
+	}
+
 	private void verifyNoOtherInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkerMock );
 		reset( sequenceBuilderMock, bulkerMock );
@@ -181,7 +313,7 @@ private void checkComplete(ElasticsearchBatchedWorkProcessor processor) {
 	}
 
 	@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
-	private <T> BulkableWork<T> bulkableWorkMock(int index) {
-		return mock( BulkableWork.class, "bulkableWork" + index );
+	private <T> IndexingWork<T> indexingWorkMock(int index) {
+		return mock( IndexingWork.class, "indexingWork" + index );
 	}
 }
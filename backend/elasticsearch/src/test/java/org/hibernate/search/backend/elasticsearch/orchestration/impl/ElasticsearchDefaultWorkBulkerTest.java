@@ -8,7 +8,9 @@
 
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -16,6 +18,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
@@ -26,6 +29,8 @@
 import org.junit.Rule;
 import org.junit.Test;
 
+import com.google.gson.JsonObject;
+
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
@@ -269,6 +274,108 @@ public void newBulkOnDifferentRefresh() {
 		verifyNoOtherSequenceInteractionsAndReset();
 	}
 
+	@Test
+	public void newBulkOnMaxBulkBytes() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 4 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 5 );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+
+		// Each work is estimated to ~125 bytes: two works fit in a bulk, but not three.
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, () -> 10, 300L );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		stubBulkableWork( work1, 100 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		stubBulkableWork( work2, 100 );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// Adding work3 to the current bulk would exceed the maximum size => new bulk
+		stubBulkableWork( work3, 100 );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isPending();
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		bulker.finalizeBulkWork();
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+	}
+
+	@Test
+	public void maxBulkSizeChangesAtRuntime() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 3 );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+
+		AtomicInteger maxBulkSize = new AtomicInteger( 10 );
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, maxBulkSize::get,
+						Long.MAX_VALUE );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) )
+				.thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// The maximum bulk size decreased => the bulk is finalized as soon as it reaches the new size
+		maxBulkSize.set( 2 );
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( new CompletableFuture<>() );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+
+		// The size of bulks in bytes is not limited => the size of works is not estimated
+		verify( work1, never() ).getBulkableActionMetadata();
+		verify( work1, never() ).getBulkableActionBody();
+		verify( work2, never() ).getBulkableActionMetadata();
+		verify( work2, never() ).getBulkableActionBody();
+	}
+
+	private void stubBulkableWork(BulkableWork<?> work, int bodyLength) {
+		JsonObject metadata = new JsonObject();
+		metadata.add( "index", new JsonObject() );
+		JsonObject body = new JsonObject();
+		body.addProperty( "f", "x".repeat( bodyLength ) );
+		when( work.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work.getBulkableActionMetadata() ).thenReturn( metadata );
+		when( work.getBulkableActionBody() ).thenReturn( body );
+	}
+
 	private void verifyNoOtherSequenceInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkWorkFactoryMock );
 		reset( sequenceBuilderMock, bulkWorkFactoryMock );
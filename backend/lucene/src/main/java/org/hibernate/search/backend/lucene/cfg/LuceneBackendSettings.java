@@ -93,6 +93,90 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to execute search queries concurrently over multiple index slices.
+	 * <p>
+	 * When set to a strictly positive value, each search query over a large enough index
+	 * (or over multiple shards or indexes) is split into slices of index segments,
+	 * and these slices are searched in parallel in a dedicated thread pool of the given size.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables the search thread pool: queries are executed in the calling thread only.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The maximum number of documents in a single index slice when executing search queries concurrently.
+	 * <p>
+	 * Only effective when the {@link #SEARCH_THREAD_POOL_SIZE search thread pool} is enabled.
+	 * Segments are grouped in slices until a slice holds more than this number of documents
+	 * or more than {@link #SEARCH_SLICE_MAX_SEGMENTS} segments.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_DOCS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_DOCS = "search.slice.max_docs";
+
+	/**
+	 * The maximum number of segments in a single index slice when executing search queries concurrently.
+	 * <p>
+	 * Only effective when the {@link #SEARCH_THREAD_POOL_SIZE search thread pool} is enabled.
+	 * See {@link #SEARCH_SLICE_MAX_DOCS}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_SEGMENTS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_SEGMENTS = "search.slice.max_segments";
+
+	/**
+	 * The maximum number of global ordinals to keep in cache.
+	 * <p>
+	 * Global ordinals map the ordinals of text values in each segment to ordinals global to an index reader,
+	 * and are necessary to compute terms aggregations on text fields.
+	 * They are built once per field and index reader, then kept in cache until the index reader is closed.
+	 * When a new index reader is opened, global ordinals are built eagerly
+	 * for the fields that search queries used with the previous index reader.
+	 * When the cache is full, the least recently used global ordinals are evicted.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables the cache: global ordinals are then built for every search query.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES}.
+	 */
+	public static final String SEARCH_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES = "search.global_ordinals.cache.max_entries";
+
+	/**
+	 * The maximum number of index readers spanning multiple indexes or shards to keep in cache.
+	 * <p>
+	 * Search queries need an index reader spanning all the indexes and shards they target.
+	 * That reader is kept in cache and reused by later search queries targeting the same indexes and shards,
+	 * until the index reader of one of these indexes or shards gets refreshed.
+	 * Reusing that reader allows other caches, such as the query cache or global ordinals,
+	 * to be reused across search queries.
+	 * When the cache is full, the least recently used readers are evicted.
+	 * <p>
+	 * Note that a cached reader may prevent files of outdated segments from being released
+	 * until the next search query targeting the same indexes and shards.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables the cache: a new reader is then created for every search query.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_READER_CACHE_MAX_ENTRIES}.
+	 */
+	public static final String SEARCH_READER_CACHE_MAX_ENTRIES = "search.reader_cache.max_entries";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -102,6 +186,11 @@ private Defaults() {
 		}
 
 		public static final Version LUCENE_VERSION = Version.LATEST;
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+		public static final int SEARCH_SLICE_MAX_DOCS = 250_000;
+		public static final int SEARCH_SLICE_MAX_SEGMENTS = 5;
+		public static final int SEARCH_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES = 100;
+		public static final int SEARCH_READER_CACHE_MAX_ENTRIES = 100;
 
 		/**
 		 * @deprecated The default for this property is now dynamic and depends on the mapper.
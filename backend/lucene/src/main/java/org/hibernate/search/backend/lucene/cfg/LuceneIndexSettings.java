@@ -9,14 +9,19 @@
 import static java.lang.String.join;
 
 import org.hibernate.search.backend.lucene.logging.impl.LuceneLogCategories;
+import org.hibernate.search.backend.lucene.lowlevel.codec.IdPostingsFormatName;
+import org.hibernate.search.backend.lucene.lowlevel.codec.StoredFieldsCompressionName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
 
+import org.apache.lucene.codecs.DocValuesFormat;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.util.InfoStream;
 
 /**
@@ -79,6 +84,70 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * Whether newly flushed segments should be cached in the JVM heap
+	 * instead of being written to the filesystem immediately.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * When enabled, small segments created by refreshes and small merges are kept in memory,
+	 * and only written to the filesystem when the index is committed,
+	 * or when they are merged into a larger segment.
+	 * This reduces I/O for indexes that are written to and refreshed frequently,
+	 * at the cost of heap usage bounded by {@link #DIRECTORY_NRT_CACHE_MAX_SIZE}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_ENABLED}.
+	 *
+	 * @see org.apache.lucene.store.NRTCachingDirectory
+	 */
+	public static final String DIRECTORY_NRT_CACHE_ENABLED = DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_ENABLED;
+
+	/**
+	 * The maximum size of merged segments that can be cached in the JVM heap,
+	 * if {@link #DIRECTORY_NRT_CACHE_ENABLED the NRT cache} is enabled.
+	 * <p>
+	 * Larger merged segments are written to the filesystem directly.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE}.
+	 */
+	public static final String DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_MAX_MERGE_SIZE;
+
+	/**
+	 * The maximum total size of segments cached in the JVM heap for each shard,
+	 * if {@link #DIRECTORY_NRT_CACHE_ENABLED the NRT cache} is enabled.
+	 * <p>
+	 * When this size is reached, new segments are written to the filesystem directly.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_MAX_SIZE}.
+	 */
+	public static final String DIRECTORY_NRT_CACHE_MAX_SIZE = DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_MAX_SIZE;
+
+	/**
+	 * The filesystem root for snapshots of heap directories.
+	 * <p>
+	 * Only available for the "local-heap" directory type.
+	 * <p>
+	 * When set, the latest commit of the index is copied to the directory {@code <root>/<index-name>}
+	 * when Hibernate Search shuts down, and copied back to the heap when Hibernate Search starts,
+	 * so that the index does not need to be rebuilt from scratch on each restart.
+	 * Files that did not change since the previous snapshot are not copied again.
+	 * <p>
+	 * Expects a String representing a path to a directory accessible in read and write mode.
+	 * <p>
+	 * Defaults to no value, meaning heap directories are lost on shutdown.
+	 */
+	public static final String DIRECTORY_SNAPSHOT_ROOT = DIRECTORY_PREFIX + DirectoryRadicals.SNAPSHOT_ROOT;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -146,6 +215,74 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed periodically in a background thread,
+	 * instead of being refreshed by the first search query that notices they are stale.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and ignored if the {@link #IO_REFRESH_INTERVAL refresh interval} is 0.
+	 * <p>
+	 * When enabled, index readers are re-opened every {@link #IO_REFRESH_INTERVAL refresh interval}
+	 * by a background task, which also runs {@link #IO_READER_WARMERS reader warmers},
+	 * so that search queries never pay the cost of opening and warming a new index reader,
+	 * unless a refresh was explicitly requested (for example with the {@code read-sync}
+	 * indexing plan synchronization strategy in the ORM mapper).
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BACKGROUND_REFRESH}.
+	 */
+	public static final String IO_BACKGROUND_REFRESH = IO_PREFIX + IORadicals.BACKGROUND_REFRESH;
+
+	/**
+	 * The warmers to apply to index readers before they are exposed to search queries.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * Expects a single-valued or multi-valued reference to beans of type
+	 * {@link org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer}.
+	 * <p>
+	 * Defaults to no value.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "multi-valued bean reference" properties and accepted values.
+	 */
+	public static final String IO_READER_WARMERS = IO_PREFIX + IORadicals.READER_WARMERS;
+
+	/**
+	 * Whether operations applied to the index writer should be recorded in a translog,
+	 * i.e. a write-ahead log that is synced to disk before indexing works are considered complete,
+	 * and replayed upon startup if the index was not committed.
+	 * <p>
+	 * Only useful with the "near-real-time" I/O strategy and a non-zero {@link #IO_COMMIT_INTERVAL commit interval}.
+	 * <p>
+	 * When enabled, changes are safe as soon as the background process finishes treating a batch of changes,
+	 * even if the {@link #IO_COMMIT_INTERVAL commit interval} is not 0:
+	 * a large commit interval can then be used to reduce the cost of commits without risking data loss.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_TRANSLOG_ENABLED}.
+	 */
+	public static final String IO_TRANSLOG_ENABLED = IO_PREFIX + IORadicals.TRANSLOG_ENABLED;
+
+	/**
+	 * The filesystem root for the translog.
+	 * <p>
+	 * Only available when the {@link #IO_TRANSLOG_ENABLED translog is enabled}.
+	 * <p>
+	 * The translog of each index (and shard) will be stored in a subdirectory of that root,
+	 * named after the index (and shard).
+	 * The root should be on a storage at least as durable as the index itself.
+	 * <p>
+	 * Expects a String representing a path.
+	 * <p>
+	 * No default: must be set when the translog is enabled.
+	 */
+	public static final String IO_TRANSLOG_ROOT = IO_PREFIX + IORadicals.TRANSLOG_ROOT;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -189,6 +326,82 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_INFOSTREAM = IO_WRITER_PREFIX + WriterRadicals.INFOSTREAM;
 
+	/**
+	 * The sort to apply to documents within each segment of the index,
+	 * i.e. the value to pass to {@link IndexWriterConfig#setIndexSort(Sort)}.
+	 * <p>
+	 * Expects a String containing a comma-separated list of absolute field paths,
+	 * each optionally followed by {@code :asc} or {@code :desc} to select the sort order, e.g. {@code "rating:desc,title"},
+	 * or a list of such field paths.
+	 * Sort orders default to {@code asc}.
+	 * Referenced fields must be sortable fields of a string, numeric or temporal type,
+	 * and the index must not contain any nested object field.
+	 * Missing values are sorted last, and multi-valued fields are sorted on their minimum value
+	 * for ascending order or on their maximum value for descending order,
+	 * consistently with the defaults of the search DSL.
+	 * <p>
+	 * When the sort of a search query is a prefix of the index sort,
+	 * Lucene will stop collecting hits in each segment as soon as enough top hits were collected,
+	 * as long as the total hit count is not required to be exact (see {@code totalHitCountThreshold}).
+	 * <p>
+	 * This setting applies to the whole index and cannot be overridden per shard.
+	 * Changing this setting requires dropping the index and reindexing.
+	 * <p>
+	 * Defaults to no index sort.
+	 *
+	 * @see IndexWriterConfig#setIndexSort(Sort)
+	 */
+	public static final String IO_WRITER_INDEX_SORT = IO_WRITER_PREFIX + WriterRadicals.INDEX_SORT;
+
+	/**
+	 * The postings format to use for the document identifier field.
+	 * <p>
+	 * Expects an {@link IdPostingsFormatName} value, or a String representation of such value.
+	 * <p>
+	 * With {@link IdPostingsFormatName#BLOOM_FILTER}, a bloom filter of document identifiers is kept for each segment,
+	 * so that updates and deletes can skip segments that do not contain the document without any disk access.
+	 * This is mostly useful for update-heavy indexes.
+	 * <p>
+	 * Changing this setting only affects segments written after the change,
+	 * so existing segments keep their format until they are merged.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_WRITER_CODEC_ID_POSTINGS_FORMAT}.
+	 */
+	public static final String IO_WRITER_CODEC_ID_POSTINGS_FORMAT =
+			IO_WRITER_PREFIX + WriterRadicals.CODEC_ID_POSTINGS_FORMAT;
+
+	/**
+	 * The compression mode to use for stored fields,
+	 * i.e. for the content of projectable fields.
+	 * <p>
+	 * Expects a {@link StoredFieldsCompressionName} value, or a String representation of such value.
+	 * <p>
+	 * {@link StoredFieldsCompressionName#SIZE} trades projection speed for a smaller index on disk.
+	 * <p>
+	 * Changing this setting only affects segments written after the change,
+	 * so existing segments keep their compression mode until they are merged.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_WRITER_CODEC_STORED_FIELDS_COMPRESSION}.
+	 */
+	public static final String IO_WRITER_CODEC_STORED_FIELDS_COMPRESSION =
+			IO_WRITER_PREFIX + WriterRadicals.CODEC_STORED_FIELDS_COMPRESSION;
+
+	/**
+	 * The name of the doc values format to use for all fields,
+	 * i.e. for sortable, aggregable fields and fields used in projections on nested documents.
+	 * <p>
+	 * Expects a String, the name of a {@link DocValuesFormat} available through the Java service loader.
+	 * <p>
+	 * Changing this setting only affects segments written after the change,
+	 * and the format must remain available through the Java service loader as long as segments use it.
+	 * <p>
+	 * The default for this setting is defined by Lucene.
+	 *
+	 * @see DocValuesFormat#forName(String)
+	 */
+	public static final String IO_WRITER_CODEC_DOC_VALUES_FORMAT =
+			IO_WRITER_PREFIX + WriterRadicals.CODEC_DOC_VALUES_FORMAT;
+
 	/**
 	 * The prefix for property keys related to merge.
 	 */
@@ -266,6 +479,106 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_MERGE_CALIBRATE_BY_DELETES = IO_MERGE_PREFIX + MergeRadicals.CALIBRATE_BY_DELETES;
 
+	/**
+	 * Whether the write rate of merges should adapt to the search load on the same shard.
+	 * <p>
+	 * When enabled, merges write at {@link #IO_MERGE_THROTTLING_MAX_RATE the maximum rate} when the shard is idle,
+	 * and slow down towards {@link #IO_MERGE_THROTTLING_MIN_RATE the minimum rate}
+	 * as the number of concurrent search queries or their latency grow.
+	 * Forced merges, e.g. those triggered by the mass indexer, are never throttled.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_THROTTLING_ENABLED}.
+	 */
+	public static final String IO_MERGE_THROTTLING_ENABLED = IO_MERGE_PREFIX + MergeRadicals.THROTTLING_ENABLED;
+
+	/**
+	 * The rate at which merges write when searches are most intensive,
+	 * if {@link #IO_MERGE_THROTTLING_ENABLED merge throttling} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes per second,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_THROTTLING_MIN_RATE}.
+	 */
+	public static final String IO_MERGE_THROTTLING_MIN_RATE = IO_MERGE_PREFIX + MergeRadicals.THROTTLING_MIN_RATE;
+
+	/**
+	 * The rate at which merges write when there are no searches,
+	 * if {@link #IO_MERGE_THROTTLING_ENABLED merge throttling} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes per second,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_THROTTLING_MAX_RATE}.
+	 */
+	public static final String IO_MERGE_THROTTLING_MAX_RATE = IO_MERGE_PREFIX + MergeRadicals.THROTTLING_MAX_RATE;
+
+	/**
+	 * The number of concurrent search queries on a shard
+	 * above which merges on that shard write at {@link #IO_MERGE_THROTTLING_MIN_RATE the minimum rate},
+	 * if {@link #IO_MERGE_THROTTLING_ENABLED merge throttling} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_THROTTLING_SEARCH_CONCURRENCY}.
+	 */
+	public static final String IO_MERGE_THROTTLING_SEARCH_CONCURRENCY =
+			IO_MERGE_PREFIX + MergeRadicals.THROTTLING_SEARCH_CONCURRENCY;
+
+	/**
+	 * The average latency of search queries on a shard
+	 * above which merges on that shard write at {@link #IO_MERGE_THROTTLING_MIN_RATE the minimum rate},
+	 * if {@link #IO_MERGE_THROTTLING_ENABLED merge throttling} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value in milliseconds,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_THROTTLING_SEARCH_LATENCY}.
+	 */
+	public static final String IO_MERGE_THROTTLING_SEARCH_LATENCY =
+			IO_MERGE_PREFIX + MergeRadicals.THROTTLING_SEARCH_LATENCY;
+
+	/**
+	 * The time windows during which large merges are allowed to execute.
+	 * <p>
+	 * Outside of these windows, merges larger than {@link #IO_MERGE_DEFERRED_MIN_SIZE}
+	 * are deferred until the next window,
+	 * unless the number of segments reaches {@link #IO_MERGE_MAX_SEGMENT_COUNT}.
+	 * <p>
+	 * Expects a String containing comma-separated time windows in the format {@code HH:mm-HH:mm},
+	 * in the default time zone of the JVM, e.g. {@code 01:00-05:00,12:00-13:00}.
+	 * A window may span midnight, e.g. {@code 22:00-04:00}.
+	 * <p>
+	 * Defaults to no value, meaning large merges are never deferred.
+	 */
+	public static final String IO_MERGE_QUIET_WINDOWS = IO_MERGE_PREFIX + MergeRadicals.QUIET_WINDOWS;
+
+	/**
+	 * The size above which merges are deferred to {@link #IO_MERGE_QUIET_WINDOWS quiet windows}.
+	 * <p>
+	 * Expects a positive or zero Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_DEFERRED_MIN_SIZE}.
+	 */
+	public static final String IO_MERGE_DEFERRED_MIN_SIZE = IO_MERGE_PREFIX + MergeRadicals.DEFERRED_MIN_SIZE;
+
+	/**
+	 * The number of segments above which merges are no longer deferred
+	 * to {@link #IO_MERGE_QUIET_WINDOWS quiet windows},
+	 * so that search performance does not degrade indefinitely.
+	 * <p>
+	 * Expects a strictly positive Integer value,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#IO_MERGE_MAX_SEGMENT_COUNT}.
+	 */
+	public static final String IO_MERGE_MAX_SEGMENT_COUNT = IO_MERGE_PREFIX + MergeRadicals.MAX_SEGMENT_COUNT;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -344,6 +657,89 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The number of threads applying each batch of indexing works taken from a single indexing queue.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_PARALLELISM}.
+	 */
+	public static final String INDEXING_BATCH_PARALLELISM = INDEXING_PREFIX + IndexingRadicals.BATCH_PARALLELISM;
+
+	/**
+	 * The maximum number of document adds and updates from a batch of indexing works
+	 * to apply in a single call to the index writer.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_COALESCED_WORKS}.
+	 */
+	public static final String INDEXING_MAX_COALESCED_WORKS = INDEXING_PREFIX + IndexingRadicals.MAX_COALESCED_WORKS;
+
+	/**
+	 * The prefix for replication-related property keys.
+	 */
+	public static final String REPLICATION_PREFIX = "replication.";
+
+	/**
+	 * The role of the index in replication, i.e. whether the index is written to locally,
+	 * with each commit published for replicas,
+	 * whether the index is a read-only copy of a primary index,
+	 * or whether the index is only searched, in a directory shared with the node writing to it.
+	 * <p>
+	 * Expects a {@link ReplicationRoleName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#REPLICATION_ROLE} (no replication).
+	 */
+	public static final String REPLICATION_ROLE = REPLICATION_PREFIX + ReplicationRadicals.ROLE;
+
+	/**
+	 * The transport used to publish commits of a primary index and to fetch them from replicas.
+	 * <p>
+	 * Only available when the replication role is "primary" or "replica".
+	 * <p>
+	 * Expects a String, such as "local-filesystem".
+	 * See the reference documentation for a list of available values.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#REPLICATION_TRANSPORT}.
+	 */
+	public static final String REPLICATION_TRANSPORT = REPLICATION_PREFIX + ReplicationRadicals.TRANSPORT;
+
+	/**
+	 * The filesystem root where the primary index publishes its commits and where replicas fetch them from.
+	 * <p>
+	 * Only available for the "local-filesystem" replication transport.
+	 * <p>
+	 * Expects a String representing a path to a directory accessible in read and write mode
+	 * from the primary and from all replicas.
+	 * <p>
+	 * Commits will be published in directory {@code <root>/<index-name>}.
+	 * <p>
+	 * No default: must be set when using the "local-filesystem" replication transport.
+	 */
+	public static final String REPLICATION_ROOT = REPLICATION_PREFIX + ReplicationRadicals.ROOT;
+
+	/**
+	 * How much time replicas wait between two attempts to fetch new commits from the primary index,
+	 * or read-only indexes wait between two checks for new commits in their directory.
+	 * <p>
+	 * Only available when the replication role is "replica" or "read-only".
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#REPLICATION_POLL_INTERVAL}.
+	 */
+	public static final String REPLICATION_POLL_INTERVAL = REPLICATION_PREFIX + ReplicationRadicals.POLL_INTERVAL;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -420,6 +816,10 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String NRT_CACHE_ENABLED = "nrt_cache.enabled";
+		public static final String NRT_CACHE_MAX_MERGE_SIZE = "nrt_cache.max_merge_size";
+		public static final String NRT_CACHE_MAX_SIZE = "nrt_cache.max_size";
+		public static final String SNAPSHOT_ROOT = "snapshot.root";
 	}
 
 	/**
@@ -433,6 +833,10 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String BACKGROUND_REFRESH = "background_refresh";
+		public static final String READER_WARMERS = "reader_warmers";
+		public static final String TRANSLOG_ENABLED = "translog.enabled";
+		public static final String TRANSLOG_ROOT = "translog.root";
 	}
 
 	/**
@@ -446,6 +850,10 @@ private WriterRadicals() {
 		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
 		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
 		public static final String INFOSTREAM = "infostream";
+		public static final String INDEX_SORT = "index_sort";
+		public static final String CODEC_ID_POSTINGS_FORMAT = "codec.id_postings_format";
+		public static final String CODEC_STORED_FIELDS_COMPRESSION = "codec.stored_fields_compression";
+		public static final String CODEC_DOC_VALUES_FORMAT = "codec.doc_values_format";
 
 	}
 
@@ -463,6 +871,14 @@ private MergeRadicals() {
 		public static final String MAX_SIZE = "max_size";
 		public static final String MAX_FORCED_SIZE = "max_forced_size";
 		public static final String CALIBRATE_BY_DELETES = "calibrate_by_deletes";
+		public static final String THROTTLING_ENABLED = "throttling.enabled";
+		public static final String THROTTLING_MIN_RATE = "throttling.min_rate";
+		public static final String THROTTLING_MAX_RATE = "throttling.max_rate";
+		public static final String THROTTLING_SEARCH_CONCURRENCY = "throttling.search_concurrency";
+		public static final String THROTTLING_SEARCH_LATENCY = "throttling.search_latency";
+		public static final String QUIET_WINDOWS = "quiet_windows";
+		public static final String DEFERRED_MIN_SIZE = "deferred_min_size";
+		public static final String MAX_SEGMENT_COUNT = "max_segment_count";
 
 	}
 
@@ -489,6 +905,22 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String BATCH_PARALLELISM = "batch_parallelism";
+		public static final String MAX_COALESCED_WORKS = "max_coalesced_works";
+	}
+
+	/**
+	 * Configuration property keys for replication, without the {@link #REPLICATION_PREFIX prefix}.
+	 */
+	public static final class ReplicationRadicals {
+
+		private ReplicationRadicals() {
+		}
+
+		public static final String ROLE = "role";
+		public static final String TRANSPORT = "transport";
+		public static final String ROOT = "root";
+		public static final String POLL_INTERVAL = "poll_interval";
 	}
 
 	/**
@@ -503,11 +935,31 @@ private Defaults() {
 		public static final String DIRECTORY_ROOT = ".";
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
+		public static final boolean DIRECTORY_NRT_CACHE_ENABLED = false;
+		public static final int DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE = 5;
+		public static final int DIRECTORY_NRT_CACHE_MAX_SIZE = 60;
 		public static final String SHARDING_STRATEGY = "none";
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_BACKGROUND_REFRESH = false;
+		public static final boolean IO_TRANSLOG_ENABLED = false;
+		public static final boolean IO_MERGE_THROTTLING_ENABLED = false;
+		public static final int IO_MERGE_THROTTLING_MIN_RATE = 5;
+		public static final int IO_MERGE_THROTTLING_MAX_RATE = 200;
+		public static final int IO_MERGE_THROTTLING_SEARCH_CONCURRENCY = 8;
+		public static final int IO_MERGE_THROTTLING_SEARCH_LATENCY = 100;
+		public static final int IO_MERGE_DEFERRED_MIN_SIZE = 512;
+		public static final int IO_MERGE_MAX_SEGMENT_COUNT = 50;
+		public static final IdPostingsFormatName IO_WRITER_CODEC_ID_POSTINGS_FORMAT = IdPostingsFormatName.DEFAULT;
+		public static final StoredFieldsCompressionName IO_WRITER_CODEC_STORED_FIELDS_COMPRESSION =
+				StoredFieldsCompressionName.SPEED;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final int INDEXING_BATCH_PARALLELISM = 1;
+		public static final int INDEXING_MAX_COALESCED_WORKS = 1;
+		public static final ReplicationRoleName REPLICATION_ROLE = ReplicationRoleName.NONE;
+		public static final String REPLICATION_TRANSPORT = "local-filesystem";
+		public static final int REPLICATION_POLL_INTERVAL = 1000;
 	}
 }
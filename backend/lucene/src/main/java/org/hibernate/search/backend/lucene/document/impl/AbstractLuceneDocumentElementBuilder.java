@@ -17,7 +17,6 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexObjectField;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexValueField;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexValueFieldType;
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -136,23 +135,16 @@ private void checkTreeConsistency(LuceneIndexCompositeNode expectedParentNode) {
 		}
 	}
 
-	void contribute(MultiTenancyStrategy multiTenancyStrategy, String tenantId, String routingKey,
-			String rootId, List<Document> nestedDocuments) {
+	void contribute(LuceneIndexEntryMetadataFields entryMetadataFields, List<Document> nestedDocuments) {
 		if ( flattenedObjectDocumentBuilders != null ) {
 			for ( LuceneFlattenedObjectFieldBuilder flattenedObjectDocumentBuilder : flattenedObjectDocumentBuilders ) {
-				flattenedObjectDocumentBuilder.contribute(
-						multiTenancyStrategy, tenantId, routingKey,
-						rootId, nestedDocuments
-				);
+				flattenedObjectDocumentBuilder.contribute( entryMetadataFields, nestedDocuments );
 			}
 		}
 
 		if ( nestedObjectDocumentBuilders != null ) {
 			for ( LuceneNestedObjectFieldBuilder nestedObjectDocumentBuilder : nestedObjectDocumentBuilders ) {
-				nestedObjectDocumentBuilder.contribute(
-						multiTenancyStrategy, tenantId, routingKey,
-						rootId, nestedDocuments
-				);
+				nestedObjectDocumentBuilder.contribute( entryMetadataFields, nestedDocuments );
 			}
 		}
 	}
@@ -10,9 +10,8 @@
 import java.util.HashMap;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
-import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneDocumentContent;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -44,25 +43,15 @@ void checkNoValueYetForSingleValued(String absoluteFieldPath) {
 		}
 	}
 
-	Document finalizeDocument(MultiTenancyStrategy multiTenancyStrategy, String tenantId, String routingKey) {
+	Document finalizeDocument(LuceneIndexModel model, LuceneIndexEntryMetadataFields entryMetadataFields) {
 		for ( Map.Entry<String, EncounteredFieldStatus> entry : fieldStatus.entrySet() ) {
 			EncounteredFieldStatus status = entry.getValue();
 			if ( EncounteredFieldStatus.ENCOUNTERED_AND_NAME_INDEXED.equals( status ) ) {
-				String fieldName = entry.getKey();
-				document.add( MetadataFields.searchableMetadataField( MetadataFields.fieldNamesFieldName(), fieldName ) );
+				document.add( model.fieldNamesField( entry.getKey() ) );
 			}
 		}
 
-		// The following must be added to both the root document and nested documents,
-		// so that delete operations delete nested documents, too.
-
-		if ( routingKey != null ) {
-			document.add( MetadataFields.searchableMetadataField(
-					MetadataFields.routingKeyFieldName(), routingKey
-			) );
-		}
-
-		multiTenancyStrategy.contributeToIndexedDocument( document, tenantId );
+		entryMetadataFields.contributeTo( document );
 
 		return document;
 	}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.document.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
+
+/**
+ * Metadata fields that must be added to both the root document and nested documents of an index entry,
+ * so that delete operations delete nested documents, too.
+ * <p>
+ * Field instances are immutable and created once per index entry,
+ * then shared between all the documents of that entry.
+ */
+final class LuceneIndexEntryMetadataFields {
+
+	private final IndexableField idField;
+	private final IndexableField routingKeyFieldOrNull;
+	private final IndexableField tenantIdFieldOrNull;
+
+	LuceneIndexEntryMetadataFields(MultiTenancyStrategy multiTenancyStrategy, String tenantId,
+			String id, String routingKey) {
+		this.idField = MetadataFields.searchableMetadataField( MetadataFields.idFieldName(), id );
+		this.routingKeyFieldOrNull = routingKey == null
+				? null
+				: MetadataFields.searchableMetadataField( MetadataFields.routingKeyFieldName(), routingKey );
+		this.tenantIdFieldOrNull = multiTenancyStrategy.tenantIdFieldOrNull( tenantId );
+	}
+
+	void contributeTo(Document document) {
+		document.add( idField );
+		if ( routingKeyFieldOrNull != null ) {
+			document.add( routingKeyFieldOrNull );
+		}
+		if ( tenantIdFieldOrNull != null ) {
+			document.add( tenantIdFieldOrNull );
+		}
+	}
+}
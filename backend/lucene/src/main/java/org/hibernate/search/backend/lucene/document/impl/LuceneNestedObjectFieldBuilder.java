@@ -11,7 +11,6 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexObjectField;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
-import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 
 import org.apache.lucene.document.Document;
 
@@ -23,20 +22,16 @@ class LuceneNestedObjectFieldBuilder extends AbstractLuceneObjectFieldBuilder {
 	}
 
 	@Override
-	void contribute(MultiTenancyStrategy multiTenancyStrategy, String tenantId, String routingKey,
-			String rootId, List<Document> nestedDocuments) {
+	void contribute(LuceneIndexEntryMetadataFields entryMetadataFields, List<Document> nestedDocuments) {
 
 		// We own the document content, so we finalize it ourselves.
-		Document document = documentContent.finalizeDocument( multiTenancyStrategy, tenantId, routingKey );
-		document.add(
-				MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(), MetadataFields.TYPE_CHILD_DOCUMENT ) );
-		document.add( MetadataFields.searchableMetadataField( MetadataFields.idFieldName(), rootId ) );
-		document.add( MetadataFields.searchableMetadataField( MetadataFields.nestedDocumentPathFieldName(),
-				schemaNode.absolutePath() ) );
+		Document document = documentContent.finalizeDocument( model, entryMetadataFields );
+		document.add( MetadataFields.childDocumentTypeField() );
+		document.add( model.nestedDocumentPathField( schemaNode.absolutePath() ) );
 
 		// In the list of documents, a child must appear before its parent,
 		// so we let children contribute their document first.
-		super.contribute( multiTenancyStrategy, tenantId, routingKey, rootId, nestedDocuments );
+		super.contribute( entryMetadataFields, nestedDocuments );
 		nestedDocuments.add( document );
 	}
 }
@@ -38,17 +38,19 @@ void ensureDynamicValueDetectedByExistsPredicateOnObjectField() {
 
 	private List<Document> assembleDocuments(MultiTenancyStrategy multiTenancyStrategy,
 			String tenantId, String id, String routingKey) {
+		// Created once and shared between the root document and nested documents.
+		LuceneIndexEntryMetadataFields entryMetadataFields =
+				new LuceneIndexEntryMetadataFields( multiTenancyStrategy, tenantId, id, routingKey );
+
 		// We own the document content, so we finalize it ourselves.
-		Document document = documentContent.finalizeDocument( multiTenancyStrategy, tenantId, routingKey );
-		document.add(
-				MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(), MetadataFields.TYPE_MAIN_DOCUMENT ) );
-		document.add( MetadataFields.searchableMetadataField( MetadataFields.idFieldName(), id ) );
+		Document document = documentContent.finalizeDocument( model, entryMetadataFields );
+		document.add( MetadataFields.mainDocumentTypeField() );
 		document.add( MetadataFields.retrievableMetadataField( MetadataFields.idDocValueFieldName(), id ) );
 
 		// In the list of documents, a child must appear before its parent,
 		// so we let children contribute their document first.
 		List<Document> documents = new ArrayList<>();
-		contribute( multiTenancyStrategy, tenantId, routingKey, id, documents );
+		contribute( entryMetadataFields, documents );
 		documents.add( document );
 
 		return documents;
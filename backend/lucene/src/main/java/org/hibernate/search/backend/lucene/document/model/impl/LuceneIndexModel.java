@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.document.model.impl;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.engine.backend.document.model.spi.AbstractIndexModel;
 import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
 import org.hibernate.search.engine.backend.document.model.spi.IndexIdentifier;
@@ -17,6 +19,7 @@
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
+import org.apache.lucene.index.IndexableField;
 
 public class LuceneIndexModel extends AbstractIndexModel<LuceneIndexModel, LuceneIndexRoot, LuceneIndexField>
 		implements AutoCloseable, IndexDescriptor {
@@ -26,6 +29,10 @@ public class LuceneIndexModel extends AbstractIndexModel<LuceneIndexModel, Lucen
 	private final IndexingScopedAnalyzer indexingAnalyzer;
 	private final SearchScopedAnalyzer searchAnalyzer;
 
+	// Metadata fields whose value only depends on the schema, shared between all indexed documents.
+	private final Map<String, IndexableField> staticFieldNamesFields;
+	private final Map<String, IndexableField> staticNestedDocumentPathFields;
+
 	public LuceneIndexModel(String hibernateSearchName, String mappedTypeName,
 			IndexIdentifier identifier,
 			LuceneIndexRoot rootNode, Map<String, LuceneIndexField> staticFields,
@@ -35,6 +42,18 @@ public LuceneIndexModel(String hibernateSearchName, String mappedTypeName,
 		this.indexingAnalyzer = new IndexingScopedAnalyzer();
 		this.searchAnalyzer = new SearchScopedAnalyzer();
 		this.hasNestedDocuments = hasNestedDocuments;
+		this.staticFieldNamesFields = new HashMap<>();
+		this.staticNestedDocumentPathFields = new HashMap<>();
+		for ( Map.Entry<String, LuceneIndexField> entry : staticFields.entrySet() ) {
+			String absolutePath = entry.getKey();
+			staticFieldNamesFields.put( absolutePath,
+					MetadataFields.searchableMetadataField( MetadataFields.fieldNamesFieldName(), absolutePath ) );
+			LuceneIndexField field = entry.getValue();
+			if ( field.isObjectField() && field.toObjectField().type().nested() ) {
+				staticNestedDocumentPathFields.put( absolutePath, MetadataFields.searchableMetadataField(
+						MetadataFields.nestedDocumentPathFieldName(), absolutePath ) );
+			}
+		}
 	}
 
 	@Override
@@ -51,6 +70,32 @@ public boolean hasNestedDocuments() {
 		return hasNestedDocuments;
 	}
 
+	/**
+	 * @param absoluteFieldPath The absolute path of a field.
+	 * @return A metadata field signaling that the given field has a value in a document, for the "exists" predicate.
+	 * Shared between documents if the given field is static.
+	 */
+	public IndexableField fieldNamesField(String absoluteFieldPath) {
+		IndexableField field = staticFieldNamesFields.get( absoluteFieldPath );
+		if ( field == null ) {
+			field = MetadataFields.searchableMetadataField( MetadataFields.fieldNamesFieldName(), absoluteFieldPath );
+		}
+		return field;
+	}
+
+	/**
+	 * @param absolutePath The absolute path of a nested object field.
+	 * @return A metadata field holding the path of the nested object field in nested documents.
+	 * Shared between documents if the given field is static.
+	 */
+	public IndexableField nestedDocumentPathField(String absolutePath) {
+		IndexableField field = staticNestedDocumentPathFields.get( absolutePath );
+		if ( field == null ) {
+			field = MetadataFields.searchableMetadataField( MetadataFields.nestedDocumentPathFieldName(), absolutePath );
+		}
+		return field;
+	}
+
 	public Analyzer getIndexingAnalyzer() {
 		return indexingAnalyzer;
 	}
@@ -22,10 +22,13 @@
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.MultiReaderCache;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.ShardMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
@@ -72,6 +75,30 @@ public class LuceneBackendFactory implements BackendFactory {
 							.multivalued()
 							.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_DOCS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_SEGMENTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_READER_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_READER_CACHE_MAX_ENTRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_READER_CACHE_MAX_ENTRIES )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -99,6 +126,10 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					new LuceneWorkFactory( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					cachingContext,
+					SEARCH_SLICE_MAX_DOCS.get( propertySource ),
+					SEARCH_SLICE_MAX_SEGMENTS.get( propertySource ),
+					new GlobalOrdinalsCache( SEARCH_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES.get( propertySource ) ),
+					new MultiReaderCache( SEARCH_READER_CACHE_MAX_ENTRIES.get( propertySource ) ),
 					multiTenancyStrategy,
 					buildContext.timingSource(),
 					buildContext.failureHandler()
@@ -140,7 +171,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 							&& buildContext.multiTenancyEnabled() ) {
 						throw log.multiTenancyRequiredButExplicitlyDisabledByBackend();
 					}
-					if ( MultiTenancyStrategyName.DISCRIMINATOR.equals( optionalName )
+					if ( ( MultiTenancyStrategyName.DISCRIMINATOR.equals( optionalName )
+							|| MultiTenancyStrategyName.SHARD.equals( optionalName ) )
 							&& !buildContext.multiTenancyEnabled() ) {
 						throw log.multiTenancyNotRequiredButExplicitlyEnabledByTheBackend();
 					}
@@ -157,6 +189,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategy();
+			case SHARD:
+				return new ShardMultiTenancyStrategy();
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'",
@@ -17,6 +17,8 @@
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.MultiReaderCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -52,6 +54,9 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
 
+	private final GlobalOrdinalsCache globalOrdinalsCache;
+	private final MultiReaderCache multiReaderCache;
+
 	private final IndexManagerBackendContext indexManagerBackendContext;
 
 	LuceneBackendImpl(Optional<String> backendName,
@@ -60,6 +65,9 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			LuceneQueryCachingContext cachingContext,
+			int searchSliceMaxDocs, int searchSliceMaxSegments,
+			GlobalOrdinalsCache globalOrdinalsCache,
+			MultiReaderCache multiReaderCache,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			FailureHandler failureHandler) {
@@ -71,15 +79,21 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext,
+				threads, searchSliceMaxDocs, searchSliceMaxSegments, multiReaderCache
 		);
 
+		this.globalOrdinalsCache = globalOrdinalsCache;
+		this.multiReaderCache = multiReaderCache;
+
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
 				this, eventContext, threads, similarity,
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
 				failureHandler,
-				readOrchestrator
+				readOrchestrator,
+				globalOrdinalsCache,
+				multiReaderCache
 		);
 	}
 
@@ -103,7 +117,9 @@ public CompletableFuture<?> preStop() {
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneSyncWorkOrchestratorImpl::stop, readOrchestrator );
+			closer.push( MultiReaderCache::clear, multiReaderCache );
 			closer.push( BackendThreads::onStop, threads );
+			closer.push( GlobalOrdinalsCache::clear, globalOrdinalsCache );
 		}
 	}
 
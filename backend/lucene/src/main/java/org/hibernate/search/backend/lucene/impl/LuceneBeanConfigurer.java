@@ -14,6 +14,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalHeapDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.LocalFileSystemReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
 import org.hibernate.search.backend.lucene.resources.impl.DefaultLuceneWorkExecutorProvider;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -36,6 +38,10 @@ public void configure(BeanConfigurationContext context) {
 				DirectoryProvider.class, LocalHeapDirectoryProvider.NAME,
 				beanResolver -> BeanHolder.of( new LocalHeapDirectoryProvider() )
 		);
+		context.define(
+				ReplicationTransport.class, LocalFileSystemReplicationTransport.NAME,
+				beanResolver -> BeanHolder.of( new LocalFileSystemReplicationTransport() )
+		);
 		context.define(
 				ShardingStrategy.class, NoShardingStrategy.NAME,
 				beanResolver -> BeanHolder.of( new NoShardingStrategy() )
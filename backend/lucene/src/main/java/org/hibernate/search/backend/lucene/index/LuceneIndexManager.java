@@ -51,4 +51,20 @@ public interface LuceneIndexManager extends IndexManager {
 	@Incubating
 	CompletionStage<Long> computeSizeInBytesAsync(OperationSubmitter operationSubmitter);
 
+	/**
+	 * Splits each shard of this index into {@code splitFactor} shards,
+	 * copying documents from existing shards instead of reindexing them.
+	 * <p>
+	 * Only available when using the {@code hash} sharding strategy.
+	 * The new number of shards is persisted in the index and takes precedence over the configured number of shards
+	 * when the application is restarted.
+	 * <p>
+	 * Writes to this index are blocked until the split is complete; searches are not.
+	 * This method blocks the calling thread until the split is complete.
+	 *
+	 * @param splitFactor The number of shards each existing shard should be split into.
+	 */
+	@Incubating
+	void splitShards(int splitFactor);
+
 }
@@ -27,6 +27,12 @@ public class HashShardingStrategy implements ShardingStrategy {
 
 	public static final String NAME = "hash";
 
+	/**
+	 * The key of the commit user data holding the number of shards,
+	 * written to each shard after a {@link ShardHolder#splitShards(int) split}.
+	 */
+	static final String NUMBER_OF_SHARDS_COMMIT_USER_DATA_KEY = "hibernate-search.sharding.hash.number_of_shards";
+
 	private static final OptionalConfigurationProperty<Integer> NUMBER_OF_SHARDS =
 			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.NUMBER_OF_SHARDS )
 					.asIntegerStrictlyPositive()
@@ -34,22 +40,21 @@ public class HashShardingStrategy implements ShardingStrategy {
 
 	private HashTable<String> shardIds;
 
+	public HashShardingStrategy() {
+	}
+
+	private HashShardingStrategy(int numberOfShards) {
+		this.shardIds = createShardIds( numberOfShards );
+	}
+
 	@Override
 	public void initialize(ShardingStrategyInitializationContext context) {
 		int numberOfShards = NUMBER_OF_SHARDS.getOrThrow(
 				context.configurationPropertySource(),
 				() -> log.missingPropertyValueForShardingStrategy( NAME )
 		);
-		// Note the hash function / table implementations MUST NOT CHANGE,
-		// otherwise existing indexes will no longer work correctly.
-		this.shardIds = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, numberOfShards );
-		Set<String> shardIdSet = new LinkedHashSet<>();
-		for ( int i = 0; i < numberOfShards; i++ ) {
-			String shardId = String.valueOf( i );
-			shardIds.set( i, shardId );
-			shardIdSet.add( shardId );
-		}
-		context.shardIdentifiers( shardIdSet );
+		shardIds = createShardIds( numberOfShards );
+		context.shardIdentifiers( shardIdentifiers() );
 	}
 
 	@Override
@@ -69,4 +74,37 @@ public Set<String> toShardIdentifiers(Set<String> routingKeys) {
 	private String toShardIdentifier(String routingKey) {
 		return shardIds.get( routingKey );
 	}
+
+	int numberOfShards() {
+		return shardIds.size();
+	}
+
+	/**
+	 * @return The identifiers of all shards.
+	 */
+	Set<String> shardIdentifiers() {
+		Set<String> shardIdSet = new LinkedHashSet<>();
+		for ( int i = 0; i < shardIds.size(); i++ ) {
+			shardIdSet.add( String.valueOf( i ) );
+		}
+		return shardIdSet;
+	}
+
+	/**
+	 * @param numberOfShards The new number of shards, e.g. after shards have been split.
+	 * @return A new strategy routing to the given number of shards. This strategy is left unchanged.
+	 */
+	HashShardingStrategy resize(int numberOfShards) {
+		return new HashShardingStrategy( numberOfShards );
+	}
+
+	private static HashTable<String> createShardIds(int numberOfShards) {
+		// Note the hash function / table implementations MUST NOT CHANGE,
+		// otherwise existing indexes will no longer work correctly.
+		HashTable<String> shardIds = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, numberOfShards );
+		for ( int i = 0; i < numberOfShards; i++ ) {
+			shardIds.set( i, String.valueOf( i ) );
+		}
+		return shardIds;
+	}
 }
@@ -14,11 +14,17 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.ReplicaIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.MultiReaderCache;
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
@@ -50,10 +56,12 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
@@ -75,6 +83,8 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
+	private final MultiReaderCache multiReaderCache;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -85,7 +95,9 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			GlobalOrdinalsCache globalOrdinalsCache,
+			MultiReaderCache multiReaderCache) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -96,6 +108,8 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.globalOrdinalsCache = globalOrdinalsCache;
+		this.multiReaderCache = multiReaderCache;
 	}
 
 	@Override
@@ -161,6 +175,7 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				readOrchestrator,
+				globalOrdinalsCache,
 				scope,
 				sessionContext,
 				loadingContextBuilder,
@@ -172,6 +187,14 @@ LuceneBackend toAPI() {
 		return backendAPI;
 	}
 
+	MultiTenancyStrategy getMultiTenancyStrategy() {
+		return multiTenancyStrategy;
+	}
+
+	MultiReaderCache getMultiReaderCache() {
+		return multiReaderCache;
+	}
+
 	EventContext getEventContext() {
 		return eventContext;
 	}
@@ -180,13 +203,23 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 		return new LuceneIndexEntryFactory( model, multiTenancyStrategy );
 	}
 
-	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
+	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource, BeanResolver beanResolver,
+			ReplicationRoleName replicationRole) {
+		if ( ReplicationRoleName.REPLICA.equals( replicationRole ) ) {
+			return ReplicaIOStrategy.create( propertySource, beanResolver, threads, failureHandler,
+					globalOrdinalsCache, multiReaderCache, false );
+		}
+		if ( ReplicationRoleName.READ_ONLY.equals( replicationRole ) ) {
+			return ReplicaIOStrategy.create( propertySource, beanResolver, threads, failureHandler,
+					globalOrdinalsCache, multiReaderCache, true );
+		}
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
 				return DebugIOStrategy.create( threads, failureHandler );
 			case NEAR_REAL_TIME:
 			default:
-				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler );
+				return NearRealTimeIOStrategy.create( propertySource, beanResolver, timingSource, threads,
+						failureHandler, globalOrdinalsCache, multiReaderCache );
 		}
 	}
 
@@ -196,13 +229,15 @@ LuceneIndexSchemaManager createSchemaManager(String indexName, SchemaManagementI
 
 	IndexAccessorImpl createIndexAccessor(LuceneIndexModel model, EventContext shardEventContext,
 			DirectoryHolder directoryHolder, IOStrategy ioStrategy,
-			ConfigurationPropertySource propertySource) {
+			ConfigurationPropertySource propertySource, Sort indexSortOrNull,
+			ReplicationChannel replicationChannelOrNull, Translog translogOrNull) {
 		String indexName = model.hibernateSearchName();
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), indexSortOrNull, propertySource, shardEventContext
 		);
 		return ioStrategy.createIndexAccessor(
-				indexName, shardEventContext, directoryHolder, writerConfigSource
+				indexName, shardEventContext, directoryHolder, writerConfigSource, replicationChannelOrNull,
+				translogOrNull
 		);
 	}
 
@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexField;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.sort.impl.LuceneIndexSortFields;
+import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+final class IndexSortFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<List<String>> INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_INDEX_SORT )
+					.asString().multivalued()
+					.build();
+
+	private static final char ORDER_SEPARATOR = ':';
+	private static final String ORDER_ASC = "asc";
+	private static final String ORDER_DESC = "desc";
+
+	private IndexSortFactory() {
+	}
+
+	/**
+	 * @return The index sort defined in the configuration, or {@code null} if there isn't any.
+	 */
+	static Sort createOrNull(LuceneIndexModel model, ConfigurationPropertySource indexPropertySource) {
+		Optional<List<String>> elements = INDEX_SORT.get( indexPropertySource );
+		if ( !elements.isPresent() || elements.get().isEmpty() ) {
+			return null;
+		}
+		if ( model.hasNestedDocuments() ) {
+			throw log.cannotSortIndexWithNestedDocuments();
+		}
+		List<String> elementList = elements.get();
+		SortField[] sortFields = new SortField[elementList.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			sortFields[i] = createSortField( model, elementList.get( i ).trim() );
+		}
+		return new Sort( sortFields );
+	}
+
+	private static SortField createSortField(LuceneIndexModel model, String element) {
+		String absoluteFieldPath = element;
+		boolean reverse = false;
+		int separatorIndex = element.lastIndexOf( ORDER_SEPARATOR );
+		if ( separatorIndex >= 0 ) {
+			absoluteFieldPath = element.substring( 0, separatorIndex ).trim();
+			String order = element.substring( separatorIndex + 1 ).trim();
+			if ( ORDER_DESC.equalsIgnoreCase( order ) ) {
+				reverse = true;
+			}
+			else if ( !ORDER_ASC.equalsIgnoreCase( order ) ) {
+				throw log.invalidIndexSortOrder( order, absoluteFieldPath,
+						EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+			}
+		}
+		LuceneIndexField field = model.fieldOrNull( absoluteFieldPath, IndexFieldFilter.INCLUDED_ONLY );
+		SortField sortField = null;
+		if ( field != null && field.isValueField() ) {
+			sortField = LuceneIndexSortFields.forIndexSortOrNull( field.toValueField(), reverse );
+		}
+		if ( sortField == null ) {
+			throw log.invalidIndexSortField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+		return sortField;
+	}
+}
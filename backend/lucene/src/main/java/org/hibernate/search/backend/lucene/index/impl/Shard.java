@@ -8,6 +8,10 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -20,12 +24,20 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.SearchLoadTracker;
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.ReplicationChannelCreationContextImpl;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannelCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -36,6 +48,10 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.store.Directory;
 
 public final class Shard {
 
@@ -45,6 +61,30 @@ public final class Shard {
 					.withDefault( BeanReference.of( DirectoryProvider.class, LuceneIndexSettings.Defaults.DIRECTORY_TYPE ) )
 					.build();
 
+	private static final ConfigurationProperty<ReplicationRoleName> REPLICATION_ROLE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.REPLICATION_ROLE )
+					.as( ReplicationRoleName.class, ReplicationRoleName::of )
+					.withDefault( LuceneIndexSettings.Defaults.REPLICATION_ROLE )
+					.build();
+
+	private static final ConfigurationProperty<BeanReference<? extends ReplicationTransport>> REPLICATION_TRANSPORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.REPLICATION_TRANSPORT )
+					.asBeanReference( ReplicationTransport.class )
+					.withDefault( BeanReference.of( ReplicationTransport.class,
+							LuceneIndexSettings.Defaults.REPLICATION_TRANSPORT ) )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> TRANSLOG_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_TRANSLOG_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_TRANSLOG_ENABLED )
+					.build();
+
+	private static final OptionalConfigurationProperty<Path> TRANSLOG_ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_TRANSLOG_ROOT )
+					.as( Path.class, Paths::get )
+					.build();
+
 	private static final SavedState.Key<DirectoryHolder> DIRECTORY_HOLDER_KEY = SavedState.key( "directory_holder" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -54,6 +94,9 @@ public final class Shard {
 	private final LuceneIndexModel model;
 
 	private DirectoryHolder directoryHolder;
+	private ReplicationChannel replicationChannel;
+	private Translog translog;
+	private IOStrategy ioStrategy;
 	private IndexAccessorImpl indexAccessor;
 	private LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
@@ -101,13 +144,29 @@ void preStart(ConfigurationPropertySource propertySource, BeanResolver beanResol
 		}
 	}
 
-	void start(ConfigurationPropertySource propertySource) {
+	void start(ConfigurationPropertySource propertySource, BeanResolver beanResolver, Sort indexSortOrNull) {
 		String indexName = model.hibernateSearchName();
 		EventContext indexAndShardEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
 		try {
-			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
+			ReplicationRoleName replicationRole = REPLICATION_ROLE.get( propertySource );
+			if ( ReplicationRoleName.PRIMARY.equals( replicationRole )
+					|| ReplicationRoleName.REPLICA.equals( replicationRole ) ) {
+				try ( BeanHolder<? extends ReplicationTransport> replicationTransportHolder =
+						REPLICATION_TRANSPORT.getAndTransform( propertySource, beanResolver::resolve ) ) {
+					ReplicationChannelCreationContext context = new ReplicationChannelCreationContextImpl(
+							indexAndShardEventContext, indexName, shardId, replicationRole, beanResolver,
+							propertySource.withMask( "replication" ) );
+					replicationChannel = replicationTransportHolder.get().createChannel( context );
+				}
+			}
+			if ( ( ReplicationRoleName.NONE.equals( replicationRole )
+					|| ReplicationRoleName.PRIMARY.equals( replicationRole ) )
+					&& TRANSLOG_ENABLED.get( propertySource ) ) {
+				translog = openTranslog( propertySource, indexName, indexAndShardEventContext );
+			}
+			ioStrategy = backendContext.createIOStrategy( propertySource, beanResolver, replicationRole );
 			indexAccessor = backendContext.createIndexAccessor( model, indexAndShardEventContext, directoryHolder,
-					ioStrategy, propertySource );
+					ioStrategy, propertySource, indexSortOrNull, replicationChannel, translog );
 			managementOrchestrator =
 					backendContext.createIndexManagementOrchestrator( indexAndShardEventContext, indexAccessor );
 			indexingOrchestrator =
@@ -131,6 +190,9 @@ void stop() {
 			closer.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
+			closer.push( IOStrategy::close, ioStrategy );
+			closer.push( ReplicationChannel::close, replicationChannel );
+			closer.push( Translog::close, translog );
 			if ( !savedForRestart ) {
 				closer.push( DirectoryHolder::close, directoryHolder );
 			}
@@ -144,10 +206,60 @@ void stop() {
 		}
 	}
 
+	private Translog openTranslog(ConfigurationPropertySource propertySource, String indexName,
+			EventContext indexAndShardEventContext) {
+		Path path = TRANSLOG_ROOT.getOrThrow( propertySource, log::missingPropertyValueForTranslog )
+				.toAbsolutePath()
+				.resolve( indexName );
+		if ( shardId.isPresent() ) {
+			path = path.resolve( shardId.get() );
+		}
+		try {
+			return Translog.open( path, indexAndShardEventContext );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToOpenTranslog( e.getMessage(), indexAndShardEventContext, e );
+		}
+	}
+
+	Map<String, String> latestCommitUserData() {
+		if ( directoryHolder == null ) {
+			// Failed to start
+			return Collections.emptyMap();
+		}
+		Directory directory = directoryHolder.get();
+		try {
+			if ( !DirectoryReader.indexExists( directory ) ) {
+				return Collections.emptyMap();
+			}
+			return SegmentInfos.readLatestCommit( directory ).getUserData();
+		}
+		catch (IOException e) {
+			throw log.unableToStartShard( e.getMessage(), e );
+		}
+	}
+
+	CompletableFuture<?> indexingCompletion() {
+		return indexingOrchestrator.completion();
+	}
+
+	void split(Shard sourceOrNull, Query excludedDocumentsQuery, Map<String, String> commitUserData) {
+		indexAccessor.split( sourceOrNull == null ? null : sourceOrNull.directoryHolder.get(),
+				excludedDocumentsQuery, commitUserData );
+	}
+
+	void refresh() {
+		indexAccessor.refresh();
+	}
+
 	DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
 
+	SearchLoadTracker searchLoadTrackerOrNull() {
+		return indexAccessor.searchLoadTrackerOrNull();
+	}
+
 	LuceneSerialWorkOrchestrator indexingOrchestrator() {
 		return indexingOrchestrator;
 	}
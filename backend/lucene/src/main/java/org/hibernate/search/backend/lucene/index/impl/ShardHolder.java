@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,10 +19,15 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.HashShardMismatchQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
@@ -32,21 +38,37 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.search.Sort;
 
 class ShardHolder
 		implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final SavedState.Key<Map<String, SavedState>> SHARDS_KEY = SavedState.key( "shards" );
 
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
-	private final Map<String, Shard> shards = new LinkedHashMap<>();
-	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	// Replaced as a whole when shards are split, so that concurrent accesses always see consistent routing.
+	private volatile ShardRouting routing = new ShardRouting( new LinkedHashMap<>(), new ArrayList<>(), null );
+	private Sort indexSort;
+
+	// Held for reading when routing and submitting indexing works, and for writing when splitting shards.
+	private final ReadWriteLock writeRoutingLock = new ReentrantReadWriteLock();
+	private ConfigurationPropertySource indexPropertySource;
+	private BeanResolver beanResolver;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -60,7 +82,7 @@ public String toString() {
 
 	public SavedState saveForRestart() {
 		HashMap<String, SavedState> states = new HashMap<>();
-		for ( Map.Entry<String, Shard> shard : shards.entrySet() ) {
+		for ( Map.Entry<String, Shard> shard : routing.shards.entrySet() ) {
 			states.put( shard.getKey(), shard.getValue().saveForRestart() );
 		}
 		return SavedState.builder().put( SHARDS_KEY, states ).build();
@@ -80,32 +102,93 @@ void preStart(IndexManagerStartContext startContext, SavedState savedState) {
 				new ShardingStrategyInitializationContextImpl( backendContext, model, startContext, indexPropertySource );
 		Map<String, SavedState> states = savedState.get( SHARDS_KEY ).orElse( Collections.emptyMap() );
 
+		Map<String, Shard> shards = new LinkedHashMap<>();
 		this.shardingStrategyHolder = initializationContext.create( shards );
+		this.routing = new ShardRouting( shards, new ArrayList<>(),
+				shardingStrategyHolder == null ? null : shardingStrategyHolder.get() );
 
 		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
-			String shardId = entry.getKey();
-			Shard shard = entry.getValue();
-			ConfigurationPropertySource shardPropertySource = toShardPropertySource( indexPropertySource, shardId );
+			preStart( startContext, indexPropertySource, states, entry.getKey(), entry.getValue() );
+		}
+
+		HashShardingStrategy hashShardingStrategy = hashShardingStrategyOrNull();
+		if ( hashShardingStrategy != null ) {
 			try {
-				shard.preStart( shardPropertySource, startContext.beanResolver(),
-						states.getOrDefault( entry.getKey(), SavedState.empty() ) );
+				restoreSplitShards( startContext, indexPropertySource, states, hashShardingStrategy );
 			}
 			catch (RuntimeException e) {
-				startContext.failureCollector()
-						.withContext( shardId == null ? null : EventContexts.fromShardId( shardId ) )
-						.add( e );
+				startContext.failureCollector().add( e );
+			}
+		}
+	}
+
+	private void preStart(IndexManagerStartContext startContext, ConfigurationPropertySource indexPropertySource,
+			Map<String, SavedState> states, String shardId, Shard shard) {
+		ConfigurationPropertySource shardPropertySource = toShardPropertySource( indexPropertySource, shardId );
+		try {
+			shard.preStart( shardPropertySource, startContext.beanResolver(),
+					states.getOrDefault( shardId, SavedState.empty() ) );
+		}
+		catch (RuntimeException e) {
+			startContext.failureCollector()
+					.withContext( shardId == null ? null : EventContexts.fromShardId( shardId ) )
+					.add( e );
+		}
+	}
+
+	/*
+	 * Shards may have been split since the index was created,
+	 * in which case the first shard holds the actual number of shards in its commit user data.
+	 */
+	private void restoreSplitShards(IndexManagerStartContext startContext,
+			ConfigurationPropertySource indexPropertySource, Map<String, SavedState> states,
+			HashShardingStrategy hashShardingStrategy) {
+		ShardRouting currentRouting = routing;
+		String persistedNumberOfShardsAsString = currentRouting.shards.get( "0" ).latestCommitUserData()
+				.get( HashShardingStrategy.NUMBER_OF_SHARDS_COMMIT_USER_DATA_KEY );
+		if ( persistedNumberOfShardsAsString == null ) {
+			return;
+		}
+		int persistedNumberOfShards = Integer.parseInt( persistedNumberOfShardsAsString );
+		int configuredNumberOfShards = hashShardingStrategy.numberOfShards();
+		if ( persistedNumberOfShards == configuredNumberOfShards ) {
+			return;
+		}
+		if ( persistedNumberOfShards % configuredNumberOfShards != 0 ) {
+			throw log.invalidNumberOfShardsAfterSplit( persistedNumberOfShards, configuredNumberOfShards,
+					EventContexts.fromIndexName( model.hibernateSearchName() ) );
+		}
+		HashShardingStrategy resizedStrategy = hashShardingStrategy.resize( persistedNumberOfShards );
+		Map<String, Shard> newShards = new LinkedHashMap<>( currentRouting.shards );
+		for ( String shardId : resizedStrategy.shardIdentifiers() ) {
+			if ( !newShards.containsKey( shardId ) ) {
+				Shard shard = new Shard( Optional.of( shardId ), backendContext, model );
+				newShards.put( shardId, shard );
+				preStart( startContext, indexPropertySource, states, shardId, shard );
 			}
 		}
+		routing = new ShardRouting( newShards, currentRouting.managementOrchestrators, resizedStrategy );
 	}
 
 	void start(IndexManagerStartContext startContext) {
 		ConfigurationPropertySource indexPropertySource = startContext.configurationPropertySource();
-		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
+		this.indexPropertySource = indexPropertySource;
+		this.beanResolver = startContext.beanResolver();
+		try {
+			indexSort = IndexSortFactory.createOrNull( model, indexPropertySource );
+		}
+		catch (RuntimeException e) {
+			startContext.failureCollector().add( e );
+			return;
+		}
+		ShardRouting currentRouting = routing;
+		List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+		for ( Map.Entry<String, Shard> entry : currentRouting.shards.entrySet() ) {
 			String shardId = entry.getKey();
 			Shard shard = entry.getValue();
 			ConfigurationPropertySource shardPropertySource = toShardPropertySource( indexPropertySource, shardId );
 			try {
-				shard.start( shardPropertySource );
+				shard.start( shardPropertySource, startContext.beanResolver(), indexSort );
 				managementOrchestrators.add( shard.managementOrchestrator() );
 			}
 			catch (RuntimeException e) {
@@ -114,12 +197,14 @@ void start(IndexManagerStartContext startContext) {
 						.add( e );
 			}
 		}
+		routing = new ShardRouting( currentRouting.shards, managementOrchestrators, currentRouting.strategyOrNull );
 	}
 
 	CompletableFuture<?> preStop() {
+		Collection<Shard> shards = routing.shards.values();
 		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
 		int i = 0;
-		for ( Shard shard : shards.values() ) {
+		for ( Shard shard : shards ) {
 			futures[i] = shard.preStop();
 			i++;
 		}
@@ -128,18 +213,26 @@ CompletableFuture<?> preStop() {
 
 	void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.pushAll( Shard::stop, shards.values() );
-			shards.clear();
-			managementOrchestrators.clear();
+			// Cached readers must not outlive the shards.
+			closer.push( cache -> cache.evict( model.hibernateSearchName() ), backendContext.getMultiReaderCache() );
+			closer.pushAll( Shard::stop, routing.shards.values() );
+			routing = new ShardRouting( new LinkedHashMap<>(), new ArrayList<>(), null );
 		}
 	}
 
 	@Override
 	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
 		String mappedTypeName = model.mappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
+		ShardRouting currentRouting = routing;
+		Collection<Shard> enabledShards = currentRouting.toShards( routingKeys );
 		for ( Shard shard : enabledShards ) {
-			readerCollector.collect( mappedTypeName, shard.openReader() );
+			DirectoryReader reader = currentRouting.pinnedReaders.get( shard );
+			if ( reader != null && reader.tryIncRef() ) {
+				readerCollector.collect( mappedTypeName, reader, shard.searchLoadTrackerOrNull() );
+			}
+			else {
+				readerCollector.collect( mappedTypeName, shard.openReader(), shard.searchLoadTrackerOrNull() );
+			}
 		}
 	}
 
@@ -149,23 +242,56 @@ public String mappedTypeName() {
 	}
 
 	@Override
-	public LuceneSerialWorkOrchestrator indexingOrchestrator(String documentId, String routingKey) {
-		return toShard( documentId, routingKey ).indexingOrchestrator();
+	public LuceneSerialWorkOrchestrator indexingOrchestrator(String tenantId, String documentId, String routingKey) {
+		writeRoutingLock.readLock().lock();
+		try {
+			String shardRoutingKey = backendContext.getMultiTenancyStrategy().toShardRoutingKey( tenantId, routingKey );
+			return routing.toShard( documentId, shardRoutingKey ).indexingOrchestrator();
+		}
+		finally {
+			writeRoutingLock.readLock().unlock();
+		}
 	}
 
 	@Override
-	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys) {
-		Collection<Shard> enabledShards = toShards( routingKeys );
-		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
-		for ( Shard shard : enabledShards ) {
-			orchestrators.add( shard.managementOrchestrator() );
+	public <T> T withStableIndexingRouting(Supplier<T> action) {
+		writeRoutingLock.readLock().lock();
+		try {
+			return action.get();
+		}
+		finally {
+			writeRoutingLock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> tenantIds,
+			Set<String> routingKeys) {
+		writeRoutingLock.readLock().lock();
+		try {
+			Set<String> shardRoutingKeys = backendContext.getMultiTenancyStrategy()
+					.toShardRoutingKeys( tenantIds, routingKeys );
+			Collection<Shard> enabledShards = routing.toShards( shardRoutingKeys );
+			List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
+			for ( Shard shard : enabledShards ) {
+				orchestrators.add( shard.managementOrchestrator() );
+			}
+			return orchestrators;
+		}
+		finally {
+			writeRoutingLock.readLock().unlock();
 		}
-		return orchestrators;
 	}
 
 	@Override
 	public List<LuceneParallelWorkOrchestrator> allManagementOrchestrators() {
-		return managementOrchestrators;
+		writeRoutingLock.readLock().lock();
+		try {
+			return routing.managementOrchestrators;
+		}
+		finally {
+			writeRoutingLock.readLock().unlock();
+		}
 	}
 
 	@Override
@@ -173,32 +299,210 @@ public Optional<String> backendName() {
 		return backendContext.toAPI().name();
 	}
 
-	public List<Shard> shardsForTests() {
-		return new ArrayList<>( shards.values() );
+	Sort indexSortOrNull() {
+		return indexSort;
 	}
 
-	private Collection<Shard> toShards(Set<String> routingKeys) {
-		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
-			// No sharding or no routing key => target all shards
-			return shards.values();
+	/**
+	 * Splits each shard into {@code splitFactor} shards.
+	 * <p>
+	 * Only works with the "hash" sharding strategy.
+	 * With {@code n} shards before the split, documents of the shard with index {@code i}
+	 * end up either in that same shard or in the shards with index {@code i + n * j} ({@code 0 < j < splitFactor}):
+	 * new shards are created as copies of the shard they are split from,
+	 * then documents routed to another shard according to the new number of shards are deleted from every shard.
+	 * <p>
+	 * Submission of indexing works is blocked until the split is complete,
+	 * including while documents are copied to the new shards, which may take a while for large shards.
+	 * Indexing works are routed to shards and submitted atomically
+	 * (see {@link #withStableIndexingRouting(Supplier)}),
+	 * so works submitted before the split are executed before documents are copied,
+	 * and works submitted after the split are routed to the new shards.
+	 * <p>
+	 * Searches are not blocked, and see either the shards before the split or the shards after the split, never a mix:
+	 * until routing switches to the new shards, searches use readers opened on the old shards before the split,
+	 * so that documents deleted from the old shards by the split remain visible.
+	 *
+	 * @param splitFactor The number of shards each existing shard should be split into.
+	 */
+	void splitShards(int splitFactor) {
+		Contracts.assertStrictlyPositive( splitFactor, "splitFactor" );
+		String indexName = model.hibernateSearchName();
+		EventContext eventContext = EventContexts.fromIndexName( indexName );
+		HashShardingStrategy hashShardingStrategy = hashShardingStrategyOrNull();
+		if ( hashShardingStrategy == null ) {
+			throw log.cannotSplitShardsWithShardingStrategy( HashShardingStrategy.NAME,
+					shardingStrategyHolder == null ? null : shardingStrategyHolder.get(), eventContext );
+		}
+		if ( splitFactor == 1 ) {
+			return;
+		}
+
+		writeRoutingLock.writeLock().lock();
+		try {
+			ShardRouting oldRouting = routing;
+			// Re-read the strategy, as another split may have happened in the meantime.
+			hashShardingStrategy = (HashShardingStrategy) oldRouting.strategyOrNull;
+			Map<String, Shard> oldShards = oldRouting.shards;
+			int oldNumberOfShards = hashShardingStrategy.numberOfShards();
+			int newNumberOfShards = Math.multiplyExact( oldNumberOfShards, splitFactor );
+			boolean routingToShardsByTenantId = backendContext.getMultiTenancyStrategy().isRoutingToShardsByTenantId();
+			Map<String, String> commitUserData = Collections.singletonMap(
+					HashShardingStrategy.NUMBER_OF_SHARDS_COMMIT_USER_DATA_KEY, String.valueOf( newNumberOfShards ) );
+
+			// Make sure the latest commit of each shard includes all works submitted before the split.
+			CompletableFuture<?>[] completions = new CompletableFuture[oldShards.size()];
+			int i = 0;
+			for ( Shard shard : oldShards.values() ) {
+				completions[i] = shard.indexingCompletion();
+				i++;
+			}
+			Futures.unwrappedExceptionJoin( CompletableFuture.allOf( completions ) );
+			for ( Shard shard : oldShards.values() ) {
+				shard.indexingOrchestrator().forceCommitInCurrentThread();
+			}
+
+			// Copy documents to the new shards.
+			Map<String, Shard> newShards = new LinkedHashMap<>( oldShards );
+			List<Shard> createdShards = new ArrayList<>();
+			try {
+				for ( int shardIndex = oldNumberOfShards; shardIndex < newNumberOfShards; shardIndex++ ) {
+					String shardId = String.valueOf( shardIndex );
+					Shard shard = new Shard( Optional.of( shardId ), backendContext, model );
+					createdShards.add( shard );
+					ConfigurationPropertySource shardPropertySource =
+							toShardPropertySource( indexPropertySource, shardId );
+					shard.preStart( shardPropertySource, beanResolver, SavedState.empty() );
+					shard.start( shardPropertySource, beanResolver, indexSort );
+					Shard sourceShard = oldShards.get( String.valueOf( shardIndex % oldNumberOfShards ) );
+					shard.split( sourceShard, new HashShardMismatchQuery( newNumberOfShards, shardIndex,
+							routingToShardsByTenantId ), commitUserData );
+					newShards.put( shardId, shard );
+				}
+			}
+			catch (RuntimeException e) {
+				try ( Closer<RuntimeException> closer = new Closer<>() ) {
+					closer.pushAll( Shard::stop, createdShards );
+				}
+				catch (RuntimeException e2) {
+					e.addSuppressed( e2 );
+				}
+				throw e;
+			}
+
+			// Until routing switches to the new shards, searches must not see the old shards without the moved documents.
+			Map<Shard, DirectoryReader> pinnedReaders = new HashMap<>();
+			try {
+				try {
+					for ( Shard shard : oldShards.values() ) {
+						pinnedReaders.put( shard, shard.openReader() );
+					}
+				}
+				catch (IOException e) {
+					throw log.unableToSplitShards( e.getMessage(), eventContext, e );
+				}
+				routing = oldRouting.withPinnedReaders( pinnedReaders );
+
+				// Delete documents that were copied to new shards from the old shards.
+				// The first shard goes first, because its commit user data defines the number of shards on restart:
+				// should the split fail after that, we'll get duplicate documents, but no missing documents.
+				for ( int shardIndex = 0; shardIndex < oldNumberOfShards; shardIndex++ ) {
+					oldShards.get( String.valueOf( shardIndex ) )
+							.split( null, new HashShardMismatchQuery( newNumberOfShards, shardIndex,
+									routingToShardsByTenantId ), commitUserData );
+				}
+
+				// Switch to the new shards, all at once.
+				List<LuceneParallelWorkOrchestrator> newManagementOrchestrators = new ArrayList<>();
+				for ( Shard shard : newShards.values() ) {
+					shard.refresh();
+					newManagementOrchestrators.add( shard.managementOrchestrator() );
+				}
+				routing = new ShardRouting( newShards, newManagementOrchestrators,
+						hashShardingStrategy.resize( newNumberOfShards ) );
+			}
+			finally {
+				if ( routing != oldRouting && routing.shards == oldShards ) {
+					// The split failed: keep the old shards, without pinned readers.
+					routing = oldRouting;
+				}
+				try ( Closer<IOException> closer = new Closer<>() ) {
+					closer.pushAll( DirectoryReader::decRef, pinnedReaders.values() );
+				}
+				catch (IOException | RuntimeException e) {
+					log.unableToCloseIndexReader( eventContext, e );
+				}
+			}
+
+			log.splitShards( indexName, oldNumberOfShards, newNumberOfShards );
+		}
+		finally {
+			writeRoutingLock.writeLock().unlock();
 		}
+	}
 
-		Set<String> shardIdentifiers = shardingStrategyHolder.get().toShardIdentifiers( routingKeys );
+	public List<Shard> shardsForTests() {
+		return new ArrayList<>( routing.shards.values() );
+	}
 
-		Collection<Shard> enabledShards = new HashSet<>();
-		for ( String shardId : shardIdentifiers ) {
-			enabledShards.add( shards.get( shardId ) );
+	private HashShardingStrategy hashShardingStrategyOrNull() {
+		ShardingStrategy strategy = routing.strategyOrNull;
+		if ( !( strategy instanceof HashShardingStrategy ) ) {
+			return null;
 		}
-		return enabledShards;
+		return (HashShardingStrategy) strategy;
 	}
 
-	private Shard toShard(String documentId, String routingKey) {
-		if ( shardingStrategyHolder == null ) {
-			// Sharding is disabled: there's only one shard
-			return shards.values().iterator().next();
+	/**
+	 * The shards of an index and how to route to them, replaced as a whole when shards are split.
+	 */
+	private static final class ShardRouting {
+		private final Map<String, Shard> shards;
+		private final List<LuceneParallelWorkOrchestrator> managementOrchestrators;
+		private final ShardingStrategy strategyOrNull;
+		// Readers to use for searches instead of the current readers of shards, while shards are being split.
+		private final Map<Shard, DirectoryReader> pinnedReaders;
+
+		private ShardRouting(Map<String, Shard> shards, List<LuceneParallelWorkOrchestrator> managementOrchestrators,
+				ShardingStrategy strategyOrNull) {
+			this( shards, managementOrchestrators, strategyOrNull, Collections.emptyMap() );
+		}
+
+		private ShardRouting(Map<String, Shard> shards, List<LuceneParallelWorkOrchestrator> managementOrchestrators,
+				ShardingStrategy strategyOrNull, Map<Shard, DirectoryReader> pinnedReaders) {
+			this.shards = shards;
+			this.managementOrchestrators = managementOrchestrators;
+			this.strategyOrNull = strategyOrNull;
+			this.pinnedReaders = pinnedReaders;
+		}
+
+		ShardRouting withPinnedReaders(Map<Shard, DirectoryReader> pinnedReaders) {
+			return new ShardRouting( shards, managementOrchestrators, strategyOrNull, pinnedReaders );
 		}
 
-		String shardId = shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
-		return shards.get( shardId );
+		Collection<Shard> toShards(Set<String> routingKeys) {
+			if ( strategyOrNull == null || routingKeys.isEmpty() ) {
+				// No sharding or no routing key => target all shards
+				return shards.values();
+			}
+
+			Set<String> shardIdentifiers = strategyOrNull.toShardIdentifiers( routingKeys );
+
+			Collection<Shard> enabledShards = new HashSet<>();
+			for ( String shardId : shardIdentifiers ) {
+				enabledShards.add( shards.get( shardId ) );
+			}
+			return enabledShards;
+		}
+
+		Shard toShard(String documentId, String routingKey) {
+			if ( strategyOrNull == null ) {
+				// Sharding is disabled: there's only one shard
+				return shards.values().iterator().next();
+			}
+
+			String shardId = strategyOrNull.toShardIdentifier( documentId, routingKey );
+			return shards.get( shardId );
+		}
 	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.logging.impl;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.TRACE;
 import static org.jboss.logging.Logger.Level.WARN;
@@ -705,4 +706,168 @@ SearchException cannotHighlightInNestedContext(String currentNestingField,
 	@Message(id = ID_OFFSET + 173, value = "'%1$s' cannot be nested in an object projection. "
 			+ "%2$s")
 	SearchException cannotUseProjectionInNestedContext(String projection, String hint, @Param EventContext eventContext);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET + 174,
+			value = "Unable to warm up the index reader: %1$s. The index reader will be used regardless.")
+	void unableToWarmIndexReader(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 175,
+			value = "Invalid index sort: unable to sort the index on field '%1$s'."
+					+ " This field does not exist, is not sortable, or does not have a string, numeric or temporal type.")
+	SearchException invalidIndexSortField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 176,
+			value = "Invalid index sort: invalid sort order '%1$s' for field '%2$s'. Valid orders are 'asc' and 'desc'.")
+	SearchException invalidIndexSortOrder(String order, String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 177,
+			value = "Invalid index sort: this index contains nested documents,"
+					+ " which Lucene would not keep next to their parent document when sorting the index."
+					+ " Either remove the index sort, or use the 'FLATTENED' structure for all object fields in this index.")
+	SearchException cannotSortIndexWithNestedDocuments();
+
+	@Message(id = ID_OFFSET + 178,
+			value = "Invalid replication role name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidReplicationRoleName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 179,
+			value = "Unable to write to this index: this index is a replica, which only copies the index files of a primary index."
+					+ " Perform write operations on the primary index instead.")
+	SearchException cannotWriteToReplicaIndex(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 180,
+			value = "Unable to create the replication channel: %1$s")
+	SearchException unableToCreateReplicationChannel(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 181,
+			value = "Unable to fetch index files from the primary index: %1$s")
+	SearchException unableToFetchReplicatedIndex(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 182,
+			value = "When using replication transport '%1$s', this configuration property must be set.")
+	SearchException missingPropertyValueForReplicationTransport(String transportName);
+
+	@Message(id = ID_OFFSET + 183,
+			value = "Invalid dimension for a vector field: '%1$s'."
+					+ " The dimension must be set, strictly positive, and at most %2$s.")
+	SearchException invalidVectorDimension(int dimension, int maxDimension, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 184,
+			value = "Invalid vector for the 'knn' predicate: this field expects vectors of type '%1$s',"
+					+ " but the given vector is of type '%2$s'.")
+	SearchException invalidKnnVectorType(String expectedType, String actualType, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 185,
+			value = "Invalid vector for the 'knn' predicate: this field expects vectors of dimension %1$s,"
+					+ " but the given vector has dimension %2$s.")
+	SearchException invalidKnnVectorDimension(int expectedDimension, int actualDimension,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 186,
+			value = "Unable to split the shards of this index: shard splitting requires the '%1$s' sharding strategy,"
+					+ " but this index uses sharding strategy '%2$s'.")
+	SearchException cannotSplitShardsWithShardingStrategy(String expectedStrategyName, Object actualStrategy,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 187,
+			value = "Unable to split the shards of this index: %1$s")
+	SearchException unableToSplitShards(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 188,
+			value = "Invalid number of shards: this index was split into %1$s shards,"
+					+ " which is not a multiple of the configured number of shards (%2$s)."
+					+ " Set the number of shards to %1$s.")
+	SearchException invalidNumberOfShardsAfterSplit(int persistedNumberOfShards, int configuredNumberOfShards,
+			@Param EventContext context);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 189,
+			value = "Split the shards of index '%1$s': %2$s shards before the split, %3$s shards after the split.")
+	void splitShards(String indexName, int oldNumberOfShards, int newNumberOfShards);
+
+	@Message(id = ID_OFFSET + 190,
+			value = "Invalid id postings format name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIdPostingsFormatName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 191,
+			value = "Invalid stored fields compression name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidStoredFieldsCompressionName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 192,
+			value = "Invalid doc values format name: '%1$s'. Available doc values formats are: %2$s.")
+	SearchException invalidDocValuesFormatName(String invalidRepresentation, Set<String> availableRepresentations,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 193,
+			value = "When the translog is enabled, this configuration property must be set.")
+	SearchException missingPropertyValueForTranslog();
+
+	@Message(id = ID_OFFSET + 194,
+			value = "Unable to open the translog: %1$s")
+	SearchException unableToOpenTranslog(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 195,
+			value = "Unable to sync the translog: %1$s")
+	SearchException unableToSyncTranslog(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 196,
+			value = "Replayed %1$s operations from the translog that were not committed to the index.")
+	void replayedTranslog(int operationCount, @Param EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 197,
+			value = "Ignoring the end of translog file '%1$s': %2$s."
+					+ " Operations recorded after that point, if any, were not synced and are lost.")
+	void corruptTranslog(String file, String reason, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 198,
+			value = "Invalid merge quiet window: '%1$s'."
+					+ " Quiet windows must be in the format 'HH:mm-HH:mm', for example '01:00-05:00'.")
+	SearchException invalidMergeQuietWindow(String value, @Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 199,
+			value = "Merged %1$d segments (%2$.1f MB) in %3$d ms (%4$.1f MB/s, throttled at %5$.1f MB/s)."
+					+ " Running merges: %6$d, deferred merges: %7$d.")
+	void mergeStatistics(int segmentCount, double sizeMB, long durationMillis, double actualMBPerSec,
+			double throttleMBPerSec, int runningMergeCount, int deferredMergeCount, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 200,
+			value = "Unable to index %1$d entities in a single call to the index writer: %2$s")
+	SearchException unableToIndexEntries(int entryCount, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 201,
+			value = "Unable to write to this index: this index is read-only,"
+					+ " and only searches an index directory written to by another node."
+					+ " Perform write operations on that other node instead.")
+	SearchException cannotWriteToReadOnlyIndex(@Param EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 202,
+			value = "Unable to restore the index from snapshot '%1$s': %2$s."
+					+ " Starting with an empty index instead; reindexing may be necessary.")
+	void unableToRestoreIndexSnapshot(Path snapshotPath, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 203,
+			value = "Unable to write snapshot of the index to '%1$s': %2$s")
+	SearchException unableToWriteIndexSnapshot(Path snapshotPath, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 204,
+			value = "Restored index from snapshot '%1$s': commit generation %2$d, %3$d files, %4$d bytes.")
+	void restoredIndexSnapshot(Path snapshotPath, long generation, int fileCount, long byteCount,
+			@Param EventContext context);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 205,
+			value = "Wrote snapshot of the index to '%1$s': commit generation %2$d, %3$d files.")
+	void wroteIndexSnapshot(Path snapshotPath, long generation, int fileCount,
+			@Param EventContext context);
 }
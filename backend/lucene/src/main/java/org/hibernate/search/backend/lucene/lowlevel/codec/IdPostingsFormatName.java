@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.codec;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum IdPostingsFormatName {
+
+	/**
+	 * The default postings format, used for all other fields.
+	 */
+	DEFAULT( "default" ),
+	/**
+	 * A postings format that keeps a bloom filter of document identifiers for each segment,
+	 * so that segments which do not contain a given identifier can be skipped
+	 * without any disk access when documents are updated or deleted.
+	 * <p>
+	 * This is most useful for update-heavy indexes with many segments,
+	 * at the cost of a few bits of memory and disk space per document.
+	 */
+	BLOOM_FILTER( "bloom-filter" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IdPostingsFormatName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				IdPostingsFormatName.values(),
+				IdPostingsFormatName::externalRepresentation,
+				log::invalidIdPostingsFormatName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IdPostingsFormatName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.codec.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.StringHelper;
+
+/**
+ * A fixed-size bloom filter of terms.
+ * <p>
+ * The number of bits is a power of two sized to about {@value #BITS_PER_TERM} bits per term,
+ * which, with {@value #HASH_COUNT} hash functions, gives a false positive probability of about 1%.
+ */
+final class BloomFilter {
+
+	private static final int BITS_PER_TERM = 10;
+	private static final int HASH_COUNT = 5;
+	private static final int MIN_BITS = Long.SIZE;
+	private static final int MAX_BITS = 1 << 30;
+
+	private static final int SEED_1 = 0x9747b28c;
+	private static final int SEED_2 = 0x5bd1e995;
+
+	static BloomFilter create(long termCount) {
+		long targetBits = Math.max( MIN_BITS, Math.min( MAX_BITS, termCount * BITS_PER_TERM ) );
+		// Round up to the next power of two, so that we can use a mask instead of a modulo.
+		int bitCount = Integer.highestOneBit( (int) targetBits );
+		if ( bitCount < targetBits ) {
+			bitCount <<= 1;
+		}
+		return new BloomFilter( HASH_COUNT, new long[bitCount / Long.SIZE] );
+	}
+
+	static BloomFilter read(DataInput input) throws IOException {
+		int hashCount = input.readVInt();
+		long[] words = new long[input.readVInt()];
+		input.readLongs( words, 0, words.length );
+		return new BloomFilter( hashCount, words );
+	}
+
+	private final int hashCount;
+	private final long[] words;
+	private final int mask;
+
+	private BloomFilter(int hashCount, long[] words) {
+		this.hashCount = hashCount;
+		this.words = words;
+		this.mask = words.length * Long.SIZE - 1;
+	}
+
+	void add(BytesRef term) {
+		int hash1 = StringHelper.murmurhash3_x86_32( term, SEED_1 );
+		int hash2 = StringHelper.murmurhash3_x86_32( term, SEED_2 );
+		for ( int i = 0; i < hashCount; i++ ) {
+			int bit = ( hash1 + i * hash2 ) & mask;
+			words[bit >>> 6] |= 1L << bit;
+		}
+	}
+
+	/**
+	 * @param term A term.
+	 * @return {@code false} if the term was definitely not added to this filter,
+	 * {@code true} if it may have been added to this filter.
+	 */
+	boolean mayContain(BytesRef term) {
+		int hash1 = StringHelper.murmurhash3_x86_32( term, SEED_1 );
+		int hash2 = StringHelper.murmurhash3_x86_32( term, SEED_2 );
+		for ( int i = 0; i < hashCount; i++ ) {
+			int bit = ( hash1 + i * hash2 ) & mask;
+			if ( ( words[bit >>> 6] & ( 1L << bit ) ) == 0L ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	void write(DataOutput output) throws IOException {
+		output.writeVInt( hashCount );
+		output.writeVInt( words.length );
+		for ( long word : words ) {
+			output.writeLong( word );
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.codec.impl;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.FieldsConsumer;
+import org.apache.lucene.codecs.FieldsProducer;
+import org.apache.lucene.codecs.NormsProducer;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene90.Lucene90PostingsFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.Fields;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.automaton.CompiledAutomaton;
+
+/**
+ * A postings format that wraps another postings format
+ * and keeps a {@link BloomFilter} of the terms of each field in a separate file.
+ * <p>
+ * Exact term lookups, in particular the id lookups performed when updating or deleting documents,
+ * return early without accessing the wrapped postings when the bloom filter says the term is absent.
+ * <p>
+ * The name of the wrapped postings format is stored in the index,
+ * so this format can read indexes regardless of how it was instantiated.
+ * This format is registered through the Java service loader for that purpose.
+ */
+public final class BloomFilterPostingsFormat extends PostingsFormat {
+
+	public static final String NAME = "HibernateSearchBloomFilter";
+
+	private static final String BLOOM_EXTENSION = "hsbf";
+	private static final int VERSION_START = 0;
+	private static final int VERSION_CURRENT = VERSION_START;
+
+	private final PostingsFormat delegate;
+
+	// Used by the Java service loader
+	public BloomFilterPostingsFormat() {
+		this( new Lucene90PostingsFormat() );
+	}
+
+	public BloomFilterPostingsFormat(PostingsFormat delegate) {
+		super( NAME );
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[delegate=" + delegate + "]";
+	}
+
+	@Override
+	public FieldsConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+		return new BloomFilterFieldsConsumer( delegate.fieldsConsumer( state ), state );
+	}
+
+	@Override
+	public FieldsProducer fieldsProducer(SegmentReadState state) throws IOException {
+		String fileName = IndexFileNames.segmentFileName( state.segmentInfo.name, state.segmentSuffix,
+				BLOOM_EXTENSION );
+		String delegateName = null;
+		Map<String, BloomFilter> filters = new HashMap<>();
+		try ( ChecksumIndexInput input = state.directory.openChecksumInput( fileName, state.context ) ) {
+			Throwable priorException = null;
+			try {
+				CodecUtil.checkIndexHeader( input, NAME, VERSION_START, VERSION_CURRENT,
+						state.segmentInfo.getId(), state.segmentSuffix );
+				delegateName = input.readString();
+				int fieldCount = input.readVInt();
+				for ( int i = 0; i < fieldCount; i++ ) {
+					FieldInfo fieldInfo = state.fieldInfos.fieldInfo( input.readVInt() );
+					filters.put( fieldInfo.name, BloomFilter.read( input ) );
+				}
+			}
+			catch (Throwable e) {
+				priorException = e;
+			}
+			finally {
+				CodecUtil.checkFooter( input, priorException );
+			}
+		}
+		FieldsProducer delegateProducer = PostingsFormat.forName( delegateName ).fieldsProducer( state );
+		return new BloomFilterFieldsProducer( delegateProducer, filters );
+	}
+
+	private final class BloomFilterFieldsConsumer extends FieldsConsumer {
+
+		private final FieldsConsumer delegateConsumer;
+		private final SegmentWriteState state;
+
+		private BloomFilterFieldsConsumer(FieldsConsumer delegateConsumer, SegmentWriteState state) {
+			this.delegateConsumer = delegateConsumer;
+			this.state = state;
+		}
+
+		@Override
+		public void write(Fields fields, NormsProducer norms) throws IOException {
+			delegateConsumer.write( fields, norms );
+
+			Map<FieldInfo, BloomFilter> filters = new LinkedHashMap<>();
+			for ( String field : fields ) {
+				Terms terms = fields.terms( field );
+				if ( terms == null ) {
+					continue;
+				}
+				long termCount = 0;
+				TermsEnum termsEnum = terms.iterator();
+				while ( termsEnum.next() != null ) {
+					++termCount;
+				}
+				BloomFilter filter = BloomFilter.create( termCount );
+				termsEnum = terms.iterator();
+				for ( BytesRef term = termsEnum.next(); term != null; term = termsEnum.next() ) {
+					filter.add( term );
+				}
+				filters.put( state.fieldInfos.fieldInfo( field ), filter );
+			}
+
+			String fileName = IndexFileNames.segmentFileName( state.segmentInfo.name, state.segmentSuffix,
+					BLOOM_EXTENSION );
+			try ( IndexOutput output = state.directory.createOutput( fileName, state.context ) ) {
+				CodecUtil.writeIndexHeader( output, NAME, VERSION_CURRENT,
+						state.segmentInfo.getId(), state.segmentSuffix );
+				output.writeString( delegate.getName() );
+				output.writeVInt( filters.size() );
+				for ( Map.Entry<FieldInfo, BloomFilter> entry : filters.entrySet() ) {
+					output.writeVInt( entry.getKey().number );
+					entry.getValue().write( output );
+				}
+				CodecUtil.writeFooter( output );
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegateConsumer.close();
+		}
+	}
+
+	private static final class BloomFilterFieldsProducer extends FieldsProducer {
+
+		private final FieldsProducer delegateProducer;
+		private final Map<String, BloomFilter> filters;
+
+		private BloomFilterFieldsProducer(FieldsProducer delegateProducer, Map<String, BloomFilter> filters) {
+			this.delegateProducer = delegateProducer;
+			this.filters = filters;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return delegateProducer.iterator();
+		}
+
+		@Override
+		public Terms terms(String field) throws IOException {
+			Terms terms = delegateProducer.terms( field );
+			BloomFilter filter = filters.get( field );
+			if ( terms == null || filter == null ) {
+				return terms;
+			}
+			return new BloomFilterTerms( terms, filter );
+		}
+
+		@Override
+		public int size() {
+			return delegateProducer.size();
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegateProducer.close();
+		}
+
+		@Override
+		public void checkIntegrity() throws IOException {
+			delegateProducer.checkIntegrity();
+		}
+
+		@Override
+		public FieldsProducer getMergeInstance() {
+			return new BloomFilterFieldsProducer( delegateProducer.getMergeInstance(), filters );
+		}
+	}
+
+	private static final class BloomFilterTerms extends FilterLeafReader.FilterTerms {
+
+		private final BloomFilter filter;
+
+		private BloomFilterTerms(Terms in, BloomFilter filter) {
+			super( in );
+			this.filter = filter;
+		}
+
+		@Override
+		public TermsEnum iterator() throws IOException {
+			return new BloomFilterTermsEnum( in.iterator(), filter );
+		}
+
+		@Override
+		public TermsEnum intersect(CompiledAutomaton compiled, BytesRef startTerm) throws IOException {
+			// Automaton queries cannot benefit from the bloom filter.
+			return in.intersect( compiled, startTerm );
+		}
+	}
+
+	private static final class BloomFilterTermsEnum extends FilterLeafReader.FilterTermsEnum {
+
+		private final BloomFilter filter;
+
+		private BloomFilterTermsEnum(TermsEnum in, BloomFilter filter) {
+			super( in );
+			this.filter = filter;
+		}
+
+		@Override
+		public boolean seekExact(BytesRef text) throws IOException {
+			if ( !filter.mayContain( text ) ) {
+				// Definitely absent: skip the lookup in the terms dictionary.
+				return false;
+			}
+			return in.seekExact( text );
+		}
+	}
+}
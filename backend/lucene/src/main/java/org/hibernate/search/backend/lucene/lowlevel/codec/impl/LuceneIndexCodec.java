@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.codec.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene95.Lucene95Codec;
+
+/**
+ * The codec used when writing to Lucene indexes,
+ * allowing to customize the postings format of the document identifier field,
+ * the compression of stored fields and the doc values format.
+ * <p>
+ * This codec keeps the name of its parent codec:
+ * per-field formats are recorded in each segment and resolved through the Java service loader on read,
+ * so indexes written with this codec can be read without it.
+ */
+public final class LuceneIndexCodec extends Lucene95Codec {
+
+	private final PostingsFormat idPostingsFormatOrNull;
+	private final DocValuesFormat docValuesFormatOrNull;
+
+	public LuceneIndexCodec(Mode mode, PostingsFormat idPostingsFormatOrNull,
+			DocValuesFormat docValuesFormatOrNull) {
+		super( mode );
+		this.idPostingsFormatOrNull = idPostingsFormatOrNull;
+		this.docValuesFormatOrNull = docValuesFormatOrNull;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "idPostingsFormat=" + idPostingsFormatOrNull
+				+ ", docValuesFormat=" + docValuesFormatOrNull
+				+ "]";
+	}
+
+	@Override
+	public PostingsFormat getPostingsFormatForField(String field) {
+		if ( idPostingsFormatOrNull != null && MetadataFields.idFieldName().equals( field ) ) {
+			return idPostingsFormatOrNull;
+		}
+		return super.getPostingsFormatForField( field );
+	}
+
+	@Override
+	public DocValuesFormat getDocValuesFormatForField(String field) {
+		if ( docValuesFormatOrNull != null ) {
+			return docValuesFormatOrNull;
+		}
+		return super.getDocValuesFormatForField( field );
+	}
+}
@@ -9,11 +9,21 @@
 import java.io.IOException;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 
-public interface CollectorFactory<C extends Collector> {
+/**
+ * A factory for collector managers.
+ * <p>
+ * Collector managers are used so that each index slice can be collected by its own collector,
+ * possibly concurrently, the results of all collectors being reduced at the end of the search.
+ *
+ * @param <C> The type of collector.
+ * @param <T> The type of collected data.
+ */
+public interface CollectorFactory<C extends Collector, T> {
 
-	C createCollector(CollectorExecutionContext context) throws IOException;
+	CollectorManager<C, T> createCollectorManager(CollectorExecutionContext context) throws IOException;
 
-	CollectorKey<C> getCollectorKey();
+	CollectorKey<T> getCollectorKey();
 
 }
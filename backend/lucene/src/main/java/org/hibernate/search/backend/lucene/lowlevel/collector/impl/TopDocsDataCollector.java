@@ -7,11 +7,14 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
 
 import com.carrotsearch.hppc.IntObjectHashMap;
 import com.carrotsearch.hppc.IntObjectMap;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
 
@@ -28,6 +31,27 @@
 
 	}
 
+	public static <T> CollectorManager<TopDocsDataCollector<T>, TopDocsDataCollector<T>> manager(
+			Factory<T> factory, TopDocsDataCollectorExecutionContext context) {
+		return new CollectorManager<TopDocsDataCollector<T>, TopDocsDataCollector<T>>() {
+			@Override
+			public TopDocsDataCollector<T> newCollector() throws IOException {
+				return factory.create( context );
+			}
+
+			@Override
+			public TopDocsDataCollector<T> reduce(Collection<TopDocsDataCollector<T>> collectors) {
+				Iterator<TopDocsDataCollector<T>> iterator = collectors.iterator();
+				TopDocsDataCollector<T> reduced = iterator.next();
+				// Each top doc is collected by exactly one collector: we can simply merge the collected data.
+				while ( iterator.hasNext() ) {
+					reduced.collected.putAll( iterator.next().collected );
+				}
+				return reduced;
+			}
+		};
+	}
+
 	private final Values<? extends T> values;
 	private final StoredFieldsValuesDelegate storedFieldsValuesDelegate;
 
@@ -52,6 +52,12 @@ public class MetadataFields {
 
 	private static final String NESTED_DOCUMENT_PATH = internalFieldName( "nested_document_path" );
 
+	// Fields are never altered once added to a document, so these can be shared between all documents.
+	private static final IndexableField MAIN_DOCUMENT_TYPE_FIELD =
+			searchableMetadataField( TYPE_FIELD_NAME, TYPE_MAIN_DOCUMENT );
+	private static final IndexableField CHILD_DOCUMENT_TYPE_FIELD =
+			searchableMetadataField( TYPE_FIELD_NAME, TYPE_CHILD_DOCUMENT );
+
 	private MetadataFields() {
 	}
 
@@ -70,6 +76,14 @@ public static IndexableField retrievableMetadataField(String name, String value)
 		return new Field( name, new BytesRef( value ), METADATA_FIELD_TYPE_WITH_DOCVALUES );
 	}
 
+	public static IndexableField mainDocumentTypeField() {
+		return MAIN_DOCUMENT_TYPE_FIELD;
+	}
+
+	public static IndexableField childDocumentTypeField() {
+		return CHILD_DOCUMENT_TYPE_FIELD;
+	}
+
 	public static String idFieldName() {
 		return ID_FIELD_NAME;
 	}
@@ -18,6 +18,7 @@
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
@@ -26,15 +27,18 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
 	private final Supplier<LockFactory> lockFactorySupplier;
+	private final NrtCacheSettings nrtCacheSettingsOrNull;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
 	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
-			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
+			Supplier<LockFactory> lockFactorySupplier, NrtCacheSettings nrtCacheSettingsOrNull,
+			EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
 		this.lockFactorySupplier = lockFactorySupplier;
+		this.nrtCacheSettingsOrNull = nrtCacheSettingsOrNull;
 		this.eventContext = eventContext;
 	}
 
@@ -47,7 +51,15 @@ public void start() throws IOException {
 			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		Directory fsDirectory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		if ( nrtCacheSettingsOrNull != null ) {
+			// Small, freshly flushed segments stay in the heap until they are committed or merged.
+			this.directory = new NRTCachingDirectory( fsDirectory, nrtCacheSettingsOrNull.maxMergeSizeMB,
+					nrtCacheSettingsOrNull.maxSizeMB );
+		}
+		else {
+			this.directory = fsDirectory;
+		}
 	}
 
 	@Override
@@ -43,6 +43,24 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> NRT_CACHE_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHE_MAX_MERGE_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_MAX_MERGE_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_MAX_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_MAX_SIZE )
+					.build();
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
@@ -52,6 +70,10 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
 		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
 				.orElseGet( () -> FSLockFactory::getDefault );
+		NrtCacheSettings nrtCacheSettingsOrNull = NRT_CACHE_ENABLED.get( propertySource )
+				? new NrtCacheSettings( NRT_CACHE_MAX_MERGE_SIZE.get( propertySource ),
+						NRT_CACHE_MAX_SIZE.get( propertySource ) )
+				: null;
 
 		Path directoryPath = directoryRoot.resolve( context.indexName() );
 		Optional<String> shardId = context.shardId();
@@ -60,7 +82,7 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		}
 
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, lockFactorySupplier, nrtCacheSettingsOrNull, context.eventContext()
 		);
 	}
 
@@ -9,6 +9,7 @@
 import java.io.IOException;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.impl.Closer;
 
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
@@ -17,22 +18,31 @@
 final class LocalHeapDirectoryHolder implements DirectoryHolder {
 
 	private final LockFactory lockFactory;
+	private final LocalHeapDirectorySnapshot snapshotOrNull;
 
 	private Directory directory;
 
-	LocalHeapDirectoryHolder(LockFactory lockFactory) {
+	LocalHeapDirectoryHolder(LockFactory lockFactory, LocalHeapDirectorySnapshot snapshotOrNull) {
 		this.lockFactory = lockFactory;
+		this.snapshotOrNull = snapshotOrNull;
 	}
 
 	@Override
 	public void start() {
 		directory = new ByteBuffersDirectory( lockFactory );
+		if ( snapshotOrNull != null ) {
+			snapshotOrNull.restoreInto( directory );
+		}
 	}
 
 	@Override
 	public void close() throws IOException {
-		if ( directory != null ) {
-			directory.close();
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			if ( directory != null ) {
+				// Index writers are closed at this point, so the latest commit includes all changes.
+				closer.push( snapshot -> snapshot.write( directory ), snapshotOrNull );
+			}
+			closer.push( Directory::close, directory );
 		}
 		directory = null;
 	}
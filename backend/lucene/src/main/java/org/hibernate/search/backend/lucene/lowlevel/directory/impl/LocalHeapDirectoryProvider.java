@@ -6,11 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 
 import org.apache.lucene.store.LockFactory;
 import org.apache.lucene.store.SingleInstanceLockFactory;
@@ -19,10 +25,27 @@ public class LocalHeapDirectoryProvider implements DirectoryProvider {
 
 	public static final String NAME = "local-heap";
 
+	private static final OptionalConfigurationProperty<Path> SNAPSHOT_ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.SNAPSHOT_ROOT )
+					.as( Path.class, Paths::get )
+					.build();
+
 	@Override
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
 				.orElseGet( () -> SingleInstanceLockFactory::new );
-		return new LocalHeapDirectoryHolder( lockFactorySupplier.get() );
+		LocalHeapDirectorySnapshot snapshotOrNull = SNAPSHOT_ROOT.get( context.configurationPropertySource() )
+				.map( root -> createSnapshot( root.toAbsolutePath(), context ) )
+				.orElse( null );
+		return new LocalHeapDirectoryHolder( lockFactorySupplier.get(), snapshotOrNull );
+	}
+
+	private static LocalHeapDirectorySnapshot createSnapshot(Path snapshotRoot, DirectoryCreationContext context) {
+		Path snapshotPath = snapshotRoot.resolve( context.indexName() );
+		Optional<String> shardId = context.shardId();
+		if ( shardId.isPresent() ) {
+			snapshotPath = snapshotPath.resolve( shardId.get() );
+		}
+		return new LocalHeapDirectorySnapshot( snapshotPath, context.eventContext() );
 	}
 }
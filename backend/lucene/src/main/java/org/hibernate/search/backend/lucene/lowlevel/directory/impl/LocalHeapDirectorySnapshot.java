@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.IndexCommitCopier;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.Lock;
+
+/**
+ * A copy of the latest commit of a heap directory on the filesystem,
+ * used to restore the directory on startup instead of reindexing.
+ * <p>
+ * The snapshot is a plain directory holding the files of a single commit,
+ * written with {@link IndexCommitCopier}, so files that did not change since the previous snapshot are not copied again,
+ * and the segments file of the commit is written last.
+ * Lucene files end with a checksum, which is verified when the snapshot is restored,
+ * so that an interrupted write leaves an invalid snapshot behind, never an inconsistent one.
+ */
+final class LocalHeapDirectorySnapshot {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String LOCK_NAME = "snapshot.lock";
+
+	private final Path path;
+	private final EventContext eventContext;
+
+	LocalHeapDirectorySnapshot(Path path, EventContext eventContext) {
+		this.path = path;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[path=" + path + "]";
+	}
+
+	/**
+	 * Copies the commit from this snapshot into the given directory, if there is one.
+	 * <p>
+	 * On failure, logs a warning and leaves the given directory empty.
+	 *
+	 * @param heapDirectory An empty directory.
+	 */
+	void restoreInto(Directory heapDirectory) {
+		if ( !Files.isDirectory( path ) ) {
+			return;
+		}
+		try ( Directory snapshotDirectory = FSDirectory.open( path ) ) {
+			if ( !DirectoryReader.indexExists( snapshotDirectory ) ) {
+				return;
+			}
+			SegmentInfos commit = SegmentInfos.readLatestCommit( snapshotDirectory );
+			String segmentsFileName = commit.getSegmentsFileName();
+			List<String> files = new ArrayList<>( commit.files( false ) );
+			// The commit only becomes visible once its segments file is copied.
+			files.add( segmentsFileName );
+			long byteCount = 0L;
+			for ( String file : files ) {
+				heapDirectory.copyFrom( snapshotDirectory, file, file, IOContext.READONCE );
+				try ( IndexInput input = heapDirectory.openInput( file, IOContext.READONCE ) ) {
+					CodecUtil.checksumEntireFile( input );
+					byteCount += input.length();
+				}
+			}
+			log.restoredIndexSnapshot( path, commit.getGeneration(), files.size(), byteCount, eventContext );
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToRestoreIndexSnapshot( path, e.getMessage(), eventContext, e );
+			deleteAllQuietly( heapDirectory, e );
+		}
+	}
+
+	/**
+	 * Copies the latest commit of the given directory to this snapshot,
+	 * or deletes this snapshot if the given directory doesn't contain any commit.
+	 *
+	 * @param heapDirectory The directory to take a snapshot of.
+	 */
+	void write(Directory heapDirectory) {
+		try {
+			Files.createDirectories( path );
+			try ( Directory snapshotDirectory = FSDirectory.open( path );
+					Lock lock = snapshotDirectory.obtainLock( LOCK_NAME ) ) {
+				if ( !DirectoryReader.indexExists( heapDirectory ) ) {
+					// The index was dropped: do not restore it on next startup.
+					deleteAllButLock( snapshotDirectory );
+					return;
+				}
+				if ( IndexCommitCopier.copyLatestCommit( heapDirectory, snapshotDirectory ) ) {
+					SegmentInfos commit = SegmentInfos.readLatestCommit( snapshotDirectory );
+					log.wroteIndexSnapshot( path, commit.getGeneration(), commit.files( true ).size(), eventContext );
+				}
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToWriteIndexSnapshot( path, e.getMessage(), eventContext, e );
+		}
+	}
+
+	private static void deleteAllButLock(Directory directory) throws IOException {
+		for ( String file : directory.listAll() ) {
+			if ( !LOCK_NAME.equals( file ) ) {
+				directory.deleteFile( file );
+			}
+		}
+	}
+
+	private static void deleteAllQuietly(Directory directory, Exception failure) {
+		try {
+			for ( String file : directory.listAll() ) {
+				directory.deleteFile( file );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			failure.addSuppressed( e );
+		}
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+/**
+ * Size limits for the in-heap cache of newly flushed segments.
+ *
+ * @see org.apache.lucene.store.NRTCachingDirectory
+ */
+final class NrtCacheSettings {
+
+	final double maxMergeSizeMB;
+	final double maxSizeMB;
+
+	NrtCacheSettings(int maxMergeSizeMB, int maxSizeMB) {
+		this.maxMergeSizeMB = maxMergeSizeMB;
+		this.maxSizeMB = maxSizeMB;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxMergeSizeMB=" + maxMergeSizeMB
+				+ ", maxSizeMB=" + maxSizeMB
+				+ "]";
+	}
+}
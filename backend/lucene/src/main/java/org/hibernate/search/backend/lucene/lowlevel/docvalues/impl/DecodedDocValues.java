@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A per-document sequence of doc values, decoded into field values.
+ * <p>
+ * Values are returned in the order of doc values (i.e. sorted), not in the order they were indexed.
+ *
+ * @param <F> The type of decoded values.
+ */
+public abstract class DecodedDocValues<F> {
+
+	/**
+	 * Sole constructor. (For invocation by subclass
+	 * constructors, typically implicit.)
+	 */
+	protected DecodedDocValues() {
+	}
+
+	/**
+	 * Advance this instance to the given document id
+	 *
+	 * @return true if there is a value for this document
+	 */
+	public abstract boolean advanceExact(int doc) throws IOException;
+
+	/**
+	 * @return true if there is a next value for this document,
+	 * i.e. if nextValue() can be called.
+	 */
+	public abstract boolean hasNextValue() throws IOException;
+
+	/**
+	 * @return The next value for the current document.
+	 * Can only be called after {@link #hasNextValue()} returned {@code true}.
+	 */
+	public abstract F nextValue() throws IOException;
+
+	public static <F> DecodedDocValues<F> fromSortedNumeric(LeafReader reader, String field,
+			LongFunction<F> decoder)
+			throws IOException {
+		SortedNumericDocValues docValues = reader.getSortedNumericDocValues( field );
+		return docValues == null ? empty() : new SortedNumericDecodedDocValues<>( docValues, decoder );
+	}
+
+	public static <F> DecodedDocValues<F> fromSortedSet(LeafReader reader, String field,
+			Function<BytesRef, F> decoder)
+			throws IOException {
+		SortedSetDocValues docValues = reader.getSortedSetDocValues( field );
+		return docValues == null ? empty() : new SortedSetDecodedDocValues<>( docValues, decoder );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <F> DecodedDocValues<F> empty() {
+		return (DecodedDocValues<F>) EMPTY;
+	}
+
+	/**
+	 * An empty DecodedDocValues instance that always returns {@code false} from {@link #advanceExact(int)}
+	 */
+	private static final DecodedDocValues<?> EMPTY = new DecodedDocValues<Object>() {
+		@Override
+		public boolean advanceExact(int doc) {
+			return false;
+		}
+
+		@Override
+		public boolean hasNextValue() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object nextValue() {
+			throw new UnsupportedOperationException();
+		}
+	};
+
+	private static class SortedNumericDecodedDocValues<F> extends DecodedDocValues<F> {
+
+		private final SortedNumericDocValues values;
+		private final LongFunction<F> decoder;
+		private int remaining;
+
+		SortedNumericDecodedDocValues(SortedNumericDocValues values, LongFunction<F> decoder) {
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			boolean found = values.advanceExact( doc );
+			remaining = found ? values.docValueCount() : 0;
+			return found;
+		}
+
+		@Override
+		public boolean hasNextValue() {
+			return remaining > 0;
+		}
+
+		@Override
+		public F nextValue() throws IOException {
+			--remaining;
+			return decoder.apply( values.nextValue() );
+		}
+	}
+
+	private static class SortedSetDecodedDocValues<F> extends DecodedDocValues<F> {
+
+		private final SortedSetDocValues values;
+		private final Function<BytesRef, F> decoder;
+		private int remaining;
+
+		SortedSetDecodedDocValues(SortedSetDocValues values, Function<BytesRef, F> decoder) {
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			boolean found = values.advanceExact( doc );
+			remaining = found ? values.docValueCount() : 0;
+			return found;
+		}
+
+		@Override
+		public boolean hasNextValue() {
+			return remaining > 0;
+		}
+
+		@Override
+		public F nextValue() throws IOException {
+			--remaining;
+			return decoder.apply( values.lookupOrd( values.nextOrd() ) );
+		}
+	}
+}
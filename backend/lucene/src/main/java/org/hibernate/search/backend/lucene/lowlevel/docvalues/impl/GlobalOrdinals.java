@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A mapping from the ordinals of each segment of an index reader to ordinals global to that index reader,
+ * for a given {@link SortedSetDocValues} field.
+ * <p>
+ * Instances do not hold any reference to the index reader they were built from,
+ * so that they can be cached safely: see {@link GlobalOrdinalsCache}.
+ */
+public final class GlobalOrdinals {
+
+	/**
+	 * @param reader An index reader.
+	 * @param field The name of a field indexed as {@link SortedSetDocValues}.
+	 * @return Global ordinals for the given field in the given reader.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public static GlobalOrdinals build(IndexReader reader, String field) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		if ( leaves.isEmpty() ) {
+			return new GlobalOrdinals( field, null, 0L );
+		}
+		if ( leaves.size() == 1 ) {
+			// Segment ordinals are global ordinals: no need for a mapping.
+			SortedSetDocValues values = DocValues.getSortedSet( leaves.get( 0 ).reader(), field );
+			return new GlobalOrdinals( field, null, values.getValueCount() );
+		}
+		SortedSetDocValues[] values = new SortedSetDocValues[leaves.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = DocValues.getSortedSet( leaves.get( i ).reader(), field );
+		}
+		IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+		OrdinalMap ordinalMap = OrdinalMap.build( cacheHelper == null ? null : cacheHelper.getKey(),
+				values, PackedInts.DEFAULT );
+		return new GlobalOrdinals( field, ordinalMap, ordinalMap.getValueCount() );
+	}
+
+	private final String field;
+	private final OrdinalMap ordinalMapOrNull;
+	private final long valueCount;
+
+	private GlobalOrdinals(String field, OrdinalMap ordinalMapOrNull, long valueCount) {
+		this.field = field;
+		this.ordinalMapOrNull = ordinalMapOrNull;
+		this.valueCount = valueCount;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "field=" + field
+				+ ", valueCount=" + valueCount
+				+ "]";
+	}
+
+	/**
+	 * @return The number of distinct values across all segments.
+	 */
+	public long getValueCount() {
+		return valueCount;
+	}
+
+	/**
+	 * @param segmentIndex The index of a segment in the leaves of the reader these global ordinals were built from.
+	 * @return The mapping from ordinals of that segment to global ordinals,
+	 * or {@code null} if segment ordinals are already global ordinals.
+	 */
+	public LongValues getGlobalOrdsOrNull(int segmentIndex) {
+		return ordinalMapOrNull == null ? null : ordinalMapOrNull.getGlobalOrds( segmentIndex );
+	}
+
+	/**
+	 * @param leaves The leaves of the reader these global ordinals were built from.
+	 * @return A lookup of terms by global ordinal, only valid for as long as the given leaves are open.
+	 */
+	public TermLookup createTermLookup(List<LeafReaderContext> leaves) {
+		return new TermLookup( leaves );
+	}
+
+	public final class TermLookup {
+		private final List<LeafReaderContext> leaves;
+		private final SortedSetDocValues[] values;
+
+		private TermLookup(List<LeafReaderContext> leaves) {
+			this.leaves = leaves;
+			this.values = new SortedSetDocValues[leaves.size()];
+		}
+
+		public BytesRef lookupOrd(long globalOrd) throws IOException {
+			int segmentIndex;
+			long segmentOrd;
+			if ( ordinalMapOrNull == null ) {
+				segmentIndex = 0;
+				segmentOrd = globalOrd;
+			}
+			else {
+				segmentIndex = ordinalMapOrNull.getFirstSegmentNumber( globalOrd );
+				segmentOrd = ordinalMapOrNull.getFirstSegmentOrd( globalOrd );
+			}
+			SortedSetDocValues segmentValues = values[segmentIndex];
+			if ( segmentValues == null ) {
+				segmentValues = DocValues.getSortedSet( leaves.get( segmentIndex ).reader(), field );
+				values[segmentIndex] = segmentValues;
+			}
+			return segmentValues.lookupOrd( segmentOrd );
+		}
+	}
+}
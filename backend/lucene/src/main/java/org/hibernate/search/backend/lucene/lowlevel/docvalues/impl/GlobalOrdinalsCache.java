@@ -0,0 +1,201 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmingContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.store.Directory;
+
+/**
+ * A cache of {@link GlobalOrdinals}, shared by all indexes of a backend.
+ * <p>
+ * Entries are keyed by field and {@link IndexReader.CacheHelper#getKey() reader cache key},
+ * so they are only reused for as long as the exact same index reader is used,
+ * be it a directory reader or a {@link HibernateSearchMultiReader#cacheKeyOrNull() long-lived multi-reader},
+ * and they are removed as soon as that index reader is closed.
+ * The number of entries is bounded: least recently used entries are evicted first.
+ * <p>
+ * This cache also acts as an {@link IndexReaderWarmer}:
+ * when a new index reader is opened for a directory,
+ * global ordinals are built eagerly for the fields that search queries used with the previous reader of that directory,
+ * so that search queries don't have to.
+ * Fields that were not used by any search query for a whole reader generation are no longer built eagerly.
+ */
+public final class GlobalOrdinalsCache implements IndexReaderWarmer {
+
+	private final int maxEntries;
+
+	private final Map<Key, CachedValue> entries;
+	private final Set<Object> listenedReaderKeys = new HashSet<>();
+
+	public GlobalOrdinalsCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		// Access-ordered: the eldest entry is the least recently used one.
+		this.entries = new LinkedHashMap<Key, CachedValue>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedValue> eldest) {
+				return size() > GlobalOrdinalsCache.this.maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[maxEntries=" + maxEntries + "]";
+	}
+
+	/**
+	 * @param reader An index reader.
+	 * @param field The name of a field indexed as {@link org.apache.lucene.index.SortedSetDocValues}.
+	 * @return Global ordinals for the given field in the given reader,
+	 * retrieved from the cache or built then added to the cache.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public GlobalOrdinals get(IndexReader reader, String field) throws IOException {
+		return get( reader, field, true );
+	}
+
+	private GlobalOrdinals get(IndexReader reader, String field, boolean usedByQuery) throws IOException {
+		Object readerKey = readerKeyOrNull( reader );
+		if ( maxEntries == 0 || readerKey == null || reader.leaves().size() <= 1 ) {
+			// Not cacheable, or trivial to build: don't bother caching.
+			return GlobalOrdinals.build( reader, field );
+		}
+
+		Key key = new Key( readerKey, field );
+		synchronized (this) {
+			CachedValue value = entries.get( key );
+			if ( value != null ) {
+				value.usedByQuery |= usedByQuery;
+				return value.globalOrdinals;
+			}
+		}
+
+		// Build outside of the lock, to avoid blocking queries on other fields or readers.
+		// Concurrent queries may end up building the same global ordinals,
+		// but only one instance will be cached.
+		GlobalOrdinals globalOrdinals = GlobalOrdinals.build( reader, field );
+		Directory directoryOrNull = reader instanceof DirectoryReader ? ( (DirectoryReader) reader ).directory() : null;
+
+		synchronized (this) {
+			CachedValue value = entries.get( key );
+			if ( value != null ) {
+				value.usedByQuery |= usedByQuery;
+				return value.globalOrdinals;
+			}
+			if ( listenedReaderKeys.add( readerKey ) ) {
+				addClosedListener( reader, readerKey );
+			}
+			entries.put( key, new CachedValue( globalOrdinals, directoryOrNull, usedByQuery ) );
+		}
+		return globalOrdinals;
+	}
+
+	@Override
+	public void warm(IndexReaderWarmingContext context) throws IOException {
+		if ( maxEntries == 0 ) {
+			return;
+		}
+		DirectoryReader reader = context.reader();
+		Directory directory = reader.directory();
+		Set<String> fields = new LinkedHashSet<>();
+		synchronized (this) {
+			for ( Map.Entry<Key, CachedValue> mapEntry : entries.entrySet() ) {
+				CachedValue value = mapEntry.getValue();
+				if ( value.usedByQuery && directory.equals( value.directoryOrNull ) ) {
+					fields.add( mapEntry.getKey().field );
+				}
+			}
+		}
+		for ( String field : fields ) {
+			get( reader, field, false );
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	private static Object readerKeyOrNull(IndexReader reader) {
+		if ( reader instanceof HibernateSearchMultiReader ) {
+			return ( (HibernateSearchMultiReader) reader ).cacheKeyOrNull();
+		}
+		IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+		return cacheHelper == null ? null : cacheHelper.getKey();
+	}
+
+	private void addClosedListener(IndexReader reader, Object readerKey) {
+		if ( reader instanceof HibernateSearchMultiReader ) {
+			( (HibernateSearchMultiReader) reader ).addClosedListener( () -> evict( readerKey ) );
+		}
+		else {
+			reader.getReaderCacheHelper().addClosedListener( this::evict );
+		}
+	}
+
+	private synchronized void evict(Object readerKey) {
+		listenedReaderKeys.remove( readerKey );
+		for ( Iterator<Key> iterator = entries.keySet().iterator(); iterator.hasNext(); ) {
+			if ( iterator.next().readerKey == readerKey ) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static final class Key {
+		private final Object readerKey;
+		private final String field;
+
+		private Key(Object readerKey, String field) {
+			this.readerKey = readerKey;
+			this.field = field;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return readerKey == other.readerKey && field.equals( other.field );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( readerKey, field );
+		}
+	}
+
+	private static final class CachedValue {
+		private final GlobalOrdinals globalOrdinals;
+		private final Directory directoryOrNull;
+		// Only accessed while holding the cache lock
+		private boolean usedByQuery;
+
+		private CachedValue(GlobalOrdinals globalOrdinals, Directory directoryOrNull, boolean usedByQuery) {
+			this.globalOrdinals = globalOrdinals;
+			this.directoryOrNull = directoryOrNull;
+			this.usedByQuery = usedByQuery;
+		}
+	}
+}
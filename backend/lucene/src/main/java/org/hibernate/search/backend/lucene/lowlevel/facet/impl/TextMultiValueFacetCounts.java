@@ -7,9 +7,15 @@
 package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinals;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
 
@@ -23,11 +29,9 @@
 import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.facet.TopOrdAndIntQueue;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.MultiDocValues;
-import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
-import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.MultiReader;
 import org.apache.lucene.index.ReaderUtil;
-import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.LongValues;
@@ -35,28 +39,51 @@
 /**
  * Copied with some changes from {@code org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts}
  * of <a href="https://lucene.apache.org/">Apache Lucene project</a>.
+ * <p>
+ * Unlike the original, global ordinals are not rebuilt for every query:
+ * they are built once per index reader (i.e. per index or shard) and retrieved from a {@link GlobalOrdinalsCache}.
+ * When the top-level reader spans multiple index readers (multiple indexes or shards),
+ * counts are computed separately for each index reader, then merged by term.
  */
 public class TextMultiValueFacetCounts extends Facets {
 
-	final SortedSetDocValues dv;
 	final String field;
-	final int ordCount;
-	final int[] counts;
+	final List<ReaderCounts> readerCounts;
 
-	public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValuesSource valuesSource, FacetsCollector hits)
+	public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValuesSource valuesSource,
+			FacetsCollector hits, GlobalOrdinalsCache globalOrdinalsCache)
 			throws IOException {
 		this.field = field;
-		dv = MultiDocValues.getSortedSetValues( reader, field );
-		if ( dv != null && dv.getValueCount() > Integer.MAX_VALUE ) {
-			// We may want to remove this limitation?
-			// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
-			// so this is no worse than the "legacy" facets from Search 5.
-			throw new IllegalStateException(
-					"Cannot aggregate when more than " + Integer.MAX_VALUE + " terms are indexed" );
+		List<IndexReader> subReaders;
+		if ( reader instanceof MultiReader ) {
+			// Typically one directory reader per index or shard: these are the readers global ordinals are cached for.
+			subReaders = new ArrayList<>();
+			for ( IndexReaderContext child : reader.getContext().children() ) {
+				subReaders.add( child.reader() );
+			}
+		}
+		else {
+			subReaders = Collections.singletonList( reader );
 		}
-		ordCount = dv == null ? 0 : (int) dv.getValueCount();
-		counts = new int[ordCount];
-		count( reader, valuesSource, hits.getMatchingDocs() );
+		readerCounts = new ArrayList<>( subReaders.size() );
+		ReaderCounts[] readerCountsByLeafOrd = new ReaderCounts[reader.leaves().size()];
+		int leafOrdBase = 0;
+		for ( IndexReader subReader : subReaders ) {
+			GlobalOrdinals globalOrdinals = globalOrdinalsCache.get( subReader, field );
+			if ( globalOrdinals.getValueCount() > Integer.MAX_VALUE ) {
+				// We may want to remove this limitation?
+				// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
+				// so this is no worse than the "legacy" facets from Search 5.
+				throw new IllegalStateException(
+						"Cannot aggregate when more than " + Integer.MAX_VALUE + " terms are indexed" );
+			}
+			ReaderCounts counts = new ReaderCounts( subReader, leafOrdBase, globalOrdinals );
+			readerCounts.add( counts );
+			int leafCount = subReader.leaves().size();
+			Arrays.fill( readerCountsByLeafOrd, leafOrdBase, leafOrdBase + leafCount, counts );
+			leafOrdBase += leafCount;
+		}
+		count( reader, valuesSource, hits.getMatchingDocs(), readerCountsByLeafOrd );
 	}
 
 	@Override
@@ -76,10 +103,17 @@ public FacetResult getTopChildren(int topN, String dim, String... path) throws I
 		if ( path.length != 0 ) {
 			throw new IllegalArgumentException( "path.length should be 0" );
 		}
-		return getTopChildrenSortByCount( topN );
+		if ( readerCounts.size() == 1 ) {
+			return getTopChildrenSortByCount( readerCounts.get( 0 ), topN );
+		}
+		else {
+			return getMergedTopChildrenSortByCount( topN );
+		}
 	}
 
-	private FacetResult getTopChildrenSortByCount(int topN) throws IOException {
+	private FacetResult getTopChildrenSortByCount(ReaderCounts readerCounts, int topN) throws IOException {
+		int[] counts = readerCounts.counts;
+		int ordCount = counts.length;
 		if ( topN > ordCount ) {
 			// HSEARCH-4544 Avoid OutOfMemoryError when passing crazy high topN values
 			// We know there will never be more than "ordCount" values anyway.
@@ -122,17 +156,52 @@ private FacetResult getTopChildrenSortByCount(int topN) throws IOException {
 			return null;
 		}
 
+		GlobalOrdinals.TermLookup termLookup = readerCounts.createTermLookup();
 		LabelAndValue[] labelValues = new LabelAndValue[q.size()];
 		for ( int i = labelValues.length - 1; i >= 0; i-- ) {
 			TopOrdAndIntQueue.OrdAndValue ordAndValue = q.pop();
-			final BytesRef term = dv.lookupOrd( ordAndValue.ord );
+			final BytesRef term = termLookup.lookupOrd( ordAndValue.ord );
 			labelValues[i] = new LabelAndValue( term.utf8ToString(), ordAndValue.value );
 		}
 
 		return new FacetResult( field, new String[0], totCount, labelValues, childCount );
 	}
 
-	private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, int segOrd, MatchingDocs hits)
+	private FacetResult getMergedTopChildrenSortByCount(int topN) throws IOException {
+		Map<BytesRef, Integer> mergedCounts = new HashMap<>();
+		int totCount = 0;
+		for ( ReaderCounts readerCounts : this.readerCounts ) {
+			int[] counts = readerCounts.counts;
+			GlobalOrdinals.TermLookup termLookup = null;
+			for ( int ord = 0; ord < counts.length; ord++ ) {
+				if ( counts[ord] > 0 ) {
+					if ( termLookup == null ) {
+						termLookup = readerCounts.createTermLookup();
+					}
+					totCount += counts[ord];
+					mergedCounts.merge( BytesRef.deepCopyOf( termLookup.lookupOrd( ord ) ), counts[ord], Integer::sum );
+				}
+			}
+		}
+
+		if ( mergedCounts.isEmpty() ) {
+			return null;
+		}
+
+		// Same order as with a single reader: count descending, then term ascending.
+		List<Map.Entry<BytesRef, Integer>> entries = new ArrayList<>( mergedCounts.entrySet() );
+		entries.sort( Map.Entry.<BytesRef, Integer>comparingByValue().reversed()
+				.thenComparing( Map.Entry.comparingByKey() ) );
+		LabelAndValue[] labelValues = new LabelAndValue[Math.min( topN, entries.size() )];
+		for ( int i = 0; i < labelValues.length; i++ ) {
+			Map.Entry<BytesRef, Integer> entry = entries.get( i );
+			labelValues[i] = new LabelAndValue( entry.getKey().utf8ToString(), entry.getValue() );
+		}
+
+		return new FacetResult( field, new String[0], totCount, labelValues, mergedCounts.size() );
+	}
+
+	private void countOneSegment(int[] counts, LongValues ordMap, TextMultiValues segValues, MatchingDocs hits)
 			throws IOException {
 		if ( segValues == null ) {
 			// nothing to count
@@ -151,9 +220,7 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 		// (distributed faceting).  but this has much higher
 		// temp ram req'ts (sum of number of ords across all
 		// segs)
-		if ( ordinalMap != null ) {
-			final LongValues ordMap = ordinalMap.getGlobalOrds( segOrd );
-
+		if ( ordMap != null ) {
 			int numSegOrds = (int) segValues.getValueCount();
 
 			if ( hits.totalHits < numSegOrds / 10 ) {
@@ -218,20 +285,9 @@ private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, i
 	/**
 	 * Does all the "real work" of tallying up the counts.
 	 */
-	private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<MatchingDocs> matchingDocs)
+	private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<MatchingDocs> matchingDocs,
+			ReaderCounts[] readerCountsByLeafOrd)
 			throws IOException {
-		OrdinalMap ordinalMap;
-
-		// TODO: is this right?  really, we need a way to
-		// verify that this ordinalMap "matches" the leaves in
-		// matchingDocs...
-		if ( dv instanceof MultiSortedSetDocValues && matchingDocs.size() > 1 ) {
-			ordinalMap = ( (MultiSortedSetDocValues) dv ).mapping;
-		}
-		else {
-			ordinalMap = null;
-		}
-
 		for ( MatchingDocs hits : matchingDocs ) {
 
 			// LUCENE-5090: make sure the provided reader context "matches"
@@ -243,7 +299,10 @@ private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<
 						"the SortedSetDocValuesReaderState provided to this class does not match the reader being searched; you must create a new SortedSetDocValuesReaderState every time you open a new IndexReader" );
 			}
 
-			countOneSegment( ordinalMap, valuesSource.getValues( hits.context ), hits.context.ord, hits );
+			ReaderCounts readerCounts = readerCountsByLeafOrd[hits.context.ord];
+			int segmentIndex = hits.context.ord - readerCounts.leafOrdBase;
+			countOneSegment( readerCounts.counts, readerCounts.globalOrdinals.getGlobalOrdsOrNull( segmentIndex ),
+					valuesSource.getValues( hits.context ), hits );
 		}
 	}
 
@@ -257,4 +316,23 @@ public List<FacetResult> getAllDims(int topN) throws IOException {
 		return Collections.singletonList( getTopChildren( topN, field ) );
 	}
 
+	private static final class ReaderCounts {
+		private final IndexReader reader;
+		private final int leafOrdBase;
+		private final GlobalOrdinals globalOrdinals;
+		// Flat array of counts, indexed by global ordinal
+		private final int[] counts;
+
+		private ReaderCounts(IndexReader reader, int leafOrdBase, GlobalOrdinals globalOrdinals) {
+			this.reader = reader;
+			this.leafOrdBase = leafOrdBase;
+			this.globalOrdinals = globalOrdinals;
+			this.counts = new int[(int) globalOrdinals.getValueCount()];
+		}
+
+		GlobalOrdinals.TermLookup createTermLookup() {
+			return globalOrdinals.createTermLookup( reader.leaves() );
+		}
+	}
+
 }
@@ -9,6 +9,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -27,19 +29,23 @@ private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			ReplicationChannel replicationChannelOrNull, Translog translogOrNull) {
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
 				null, 0,
 				threads,
-				failureHandler
+				failureHandler,
+				replicationChannelOrNull,
+				translogOrNull
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider,
+			ReplicationChannel replicationChannelOrNull) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
@@ -6,8 +6,15 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -25,16 +32,35 @@ protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 		this.failureHandler = failureHandler;
 	}
 
+	/**
+	 * @return The given configured warmers, followed by the warmers Hibernate Search always applies.
+	 */
+	static List<IndexReaderWarmer> withBuiltInWarmers(List<IndexReaderWarmer> configuredWarmers,
+			GlobalOrdinalsCache globalOrdinalsCache) {
+		List<IndexReaderWarmer> warmers = new ArrayList<>( configuredWarmers );
+		warmers.add( globalOrdinalsCache );
+		return warmers;
+	}
+
+	/**
+	 * @param replicationChannelOrNull The channel to publish commits to (on a primary index)
+	 * or to fetch commits from (on a replica index), or {@code null} if the index is not replicated.
+	 * @param translogOrNull The translog to record index writer operations in,
+	 * or {@code null} if the translog is disabled.
+	 */
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource,
+			ReplicationChannel replicationChannelOrNull, Translog translogOrNull) {
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
-			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource,
+					replicationChannelOrNull, translogOrNull );
+			indexReaderProvider = createIndexReaderProvider( indexName, eventContext, directoryHolder,
+					indexWriterProvider, replicationChannelOrNull );
 			return new IndexAccessorImpl(
 					eventContext,
-					directoryHolder, indexWriterProvider, indexReaderProvider
+					directoryHolder, isDirectoryShared(), indexWriterProvider, indexReaderProvider
 			);
 		}
 		catch (RuntimeException e) {
@@ -46,10 +72,32 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 		}
 	}
 
+	/**
+	 * @return {@code true} if the directory is written to by another node,
+	 * in which case it must never be created, dropped or written to.
+	 */
+	boolean isDirectoryShared() {
+		return false;
+	}
+
+	/**
+	 * @return An index writer provider, or {@code null} if the index must never be written to.
+	 */
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			ReplicationChannel replicationChannelOrNull, Translog translogOrNull);
+
+	abstract IndexReaderProvider createIndexReaderProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProviderOrNull,
+			ReplicationChannel replicationChannelOrNull);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+	/**
+	 * Releases resources held by this strategy, if any.
+	 * <p>
+	 * Should be called after all index accessors created by this strategy have been closed.
+	 */
+	public void close() {
+		// Nothing to do by default
+	}
 
 }
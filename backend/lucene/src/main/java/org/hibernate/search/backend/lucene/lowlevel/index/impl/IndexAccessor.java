@@ -46,6 +46,13 @@ public interface IndexAccessor {
 	 */
 	void commitOrDelay();
 
+	/**
+	 * @return {@code true} if index writer operations are recorded in a translog,
+	 * in which case they are only durable after the next call to {@link #commitOrDelay()},
+	 * even if that call delays the commit.
+	 */
+	boolean hasTranslog();
+
 	/**
 	 * Refreshes the underlying index readers.
 	 */
@@ -10,10 +10,12 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.NoSuchFileException;
+import java.util.Map;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.SearchLoadTracker;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
@@ -25,6 +27,7 @@
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.LockObtainFailedException;
 import org.apache.lucene.store.SleepingLockWrapper;
@@ -37,14 +40,23 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 
 	private final EventContext eventContext;
 	private final DirectoryHolder directoryHolder;
+	/**
+	 * Whether the directory is written to by another node (read-only index),
+	 * in which case it must never be created, dropped or written to.
+	 */
+	private final boolean directoryShared;
+	/**
+	 * The index writer provider, or null if this index must never be written to (replica or read-only index).
+	 */
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
 
 	public IndexAccessorImpl(EventContext eventContext,
-			DirectoryHolder directoryHolder,
+			DirectoryHolder directoryHolder, boolean directoryShared,
 			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
+		this.directoryShared = directoryShared;
 		this.indexWriterProvider = indexWriterProvider;
 		this.indexReaderProvider = indexReaderProvider;
 	}
@@ -60,6 +72,10 @@ public void close() throws IOException {
 
 	@Override
 	public void createIndexIfMissing() {
+		if ( directoryShared ) {
+			// The index is created by the node writing to it.
+			return;
+		}
 		try {
 			Directory directory = directoryHolder.get();
 
@@ -94,6 +110,16 @@ public void validateIndexExists() {
 
 	@Override
 	public void dropIndexIfExisting() {
+		if ( directoryShared ) {
+			// The index is dropped by the node writing to it: just release readers.
+			try {
+				close();
+			}
+			catch (IOException | RuntimeException e) {
+				throw log.unableToDropIndexDirectory( e.getMessage(), eventContext, e );
+			}
+			return;
+		}
 		try {
 			// Clear current writer/readers so that they no longer hold on to the directory.
 			// We assume that no operation on the directory is happening concurrently,
@@ -102,6 +128,10 @@ public void dropIndexIfExisting() {
 			// or the concurrent writes/reads will fail.
 			close();
 
+			if ( indexWriterProvider != null ) {
+				indexWriterProvider.discardTranslog();
+			}
+
 			Directory directory = directoryHolder.get();
 
 			if ( !DirectoryReader.indexExists( directory ) ) {
@@ -126,6 +156,9 @@ public void dropIndexIfExisting() {
 
 	@Override
 	public void commit() {
+		if ( indexWriterProvider == null ) {
+			return;
+		}
 		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
 		if ( delegator != null ) {
 			delegator.commit();
@@ -134,12 +167,24 @@ public void commit() {
 
 	@Override
 	public void commitOrDelay() {
+		if ( indexWriterProvider == null ) {
+			return;
+		}
 		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
 		if ( delegator != null ) {
 			delegator.commitOrDelay();
 		}
 	}
 
+	@Override
+	public boolean hasTranslog() {
+		return indexWriterProvider != null && indexWriterProvider.hasTranslog();
+	}
+
+	public SearchLoadTracker searchLoadTrackerOrNull() {
+		return indexWriterProvider == null ? null : indexWriterProvider.searchLoadTrackerOrNull();
+	}
+
 	@Override
 	public void refresh() {
 		indexReaderProvider.refresh();
@@ -148,16 +193,45 @@ public void refresh() {
 	@Override
 	public void mergeSegments() {
 		try {
-			indexWriterProvider.getOrCreate().mergeSegments();
+			getIndexWriterProvider().getOrCreate().mergeSegments();
 		}
 		catch (IOException e) {
 			throw log.unableToMergeSegments( e.getMessage(), eventContext, e );
 		}
 	}
 
+	/**
+	 * Replaces all documents with those from the latest commit of another index, if any,
+	 * then deletes documents matching the given query
+	 * and commits, persisting the given user data.
+	 * <p>
+	 * Index readers are not refreshed.
+	 *
+	 * @param sourceDirectoryOrNull The directory of the index to copy documents from,
+	 * or {@code null} to keep the documents of this index.
+	 * @param excludedDocumentsQuery A query matching documents to delete.
+	 * @param commitUserData User data to persist in the commit.
+	 */
+	public void split(Directory sourceDirectoryOrNull, Query excludedDocumentsQuery,
+			Map<String, String> commitUserData) {
+		try {
+			IndexWriterDelegatorImpl delegator = getIndexWriterProvider().getOrCreate();
+			if ( sourceDirectoryOrNull != null ) {
+				delegator.deleteAll();
+				delegator.addIndexes( sourceDirectoryOrNull );
+			}
+			delegator.deleteDocuments( excludedDocumentsQuery );
+			delegator.commitUserData( commitUserData );
+			delegator.commit();
+		}
+		catch (IOException e) {
+			throw log.unableToSplitShards( e.getMessage(), eventContext, e );
+		}
+	}
+
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
-		return indexWriterProvider.getOrCreate();
+		return getIndexWriterProvider().getOrCreate();
 	}
 
 	@Override
@@ -172,7 +246,9 @@ public void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
 			 * Note this will close the index writer,
 			 * which with the default settings will trigger a commit.
 			 */
-			indexWriterProvider.clearAfterFailure( throwable, failingOperation );
+			if ( indexWriterProvider != null ) {
+				indexWriterProvider.clearAfterFailure( throwable, failingOperation );
+			}
 			indexReaderProvider.clear();
 		}
 		catch (RuntimeException | IOException e) {
@@ -207,7 +283,16 @@ public Directory getDirectoryForTests() {
 	}
 
 	public IndexWriter getWriterForTests() throws IOException {
-		return indexWriterProvider.getOrCreate().getDelegateForTests();
+		return getIndexWriterProvider().getOrCreate().getDelegateForTests();
+	}
+
+	private IndexWriterProvider getIndexWriterProvider() {
+		if ( indexWriterProvider == null ) {
+			throw directoryShared
+					? log.cannotWriteToReadOnlyIndex( eventContext )
+					: log.cannotWriteToReplicaIndex( eventContext );
+		}
+		return indexWriterProvider;
 	}
 
 	private void initializeDirectory(Directory directory) throws IOException {
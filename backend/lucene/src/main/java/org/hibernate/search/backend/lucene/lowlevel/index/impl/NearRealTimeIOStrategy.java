@@ -6,16 +6,28 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.MultiReaderCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -33,12 +45,31 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> BACKGROUND_REFRESH =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BACKGROUND_REFRESH )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BACKGROUND_REFRESH )
+					.build();
+
+	private static final OptionalConfigurationProperty<List<BeanReference<? extends IndexReaderWarmer>>> READER_WARMERS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_READER_WARMERS )
+					.asBeanReference( IndexReaderWarmer.class )
+					.multivalued()
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
-			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
+			BeanResolver beanResolver,
+			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler,
+			GlobalOrdinalsCache globalOrdinalsCache, MultiReaderCache multiReaderCache) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean backgroundRefresh = BACKGROUND_REFRESH.get( propertySource );
+		BeanHolder<List<IndexReaderWarmer>> readerWarmersHolder =
+				READER_WARMERS.getAndMap( propertySource, beanResolver::resolve )
+						.orElseGet( () -> BeanHolder.of( Collections.<IndexReaderWarmer>emptyList() ) );
 		return new NearRealTimeIOStrategy(
 				timingSource, commitInterval, refreshInterval,
+				backgroundRefresh, readerWarmersHolder, globalOrdinalsCache, multiReaderCache,
 				threads, failureHandler
 		);
 	}
@@ -46,19 +77,35 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean backgroundRefresh;
+	private final BeanHolder<List<IndexReaderWarmer>> readerWarmersHolder;
+	private final List<IndexReaderWarmer> readerWarmers;
+	private final MultiReaderCache multiReaderCache;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+			boolean backgroundRefresh, BeanHolder<List<IndexReaderWarmer>> readerWarmersHolder,
+			GlobalOrdinalsCache globalOrdinalsCache, MultiReaderCache multiReaderCache,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefresh = backgroundRefresh;
+		this.readerWarmersHolder = readerWarmersHolder;
+		this.readerWarmers = withBuiltInWarmers( readerWarmersHolder.get(), globalOrdinalsCache );
+		this.multiReaderCache = multiReaderCache;
+	}
+
+	@Override
+	public void close() {
+		readerWarmersHolder.close();
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			ReplicationChannel replicationChannelOrNull, Translog translogOrNull) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
@@ -66,17 +113,26 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				indexName, eventContext,
 				directoryHolder, configSource,
 				timingSource, commitInterval, threads,
-				failureHandler
+				failureHandler,
+				replicationChannelOrNull,
+				translogOrNull
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider,
+			ReplicationChannel replicationChannelOrNull) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider(
+				indexName, eventContext,
+				indexWriterProvider, timingSource, refreshInterval,
+				readerWarmers, multiReaderCache,
+				backgroundRefresh ? threads.getReaderRefreshExecutor() : null,
+				failureHandler
+		);
 	}
 
 }
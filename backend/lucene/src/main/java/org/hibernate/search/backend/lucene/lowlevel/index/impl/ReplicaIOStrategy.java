@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.MultiReaderCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReplicaIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * A strategy for replica and read-only indexes, which are never written to.
+ * <p>
+ * Index readers of replica indexes are based on a local copy of the commits of a primary index,
+ * while index readers of read-only indexes are opened directly on a directory shared with the node writing to the index.
+ */
+public class ReplicaIOStrategy extends IOStrategy {
+
+	private static final ConfigurationProperty<Integer> POLL_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.REPLICATION_POLL_INTERVAL )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.REPLICATION_POLL_INTERVAL )
+					.build();
+
+	private static final OptionalConfigurationProperty<List<BeanReference<? extends IndexReaderWarmer>>> READER_WARMERS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_READER_WARMERS )
+					.asBeanReference( IndexReaderWarmer.class )
+					.multivalued()
+					.build();
+
+	public static ReplicaIOStrategy create(ConfigurationPropertySource propertySource,
+			BeanResolver beanResolver, BackendThreads threads, FailureHandler failureHandler,
+			GlobalOrdinalsCache globalOrdinalsCache, MultiReaderCache multiReaderCache, boolean readOnly) {
+		int pollInterval = POLL_INTERVAL.get( propertySource );
+		BeanHolder<List<IndexReaderWarmer>> readerWarmersHolder =
+				READER_WARMERS.getAndMap( propertySource, beanResolver::resolve )
+						.orElseGet( () -> BeanHolder.of( Collections.<IndexReaderWarmer>emptyList() ) );
+		return new ReplicaIOStrategy( pollInterval, readerWarmersHolder, globalOrdinalsCache, multiReaderCache,
+				threads, failureHandler, readOnly );
+	}
+
+	private final int pollInterval;
+	private final BeanHolder<List<IndexReaderWarmer>> readerWarmersHolder;
+	private final List<IndexReaderWarmer> readerWarmers;
+	private final MultiReaderCache multiReaderCache;
+	private final boolean readOnly;
+
+	private ReplicaIOStrategy(int pollInterval, BeanHolder<List<IndexReaderWarmer>> readerWarmersHolder,
+			GlobalOrdinalsCache globalOrdinalsCache, MultiReaderCache multiReaderCache,
+			BackendThreads threads, FailureHandler failureHandler, boolean readOnly) {
+		super( threads, failureHandler );
+		this.readOnly = readOnly;
+		this.pollInterval = pollInterval;
+		this.readerWarmersHolder = readerWarmersHolder;
+		this.readerWarmers = withBuiltInWarmers( readerWarmersHolder.get(), globalOrdinalsCache );
+		this.multiReaderCache = multiReaderCache;
+	}
+
+	@Override
+	public void close() {
+		readerWarmersHolder.close();
+	}
+
+	@Override
+	boolean isDirectoryShared() {
+		return readOnly;
+	}
+
+	@Override
+	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			ReplicationChannel replicationChannelOrNull, Translog translogOrNull) {
+		// Replicas and read-only indexes are never written to.
+		return null;
+	}
+
+	@Override
+	IndexReaderProvider createIndexReaderProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider,
+			ReplicationChannel replicationChannelOrNull) {
+		return new ReplicaIndexReaderProvider(
+				indexName, eventContext,
+				directoryHolder, replicationChannelOrNull,
+				pollInterval, readerWarmers, multiReaderCache,
+				threads.getReaderRefreshExecutor(),
+				failureHandler
+		);
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.merge.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.FilterMergePolicy;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeTrigger;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+
+/**
+ * A merge policy that does not propose large merges outside of quiet windows,
+ * so that they are proposed again once a quiet window starts.
+ * <p>
+ * Forced merges are never deferred.
+ */
+final class DeferringMergePolicy extends FilterMergePolicy {
+
+	private final MergeThrottling throttling;
+
+	DeferringMergePolicy(MergePolicy delegate, MergeThrottling throttling) {
+		super( delegate );
+		this.throttling = throttling;
+	}
+
+	@Override
+	public MergeSpecification findMerges(MergeTrigger mergeTrigger, SegmentInfos segmentInfos,
+			MergeContext mergeContext)
+			throws IOException {
+		return deferLargeMerges( super.findMerges( mergeTrigger, segmentInfos, mergeContext ), segmentInfos );
+	}
+
+	@Override
+	public MergeSpecification findFullFlushMerges(MergeTrigger mergeTrigger, SegmentInfos segmentInfos,
+			MergeContext mergeContext)
+			throws IOException {
+		return deferLargeMerges( super.findFullFlushMerges( mergeTrigger, segmentInfos, mergeContext ), segmentInfos );
+	}
+
+	private MergeSpecification deferLargeMerges(MergeSpecification specification, SegmentInfos segmentInfos)
+			throws IOException {
+		if ( specification == null || !throttling.isDeferringLargeMerges( segmentInfos.size() ) ) {
+			throttling.deferredMergeCount( 0 );
+			return specification;
+		}
+		MergeSpecification filtered = new MergeSpecification();
+		int deferredMergeCount = 0;
+		for ( OneMerge merge : specification.merges ) {
+			if ( sizeInBytes( merge ) > throttling.deferredMinSizeBytes() ) {
+				++deferredMergeCount;
+			}
+			else {
+				filtered.add( merge );
+			}
+		}
+		throttling.deferredMergeCount( deferredMergeCount );
+		return filtered.merges.isEmpty() ? null : filtered;
+	}
+
+	private static long sizeInBytes(OneMerge merge) throws IOException {
+		long size = 0L;
+		for ( SegmentCommitInfo segment : merge.segments ) {
+			size += segment.sizeInBytes();
+		}
+		return size;
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.merge.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.store.RateLimiter;
+
+/**
+ * A rate limiter for the output of a single merge,
+ * whose rate follows {@link MergeThrottling#targetMBPerSec()}.
+ */
+public final class LoadAwareMergeRateLimiter extends RateLimiter {
+
+	// How often the rate is adjusted to the search load.
+	private static final long RATE_UPDATE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos( 100 );
+
+	private final MergeThrottling throttling;
+	private final RateLimiter.SimpleRateLimiter delegate;
+
+	// Only accessed from the merge thread
+	private long lastRateUpdateNanos;
+	private long totalBytesWritten;
+
+	public LoadAwareMergeRateLimiter(MergeThrottling throttling) {
+		this.throttling = throttling;
+		this.delegate = new RateLimiter.SimpleRateLimiter( throttling.targetMBPerSec() );
+		this.lastRateUpdateNanos = System.nanoTime();
+	}
+
+	@Override
+	public void setMBPerSec(double mbPerSec) {
+		delegate.setMBPerSec( mbPerSec );
+	}
+
+	@Override
+	public double getMBPerSec() {
+		return delegate.getMBPerSec();
+	}
+
+	@Override
+	public long pause(long bytes) {
+		totalBytesWritten += bytes;
+		long now = System.nanoTime();
+		if ( now - lastRateUpdateNanos > RATE_UPDATE_INTERVAL_NANOS ) {
+			lastRateUpdateNanos = now;
+			double targetMBPerSec = throttling.targetMBPerSec();
+			if ( targetMBPerSec != delegate.getMBPerSec() ) {
+				delegate.setMBPerSec( targetMBPerSec );
+			}
+		}
+		return delegate.pause( bytes );
+	}
+
+	@Override
+	public long getMinPauseCheckBytes() {
+		return delegate.getMinPauseCheckBytes();
+	}
+
+	public long getTotalBytesWritten() {
+		return totalBytesWritten;
+	}
+
+}
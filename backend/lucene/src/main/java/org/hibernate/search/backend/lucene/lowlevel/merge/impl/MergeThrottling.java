@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.merge.impl;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+
+import org.apache.lucene.index.MergePolicy;
+
+/**
+ * Adapts merges of a single shard to the load of that shard:
+ * merge I/O is throttled when search queries are executing or are slow,
+ * and large merges are deferred to quiet windows,
+ * unless there are so many segments that merging can no longer wait.
+ */
+public final class MergeThrottling {
+
+	private static final ConfigurationProperty<Boolean> THROTTLING_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_THROTTLING_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_THROTTLING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> THROTTLING_MIN_RATE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_THROTTLING_MIN_RATE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_THROTTLING_MIN_RATE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> THROTTLING_MAX_RATE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_THROTTLING_MAX_RATE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_THROTTLING_MAX_RATE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> THROTTLING_SEARCH_CONCURRENCY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_THROTTLING_SEARCH_CONCURRENCY )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_THROTTLING_SEARCH_CONCURRENCY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> THROTTLING_SEARCH_LATENCY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_THROTTLING_SEARCH_LATENCY )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_THROTTLING_SEARCH_LATENCY )
+					.build();
+
+	private static final ConfigurationProperty<List<QuietWindow>> QUIET_WINDOWS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_QUIET_WINDOWS )
+					.as( QuietWindow.class, QuietWindow::parse )
+					.multivalued()
+					.withDefault( List.of() )
+					.build();
+
+	private static final ConfigurationProperty<Integer> DEFERRED_MIN_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_DEFERRED_MIN_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_DEFERRED_MIN_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_SEGMENT_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_SEGMENT_COUNT )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_MAX_SEGMENT_COUNT )
+					.build();
+
+	private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+	/**
+	 * @param propertySource The configuration of the index.
+	 * @return The merge throttling for a shard of that index,
+	 * or {@code null} if neither throttling nor quiet windows are configured.
+	 */
+	public static MergeThrottling createOrNull(ConfigurationPropertySource propertySource) {
+		boolean throttlingEnabled = THROTTLING_ENABLED.get( propertySource );
+		List<QuietWindow> quietWindows = QUIET_WINDOWS.get( propertySource );
+		if ( !throttlingEnabled && quietWindows.isEmpty() ) {
+			return null;
+		}
+		return new MergeThrottling( throttlingEnabled,
+				THROTTLING_MIN_RATE.get( propertySource ), THROTTLING_MAX_RATE.get( propertySource ),
+				THROTTLING_SEARCH_CONCURRENCY.get( propertySource ), THROTTLING_SEARCH_LATENCY.get( propertySource ),
+				quietWindows, DEFERRED_MIN_SIZE.get( propertySource ), MAX_SEGMENT_COUNT.get( propertySource ) );
+	}
+
+	private final boolean throttlingEnabled;
+	private final double minMBPerSec;
+	private final double maxMBPerSec;
+	private final int searchConcurrencyThreshold;
+	private final double searchLatencyThresholdMillis;
+	private final List<QuietWindow> quietWindows;
+	private final long deferredMinSizeBytes;
+	private final int maxSegmentCount;
+
+	private final SearchLoadTracker searchLoadTracker = new SearchLoadTracker();
+	private volatile int deferredMergeCount;
+
+	private MergeThrottling(boolean throttlingEnabled, int minMBPerSec, int maxMBPerSec,
+			int searchConcurrencyThreshold, int searchLatencyThresholdMillis,
+			List<QuietWindow> quietWindows, int deferredMinSizeMB, int maxSegmentCount) {
+		this.throttlingEnabled = throttlingEnabled;
+		this.minMBPerSec = Math.min( minMBPerSec, maxMBPerSec );
+		this.maxMBPerSec = maxMBPerSec;
+		this.searchConcurrencyThreshold = searchConcurrencyThreshold;
+		this.searchLatencyThresholdMillis = searchLatencyThresholdMillis;
+		this.quietWindows = quietWindows;
+		this.deferredMinSizeBytes = deferredMinSizeMB * (long) BYTES_PER_MB;
+		this.maxSegmentCount = maxSegmentCount;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "throttlingEnabled=" + throttlingEnabled
+				+ ", minMBPerSec=" + minMBPerSec
+				+ ", maxMBPerSec=" + maxMBPerSec
+				+ ", quietWindows=" + quietWindows
+				+ "]";
+	}
+
+	public SearchLoadTracker searchLoadTracker() {
+		return searchLoadTracker;
+	}
+
+	public boolean isThrottlingEnabled() {
+		return throttlingEnabled;
+	}
+
+	/**
+	 * @return The rate at which merges should write, in MB per second,
+	 * interpolated between the configured minimum and maximum according to the current search load.
+	 */
+	public double targetMBPerSec() {
+		double concurrencyLoad = (double) searchLoadTracker.concurrentSearches() / searchConcurrencyThreshold;
+		double latencyLoad = searchLoadTracker.averageLatencyMillis() / searchLatencyThresholdMillis;
+		double load = Math.min( 1.0, Math.max( concurrencyLoad, latencyLoad ) );
+		return maxMBPerSec - load * ( maxMBPerSec - minMBPerSec );
+	}
+
+	/**
+	 * @param mergePolicy A merge policy.
+	 * @return A merge policy that defers large merges outside of quiet windows.
+	 */
+	public MergePolicy wrap(MergePolicy mergePolicy) {
+		if ( quietWindows.isEmpty() ) {
+			return mergePolicy;
+		}
+		return new DeferringMergePolicy( mergePolicy, this );
+	}
+
+	/**
+	 * @param segmentCount The current number of segments in the index.
+	 * @return {@code true} if merges larger than {@link #deferredMinSizeBytes()} should be deferred,
+	 * {@code false} if they should execute now.
+	 */
+	boolean isDeferringLargeMerges(int segmentCount) {
+		if ( quietWindows.isEmpty() || segmentCount >= maxSegmentCount ) {
+			return false;
+		}
+		LocalTime now = LocalTime.now( ZoneId.systemDefault() );
+		for ( QuietWindow quietWindow : quietWindows ) {
+			if ( quietWindow.contains( now ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	long deferredMinSizeBytes() {
+		return deferredMinSizeBytes;
+	}
+
+	void deferredMergeCount(int count) {
+		this.deferredMergeCount = count;
+	}
+
+	/**
+	 * @return The number of merges that were deferred the last time merges were considered.
+	 */
+	public int deferredMergeCount() {
+		return deferredMergeCount;
+	}
+
+	static double bytesToMB(long bytes) {
+		return bytes / BYTES_PER_MB;
+	}
+
+}
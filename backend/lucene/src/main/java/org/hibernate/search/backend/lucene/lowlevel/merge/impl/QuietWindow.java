@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.merge.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A daily window of time, e.g. {@code 22:00-06:00}, during which large merges are allowed.
+ */
+public final class QuietWindow {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @param value A string representation of the window, i.e. a start time and an end time
+	 * in the ISO format, separated by a dash, e.g. {@code 22:00-06:00}.
+	 * @return The corresponding window.
+	 */
+	public static QuietWindow parse(String value) {
+		String trimmed = value.trim();
+		int separatorIndex = trimmed.indexOf( '-' );
+		if ( separatorIndex < 0 ) {
+			throw log.invalidMergeQuietWindow( value, null );
+		}
+		try {
+			LocalTime start = LocalTime.parse( trimmed.substring( 0, separatorIndex ).trim() );
+			LocalTime end = LocalTime.parse( trimmed.substring( separatorIndex + 1 ).trim() );
+			return new QuietWindow( start, end );
+		}
+		catch (DateTimeParseException e) {
+			throw log.invalidMergeQuietWindow( value, e );
+		}
+	}
+
+	private final LocalTime start;
+	private final LocalTime end;
+
+	private QuietWindow(LocalTime start, LocalTime end) {
+		this.start = start;
+		this.end = end;
+	}
+
+	@Override
+	public String toString() {
+		return start + "-" + end;
+	}
+
+	/**
+	 * @param time A time of day.
+	 * @return {@code true} if the given time is within this window, {@code false} otherwise.
+	 */
+	public boolean contains(LocalTime time) {
+		if ( start.isAfter( end ) ) {
+			// The window spans midnight, e.g. 22:00-06:00
+			return !time.isBefore( start ) || time.isBefore( end );
+		}
+		return !time.isBefore( start ) && time.isBefore( end );
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.merge.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the search queries executed against a single shard,
+ * so that merges can be throttled when the shard is busy serving searches.
+ */
+public final class SearchLoadTracker {
+
+	// Weight of the latest search in the average latency.
+	private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+	// After this long without any search, latency is no longer considered a sign of load.
+	private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos( 1 );
+
+	private final AtomicInteger concurrentSearches = new AtomicInteger();
+
+	// Guarded by "this"
+	private double averageLatencyNanos;
+	private long lastSearchEndNanos;
+
+	/**
+	 * @return A token to pass to {@link #searchFinished(long)}.
+	 */
+	public long searchStarted() {
+		concurrentSearches.incrementAndGet();
+		return System.nanoTime();
+	}
+
+	/**
+	 * @param token The token returned by {@link #searchStarted()}.
+	 */
+	public void searchFinished(long token) {
+		long now = System.nanoTime();
+		concurrentSearches.decrementAndGet();
+		long latencyNanos = now - token;
+		synchronized (this) {
+			if ( averageLatencyNanos == 0.0 ) {
+				averageLatencyNanos = latencyNanos;
+			}
+			else {
+				averageLatencyNanos += LATENCY_SMOOTHING_FACTOR * ( latencyNanos - averageLatencyNanos );
+			}
+			lastSearchEndNanos = now;
+		}
+	}
+
+	/**
+	 * @return The number of searches currently executing.
+	 */
+	public int concurrentSearches() {
+		return concurrentSearches.get();
+	}
+
+	/**
+	 * @return The average latency of recent searches in milliseconds,
+	 * or {@code 0} if the shard has been idle for a while.
+	 */
+	public synchronized double averageLatencyMillis() {
+		if ( concurrentSearches.get() == 0 && System.nanoTime() - lastSearchEndNanos > IDLE_NANOS ) {
+			return 0.0;
+		}
+		return averageLatencyNanos / TimeUnit.MILLISECONDS.toNanos( 1 );
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.util.common.data.impl.HashTable;
+import org.hibernate.search.util.common.data.impl.ModuloHashTable;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * A query matching documents that the "hash" sharding strategy would route to a shard other than the given one,
+ * for a given number of shards.
+ * <p>
+ * Documents are routed according to their routing key if they have one, or to their identifier otherwise.
+ * Nested documents are routed like their root document, since they hold the same identifier and routing key.
+ * When documents are routed according to their tenant identifier, the routing key and identifier are ignored.
+ */
+public final class HashShardMismatchQuery extends Query {
+
+	private final int numberOfShards;
+	private final int shardIndex;
+	private final boolean routingByTenantId;
+	private final HashTable<?> hashTable;
+
+	public HashShardMismatchQuery(int numberOfShards, int shardIndex, boolean routingByTenantId) {
+		this.numberOfShards = numberOfShards;
+		this.shardIndex = shardIndex;
+		this.routingByTenantId = routingByTenantId;
+		// Note this MUST use the same hash function / table implementations as the "hash" sharding strategy.
+		this.hashTable = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, numberOfShards );
+	}
+
+	@Override
+	public String toString(String field) {
+		return getClass().getName() + "{numberOfShards=" + numberOfShards + ", shardIndex=" + shardIndex
+				+ ", routingByTenantId=" + routingByTenantId + "}";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		HashShardMismatchQuery other = (HashShardMismatchQuery) obj;
+		return numberOfShards == other.numberOfShards
+				&& shardIndex == other.shardIndex
+				&& routingByTenantId == other.routingByTenantId;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( numberOfShards, shardIndex, routingByTenantId );
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		return new ConstantScoreWeight( this, boost ) {
+			@Override
+			public Scorer scorer(LeafReaderContext context) throws IOException {
+				LeafReader reader = context.reader();
+				FixedBitSet mismatch = new FixedBitSet( reader.maxDoc() );
+				if ( routingByTenantId ) {
+					collectMismatches( reader, MetadataFields.tenantIdFieldName(), null, null, mismatch );
+				}
+				else {
+					// The routing key takes precedence over the identifier: handle it first.
+					FixedBitSet hasRoutingKey = new FixedBitSet( reader.maxDoc() );
+					collectMismatches( reader, MetadataFields.routingKeyFieldName(), null, hasRoutingKey, mismatch );
+					collectMismatches( reader, MetadataFields.idFieldName(), hasRoutingKey, null, mismatch );
+				}
+				int cardinality = mismatch.cardinality();
+				if ( cardinality == 0 ) {
+					return null; // Skip this leaf
+				}
+				return new ConstantScoreScorer( this, score(), scoreMode,
+						new BitSetIterator( mismatch, cardinality ) );
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				// Only used for one-shot deletes: caching would be useless.
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		visitor.visitLeaf( this );
+	}
+
+	private void collectMismatches(LeafReader reader, String field, FixedBitSet excludedDocsOrNull,
+			FixedBitSet encounteredDocsOrNull, FixedBitSet mismatch)
+			throws IOException {
+		Terms terms = reader.terms( field );
+		if ( terms == null ) {
+			return;
+		}
+		TermsEnum termsEnum = terms.iterator();
+		PostingsEnum postings = null;
+		BytesRef term;
+		while ( ( term = termsEnum.next() ) != null ) {
+			boolean termMismatch = hashTable.computeIndex( term.utf8ToString() ) != shardIndex;
+			postings = termsEnum.postings( postings, PostingsEnum.NONE );
+			for ( int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc() ) {
+				if ( excludedDocsOrNull != null && excludedDocsOrNull.get( doc ) ) {
+					continue;
+				}
+				if ( encounteredDocsOrNull != null ) {
+					encounteredDocsOrNull.set( doc );
+				}
+				if ( termMismatch ) {
+					mismatch.set( doc );
+				}
+			}
+		}
+	}
+
+}
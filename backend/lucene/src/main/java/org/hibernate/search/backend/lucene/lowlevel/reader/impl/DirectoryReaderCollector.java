@@ -6,10 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.SearchLoadTracker;
+
 import org.apache.lucene.index.DirectoryReader;
 
 public interface DirectoryReaderCollector {
 
-	void collect(String mappedTypeName, DirectoryReader directoryReader);
+	/**
+	 * @param mappedTypeName The name of the type mapped to the index the reader was opened from.
+	 * @param directoryReader A reader, to be closed along with the collected readers.
+	 * @param searchLoadTrackerOrNull A tracker to notify when searches start and end on that reader,
+	 * or {@code null}.
+	 */
+	void collect(String mappedTypeName, DirectoryReader directoryReader, SearchLoadTracker searchLoadTrackerOrNull);
 
 }
@@ -14,8 +14,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.SearchLoadTracker;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -41,6 +43,12 @@ public class HibernateSearchMultiReader extends MultiReader {
 
 	public static HibernateSearchMultiReader open(Set<String> indexNames,
 			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+		return open( indexNames, indexManagerContexts, routingKeys, null );
+	}
+
+	static HibernateSearchMultiReader open(Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys,
+			MultiReaderCache cacheOrNull) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
@@ -50,7 +58,7 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
 					indexManagerContext.openIndexReaders( routingKeys, builder );
 				}
-				return builder.build();
+				return cacheOrNull == null ? builder.build() : cacheOrNull.getOrCreate( indexNames, routingKeys, builder );
 			}
 			catch (IOException | RuntimeException e) {
 				new SuppressingCloser( e )
@@ -64,19 +72,108 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 
 	private final List<DirectoryReader> directoryReaders;
 	private final IndexReaderMetadataResolver metadataResolver;
+	private final List<SearchLoadTracker> searchLoadTrackers;
+	private final List<Runnable> closedListeners = new CopyOnWriteArrayList<>();
+	private volatile Object cacheKeyOrNull;
 
-	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver)
+	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver,
+			List<SearchLoadTracker> searchLoadTrackers)
 			throws IOException {
 		// If this flag isn't set to true, the MultiReader will increase the usage counter!
 		super( toReaderArray( directoryReaders ), true );
 		this.directoryReaders = directoryReaders;
 		this.metadataResolver = metadataResolver;
+		this.searchLoadTrackers = searchLoadTrackers;
 	}
 
 	public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * Notifies load trackers that a search started on this reader.
+	 * <p>
+	 * Readers may be {@link MultiReaderCache cached} and reused across searches,
+	 * so this is done for each search rather than when the reader is opened.
+	 *
+	 * @return A token to pass to {@link #searchFinished(long)}.
+	 */
+	public long searchStarted() {
+		long token = 0L;
+		for ( SearchLoadTracker tracker : searchLoadTrackers ) {
+			token = tracker.searchStarted();
+		}
+		return token;
+	}
+
+	/**
+	 * @param token The token returned by {@link #searchStarted()}.
+	 */
+	public void searchFinished(long token) {
+		for ( SearchLoadTracker tracker : searchLoadTrackers ) {
+			tracker.searchFinished( token );
+		}
+	}
+
+	/**
+	 * Marks this reader as long-lived, so that other caches can use it as a key:
+	 * see {@link #cacheKeyOrNull()}.
+	 */
+	void markCached() {
+		cacheKeyOrNull = new Object();
+	}
+
+	/**
+	 * Lucene doesn't offer {@link #getReaderCacheHelper() cache helpers} for multi-readers,
+	 * since they are generally short-lived.
+	 * Multi-readers {@link MultiReaderCache cached} by Hibernate Search are long-lived, though,
+	 * so this offers a substitute.
+	 *
+	 * @return A key to cache data related to this reader on, compared using identity,
+	 * or {@code null} if this reader is short-lived.
+	 * @see #addClosedListener(Runnable)
+	 */
+	public Object cacheKeyOrNull() {
+		return cacheKeyOrNull;
+	}
+
+	/**
+	 * @param listener A listener to call when this reader is closed,
+	 * to clean up data cached on {@link #cacheKeyOrNull() this reader's cache key}.
+	 */
+	public void addClosedListener(Runnable listener) {
+		closedListeners.add( listener );
+	}
+
+	/**
+	 * @param directoryReader A directory reader.
+	 * @return {@code true} if this reader wraps the given directory reader.
+	 */
+	boolean wraps(DirectoryReader directoryReader) {
+		for ( DirectoryReader wrapped : directoryReaders ) {
+			if ( wrapped == directoryReader ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param otherDirectoryReaders A list of directory readers.
+	 * @return {@code true} if this reader wraps exactly the given directory readers, in the same order.
+	 */
+	boolean wraps(List<DirectoryReader> otherDirectoryReaders) {
+		if ( directoryReaders.size() != otherDirectoryReaders.size() ) {
+			return false;
+		}
+		for ( int i = 0; i < directoryReaders.size(); i++ ) {
+			if ( directoryReaders.get( i ) != otherDirectoryReaders.get( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean traceEnabled = log.isTraceEnabled();
@@ -90,6 +187,7 @@ protected synchronized void doClose() throws IOException {
 			 * If the reader is not shared, this is equivalent to closing the reader.
 			 */
 			closer.pushAll( DirectoryReader::decRef, directoryReaders );
+			closer.pushAll( Runnable::run, closedListeners );
 		}
 		if ( traceEnabled ) {
 			log.trace( "MultiReader closed." );
@@ -103,20 +201,29 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	public static class Builder implements DirectoryReaderCollector {
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
+		private final List<SearchLoadTracker> searchLoadTrackers = new ArrayList<>();
 
 		private Builder() {
 		}
 
+		List<DirectoryReader> directoryReaders() {
+			return directoryReaders;
+		}
+
 		@Override
-		public void collect(String mappedTypeName, DirectoryReader directoryReader) {
+		public void collect(String mappedTypeName, DirectoryReader directoryReader,
+				SearchLoadTracker searchLoadTrackerOrNull) {
 			directoryReaders.add( directoryReader );
 			mappedTypeNameByDirectoryReader.put( directoryReader, mappedTypeName );
+			if ( searchLoadTrackerOrNull != null ) {
+				searchLoadTrackers.add( searchLoadTrackerOrNull );
+			}
 		}
 
 		HibernateSearchMultiReader build() throws IOException {
 			IndexReaderMetadataResolver metadataResolver =
 					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader );
-			return new HibernateSearchMultiReader( directoryReaders, metadataResolver );
+			return new HibernateSearchMultiReader( directoryReaders, metadataResolver, searchLoadTrackers );
 		}
 	}
 }
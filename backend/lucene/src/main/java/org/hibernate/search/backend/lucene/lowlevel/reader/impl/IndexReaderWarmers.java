@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+
+/**
+ * The {@link IndexReaderWarmer}s of an index,
+ * applied to each new index reader before search queries can use it.
+ */
+final class IndexReaderWarmers {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String indexName;
+	private final EventContext eventContext;
+	private final List<IndexReaderWarmer> warmers;
+
+	IndexReaderWarmers(String indexName, EventContext eventContext, List<IndexReaderWarmer> warmers) {
+		this.indexName = indexName;
+		this.eventContext = eventContext;
+		this.warmers = warmers;
+	}
+
+	/**
+	 * Warms up the given reader. Failures are logged, but do not prevent using the reader.
+	 *
+	 * @param newReader The reader to warm up.
+	 * @param previousReaderOrNull The reader it replaces, if any.
+	 */
+	void warm(DirectoryReader newReader, DirectoryReader previousReaderOrNull) {
+		if ( warmers.isEmpty() ) {
+			return;
+		}
+		IndexReaderWarmingContextImpl context =
+				new IndexReaderWarmingContextImpl( indexName, newReader, previousReaderOrNull );
+		for ( IndexReaderWarmer warmer : warmers ) {
+			try {
+				warmer.warm( context );
+			}
+			catch (RuntimeException | IOException e) {
+				log.unableToWarmIndexReader( e.getMessage(), eventContext, e );
+			}
+		}
+	}
+}
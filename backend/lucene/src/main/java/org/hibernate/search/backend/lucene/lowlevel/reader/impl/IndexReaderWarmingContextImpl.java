@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmingContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+
+final class IndexReaderWarmingContextImpl implements IndexReaderWarmingContext {
+
+	private final String indexName;
+	private final DirectoryReader reader;
+	private final DirectoryReader previousReaderOrNull;
+
+	private List<LeafReaderContext> newLeaves;
+
+	IndexReaderWarmingContextImpl(String indexName, DirectoryReader reader, DirectoryReader previousReaderOrNull) {
+		this.indexName = indexName;
+		this.reader = reader;
+		this.previousReaderOrNull = previousReaderOrNull;
+	}
+
+	@Override
+	public String indexName() {
+		return indexName;
+	}
+
+	@Override
+	public DirectoryReader reader() {
+		return reader;
+	}
+
+	@Override
+	public List<LeafReaderContext> newLeaves() {
+		if ( newLeaves == null ) {
+			newLeaves = computeNewLeaves();
+		}
+		return newLeaves;
+	}
+
+	private List<LeafReaderContext> computeNewLeaves() {
+		if ( previousReaderOrNull == null ) {
+			return reader.leaves();
+		}
+		Set<IndexReader.CacheKey> previousCoreKeys = new HashSet<>();
+		for ( LeafReaderContext previousLeaf : previousReaderOrNull.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = previousLeaf.reader().getCoreCacheHelper();
+			if ( cacheHelper != null ) {
+				previousCoreKeys.add( cacheHelper.getKey() );
+			}
+		}
+		List<LeafReaderContext> result = new ArrayList<>();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			// Segments whose core is shared with the previous reader were already warmed up.
+			if ( cacheHelper == null || !previousCoreKeys.contains( cacheHelper.getKey() ) ) {
+				result.add( leaf );
+			}
+		}
+		return Collections.unmodifiableList( result );
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * A cache of {@link HibernateSearchMultiReader}s, shared by all search queries of a backend.
+ * <p>
+ * Entries are keyed by the names of targeted indexes and by the routing keys used to select shards,
+ * and are only reused for as long as the underlying {@link DirectoryReader}s stay the same:
+ * as soon as one of them is superseded by a refreshed reader, the cached multi-reader is evicted,
+ * so that the stale directory readers it wraps can be closed as soon as search queries are done with them.
+ * Reusing multi-readers saves their construction on each search query,
+ * but more importantly allows caches keyed on the multi-reader (e.g. global ordinals)
+ * to be reused across search queries targeting multiple indexes or shards.
+ * <p>
+ * Cached multi-readers are reference-counted:
+ * the cache holds one reference, and each search query holds another one until it closes the reader.
+ * A multi-reader is only closed once it has been removed from the cache and all search queries are done with it.
+ * The number of entries is bounded: least recently used entries are evicted first.
+ */
+public final class MultiReaderCache {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int maxEntries;
+
+	private final Map<Key, HibernateSearchMultiReader> entries;
+	/**
+	 * Directory readers that were superseded by a refreshed reader,
+	 * so that search queries still holding them don't add them back to the cache.
+	 * Weak references: readers are removed from this set as soon as they are garbage-collected.
+	 */
+	private final Set<DirectoryReader> supersededReaders;
+
+	public MultiReaderCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		// Access-ordered: the eldest entry is the least recently used one.
+		this.entries = new LinkedHashMap<>( 16, 0.75f, true );
+		this.supersededReaders = Collections.newSetFromMap( new WeakHashMap<>() );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[maxEntries=" + maxEntries + "]";
+	}
+
+	/**
+	 * @param indexNames The names of targeted indexes.
+	 * @param indexManagerContexts The targeted index managers.
+	 * @param routingKeys The routing keys used to select shards.
+	 * @return A multi-reader, retrieved from the cache if the underlying directory readers didn't change,
+	 * or created then added to the cache.
+	 * The caller must release it after use with {@link IndexReader#decRef()}:
+	 * {@link IndexReader#close()} must not be used, as it only works once per reader instance.
+	 */
+	public HibernateSearchMultiReader open(Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+		return HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys,
+				maxEntries == 0 ? null : this );
+	}
+
+	HibernateSearchMultiReader getOrCreate(Set<String> indexNames, Set<String> routingKeys,
+			HibernateSearchMultiReader.Builder builder)
+			throws IOException {
+		Key key = new Key( indexNames, routingKeys );
+		List<DirectoryReader> directoryReaders = builder.directoryReaders();
+		HibernateSearchMultiReader cached;
+		synchronized (this) {
+			cached = entries.get( key );
+			if ( cached != null && !( cached.wraps( directoryReaders ) && cached.tryIncRef() ) ) {
+				cached = null;
+			}
+		}
+		if ( cached != null ) {
+			// The cached multi-reader holds its own references to the directory readers.
+			release( indexNames, directoryReaders );
+			return cached;
+		}
+
+		// Build outside of the lock, to avoid blocking queries on other indexes.
+		HibernateSearchMultiReader created = builder.build();
+		List<HibernateSearchMultiReader> removed = new ArrayList<>();
+		synchronized (this) {
+			for ( DirectoryReader directoryReader : directoryReaders ) {
+				if ( supersededReaders.contains( directoryReader ) ) {
+					// The index was refreshed in the meantime: don't pin the stale reader in the cache.
+					return created;
+				}
+			}
+			created.markCached();
+			// One reference for the cache, one for the caller.
+			created.incRef();
+			HibernateSearchMultiReader previous = entries.put( key, created );
+			if ( previous != null ) {
+				removed.add( previous );
+			}
+			for ( Iterator<HibernateSearchMultiReader> iterator = entries.values().iterator();
+					entries.size() > maxEntries && iterator.hasNext(); ) {
+				removed.add( iterator.next() );
+				iterator.remove();
+			}
+		}
+		release( indexNames, removed );
+		return created;
+	}
+
+	/**
+	 * Removes from the cache all multi-readers targeting the given index,
+	 * so that they get closed as soon as search queries are done with them.
+	 *
+	 * @param indexName The name of an index.
+	 */
+	public void evict(String indexName) {
+		List<HibernateSearchMultiReader> removed = new ArrayList<>();
+		synchronized (this) {
+			for ( Iterator<Map.Entry<Key, HibernateSearchMultiReader>> iterator = entries.entrySet().iterator();
+					iterator.hasNext(); ) {
+				Map.Entry<Key, HibernateSearchMultiReader> entry = iterator.next();
+				if ( entry.getKey().indexNames.contains( indexName ) ) {
+					removed.add( entry.getValue() );
+					iterator.remove();
+				}
+			}
+		}
+		release( Collections.singleton( indexName ), removed );
+	}
+
+	/**
+	 * Removes from the cache all multi-readers wrapping the given directory reader,
+	 * so that they get closed as soon as search queries are done with them,
+	 * and prevents multi-readers wrapping that directory reader from being cached in the future.
+	 * <p>
+	 * To be called by index reader providers whenever they replace a directory reader with a refreshed one.
+	 *
+	 * @param supersededReader A directory reader that was just replaced with a refreshed one.
+	 */
+	public void evict(DirectoryReader supersededReader) {
+		if ( maxEntries == 0 ) {
+			return;
+		}
+		List<HibernateSearchMultiReader> removed = new ArrayList<>();
+		Set<String> indexNames = new HashSet<>();
+		synchronized (this) {
+			supersededReaders.add( supersededReader );
+			for ( Iterator<Map.Entry<Key, HibernateSearchMultiReader>> iterator = entries.entrySet().iterator();
+					iterator.hasNext(); ) {
+				Map.Entry<Key, HibernateSearchMultiReader> entry = iterator.next();
+				if ( entry.getValue().wraps( supersededReader ) ) {
+					removed.add( entry.getValue() );
+					indexNames.addAll( entry.getKey().indexNames );
+					iterator.remove();
+				}
+			}
+		}
+		release( indexNames, removed );
+	}
+
+	public void clear() {
+		List<HibernateSearchMultiReader> removed;
+		synchronized (this) {
+			removed = new ArrayList<>( entries.values() );
+			entries.clear();
+		}
+		release( Collections.emptySet(), removed );
+	}
+
+	private static <R extends IndexReader> void release(Set<String> indexNames, List<R> readers) {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( IndexReader::decRef, readers );
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+		}
+	}
+
+	private static final class Key {
+		private final Set<String> indexNames;
+		private final Set<String> routingKeys;
+
+		private Key(Set<String> indexNames, Set<String> routingKeys) {
+			// Defensive copies: the key outlives the search query.
+			this.indexNames = new HashSet<>( indexNames );
+			this.routingKeys = new HashSet<>( routingKeys );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return indexNames.equals( other.indexNames ) && routingKeys.equals( other.routingKeys );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( indexNames, routingKeys );
+		}
+	}
+}
@@ -7,9 +7,19 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -22,30 +32,78 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * When background refresh is enabled, the index reader is instead re-opened periodically
+ * by a task running in the background, and search queries simply use the latest, already warmed-up reader.
+ * <p>
+ * New index readers are opened and warmed up without holding the monitor of this provider,
+ * which is only held to replace the current reader,
+ * so that slow warmers only delay the threads that need a fresh reader.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private final EventContext eventContext;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final IndexReaderWarmers warmers;
+	private final MultiReaderCache multiReaderCache;
+	private final SimpleScheduledExecutor backgroundRefreshExecutor;
+	private final FailureHandler failureHandler;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	/**
+	 * Held while opening and warming up a new reader, and until it replaces the current one,
+	 * so that only one thread opens a new reader at a time.
+	 */
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	/**
+	 * The next execution of the background refresh, or null if not scheduled.
+	 */
+	private Future<?> backgroundRefreshFuture;
+
+	/**
+	 * @param backgroundRefreshExecutor The executor to run background refresh in,
+	 * or {@code null} to refresh index readers in the thread requesting them.
+	 */
+	public NearRealTimeIndexReaderProvider(String indexName, EventContext eventContext,
+			IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			List<IndexReaderWarmer> warmers, MultiReaderCache multiReaderCache,
+			SimpleScheduledExecutor backgroundRefreshExecutor, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.warmers = new IndexReaderWarmers( indexName, eventContext, warmers );
+		this.multiReaderCache = multiReaderCache;
+		this.backgroundRefreshExecutor = refreshInterval == 0 ? null : backgroundRefreshExecutor;
+		this.failureHandler = failureHandler;
 	}
 
 	@Override
-	public synchronized void clear() throws IOException {
-		setCurrentReaderEntry( null );
+	public void clear() throws IOException {
+		// Wait for readers being opened to replace the current one, so that they get closed below.
+		refreshLock.lock();
+		try {
+			synchronized (this) {
+				if ( backgroundRefreshFuture != null ) {
+					backgroundRefreshFuture.cancel( false );
+					backgroundRefreshFuture = null;
+				}
+				setCurrentReaderEntry( null );
+			}
+		}
+		finally {
+			refreshLock.unlock();
+		}
 	}
 
 	@Override
@@ -75,45 +133,143 @@ public DirectoryReader getOrCreate() throws IOException {
 			}
 		}
 
-		return getFreshIndexReader().reader;
+		return getFreshIndexReader();
 	}
 
-	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
-		IndexReaderEntry oldEntry = currentReaderEntry;
-		IndexReaderEntry freshEntry;
-		if ( oldEntry == null ) {
-			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
-		}
-		else {
-			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
-			if ( newReaderOrNull == null ) {
-				// No change, keep the old reader
-				freshEntry = oldEntry;
+	private DirectoryReader getFreshIndexReader() throws IOException {
+		refreshLock.lock();
+		try {
+			IndexReaderEntry oldEntry = currentReaderEntry;
+			// Another thread may have refreshed the reader while we were waiting for the lock.
+			if ( oldEntry != null && oldEntry.reader.tryIncRef() ) {
+				if ( oldEntry.isFresh() ) {
+					return oldEntry.reader;
+				}
+				else {
+					oldEntry.reader.decRef();
+				}
+			}
+
+			IndexReaderEntry freshEntry;
+			if ( oldEntry == null ) {
+				DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
+				freshEntry = createEntry( newReader, null );
 			}
 			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+				DirectoryReader newReaderOrNull =
+						indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+				if ( newReaderOrNull == null ) {
+					// No change, keep the old reader
+					freshEntry = oldEntry;
+				}
+				else {
+					freshEntry = createEntry( newReaderOrNull, oldEntry.reader );
+				}
 			}
-		}
 
-		if ( oldEntry != freshEntry ) {
-			setCurrentReaderEntry( freshEntry );
+			if ( oldEntry != freshEntry ) {
+				setCurrentReaderEntry( freshEntry );
+			}
+
+			// At this point the reference count is at least one, for the holder.
+			// Let's also increment the reference for the caller.
+			freshEntry.reader.incRef();
+
+			return freshEntry.reader;
+		}
+		finally {
+			refreshLock.unlock();
 		}
+	}
 
-		// At this point the reference count is at least one, for the holder.
-		// Let's also increment the reference for the caller.
-		freshEntry.reader.incRef();
+	private void refreshInBackground() throws IOException {
+		if ( !refreshLock.tryLock() ) {
+			// A search query is refreshing the reader right now: no need to refresh it again.
+			return;
+		}
+		try {
+			IndexReaderEntry oldEntry = currentReaderEntry;
+			IndexWriterDelegatorImpl indexWriterDelegator = indexWriterProvider.getOrNull();
+			if ( oldEntry == null || indexWriterDelegator == null ) {
+				// The provider was cleared in the meantime: the next query will open a new reader.
+				return;
+			}
+			DirectoryReader newReaderOrNull = indexWriterDelegator.openReaderIfChanged( oldEntry.reader );
+			if ( newReaderOrNull != null ) {
+				setCurrentReaderEntry( createEntry( newReaderOrNull, oldEntry.reader ) );
+			}
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
 
-		return freshEntry;
+	private IndexReaderEntry createEntry(DirectoryReader newReader, DirectoryReader previousReaderOrNull) {
+		warmers.warm( newReader, previousReaderOrNull );
+		long expiration;
+		if ( backgroundRefreshExecutor != null ) {
+			// The background refresh will take care of replacing the reader: it never expires.
+			expiration = Long.MAX_VALUE;
+		}
+		else if ( refreshInterval == 0 ) {
+			expiration = 0;
+		}
+		else {
+			expiration = timingSource.monotonicTimeEstimate() + refreshInterval;
+		}
+		return new IndexReaderEntry( newReader, timingSource, expiration );
 	}
 
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
 		if ( oldEntry != null ) {
-			// Make sure to close the old reader as soon as no user thread is using it.
+			// Make sure to close the old reader as soon as no user thread is using it,
+			// including cached multi-readers.
+			multiReaderCache.evict( oldEntry.reader );
 			oldEntry.reader.decRef();
 		}
+		if ( newEntry != null ) {
+			ensureBackgroundRefreshScheduled();
+		}
+	}
+
+	private synchronized void ensureBackgroundRefreshScheduled() {
+		if ( backgroundRefreshExecutor == null || backgroundRefreshFuture != null ) {
+			return;
+		}
+		try {
+			backgroundRefreshFuture = backgroundRefreshExecutor.schedule( this::runBackgroundRefresh,
+					refreshInterval, TimeUnit.MILLISECONDS );
+		}
+		catch (RuntimeException e) {
+			// The next query will refresh the reader if necessary.
+			handleBackgroundRefreshFailure( e );
+		}
+	}
+
+	private void runBackgroundRefresh() {
+		try {
+			refreshInBackground();
+		}
+		catch (RuntimeException | IOException e) {
+			handleBackgroundRefreshFailure( e );
+		}
+		finally {
+			synchronized (this) {
+				backgroundRefreshFuture = null;
+				if ( currentReaderEntry != null ) {
+					ensureBackgroundRefreshScheduled();
+				}
+			}
+		}
+	}
+
+	private void handleBackgroundRefreshFailure(Exception e) {
+		FailureContext.Builder failureContextBuilder = FailureContext.builder();
+		failureContextBuilder.throwable( e );
+		failureContextBuilder.failingOperation( "Background refresh of the index reader for " + eventContext.render() );
+		failureHandler.handle( failureContextBuilder.build() );
 	}
 
 	private static class IndexReaderEntry {
@@ -123,10 +279,10 @@ private static class IndexReaderEntry {
 
 		private volatile boolean refreshForced = false;
 
-		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
+		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, long expiration) {
 			this.reader = reader;
 			this.timingSource = timingSource;
-			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+			this.expiration = expiration;
 		}
 
 		public void forceRefresh() {
@@ -136,7 +292,8 @@ public void forceRefresh() {
 		/**
 		 * @return {@code true} if the reader is still fresh enough to be used,
 		 * i.e. if it is completely up-to-date with the state of the index writer
-		 * OR is out-of-date by less than the configured refresh interval,
+		 * OR is out-of-date by less than the configured refresh interval
+		 * OR is refreshed periodically in the background,
 		 * and refresh wasn't forced by a previous write.
 		 * @throws IOException If an I/O failure occurs.
 		 */
@@ -144,6 +301,10 @@ boolean isFresh() throws IOException {
 			if ( refreshForced ) {
 				return false;
 			}
+			if ( expiration == Long.MAX_VALUE ) {
+				// The reader is refreshed in the background. Let's assume the reader is fresh.
+				return true;
+			}
 			if ( expiration == 0 || expiration < timingSource.monotonicTimeEstimate() ) {
 				// The last refresh was a long time ago. Let's check if the reader is really fresh.
 				return reader.isCurrent();
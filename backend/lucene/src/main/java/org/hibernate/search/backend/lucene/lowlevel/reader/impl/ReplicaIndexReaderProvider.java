@@ -0,0 +1,254 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+
+/**
+ * A index reader holder for replica indexes,
+ * which copies commits from the primary index into the local directory
+ * and opens index readers on that local copy,
+ * or for read-only indexes,
+ * which open index readers directly on a directory written to by another node.
+ * <p>
+ * The index reader is instantiated once and shared among all threads.
+ * New commits are fetched and the index reader is re-opened periodically
+ * by a task running in the background,
+ * so search queries simply use the latest, already warmed-up reader.
+ * <p>
+ * Commits are fetched and new index readers are opened and warmed up without holding the monitor of this provider,
+ * which is only held to replace the current reader.
+ */
+public class ReplicaIndexReaderProvider implements IndexReaderProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final DirectoryHolder directoryHolder;
+	/**
+	 * The channel to fetch commits from, or null for read-only indexes.
+	 */
+	private final ReplicationChannel replicationChannelOrNull;
+	private final int pollInterval;
+	private final IndexReaderWarmers warmers;
+	private final MultiReaderCache multiReaderCache;
+	private final SimpleScheduledExecutor pollExecutor;
+	private final FailureHandler failureHandler;
+
+	/**
+	 * Current open IndexReader, or null when closed.
+	 */
+	private volatile DirectoryReader currentReader = null;
+
+	private volatile boolean refreshForced = false;
+
+	/**
+	 * Held while fetching a commit and opening a new reader, and until it replaces the current one,
+	 * so that only one thread fetches commits at a time.
+	 */
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	/**
+	 * The next execution of the background poll, or null if not scheduled.
+	 */
+	private Future<?> pollFuture;
+
+	public ReplicaIndexReaderProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, ReplicationChannel replicationChannelOrNull,
+			int pollInterval, List<IndexReaderWarmer> warmers, MultiReaderCache multiReaderCache,
+			SimpleScheduledExecutor pollExecutor, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
+		this.directoryHolder = directoryHolder;
+		this.replicationChannelOrNull = replicationChannelOrNull;
+		this.pollInterval = pollInterval;
+		this.warmers = new IndexReaderWarmers( indexName, eventContext, warmers );
+		this.multiReaderCache = multiReaderCache;
+		this.pollExecutor = pollExecutor;
+		this.failureHandler = failureHandler;
+	}
+
+	@Override
+	public void clear() throws IOException {
+		// Wait for readers being opened to replace the current one, so that they get closed below.
+		refreshLock.lock();
+		try {
+			synchronized (this) {
+				if ( pollFuture != null ) {
+					pollFuture.cancel( false );
+					pollFuture = null;
+				}
+				setCurrentReader( null );
+			}
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	@Override
+	public void refresh() {
+		refreshForced = true;
+	}
+
+	@Override
+	public DirectoryReader getOrCreate() throws IOException {
+		DirectoryReader reader = currentReader;
+
+		// Optimistic locking and checks to avoid synchronization
+		if ( reader != null && !refreshForced && reader.tryIncRef() ) {
+			return reader;
+		}
+
+		return getFreshIndexReader();
+	}
+
+	private DirectoryReader getFreshIndexReader() throws IOException {
+		refreshLock.lock();
+		try {
+			// Another thread may have refreshed the reader while we were waiting for the lock.
+			if ( currentReader == null || refreshForced ) {
+				refreshForced = false;
+				fetchAndReopen();
+			}
+			DirectoryReader reader = currentReader;
+			// At this point the reference count is at least one, for the holder.
+			// Let's also increment the reference for the caller.
+			reader.incRef();
+			return reader;
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	// Must be called while holding the refresh lock.
+	private void fetchAndReopen() throws IOException {
+		Directory directory = directoryHolder.get();
+		boolean fetched;
+		try {
+			// Read-only indexes don't fetch anything: the directory is updated by the node writing to it.
+			fetched = replicationChannelOrNull != null && replicationChannelOrNull.fetch( directory );
+		}
+		catch (RuntimeException | IOException e) {
+			if ( currentReader == null ) {
+				// Without any reader, we cannot serve queries: fail.
+				throw log.unableToFetchReplicatedIndex( e.getMessage(), eventContext, e );
+			}
+			// Keep serving queries from the local copy: we will try again on the next poll.
+			handleBackgroundFetchFailure( e );
+			return;
+		}
+
+		DirectoryReader oldReader = currentReader;
+		DirectoryReader newReader;
+		if ( oldReader == null ) {
+			newReader = DirectoryReader.open( directory );
+		}
+		else {
+			newReader = DirectoryReader.openIfChanged( oldReader );
+			if ( newReader == null && fetched ) {
+				// The fetched commit may have the same version as the previous one,
+				// e.g. if the primary index was dropped and re-created.
+				// Note this cannot be detected for read-only indexes.
+				newReader = DirectoryReader.open( directory );
+			}
+		}
+		if ( newReader != null ) {
+			warmers.warm( newReader, oldReader );
+			setCurrentReader( newReader );
+		}
+	}
+
+	private synchronized void setCurrentReader(DirectoryReader newReader) throws IOException {
+		DirectoryReader oldReader = currentReader;
+		currentReader = newReader;
+		if ( oldReader != null ) {
+			// Make sure to close the old reader as soon as no user thread is using it,
+			// including cached multi-readers.
+			multiReaderCache.evict( oldReader );
+			oldReader.decRef();
+		}
+		if ( newReader != null ) {
+			ensurePollScheduled();
+		}
+	}
+
+	private synchronized void ensurePollScheduled() {
+		if ( pollFuture != null ) {
+			return;
+		}
+		try {
+			pollFuture = pollExecutor.schedule( this::runPoll, pollInterval, TimeUnit.MILLISECONDS );
+		}
+		catch (RuntimeException e) {
+			// The next query will not fetch new commits, but the next refresh will.
+			handleBackgroundFetchFailure( e );
+		}
+	}
+
+	private void runPoll() {
+		try {
+			poll();
+		}
+		catch (RuntimeException | IOException e) {
+			handleBackgroundFetchFailure( e );
+		}
+		finally {
+			synchronized (this) {
+				pollFuture = null;
+				if ( currentReader != null ) {
+					ensurePollScheduled();
+				}
+			}
+		}
+	}
+
+	private void poll() throws IOException {
+		if ( !refreshLock.tryLock() ) {
+			// A search query is fetching commits right now: no need to fetch them again.
+			return;
+		}
+		try {
+			if ( currentReader == null ) {
+				// The provider was cleared in the meantime: the next query will fetch and open a new reader.
+				return;
+			}
+			fetchAndReopen();
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private void handleBackgroundFetchFailure(Exception e) {
+		FailureContext.Builder failureContextBuilder = FailureContext.builder();
+		failureContextBuilder.throwable( e );
+		failureContextBuilder.failingOperation( ( replicationChannelOrNull == null
+				? "Background refresh of the index reader for "
+				: "Background fetch of replicated index files for " )
+				+ eventContext.render() );
+		failureHandler.handle( failureContextBuilder.build() );
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.io.IOException;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A component warming up index readers before they are exposed to search queries.
+ * <p>
+ * Warmers are called whenever a new near-real-time index reader is opened,
+ * before that reader replaces the previous one.
+ * When background refresh is enabled, this happens in a background thread,
+ * which means search queries never pay the cost of warming.
+ * <p>
+ * Typical implementations preload data structures that would otherwise be loaded lazily
+ * on the first query (doc values, norms, ...), or execute warm-up queries.
+ */
+@Incubating
+public interface IndexReaderWarmer {
+
+	/**
+	 * Warms up the given index reader.
+	 * <p>
+	 * Implementations must not close the index reader nor change its reference count.
+	 *
+	 * @param context The warming context, giving access to the index reader and to the leaves that need warming.
+	 * @throws IOException If an I/O failure occurs.
+	 * The failure will be reported, but the reader will be used regardless.
+	 */
+	void warm(IndexReaderWarmingContext context) throws IOException;
+
+}
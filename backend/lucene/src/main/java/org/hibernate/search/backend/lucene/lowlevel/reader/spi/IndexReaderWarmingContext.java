@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.util.List;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReaderContext;
+
+@Incubating
+public interface IndexReaderWarmingContext {
+
+	/**
+	 * @return The name of the index in Hibernate Search.
+	 */
+	String indexName();
+
+	/**
+	 * @return The index reader to warm up.
+	 */
+	DirectoryReader reader();
+
+	/**
+	 * @return The leaves of {@link #reader()} that were not part of the previously exposed reader,
+	 * i.e. the segments that were never warmed up.
+	 * For the very first reader of an index, this returns all leaves.
+	 */
+	List<LeafReaderContext> newLeaves();
+
+}
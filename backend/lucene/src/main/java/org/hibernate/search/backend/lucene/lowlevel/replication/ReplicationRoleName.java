@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum ReplicationRoleName {
+
+	/**
+	 * The default: the index is not replicated.
+	 */
+	NONE( "none" ),
+	/**
+	 * The index is written to locally,
+	 * and each commit is published through the replication transport
+	 * so that replicas can copy it.
+	 */
+	PRIMARY( "primary" ),
+	/**
+	 * The index is never written to locally:
+	 * index files are periodically copied from the primary through the replication transport,
+	 * and index readers are opened on the local copy.
+	 */
+	REPLICA( "replica" ),
+	/**
+	 * The index is never written to locally:
+	 * index readers are opened directly on the index directory,
+	 * which is shared with another node writing to the index, e.g. through a shared volume,
+	 * and are re-opened periodically when new commits appear.
+	 * <p>
+	 * No replication transport is involved.
+	 */
+	READ_ONLY( "read-only" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ReplicationRoleName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ReplicationRoleName.values(),
+				ReplicationRoleName::externalRepresentation,
+				log::invalidReplicationRoleName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ReplicationRoleName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
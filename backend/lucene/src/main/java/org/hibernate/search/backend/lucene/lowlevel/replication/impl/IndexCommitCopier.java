@@ -0,0 +1,164 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+
+/**
+ * Copies the latest commit of a directory to another directory,
+ * transferring only the files that are missing from the target directory.
+ * <p>
+ * Index files other than the segments file are never modified once written,
+ * so a file with the same name, length and checksum in both directories is assumed to be identical.
+ * The segments file is copied last, under a temporary name, then renamed,
+ * so that readers of the target directory never see a commit whose files are not all present.
+ */
+public final class IndexCommitCopier {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SEGMENTS_FILE_PREFIX = IndexFileNames.SEGMENTS + "_";
+
+	private IndexCommitCopier() {
+	}
+
+	/**
+	 * @param source The directory to copy the latest commit from.
+	 * @param target The directory to copy the latest commit to.
+	 * @return {@code true} if a commit was copied,
+	 * {@code false} if there is no commit in the source directory
+	 * or if the latest commit of the source directory is already the latest commit of the target directory.
+	 * @throws IOException If an error occurs while copying.
+	 * In particular, {@link java.nio.file.NoSuchFileException} or {@link java.io.FileNotFoundException}
+	 * if files were removed from the source directory while copying,
+	 * in which case the copy can simply be attempted again.
+	 */
+	public static boolean copyLatestCommit(Directory source, Directory target) throws IOException {
+		if ( !DirectoryReader.indexExists( source ) ) {
+			return false;
+		}
+		return copy( source, SegmentInfos.readLatestCommit( source ), target );
+	}
+
+	/**
+	 * @param commit The commit to copy. Its files must not be deleted while copying.
+	 * @param target The directory to copy the commit to.
+	 * @return {@code true} if the commit was copied,
+	 * {@code false} if it is already the latest commit of the target directory.
+	 * @throws IOException If an error occurs while copying.
+	 */
+	public static boolean copyCommit(IndexCommit commit, Directory target) throws IOException {
+		Directory source = commit.getDirectory();
+		return copy( source, SegmentInfos.readCommit( source, commit.getSegmentsFileName() ), target );
+	}
+
+	private static boolean copy(Directory source, SegmentInfos sourceInfos, Directory target) throws IOException {
+		String segmentsFileName = sourceInfos.getSegmentsFileName();
+		if ( DirectoryReader.indexExists( target ) ) {
+			SegmentInfos targetInfos = SegmentInfos.readLatestCommit( target );
+			if ( segmentsFileName.equals( targetInfos.getSegmentsFileName() )
+					&& Arrays.equals( sourceInfos.getId(), targetInfos.getId() ) ) {
+				return false;
+			}
+		}
+
+		Collection<String> commitFiles = sourceInfos.files( true );
+		Set<String> targetFiles = new HashSet<>( Arrays.asList( target.listAll() ) );
+		List<String> copiedFiles = new ArrayList<>();
+		for ( String file : commitFiles ) {
+			if ( file.equals( segmentsFileName ) ) {
+				continue;
+			}
+			if ( targetFiles.contains( file ) ) {
+				if ( isSameFile( source, target, file ) ) {
+					continue;
+				}
+				target.deleteFile( file );
+			}
+			target.copyFrom( source, file, file, IOContext.DEFAULT );
+			copiedFiles.add( file );
+		}
+		target.sync( copiedFiles );
+
+		String pendingSegmentsFileName = IndexFileNames.PENDING_SEGMENTS + segmentsFileName;
+		if ( targetFiles.contains( pendingSegmentsFileName ) ) {
+			target.deleteFile( pendingSegmentsFileName );
+		}
+		target.copyFrom( source, segmentsFileName, pendingSegmentsFileName, IOContext.DEFAULT );
+		target.sync( Collections.singleton( pendingSegmentsFileName ) );
+		// Readers pick the segments file with the highest generation:
+		// make sure the new one will be picked, even if the target used to hold a different index.
+		long generation = sourceInfos.getGeneration();
+		for ( String file : targetFiles ) {
+			if ( file.startsWith( SEGMENTS_FILE_PREFIX )
+					&& ( file.equals( segmentsFileName )
+							|| SegmentInfos.generationFromSegmentsFileName( file ) > generation ) ) {
+				target.deleteFile( file );
+			}
+		}
+		target.rename( pendingSegmentsFileName, segmentsFileName );
+		target.syncMetaData();
+
+		deleteUnreferencedFiles( target, commitFiles );
+		return true;
+	}
+
+	private static boolean isSameFile(Directory source, Directory target, String file) throws IOException {
+		if ( source.fileLength( file ) != target.fileLength( file ) ) {
+			return false;
+		}
+		try ( IndexInput sourceInput = source.openInput( file, IOContext.READONCE );
+				IndexInput targetInput = target.openInput( file, IOContext.READONCE ) ) {
+			return CodecUtil.retrieveChecksum( sourceInput ) == CodecUtil.retrieveChecksum( targetInput );
+		}
+		catch (CorruptIndexException e) {
+			return false;
+		}
+	}
+
+	private static void deleteUnreferencedFiles(Directory target, Collection<String> commitFiles) throws IOException {
+		for ( String file : target.listAll() ) {
+			if ( commitFiles.contains( file ) || IndexWriter.WRITE_LOCK_NAME.equals( file ) ) {
+				continue;
+			}
+			if ( file.startsWith( IndexFileNames.SEGMENTS )
+					|| file.startsWith( IndexFileNames.PENDING_SEGMENTS )
+					|| IndexFileNames.CODEC_FILE_PATTERN.matcher( file ).matches() ) {
+				try {
+					target.deleteFile( file );
+				}
+				catch (IOException e) {
+					// The file may still be open, e.g. on Windows: it will be deleted after the next commit.
+					log.tracef( e, "Unable to delete unreferenced file '%s' from %s", file, target );
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.store.Directory;
+
+final class LocalFileSystemReplicationChannel implements ReplicationChannel {
+
+	/**
+	 * The primary may publish a new commit and remove files of the previous one while a replica is copying them.
+	 * When that happens, the replica simply tries again with the new commit.
+	 */
+	private static final int MAX_FETCH_ATTEMPTS = 3;
+
+	private final Directory publishedDirectory;
+
+	LocalFileSystemReplicationChannel(Directory publishedDirectory) {
+		this.publishedDirectory = publishedDirectory;
+	}
+
+	@Override
+	public synchronized void publish(IndexCommit commit) throws IOException {
+		IndexCommitCopier.copyCommit( commit, publishedDirectory );
+	}
+
+	@Override
+	public boolean fetch(Directory target) throws IOException {
+		for ( int attempt = 1;; attempt++ ) {
+			try {
+				return IndexCommitCopier.copyLatestCommit( publishedDirectory, target );
+			}
+			catch (NoSuchFileException | FileNotFoundException e) {
+				if ( attempt >= MAX_FETCH_ATTEMPTS ) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		publishedDirectory.close();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + publishedDirectory + "]";
+	}
+}
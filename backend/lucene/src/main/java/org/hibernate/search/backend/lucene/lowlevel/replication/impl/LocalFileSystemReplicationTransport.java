@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannelCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.NoLockFactory;
+
+/**
+ * A replication transport that publishes commits to a filesystem directory
+ * shared by the primary and its replicas, e.g. a network filesystem,
+ * or simply a local directory when all nodes run on the same machine.
+ */
+public class LocalFileSystemReplicationTransport implements ReplicationTransport {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "local-filesystem";
+
+	private static final OptionalConfigurationProperty<Path> ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ReplicationRadicals.ROOT )
+					.as( Path.class, Paths::get )
+					.build();
+
+	@Override
+	public ReplicationChannel createChannel(ReplicationChannelCreationContext context) {
+		Path root = ROOT.getOrThrow( context.configurationPropertySource(),
+				() -> log.missingPropertyValueForReplicationTransport( NAME ) )
+				.toAbsolutePath();
+		Path path = root.resolve( context.indexName() );
+		Optional<String> shardId = context.shardId();
+		if ( shardId.isPresent() ) {
+			path = path.resolve( shardId.get() );
+		}
+		try {
+			Files.createDirectories( path );
+			// Replicas never write to this directory, and there is only one primary: no need for locking.
+			return new LocalFileSystemReplicationChannel( FSDirectory.open( path, NoLockFactory.INSTANCE ) );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToCreateReplicationChannel( e.getMessage(), context.eventContext(), e );
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.lowlevel.replication.ReplicationRoleName;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannelCreationContext;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ReplicationChannelCreationContextImpl implements ReplicationChannelCreationContext {
+
+	private final EventContext eventContext;
+	private final String indexName;
+	private final Optional<String> shardId;
+	private final ReplicationRoleName role;
+	private final BeanResolver beanResolver;
+	private final ConfigurationPropertySource configurationPropertySource;
+
+	public ReplicationChannelCreationContextImpl(EventContext eventContext, String indexName, Optional<String> shardId,
+			ReplicationRoleName role, BeanResolver beanResolver,
+			ConfigurationPropertySource configurationPropertySource) {
+		this.eventContext = eventContext;
+		this.indexName = indexName;
+		this.shardId = shardId;
+		this.role = role;
+		this.beanResolver = beanResolver;
+		this.configurationPropertySource = configurationPropertySource;
+	}
+
+	@Override
+	public EventContext eventContext() {
+		return eventContext;
+	}
+
+	@Override
+	public String indexName() {
+		return indexName;
+	}
+
+	@Override
+	public Optional<String> shardId() {
+		return shardId;
+	}
+
+	@Override
+	public ReplicationRoleName role() {
+		return role;
+	}
+
+	@Override
+	public BeanResolver beanResolver() {
+		return beanResolver;
+	}
+
+	@Override
+	public ConfigurationPropertySource configurationPropertySource() {
+		return configurationPropertySource;
+	}
+}
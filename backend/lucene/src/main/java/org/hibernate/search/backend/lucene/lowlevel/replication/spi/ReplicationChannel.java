@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.spi;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.store.Directory;
+
+public interface ReplicationChannel extends Closeable {
+
+	/**
+	 * Publishes the given commit, so that replicas can fetch it.
+	 * <p>
+	 * Called by the primary index in a background thread after commits,
+	 * so that commits on the primary index do not wait for the publication.
+	 * Calls never overlap, and each call publishes the latest commit at the time of the call:
+	 * when multiple commits happen during a publication, only the last one is published next.
+	 * The commit is protected from deletion until the call returns,
+	 * so the files it references are guaranteed to exist for the whole duration of the call,
+	 * even if other commits happen in the meantime.
+	 * Implementations are expected to transfer only files that were not published previously.
+	 *
+	 * @param commit The commit to publish, in the directory of the primary index.
+	 * @throws IOException If an error occurs while publishing.
+	 */
+	void publish(IndexCommit commit) throws IOException;
+
+	/**
+	 * Copies the latest published commit to the given directory,
+	 * unless it is already the latest commit of that directory.
+	 * <p>
+	 * Implementations are expected to transfer only files that are missing from the given directory,
+	 * to copy the segments file last so that readers never see an incomplete commit,
+	 * and to remove files that are no longer referenced afterwards.
+	 *
+	 * @param target The directory of the replica index.
+	 * @return {@code true} if a new commit was copied, {@code false} if nothing changed.
+	 * @throws IOException If an error occurs while fetching.
+	 */
+	boolean fetch(Directory target) throws IOException;
+
+	/**
+	 * Release any resource currently held by the {@link ReplicationChannel}.
+	 *
+	 * @throws IOException If an error occurs while releasing resources.
+	 */
+	@Override
+	void close() throws IOException;
+
+}
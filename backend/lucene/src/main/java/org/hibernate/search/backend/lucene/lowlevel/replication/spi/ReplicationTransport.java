@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.spi;
+
+/**
+ * A way to transfer index commits from a primary index to its replicas,
+ * possibly located on other nodes.
+ */
+public interface ReplicationTransport {
+
+	/**
+	 * Creates a {@link ReplicationChannel} for a given index (or shard),
+	 * allocating resources as necessary.
+	 * <p>
+	 * The primary index and its replicas will each create a channel for the same index name and shard identifier,
+	 * and the channels are expected to exchange commits with each other.
+	 *
+	 * @param context The creation context, giving access to configuration and environment.
+	 * @return The channel to use for that index name.
+	 */
+	ReplicationChannel createChannel(ReplicationChannelCreationContext context);
+
+}
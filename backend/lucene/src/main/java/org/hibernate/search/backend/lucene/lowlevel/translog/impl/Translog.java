@@ -0,0 +1,456 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+
+/**
+ * An append-only log of the operations applied to an index writer since the last commit,
+ * so that the commit can be delayed without losing operations upon a crash.
+ * <p>
+ * The log is split into generations, one file per generation.
+ * Each commit starts a new generation and records that generation in the commit user data,
+ * see {@link #prepareCommit(IndexWriter)}:
+ * upon restart, all generations starting from the committed one are replayed,
+ * and upon a successful commit, all older generations are deleted.
+ * <p>
+ * Operations are appended to the current file as they are applied,
+ * but are only durable after a call to {@link #sync()},
+ * which is expected to happen once per batch of operations.
+ */
+public final class Translog implements Closeable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String COMMIT_USER_DATA_GENERATION_KEY = "hibernate-search.translog.generation";
+
+	private static final String FILE_NAME_PREFIX = "translog-";
+	private static final String FILE_NAME_SUFFIX = ".tlog";
+	private static final int MAGIC = 0x48535454;
+	private static final int VERSION = 1;
+	private static final int HEADER_LENGTH = 2 * Integer.BYTES;
+	// Record length, then CRC32 of the record
+	private static final int RECORD_HEADER_LENGTH = Integer.BYTES + Long.BYTES;
+
+	public static Translog open(Path directory, EventContext eventContext) throws IOException {
+		Files.createDirectories( directory );
+		TreeMap<Long, Path> files = listFiles( directory );
+		long generation = files.isEmpty() ? 1L : files.lastKey() + 1L;
+		return new Translog( directory, eventContext, generation );
+	}
+
+	private final Path directory;
+	private final EventContext eventContext;
+
+	/*
+	 * Operations are logged while holding the read lock,
+	 * and generations are rolled while holding the write lock,
+	 * so that a commit can never include an operation logged in the new generation.
+	 */
+	private final ReentrantReadWriteLock generationLock = new ReentrantReadWriteLock();
+	// Ensures concurrent calls to sync() result in a single fsync.
+	private final Lock syncLock = new ReentrantLock();
+
+	// Guarded by "this"
+	private long generation;
+	private FileChannel channel;
+	// Counters across all generations, guarded by "this"
+	private long writtenBytes;
+	private long syncedBytes;
+
+	private volatile boolean unloggedOperations;
+
+	private Translog(Path directory, EventContext eventContext, long generation) throws IOException {
+		this.directory = directory;
+		this.eventContext = eventContext;
+		this.generation = generation;
+		this.channel = createFile( generation );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[directory=" + directory + "]";
+	}
+
+	/**
+	 * Applies an operation to the given index writer, then appends it to the log.
+	 * <p>
+	 * Operations that fail are not logged.
+	 * Operations that cannot be logged are still applied,
+	 * but are reported through {@link #hasUnloggedOperations()} until the next commit.
+	 *
+	 * @param operation The operation.
+	 * @param writer The index writer.
+	 * @return The sequence number returned by the index writer.
+	 * @throws IOException If applying or logging the operation fails.
+	 */
+	public long logAndApply(TranslogOperation operation, IndexWriter writer) throws IOException {
+		// Encode outside of any lock: this is the expensive part.
+		byte[] record = encode( operation );
+		Lock lock = generationLock.readLock();
+		lock.lock();
+		try {
+			long sequenceNumber = operation.applyTo( writer );
+			if ( record == null ) {
+				unloggedOperations = true;
+			}
+			else {
+				append( record );
+			}
+			return sequenceNumber;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return {@code true} if operations that could not be logged were applied since the generation started,
+	 * in which case the next commit should not be delayed.
+	 */
+	public boolean hasUnloggedOperations() {
+		return unloggedOperations;
+	}
+
+	/**
+	 * Makes all operations logged so far durable.
+	 *
+	 * @throws IOException If syncing fails.
+	 */
+	public void sync() throws IOException {
+		long requiredBytes;
+		synchronized (this) {
+			requiredBytes = writtenBytes;
+			if ( syncedBytes >= requiredBytes ) {
+				return;
+			}
+		}
+		Lock lock = generationLock.readLock();
+		lock.lock();
+		try {
+			syncLock.lock();
+			try {
+				FileChannel channelToSync;
+				long bytesToSync;
+				synchronized (this) {
+					if ( syncedBytes >= requiredBytes ) {
+						// Another thread synced our operations in the meantime.
+						return;
+					}
+					channelToSync = channel;
+					bytesToSync = writtenBytes;
+				}
+				channelToSync.force( false );
+				synchronized (this) {
+					syncedBytes = Math.max( syncedBytes, bytesToSync );
+				}
+			}
+			finally {
+				syncLock.unlock();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Starts a new generation, then prepares a commit of the given index writer
+	 * that records the new generation in its user data.
+	 * <p>
+	 * No operation can be logged in the meantime,
+	 * so that the commit includes exactly the operations of previous generations.
+	 * The caller is expected to finish the commit, e.g. with {@link IndexWriter#commit()},
+	 * then to call {@link #deleteGenerationsBefore(long)}.
+	 *
+	 * @param writer The index writer to prepare a commit for.
+	 * @return The new generation.
+	 * @throws IOException If syncing, creating files or preparing the commit fails.
+	 */
+	public long prepareCommit(IndexWriter writer) throws IOException {
+		Lock lock = generationLock.writeLock();
+		lock.lock();
+		try {
+			long newGeneration = doRollGeneration( generation + 1 );
+			// Preserve other user data, e.g. the number of shards after a split.
+			Map<String, String> commitData = new HashMap<>();
+			Iterable<Map.Entry<String, String>> liveCommitData = writer.getLiveCommitData();
+			if ( liveCommitData != null ) {
+				for ( Map.Entry<String, String> entry : liveCommitData ) {
+					commitData.put( entry.getKey(), entry.getValue() );
+				}
+			}
+			commitData.put( COMMIT_USER_DATA_GENERATION_KEY, String.valueOf( newGeneration ) );
+			writer.setLiveCommitData( commitData.entrySet() );
+			writer.prepareCommit();
+			return newGeneration;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Reports that an operation that cannot be logged was applied,
+	 * so that the next commit is not delayed.
+	 */
+	public void reportUnloggedOperation() {
+		unloggedOperations = true;
+	}
+
+	/**
+	 * Deletes all generations strictly older than the given one.
+	 * <p>
+	 * To be called after a successful commit.
+	 *
+	 * @param committedGeneration The generation stored in the user data of the successful commit.
+	 * @throws IOException If deleting files fails.
+	 */
+	public void deleteGenerationsBefore(long committedGeneration) throws IOException {
+		for ( Map.Entry<Long, Path> entry : listFiles( directory ).entrySet() ) {
+			if ( entry.getKey() < committedGeneration ) {
+				Files.deleteIfExists( entry.getValue() );
+			}
+		}
+	}
+
+	/**
+	 * Applies all operations that were logged after the last commit of the given index writer.
+	 *
+	 * @param writer A freshly opened index writer.
+	 * @return The number of operations applied.
+	 * @throws IOException If reading the log or applying operations fails.
+	 */
+	public int replay(IndexWriter writer) throws IOException {
+		long committedGeneration = committedGeneration( writer );
+		Lock lock = generationLock.writeLock();
+		lock.lock();
+		try {
+			long currentGeneration;
+			synchronized (this) {
+				currentGeneration = generation;
+			}
+			if ( currentGeneration <= committedGeneration ) {
+				// Files were removed from the translog directory:
+				// make sure the generations we'll log to are not considered committed.
+				doRollGeneration( committedGeneration + 1 );
+			}
+			int count = 0;
+			for ( Map.Entry<Long, Path> entry : listFiles( directory ).entrySet() ) {
+				long fileGeneration = entry.getKey();
+				if ( committedGeneration <= fileGeneration && fileGeneration < currentGeneration ) {
+					count += replay( entry.getValue(), writer );
+				}
+			}
+			if ( count > 0 ) {
+				log.replayedTranslog( count, eventContext );
+			}
+			return count;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Deletes all generations, without closing the log.
+	 * <p>
+	 * To be called when the index is dropped.
+	 *
+	 * @throws IOException If deleting files fails.
+	 */
+	public void discard() throws IOException {
+		Lock lock = generationLock.writeLock();
+		lock.lock();
+		try {
+			long newGeneration = doRollGeneration( generation + 1 );
+			deleteGenerationsBefore( newGeneration );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		Lock lock = generationLock.writeLock();
+		lock.lock();
+		try {
+			synchronized (this) {
+				// The file of the current generation is kept, even if empty,
+				// so that generation numbers are never reused.
+				channel.force( false );
+				channel.close();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static byte[] encode(TranslogOperation operation) throws IOException {
+		ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+		if ( !operation.write( output ) ) {
+			return null;
+		}
+		return output.toArrayCopy();
+	}
+
+	private synchronized void append(byte[] record) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update( record, 0, record.length );
+		ByteBuffer buffer = ByteBuffer.allocate( RECORD_HEADER_LENGTH + record.length );
+		buffer.putInt( record.length );
+		buffer.putLong( crc.getValue() );
+		buffer.put( record );
+		buffer.flip();
+		writeFully( channel, buffer );
+		writtenBytes += buffer.limit();
+	}
+
+	// Must be called while holding the write lock
+	private long doRollGeneration(long newGeneration) throws IOException {
+		synchronized (this) {
+			channel.force( false );
+			channel.close();
+			syncedBytes = writtenBytes;
+			channel = createFile( newGeneration );
+			generation = newGeneration;
+			unloggedOperations = false;
+			return newGeneration;
+		}
+	}
+
+	private int replay(Path file, IndexWriter writer) throws IOException {
+		int count = 0;
+		try ( FileChannel input = FileChannel.open( file, StandardOpenOption.READ ) ) {
+			ByteBuffer header = ByteBuffer.allocate( HEADER_LENGTH );
+			if ( !readFully( input, header ) || header.getInt() != MAGIC || header.getInt() != VERSION ) {
+				log.corruptTranslog( file.toString(), "invalid header", eventContext );
+				return 0;
+			}
+			ByteBuffer recordHeader = ByteBuffer.allocate( RECORD_HEADER_LENGTH );
+			while ( true ) {
+				recordHeader.clear();
+				if ( !readFully( input, recordHeader ) ) {
+					// End of file, possibly a torn write: operations that were not synced are lost anyway.
+					return count;
+				}
+				int length = recordHeader.getInt();
+				long expectedChecksum = recordHeader.getLong();
+				if ( length < 0 || length > input.size() - input.position() ) {
+					log.corruptTranslog( file.toString(), "truncated record", eventContext );
+					return count;
+				}
+				ByteBuffer record = ByteBuffer.allocate( length );
+				readFully( input, record );
+				CRC32 crc = new CRC32();
+				crc.update( record.array(), 0, length );
+				if ( crc.getValue() != expectedChecksum ) {
+					log.corruptTranslog( file.toString(), "checksum mismatch", eventContext );
+					return count;
+				}
+				TranslogOperation.read( new ByteArrayDataInput( record.array() ) ).applyTo( writer );
+				++count;
+			}
+		}
+		catch (EOFException e) {
+			log.corruptTranslog( file.toString(), e.getMessage(), eventContext );
+			return count;
+		}
+	}
+
+	private FileChannel createFile(long newGeneration) throws IOException {
+		Path file = directory.resolve( FILE_NAME_PREFIX + newGeneration + FILE_NAME_SUFFIX );
+		FileChannel newChannel = FileChannel.open( file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE );
+		try {
+			ByteBuffer header = ByteBuffer.allocate( HEADER_LENGTH );
+			header.putInt( MAGIC );
+			header.putInt( VERSION );
+			header.flip();
+			writeFully( newChannel, header );
+			newChannel.force( true );
+			return newChannel;
+		}
+		catch (IOException | RuntimeException e) {
+			newChannel.close();
+			throw e;
+		}
+	}
+
+	private static long committedGeneration(IndexWriter writer) {
+		Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+		if ( commitData == null ) {
+			return 0L;
+		}
+		for ( Map.Entry<String, String> entry : commitData ) {
+			if ( COMMIT_USER_DATA_GENERATION_KEY.equals( entry.getKey() ) ) {
+				return Long.parseLong( entry.getValue() );
+			}
+		}
+		return 0L;
+	}
+
+	private static TreeMap<Long, Path> listFiles(Path directory) throws IOException {
+		TreeMap<Long, Path> files = new TreeMap<>();
+		try ( DirectoryStream<Path> stream =
+				Files.newDirectoryStream( directory, FILE_NAME_PREFIX + "*" + FILE_NAME_SUFFIX ) ) {
+			for ( Path file : stream ) {
+				String fileName = file.getFileName().toString();
+				String generation = fileName.substring( FILE_NAME_PREFIX.length(),
+						fileName.length() - FILE_NAME_SUFFIX.length() );
+				try {
+					files.put( Long.parseLong( generation ), file );
+				}
+				catch (NumberFormatException e) {
+					// Not a translog file: ignore.
+				}
+			}
+		}
+		return files;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while ( buffer.hasRemaining() ) {
+			channel.write( buffer );
+		}
+	}
+
+	private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while ( buffer.hasRemaining() ) {
+			if ( channel.read( buffer ) < 0 ) {
+				return false;
+			}
+		}
+		buffer.flip();
+		return true;
+	}
+}
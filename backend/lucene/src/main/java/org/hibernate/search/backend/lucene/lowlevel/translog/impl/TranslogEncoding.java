@@ -0,0 +1,345 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.KnnByteVectorField;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Binary encoding of documents, terms and queries in the translog.
+ * <p>
+ * Only the content that Hibernate Search passes to index writers is supported:
+ * fields whose value is a string, binary, numeric or vector value, and term, match-all or boolean queries.
+ * Encoding methods return {@code false} when given unsupported content,
+ * in which case the operation cannot be recorded in the translog.
+ * <p>
+ * The encoding relies on the ordinals of Lucene enums:
+ * the translog is not meant to be replayed by a different version of Lucene.
+ */
+final class TranslogEncoding {
+
+	private static final byte VALUE_STRING = 0;
+	private static final byte VALUE_BINARY = 1;
+	private static final byte VALUE_INT = 2;
+	private static final byte VALUE_LONG = 3;
+	private static final byte VALUE_FLOAT = 4;
+	private static final byte VALUE_DOUBLE = 5;
+	private static final byte VALUE_FLOAT_VECTOR = 6;
+	private static final byte VALUE_BYTE_VECTOR = 7;
+
+	private static final byte QUERY_TERM = 0;
+	private static final byte QUERY_MATCH_ALL = 1;
+	private static final byte QUERY_BOOLEAN = 2;
+
+	private static final int FLAG_STORED = 1;
+	private static final int FLAG_TOKENIZED = 1 << 1;
+	private static final int FLAG_STORE_TERM_VECTORS = 1 << 2;
+	private static final int FLAG_STORE_TERM_VECTOR_OFFSETS = 1 << 3;
+	private static final int FLAG_STORE_TERM_VECTOR_POSITIONS = 1 << 4;
+	private static final int FLAG_STORE_TERM_VECTOR_PAYLOADS = 1 << 5;
+	private static final int FLAG_OMIT_NORMS = 1 << 6;
+
+	private TranslogEncoding() {
+	}
+
+	static boolean writeDocuments(DataOutput output, Iterable<? extends Iterable<? extends IndexableField>> documents)
+			throws IOException {
+		List<Iterable<? extends IndexableField>> documentList = new ArrayList<>();
+		for ( Iterable<? extends IndexableField> document : documents ) {
+			documentList.add( document );
+		}
+		output.writeVInt( documentList.size() );
+		for ( Iterable<? extends IndexableField> document : documentList ) {
+			List<IndexableField> fields = new ArrayList<>();
+			for ( IndexableField field : document ) {
+				fields.add( field );
+			}
+			output.writeVInt( fields.size() );
+			for ( IndexableField field : fields ) {
+				if ( !writeField( output, field ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	static List<List<IndexableField>> readDocuments(DataInput input) throws IOException {
+		int documentCount = input.readVInt();
+		List<List<IndexableField>> documents = new ArrayList<>( documentCount );
+		for ( int i = 0; i < documentCount; i++ ) {
+			int fieldCount = input.readVInt();
+			List<IndexableField> fields = new ArrayList<>( fieldCount );
+			for ( int j = 0; j < fieldCount; j++ ) {
+				fields.add( readField( input ) );
+			}
+			documents.add( fields );
+		}
+		return documents;
+	}
+
+	static void writeTerm(DataOutput output, Term term) throws IOException {
+		output.writeString( term.field() );
+		writeBytes( output, term.bytes() );
+	}
+
+	static Term readTerm(DataInput input) throws IOException {
+		String field = input.readString();
+		return new Term( field, readBytes( input ) );
+	}
+
+	static boolean writeQuery(DataOutput output, Query query) throws IOException {
+		if ( query instanceof TermQuery ) {
+			output.writeByte( QUERY_TERM );
+			writeTerm( output, ( (TermQuery) query ).getTerm() );
+			return true;
+		}
+		else if ( query instanceof MatchAllDocsQuery ) {
+			output.writeByte( QUERY_MATCH_ALL );
+			return true;
+		}
+		else if ( query instanceof BooleanQuery ) {
+			BooleanQuery booleanQuery = (BooleanQuery) query;
+			output.writeByte( QUERY_BOOLEAN );
+			output.writeVInt( booleanQuery.getMinimumNumberShouldMatch() );
+			List<BooleanClause> clauses = booleanQuery.clauses();
+			output.writeVInt( clauses.size() );
+			for ( BooleanClause clause : clauses ) {
+				output.writeVInt( clause.getOccur().ordinal() );
+				if ( !writeQuery( output, clause.getQuery() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	static Query readQuery(DataInput input) throws IOException {
+		byte type = input.readByte();
+		switch ( type ) {
+			case QUERY_TERM:
+				return new TermQuery( readTerm( input ) );
+			case QUERY_MATCH_ALL:
+				return new MatchAllDocsQuery();
+			case QUERY_BOOLEAN:
+				BooleanQuery.Builder builder = new BooleanQuery.Builder();
+				builder.setMinimumNumberShouldMatch( input.readVInt() );
+				int clauseCount = input.readVInt();
+				for ( int i = 0; i < clauseCount; i++ ) {
+					BooleanClause.Occur occur = BooleanClause.Occur.values()[input.readVInt()];
+					builder.add( readQuery( input ), occur );
+				}
+				return builder.build();
+			default:
+				throw new IOException( "Unknown query type in translog: " + type );
+		}
+	}
+
+	private static boolean writeField(DataOutput output, IndexableField field) throws IOException {
+		// Vector fields are handled specifically by index writers: they must be re-created as such.
+		if ( field instanceof KnnFloatVectorField ) {
+			writeFieldHeader( output, field, VALUE_FLOAT_VECTOR );
+			float[] vector = ( (KnnFloatVectorField) field ).vectorValue();
+			output.writeVInt( vector.length );
+			for ( float value : vector ) {
+				output.writeInt( Float.floatToRawIntBits( value ) );
+			}
+			return true;
+		}
+		if ( field instanceof KnnByteVectorField ) {
+			writeFieldHeader( output, field, VALUE_BYTE_VECTOR );
+			byte[] vector = ( (KnnByteVectorField) field ).vectorValue();
+			output.writeVInt( vector.length );
+			output.writeBytes( vector, vector.length );
+			return true;
+		}
+
+		// Check binary values first: point fields expose both a binary and a numeric value,
+		// but index writers only use the binary one.
+		BytesRef binaryValue = field.binaryValue();
+		if ( binaryValue != null ) {
+			writeFieldHeader( output, field, VALUE_BINARY );
+			writeBytes( output, binaryValue );
+			return true;
+		}
+
+		Number numericValue = field.numericValue();
+		if ( numericValue instanceof Integer ) {
+			writeFieldHeader( output, field, VALUE_INT );
+			output.writeInt( numericValue.intValue() );
+			return true;
+		}
+		else if ( numericValue instanceof Long ) {
+			writeFieldHeader( output, field, VALUE_LONG );
+			output.writeLong( numericValue.longValue() );
+			return true;
+		}
+		else if ( numericValue instanceof Float ) {
+			writeFieldHeader( output, field, VALUE_FLOAT );
+			output.writeInt( Float.floatToRawIntBits( numericValue.floatValue() ) );
+			return true;
+		}
+		else if ( numericValue instanceof Double ) {
+			writeFieldHeader( output, field, VALUE_DOUBLE );
+			output.writeLong( Double.doubleToRawLongBits( numericValue.doubleValue() ) );
+			return true;
+		}
+		else if ( numericValue != null ) {
+			return false;
+		}
+
+		String stringValue = field.stringValue();
+		if ( stringValue != null ) {
+			writeFieldHeader( output, field, VALUE_STRING );
+			output.writeString( stringValue );
+			return true;
+		}
+
+		// Reader or token stream values cannot be replayed.
+		return false;
+	}
+
+	private static IndexableField readField(DataInput input) throws IOException {
+		String name = input.readString();
+		FieldType type = readFieldType( input );
+		byte valueType = input.readByte();
+		switch ( valueType ) {
+			case VALUE_STRING:
+				return new TranslogField( name, type, input.readString() );
+			case VALUE_BINARY:
+				return new TranslogField( name, type, readBytes( input ) );
+			case VALUE_INT:
+				return new TranslogField( name, type, input.readInt() );
+			case VALUE_LONG:
+				return new TranslogField( name, type, input.readLong() );
+			case VALUE_FLOAT:
+				return new TranslogField( name, type, Float.intBitsToFloat( input.readInt() ) );
+			case VALUE_DOUBLE:
+				return new TranslogField( name, type, Double.longBitsToDouble( input.readLong() ) );
+			case VALUE_FLOAT_VECTOR: {
+				float[] vector = new float[input.readVInt()];
+				for ( int i = 0; i < vector.length; i++ ) {
+					vector[i] = Float.intBitsToFloat( input.readInt() );
+				}
+				return new KnnFloatVectorField( name, vector, type );
+			}
+			case VALUE_BYTE_VECTOR: {
+				byte[] vector = new byte[input.readVInt()];
+				input.readBytes( vector, 0, vector.length );
+				return new KnnByteVectorField( name, vector, type );
+			}
+			default:
+				throw new IOException( "Unknown field value type in translog: " + valueType );
+		}
+	}
+
+	private static void writeFieldHeader(DataOutput output, IndexableField field, byte valueType) throws IOException {
+		output.writeString( field.name() );
+		writeFieldType( output, field.fieldType() );
+		output.writeByte( valueType );
+	}
+
+	private static void writeFieldType(DataOutput output, IndexableFieldType type) throws IOException {
+		int flags = 0;
+		flags |= type.stored() ? FLAG_STORED : 0;
+		flags |= type.tokenized() ? FLAG_TOKENIZED : 0;
+		flags |= type.storeTermVectors() ? FLAG_STORE_TERM_VECTORS : 0;
+		flags |= type.storeTermVectorOffsets() ? FLAG_STORE_TERM_VECTOR_OFFSETS : 0;
+		flags |= type.storeTermVectorPositions() ? FLAG_STORE_TERM_VECTOR_POSITIONS : 0;
+		flags |= type.storeTermVectorPayloads() ? FLAG_STORE_TERM_VECTOR_PAYLOADS : 0;
+		flags |= type.omitNorms() ? FLAG_OMIT_NORMS : 0;
+		output.writeByte( (byte) flags );
+		output.writeByte( (byte) type.indexOptions().ordinal() );
+		output.writeByte( (byte) type.docValuesType().ordinal() );
+		output.writeVInt( type.pointDimensionCount() );
+		output.writeVInt( type.pointIndexDimensionCount() );
+		output.writeVInt( type.pointNumBytes() );
+		output.writeVInt( type.vectorDimension() );
+		output.writeByte( (byte) type.vectorEncoding().ordinal() );
+		output.writeByte( (byte) type.vectorSimilarityFunction().ordinal() );
+		Map<String, String> attributes = type.getAttributes();
+		output.writeMapOfStrings( attributes == null ? Map.of() : attributes );
+	}
+
+	private static FieldType readFieldType(DataInput input) throws IOException {
+		FieldType type = new FieldType();
+		int flags = input.readByte();
+		type.setStored( ( flags & FLAG_STORED ) != 0 );
+		type.setTokenized( ( flags & FLAG_TOKENIZED ) != 0 );
+		type.setStoreTermVectors( ( flags & FLAG_STORE_TERM_VECTORS ) != 0 );
+		type.setStoreTermVectorOffsets( ( flags & FLAG_STORE_TERM_VECTOR_OFFSETS ) != 0 );
+		type.setStoreTermVectorPositions( ( flags & FLAG_STORE_TERM_VECTOR_POSITIONS ) != 0 );
+		type.setStoreTermVectorPayloads( ( flags & FLAG_STORE_TERM_VECTOR_PAYLOADS ) != 0 );
+		type.setOmitNorms( ( flags & FLAG_OMIT_NORMS ) != 0 );
+		type.setIndexOptions( IndexOptions.values()[input.readByte()] );
+		type.setDocValuesType( DocValuesType.values()[input.readByte()] );
+		int pointDimensionCount = input.readVInt();
+		int pointIndexDimensionCount = input.readVInt();
+		int pointNumBytes = input.readVInt();
+		if ( pointDimensionCount > 0 ) {
+			type.setDimensions( pointDimensionCount, pointIndexDimensionCount, pointNumBytes );
+		}
+		int vectorDimension = input.readVInt();
+		VectorEncoding vectorEncoding = VectorEncoding.values()[input.readByte()];
+		VectorSimilarityFunction vectorSimilarityFunction = VectorSimilarityFunction.values()[input.readByte()];
+		if ( vectorDimension > 0 ) {
+			type.setVectorAttributes( vectorDimension, vectorEncoding, vectorSimilarityFunction );
+		}
+		for ( Map.Entry<String, String> attribute : input.readMapOfStrings().entrySet() ) {
+			type.putAttribute( attribute.getKey(), attribute.getValue() );
+		}
+		type.freeze();
+		return type;
+	}
+
+	private static void writeBytes(DataOutput output, BytesRef bytes) throws IOException {
+		output.writeVInt( bytes.length );
+		output.writeBytes( bytes.bytes, bytes.offset, bytes.length );
+	}
+
+	private static BytesRef readBytes(DataInput input) throws IOException {
+		byte[] bytes = new byte[input.readVInt()];
+		input.readBytes( bytes, 0, bytes.length );
+		return new BytesRef( bytes );
+	}
+
+	/**
+	 * A field re-created from the translog,
+	 * exposing the same type and value as the original field to index writers.
+	 */
+	private static final class TranslogField extends Field {
+		private TranslogField(String name, IndexableFieldType type, Object value) {
+			super( name, type );
+			this.fieldsData = value;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+
+/**
+ * A write operation on an index writer, that can be recorded in the {@link Translog} and replayed.
+ */
+public abstract class TranslogOperation {
+
+	private static final byte ADD_DOCUMENTS = 0;
+	private static final byte UPDATE_DOCUMENTS = 1;
+	private static final byte DELETE_DOCUMENTS_BY_TERM = 2;
+	private static final byte DELETE_DOCUMENTS_BY_QUERY = 3;
+	private static final byte UPDATE_DOCUMENTS_BY_QUERY = 4;
+
+	public static TranslogOperation addDocuments(Iterable<? extends Iterable<? extends IndexableField>> documents) {
+		return new AddDocuments( documents );
+	}
+
+	public static TranslogOperation updateDocuments(Term term,
+			Iterable<? extends Iterable<? extends IndexableField>> documents) {
+		return new UpdateDocuments( term, documents );
+	}
+
+	public static TranslogOperation updateDocuments(Query query,
+			Iterable<? extends Iterable<? extends IndexableField>> documents) {
+		return new UpdateDocumentsByQuery( query, documents );
+	}
+
+	public static TranslogOperation deleteDocuments(Term term) {
+		return new DeleteDocumentsByTerm( term );
+	}
+
+	public static TranslogOperation deleteDocuments(Query query) {
+		return new DeleteDocumentsByQuery( query );
+	}
+
+	static TranslogOperation read(DataInput input) throws IOException {
+		byte type = input.readByte();
+		switch ( type ) {
+			case ADD_DOCUMENTS:
+				return new AddDocuments( TranslogEncoding.readDocuments( input ) );
+			case UPDATE_DOCUMENTS:
+				Term term = TranslogEncoding.readTerm( input );
+				List<List<IndexableField>> documents = TranslogEncoding.readDocuments( input );
+				return new UpdateDocuments( term, documents );
+			case DELETE_DOCUMENTS_BY_TERM:
+				return new DeleteDocumentsByTerm( TranslogEncoding.readTerm( input ) );
+			case DELETE_DOCUMENTS_BY_QUERY:
+				return new DeleteDocumentsByQuery( TranslogEncoding.readQuery( input ) );
+			case UPDATE_DOCUMENTS_BY_QUERY:
+				Query query = TranslogEncoding.readQuery( input );
+				return new UpdateDocumentsByQuery( query, TranslogEncoding.readDocuments( input ) );
+			default:
+				throw new IOException( "Unknown operation type in translog: " + type );
+		}
+	}
+
+	private TranslogOperation() {
+	}
+
+	/**
+	 * @param output The output to write this operation to.
+	 * @return {@code true} if this operation was written successfully,
+	 * {@code false} if it cannot be recorded in the translog,
+	 * in which case the content of {@code output} must be discarded.
+	 * @throws IOException If writing fails.
+	 */
+	abstract boolean write(DataOutput output) throws IOException;
+
+	/**
+	 * @param writer The index writer to apply this operation to.
+	 * @return The sequence number returned by the index writer.
+	 * @throws IOException If applying the operation fails.
+	 */
+	public abstract long applyTo(IndexWriter writer) throws IOException;
+
+	private static final class AddDocuments extends TranslogOperation {
+		private final Iterable<? extends Iterable<? extends IndexableField>> documents;
+
+		private AddDocuments(Iterable<? extends Iterable<? extends IndexableField>> documents) {
+			this.documents = documents;
+		}
+
+		@Override
+		boolean write(DataOutput output) throws IOException {
+			output.writeByte( ADD_DOCUMENTS );
+			return TranslogEncoding.writeDocuments( output, documents );
+		}
+
+		@Override
+		public long applyTo(IndexWriter writer) throws IOException {
+			return writer.addDocuments( documents );
+		}
+	}
+
+	private static final class UpdateDocuments extends TranslogOperation {
+		private final Term term;
+		private final Iterable<? extends Iterable<? extends IndexableField>> documents;
+
+		private UpdateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> documents) {
+			this.term = term;
+			this.documents = documents;
+		}
+
+		@Override
+		boolean write(DataOutput output) throws IOException {
+			output.writeByte( UPDATE_DOCUMENTS );
+			TranslogEncoding.writeTerm( output, term );
+			return TranslogEncoding.writeDocuments( output, documents );
+		}
+
+		@Override
+		public long applyTo(IndexWriter writer) throws IOException {
+			return writer.updateDocuments( term, documents );
+		}
+	}
+
+	private static final class UpdateDocumentsByQuery extends TranslogOperation {
+		private final Query query;
+		private final Iterable<? extends Iterable<? extends IndexableField>> documents;
+
+		private UpdateDocumentsByQuery(Query query, Iterable<? extends Iterable<? extends IndexableField>> documents) {
+			this.query = query;
+			this.documents = documents;
+		}
+
+		@Override
+		boolean write(DataOutput output) throws IOException {
+			output.writeByte( UPDATE_DOCUMENTS_BY_QUERY );
+			return TranslogEncoding.writeQuery( output, query )
+					&& TranslogEncoding.writeDocuments( output, documents );
+		}
+
+		@Override
+		public long applyTo(IndexWriter writer) throws IOException {
+			return writer.updateDocuments( query, documents );
+		}
+	}
+
+	private static final class DeleteDocumentsByTerm extends TranslogOperation {
+		private final Term term;
+
+		private DeleteDocumentsByTerm(Term term) {
+			this.term = term;
+		}
+
+		@Override
+		boolean write(DataOutput output) throws IOException {
+			output.writeByte( DELETE_DOCUMENTS_BY_TERM );
+			TranslogEncoding.writeTerm( output, term );
+			return true;
+		}
+
+		@Override
+		public long applyTo(IndexWriter writer) throws IOException {
+			return writer.deleteDocuments( term );
+		}
+	}
+
+	private static final class DeleteDocumentsByQuery extends TranslogOperation {
+		private final Query query;
+
+		private DeleteDocumentsByQuery(Query query) {
+			this.query = query;
+		}
+
+		@Override
+		boolean write(DataOutput output) throws IOException {
+			output.writeByte( DELETE_DOCUMENTS_BY_QUERY );
+			return TranslogEncoding.writeQuery( output, query );
+		}
+
+		@Override
+		public long applyTo(IndexWriter writer) throws IOException {
+			return writer.deleteDocuments( query );
+		}
+	}
+}
@@ -6,21 +6,34 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.LoadAwareMergeRateLimiter;
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.MergeThrottling;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.RateLimitedIndexOutput;
 import org.apache.lucene.util.ThreadInterruptedException;
 
 /**
  * We customize Lucene's ConcurrentMergeScheduler to route eventual exceptions to our configurable failure handler
  * and override the name of merge threads.
+ * <p>
+ * When {@link MergeThrottling merge throttling} is enabled,
+ * Lucene's automatic I/O throttling is replaced with a rate limit that adapts to the search load on the shard.
  *
  * @see FailureHandler
  * @since 3.3
@@ -31,18 +44,67 @@ class HibernateSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+	private static final long MIN_THROTTLED_MERGE_BYTES = 50L * 1024L * 1024L;
+
 	private final String indexName;
 	private final String contextDescription;
 	private final ThreadProvider threadProvider;
 	private final FailureHandler failureHandler;
+	private final MergeThrottling mergeThrottlingOrNull;
+	private final EventContext eventContext;
 
 	HibernateSearchConcurrentMergeScheduler(String indexName, String contextDescription,
 			ThreadProvider threadProvider,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MergeThrottling mergeThrottlingOrNull, EventContext eventContext) {
 		this.indexName = indexName;
 		this.contextDescription = contextDescription;
 		this.threadProvider = threadProvider;
 		this.failureHandler = failureHandler;
+		this.mergeThrottlingOrNull = mergeThrottlingOrNull;
+		this.eventContext = eventContext;
+		if ( mergeThrottlingOrNull != null && mergeThrottlingOrNull.isThrottlingEnabled() ) {
+			disableAutoIOThrottle();
+		}
+	}
+
+	@Override
+	public Directory wrapForMerge(MergePolicy.OneMerge merge, Directory in) {
+		Directory wrapped = super.wrapForMerge( merge, in );
+		if ( mergeThrottlingOrNull == null || !mergeThrottlingOrNull.isThrottlingEnabled()
+		// Forced merges are explicitly requested: don't slow them down.
+				|| merge.getStoreMergeInfo().mergeMaxNumSegments != -1
+				// Small merges are quick and keep the segment count low: don't slow them down either.
+				|| merge.estimatedMergeBytes < MIN_THROTTLED_MERGE_BYTES ) {
+			return wrapped;
+		}
+		LoadAwareMergeRateLimiter rateLimiter = new LoadAwareMergeRateLimiter( mergeThrottlingOrNull );
+		return new FilterDirectory( wrapped ) {
+			@Override
+			public IndexOutput createOutput(String name, IOContext context) throws IOException {
+				return new RateLimitedIndexOutput( rateLimiter, in.createOutput( name, context ) );
+			}
+		};
+	}
+
+	@Override
+	protected void doMerge(MergeSource mergeSource, MergePolicy.OneMerge merge) throws IOException {
+		if ( !log.isDebugEnabled() ) {
+			super.doMerge( mergeSource, merge );
+			return;
+		}
+		long start = System.nanoTime();
+		super.doMerge( mergeSource, merge );
+		long durationMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start );
+		double sizeMB = merge.totalBytesSize() / BYTES_PER_MB;
+		double actualMBPerSec = durationMillis == 0L ? sizeMB : sizeMB * 1000.0 / durationMillis;
+		double throttleMBPerSec = mergeThrottlingOrNull != null && mergeThrottlingOrNull.isThrottlingEnabled()
+				? mergeThrottlingOrNull.targetMBPerSec()
+				: getIORateLimitMBPerSec();
+		int deferredMergeCount = mergeThrottlingOrNull == null ? 0 : mergeThrottlingOrNull.deferredMergeCount();
+		log.mergeStatistics( merge.segments.size(), sizeMB, durationMillis, actualMBPerSec, throttleMBPerSec,
+				mergeThreadCount(), deferredMergeCount, eventContext );
 	}
 
 	@Override
@@ -6,14 +6,31 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.codec.IdPostingsFormatName;
+import org.hibernate.search.backend.lucene.lowlevel.codec.StoredFieldsCompressionName;
+import org.hibernate.search.backend.lucene.lowlevel.codec.impl.BloomFilterPostingsFormat;
+import org.hibernate.search.backend.lucene.lowlevel.codec.impl.LuceneIndexCodec;
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.MergeThrottling;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene95.Lucene95Codec;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 /**
@@ -29,25 +46,111 @@
  */
 public class IndexWriterConfigSource {
 
-	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<IdPostingsFormatName> CODEC_ID_POSTINGS_FORMAT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_CODEC_ID_POSTINGS_FORMAT )
+					.as( IdPostingsFormatName.class, IdPostingsFormatName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_CODEC_ID_POSTINGS_FORMAT )
+					.build();
+
+	private static final ConfigurationProperty<StoredFieldsCompressionName> CODEC_STORED_FIELDS_COMPRESSION =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_CODEC_STORED_FIELDS_COMPRESSION )
+					.as( StoredFieldsCompressionName.class, StoredFieldsCompressionName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_CODEC_STORED_FIELDS_COMPRESSION )
+					.build();
+
+	private static final OptionalConfigurationProperty<DocValuesFormat> CODEC_DOC_VALUES_FORMAT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_CODEC_DOC_VALUES_FORMAT )
+					.as( DocValuesFormat.class, IndexWriterConfigSource::docValuesFormatForName )
+					.build();
+
+	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer, Sort indexSortOrNull,
 			ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, values );
+		Codec codecOrNull = createCodecOrNull( propertySource );
+		MergeThrottling mergeThrottlingOrNull = MergeThrottling.createOrNull( propertySource );
+		return new IndexWriterConfigSource( similarity, analyzer, indexSortOrNull, codecOrNull, mergeThrottlingOrNull,
+				values );
+	}
+
+	private static Codec createCodecOrNull(ConfigurationPropertySource propertySource) {
+		IdPostingsFormatName idPostingsFormatName = CODEC_ID_POSTINGS_FORMAT.get( propertySource );
+		StoredFieldsCompressionName storedFieldsCompressionName = CODEC_STORED_FIELDS_COMPRESSION.get( propertySource );
+		DocValuesFormat docValuesFormatOrNull = CODEC_DOC_VALUES_FORMAT.get( propertySource ).orElse( null );
+		if ( IdPostingsFormatName.DEFAULT.equals( idPostingsFormatName )
+				&& StoredFieldsCompressionName.SPEED.equals( storedFieldsCompressionName )
+				&& docValuesFormatOrNull == null ) {
+			// Everything is set to the default: just use Lucene's default codec.
+			return null;
+		}
+
+		PostingsFormat idPostingsFormatOrNull;
+		switch ( idPostingsFormatName ) {
+			case BLOOM_FILTER:
+				idPostingsFormatOrNull = new BloomFilterPostingsFormat();
+				break;
+			case DEFAULT:
+			default:
+				idPostingsFormatOrNull = null;
+				break;
+		}
+		Lucene95Codec.Mode mode;
+		switch ( storedFieldsCompressionName ) {
+			case SIZE:
+				mode = Lucene95Codec.Mode.BEST_COMPRESSION;
+				break;
+			case SPEED:
+			default:
+				mode = Lucene95Codec.Mode.BEST_SPEED;
+				break;
+		}
+		return new LuceneIndexCodec( mode, idPostingsFormatOrNull, docValuesFormatOrNull );
+	}
+
+	private static DocValuesFormat docValuesFormatForName(String name) {
+		try {
+			return DocValuesFormat.forName( name );
+		}
+		catch (IllegalArgumentException e) {
+			throw log.invalidDocValuesFormatName( name, DocValuesFormat.availableDocValuesFormats(), e );
+		}
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
+	private final Sort indexSortOrNull;
+	private final Codec codecOrNull;
+	private final MergeThrottling mergeThrottlingOrNull;
 	private final List<IndexWriterSettingValue<?>> values;
 
-	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, List<IndexWriterSettingValue<?>> values) {
+	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, Sort indexSortOrNull,
+			Codec codecOrNull, MergeThrottling mergeThrottlingOrNull, List<IndexWriterSettingValue<?>> values) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
+		this.indexSortOrNull = indexSortOrNull;
+		this.codecOrNull = codecOrNull;
+		this.mergeThrottlingOrNull = mergeThrottlingOrNull;
 		this.values = values;
 	}
 
 	@Override
 	public String toString() {
-		return "IndexWriterConfigSource{" + analyzer + "," + values + '}';
+		return "IndexWriterConfigSource{"
+				+ analyzer
+				+ "," + indexSortOrNull
+				+ "," + codecOrNull
+				+ "," + mergeThrottlingOrNull
+				+ "," + values
+				+ '}';
+	}
+
+	/**
+	 * @return The merge throttling to apply to writers created from this source,
+	 * or {@code null} if merges should not be throttled.
+	 */
+	public MergeThrottling mergeThrottlingOrNull() {
+		return mergeThrottlingOrNull;
 	}
 
 	/**
@@ -57,6 +160,12 @@ public String toString() {
 	public IndexWriterConfig createIndexWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 		writerConfig.setSimilarity( similarity );
+		if ( indexSortOrNull != null ) {
+			writerConfig.setIndexSort( indexSortOrNull );
+		}
+		if ( codecOrNull != null ) {
+			writerConfig.setCodec( codecOrNull );
+		}
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( writerConfig );
 		}
@@ -64,11 +173,14 @@ public IndexWriterConfig createIndexWriterConfig() {
 		return writerConfig;
 	}
 
-	private LogByteSizeMergePolicy createMergePolicy() {
+	private MergePolicy createMergePolicy() {
 		LogByteSizeMergePolicy logByteSizeMergePolicy = new LogByteSizeMergePolicy();
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( logByteSizeMergePolicy );
 		}
+		if ( mergeThrottlingOrNull != null ) {
+			return mergeThrottlingOrNull.wrap( logByteSizeMergePolicy );
+		}
 		return logByteSizeMergePolicy;
 	}
 
@@ -24,6 +24,8 @@ public interface IndexWriterDelegator {
 
 	long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
 
+	long updateDocuments(Query query, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
+
 	long deleteDocuments(Term term) throws IOException;
 
 	long deleteDocuments(Query query) throws IOException;
@@ -8,26 +8,39 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.TranslogOperation;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.CodecReader;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SlowCodecReaderWrapper;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -41,9 +54,14 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final FailureHandler failureHandler;
+	private final ReplicationChannel publicationChannel;
+	private final SnapshotDeletionPolicy publicationDeletionPolicy;
+	private final Translog translog;
 
 	private final SingletonTask delayedCommitTask;
+	private final SingletonTask publicationTask;
 	private final ReentrantLock commitLock = new ReentrantLock();
+	private final ReentrantLock publicationLock = new ReentrantLock();
 
 	private long commitExpiration;
 
@@ -51,12 +69,31 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			SimpleScheduledExecutor delayedCommitExecutor,
 			TimingSource timingSource, int commitInterval,
 			FailureHandler failureHandler,
-			DelayedCommitFailureHandler delayedCommitFailureHandler) {
+			DelayedCommitFailureHandler delayedCommitFailureHandler,
+			ReplicationChannel publicationChannel, ExecutorService publicationExecutor,
+			Translog translog) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.failureHandler = failureHandler;
+		this.publicationChannel = publicationChannel;
+		this.translog = translog;
+
+		if ( publicationChannel == null ) {
+			publicationDeletionPolicy = null;
+			publicationTask = null;
+		}
+		else {
+			// See IndexWriterProvider: the deletion policy allows protecting the published commit from deletion.
+			publicationDeletionPolicy = (SnapshotDeletionPolicy) delegate.getConfig().getIndexDeletionPolicy();
+			publicationTask = new SingletonTask(
+					"Publication of the latest commit for " + eventContext.render(),
+					new LucenePublicationWorker(),
+					new LucenePublicationScheduler( publicationExecutor ),
+					failureHandler
+			);
+		}
 
 		if ( commitInterval == 0L ) {
 			delayedCommitTask = null;
@@ -75,33 +112,82 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 
 	@Override
 	public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.addDocuments( docs );
+		if ( translog == null ) {
+			return delegate.addDocuments( docs );
+		}
+		return translog.logAndApply( TranslogOperation.addDocuments( docs ), delegate );
 	}
 
 	@Override
 	public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.updateDocuments( term, docs );
+		if ( translog == null ) {
+			return delegate.updateDocuments( term, docs );
+		}
+		return translog.logAndApply( TranslogOperation.updateDocuments( term, docs ), delegate );
+	}
+
+	@Override
+	public long updateDocuments(Query query, Iterable<? extends Iterable<? extends IndexableField>> docs)
+			throws IOException {
+		if ( translog == null ) {
+			return delegate.updateDocuments( query, docs );
+		}
+		return translog.logAndApply( TranslogOperation.updateDocuments( query, docs ), delegate );
 	}
 
 	@Override
 	public long deleteDocuments(Term term) throws IOException {
-		return delegate.deleteDocuments( term );
+		if ( translog == null ) {
+			return delegate.deleteDocuments( term );
+		}
+		return translog.logAndApply( TranslogOperation.deleteDocuments( term ), delegate );
 	}
 
 	@Override
 	public long deleteDocuments(Query query) throws IOException {
-		return delegate.deleteDocuments( query );
+		if ( translog == null ) {
+			return delegate.deleteDocuments( query );
+		}
+		return translog.logAndApply( TranslogOperation.deleteDocuments( query ), delegate );
 	}
 
 	public void mergeSegments() throws IOException {
 		delegate.forceMerge( 1 );
 	}
 
+	public void deleteAll() throws IOException {
+		delegate.deleteAll();
+		reportUnloggedOperation();
+	}
+
+	public void addIndexes(Directory directory) throws IOException {
+		// Not using IndexWriter.addIndexes(Directory...),
+		// because it requires locking the other directory, which has a writer of its own.
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			List<LeafReaderContext> leaves = reader.leaves();
+			CodecReader[] codecReaders = new CodecReader[leaves.size()];
+			for ( int i = 0; i < codecReaders.length; i++ ) {
+				codecReaders[i] = SlowCodecReaderWrapper.wrap( leaves.get( i ).reader() );
+			}
+			delegate.addIndexes( codecReaders );
+		}
+		reportUnloggedOperation();
+	}
+
+	public void commitUserData(Map<String, String> userData) {
+		delegate.setLiveCommitData( userData.entrySet() );
+	}
+
 	public void commit() {
 		doCommit();
 	}
 
 	public void commitOrDelay() {
+		if ( translog != null ) {
+			// Whatever happens next, operations applied so far must be durable when this method returns.
+			syncTranslog();
+		}
+
 		if ( !delegate.hasUncommittedChanges() ) {
 			// No need to either commit or plan a delayed commit: there's nothing to commit.
 			return;
@@ -142,16 +228,45 @@ public IndexWriter getDelegateForTests() {
 		return delegate;
 	}
 
+	/**
+	 * Applies the operations recorded in the translog but not committed to the index,
+	 * then commits.
+	 * <p>
+	 * To be called right after this delegator is created, before any other operation.
+	 */
+	void replayTranslog() throws IOException {
+		try {
+			if ( translog.replay( delegate ) > 0 ) {
+				doCommit();
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			// Do not commit a partial replay: operations are still in the translog and will be replayed next time.
+			new SuppressingCloser( e )
+					.push( SingletonTask::stop, delayedCommitTask )
+					.push( SingletonTask::stop, publicationTask )
+					.push( IndexWriter::rollback, delegate );
+			throw e;
+		}
+	}
+
 	void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( SingletonTask::stop, delayedCommitTask );
+			closer.push( SingletonTask::stop, publicationTask );
 			// Avoid problems with closing while a (delayed) commit is in progress:
 			// Lucene throws an exception in that case.
 			commitLock.lock();
+			// Wait for an ongoing publication to end: it may need the index writer to release its commit.
+			publicationLock.lock();
 			try {
-				closer.push( IndexWriter::close, delegate );
+				closer.push( IndexWriterDelegatorImpl::closeDelegate, this );
+				// Closing the index writer may have committed pending changes:
+				// publish them synchronously, as there won't be any background publication anymore.
+				publishLatestCommit();
 			}
 			finally {
+				publicationLock.unlock();
 				commitLock.unlock();
 			}
 			log.trace( "IndexWriter closed" );
@@ -182,14 +297,49 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 		failureHandler.handle( failureContext );
 	}
 
+	private void closeDelegate() throws IOException {
+		if ( translog == null || !delegate.isOpen() || delegate.getTragicException() != null ) {
+			delegate.close();
+			return;
+		}
+		long translogGeneration;
+		try {
+			translogGeneration = translog.prepareCommit( delegate );
+		}
+		catch (RuntimeException | IOException e) {
+			// Do not commit without updating the translog generation: the next replay would apply operations twice.
+			new SuppressingCloser( e ).push( IndexWriter::rollback, delegate );
+			throw e;
+		}
+		try {
+			delegate.commit();
+		}
+		finally {
+			delegate.close();
+		}
+		translog.deleteGenerationsBefore( translogGeneration );
+	}
+
 	private void doCommit() {
 		commitLock.lock();
 		try {
 			// NOTE: underlying Lucene code is using this pattern to sync on object block,
 			// which could be a problem with Loom:
 			// synchronized(commitLock)
-			delegate.commit();
+			if ( translog == null ) {
+				delegate.commit();
+			}
+			else {
+				long translogGeneration = translog.prepareCommit( delegate );
+				delegate.commit();
+				translog.deleteGenerationsBefore( translogGeneration );
+			}
 			updateCommitExpiration();
+			if ( publicationTask != null ) {
+				// Publish in the background, so that this commit and the next ones do not wait for the copy.
+				// The published commit is protected from deletion by the deletion policy.
+				publicationTask.ensureScheduled();
+			}
 		}
 		catch (RuntimeException | IOException e) {
 			throw log.unableToCommitIndex( e.getMessage(), eventContext, e );
@@ -199,10 +349,61 @@ private void doCommit() {
 		}
 	}
 
+	private void publishLatestCommit() {
+		if ( publicationChannel == null ) {
+			return;
+		}
+		try {
+			if ( !DirectoryReader.indexExists( delegate.getDirectory() ) ) {
+				// Nothing was ever committed.
+				return;
+			}
+			IndexCommit commit = publicationDeletionPolicy.snapshot();
+			try {
+				publicationChannel.publish( commit );
+			}
+			finally {
+				publicationDeletionPolicy.release( commit );
+				if ( delegate.isOpen() ) {
+					// Delete files that were only kept for the publication, if any.
+					delegate.deleteUnusedFiles();
+				}
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			// The commit itself succeeded: do not fail, replicas will simply catch up on the next commit.
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( e );
+			failureContextBuilder.failingOperation( "Publication of the latest commit for replication of "
+					+ eventContext.render() );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+	}
+
+	private void syncTranslog() {
+		try {
+			translog.sync();
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToSyncTranslog( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private void reportUnloggedOperation() {
+		if ( translog != null ) {
+			translog.reportUnloggedOperation();
+		}
+	}
+
 	/**
 	 * @return {@code true} if the commit was delayed, {@code false} if it wasn't and must happen now.
 	 */
 	private boolean delayCommit() {
+		if ( translog != null && translog.hasUnloggedOperations() ) {
+			// Some operations are only durable once committed.
+			return false;
+		}
+
 		long timeToCommit = getTimeToCommit();
 		if ( timeToCommit <= 0L ) {
 			// The commit must happen now.
@@ -255,6 +456,30 @@ public void complete() {
 		}
 	}
 
+	private class LucenePublicationWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		@Override
+		public CompletableFuture<?> work() {
+			publicationLock.lock();
+			try {
+				if ( delegate.isOpen() ) {
+					// Failures are reported to the failure handler directly.
+					publishLatestCommit();
+				}
+			}
+			finally {
+				publicationLock.unlock();
+			}
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do.
+		}
+	}
+
 	private class LuceneDelayedCommitScheduler implements SingletonTask.Scheduler {
 		private final SimpleScheduledExecutor delegate;
 
@@ -269,6 +494,20 @@ public Future<?> schedule(Runnable runnable) {
 		}
 	}
 
+	private static class LucenePublicationScheduler implements SingletonTask.Scheduler {
+		private final ExecutorService delegate;
+
+		private LucenePublicationScheduler(ExecutorService delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			// Publish as soon as possible.
+			return delegate.submit( runnable );
+		}
+	}
+
 	interface DelayedCommitFailureHandler {
 
 		void handle(Throwable throwable, Object failingOperation);
@@ -13,6 +13,10 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.MergeThrottling;
+import org.hibernate.search.backend.lucene.lowlevel.merge.impl.SearchLoadTracker;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -23,6 +27,7 @@
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -39,6 +44,8 @@ public class IndexWriterProvider {
 	private final int commitInterval;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final ReplicationChannel publicationChannel;
+	private final Translog translog;
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -54,7 +61,9 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
 			TimingSource timingSource, int commitInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			ReplicationChannel publicationChannel,
+			Translog translog) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
@@ -63,6 +72,8 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.commitInterval = commitInterval;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.publicationChannel = publicationChannel;
+		this.translog = translog;
 	}
 
 	/**
@@ -109,6 +120,36 @@ public void clearAfterFailure(Throwable throwable, Object failingOperation) {
 		}
 	}
 
+	/**
+	 * @return The tracker to notify of searches on this index,
+	 * or {@code null} if merges do not depend on the search load.
+	 */
+	public SearchLoadTracker searchLoadTrackerOrNull() {
+		MergeThrottling mergeThrottlingOrNull = configSource.mergeThrottlingOrNull();
+		return mergeThrottlingOrNull == null || !mergeThrottlingOrNull.isThrottlingEnabled()
+				? null
+				: mergeThrottlingOrNull.searchLoadTracker();
+	}
+
+	/**
+	 * @return {@code true} if operations are recorded in a translog,
+	 * in which case they must only be considered complete after the translog was synced.
+	 */
+	public boolean hasTranslog() {
+		return translog != null;
+	}
+
+	/**
+	 * Deletes the content of the translog, if any.
+	 * <p>
+	 * Should be used when the index is dropped.
+	 */
+	public void discardTranslog() throws IOException {
+		if ( translog != null ) {
+			translog.discard();
+		}
+	}
+
 	public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
@@ -126,9 +167,15 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 							threads.getWriteExecutor(),
 							timingSource, commitInterval,
 							failureHandler,
-							this::clearAfterFailure
+							this::clearAfterFailure,
+							publicationChannel,
+							publicationChannel == null ? null : threads.getPublicationExecutor(),
+							translog
 					);
 					log.trace( "IndexWriter opened" );
+					if ( translog != null ) {
+						indexWriterDelegator.replayTranslog();
+					}
 					currentWriter.set( indexWriterDelegator );
 				}
 			}
@@ -149,10 +196,15 @@ private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = configSource.createIndexWriterConfig();
 		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
 				indexName, eventContext.render(),
-				threads.getThreadProvider(), failureHandler
+				threads.getThreadProvider(), failureHandler,
+				configSource.mergeThrottlingOrNull(), eventContext
 		);
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+		if ( publicationChannel != null ) {
+			// Allows publishing a commit in the background while preventing the deletion of its files.
+			writerConfig.setIndexDeletionPolicy( new SnapshotDeletionPolicy( writerConfig.getIndexDeletionPolicy() ) );
+		}
 		return writerConfig;
 	}
 }
@@ -22,7 +22,19 @@ public enum MultiTenancyStrategyName {
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
 	 */
-	DISCRIMINATOR( "discriminator" );
+	DISCRIMINATOR( "discriminator" ),
+
+	/**
+	 * The multi-tenancy information is stored in the index as a discriminator field,
+	 * and the tenant identifier is used instead of the routing key to route documents to shards.
+	 * <p>
+	 * All documents of a given tenant end up in the same shard,
+	 * so that search queries and purges only target the shards of the relevant tenants.
+	 * With the "explicit" sharding strategy, each tenant can be assigned its own shard
+	 * by using tenant identifiers as shard identifiers;
+	 * with the "hash" sharding strategy, tenants are assigned to a fixed number of shards.
+	 */
+	SHARD( "shard" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
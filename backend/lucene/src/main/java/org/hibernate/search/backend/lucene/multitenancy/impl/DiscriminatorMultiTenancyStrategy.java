@@ -15,7 +15,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
-import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.Query;
 
 public class DiscriminatorMultiTenancyStrategy implements MultiTenancyStrategy {
@@ -28,8 +28,8 @@ public boolean isMultiTenancySupported() {
 	}
 
 	@Override
-	public void contributeToIndexedDocument(Document document, String tenantId) {
-		document.add( MetadataFields.searchableMetadataField( MetadataFields.tenantIdFieldName(), tenantId ) );
+	public IndexableField tenantIdFieldOrNull(String tenantId) {
+		return MetadataFields.searchableMetadataField( MetadataFields.tenantIdFieldName(), tenantId );
 	}
 
 	@Override
@@ -42,6 +42,21 @@ public Query filterOrNull(Set<String> tenantIds) {
 		return Queries.anyTerm( MetadataFields.tenantIdFieldName(), tenantIds );
 	}
 
+	@Override
+	public String toShardRoutingKey(String tenantId, String routingKey) {
+		return routingKey;
+	}
+
+	@Override
+	public Set<String> toShardRoutingKeys(Set<String> tenantIds, Set<String> routingKeys) {
+		return routingKeys;
+	}
+
+	@Override
+	public boolean isRoutingToShardsByTenantId() {
+		return false;
+	}
+
 	@Override
 	public void checkTenantId(String tenantId, EventContext backendContext) {
 		if ( tenantId == null ) {
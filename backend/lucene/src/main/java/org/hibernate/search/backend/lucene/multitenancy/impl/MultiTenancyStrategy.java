@@ -10,7 +10,7 @@
 
 import org.hibernate.search.util.common.reporting.EventContext;
 
-import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.Query;
 
 /**
@@ -26,12 +26,14 @@ public interface MultiTenancyStrategy {
 	boolean isMultiTenancySupported();
 
 	/**
-	 * Contributes additional information to the indexed document.
+	 * Creates the field holding the tenant ID in indexed documents.
+	 * <p>
+	 * The same instance is added to all documents of an index entry: the root document and its nested documents.
 	 *
-	 * @param document The indexed document.
 	 * @param tenantId The tenant id.
+	 * @return The field to add to indexed documents, or {@code null} if no such field is necessary.
 	 */
-	void contributeToIndexedDocument(Document document, String tenantId);
+	IndexableField tenantIdFieldOrNull(String tenantId);
 
 	/**
 	 * Generate a filter for the given tenant ID, to be applied to search queries
@@ -50,6 +52,26 @@ public interface MultiTenancyStrategy {
 	 */
 	Query filterOrNull(Set<String> tenantIds);
 
+	/**
+	 * @param tenantId The tenant id.
+	 * @param routingKey The routing key of a document, or {@code null}.
+	 * @return The routing key to pass to the sharding strategy for that document.
+	 */
+	String toShardRoutingKey(String tenantId, String routingKey);
+
+	/**
+	 * @param tenantIds The set of tenant ids targeted by an operation.
+	 * @param routingKeys The routing keys targeted by an operation.
+	 * @return The routing keys to pass to the sharding strategy for that operation.
+	 */
+	Set<String> toShardRoutingKeys(Set<String> tenantIds, Set<String> routingKeys);
+
+	/**
+	 * @return {@code true} if documents are routed to shards according to their tenant id
+	 * instead of their routing key or identifier.
+	 */
+	boolean isRoutingToShardsByTenantId();
+
 	/**
 	 * Check that the tenant id value is consistent with the strategy.
 	 *
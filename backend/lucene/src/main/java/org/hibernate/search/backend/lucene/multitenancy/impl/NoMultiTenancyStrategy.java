@@ -14,7 +14,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
-import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.Query;
 
 public class NoMultiTenancyStrategy implements MultiTenancyStrategy {
@@ -27,8 +27,9 @@ public boolean isMultiTenancySupported() {
 	}
 
 	@Override
-	public void contributeToIndexedDocument(Document document, String tenantId) {
+	public IndexableField tenantIdFieldOrNull(String tenantId) {
 		// No need to add anything to documents, the ID field (already added elsewhere) is enough
+		return null;
 	}
 
 	@Override
@@ -41,6 +42,21 @@ public Query filterOrNull(Set<String> tenantIds) {
 		return null;
 	}
 
+	@Override
+	public String toShardRoutingKey(String tenantId, String routingKey) {
+		return routingKey;
+	}
+
+	@Override
+	public Set<String> toShardRoutingKeys(Set<String> tenantIds, Set<String> routingKeys) {
+		return routingKeys;
+	}
+
+	@Override
+	public boolean isRoutingToShardsByTenantId() {
+		return false;
+	}
+
 	@Override
 	public void checkTenantId(String tenantId, EventContext backendContext) {
 		if ( tenantId != null ) {
@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy.impl;
+
+import java.util.Set;
+
+/**
+ * A {@link DiscriminatorMultiTenancyStrategy} that also routes documents to shards according to their tenant id.
+ * <p>
+ * The discriminator field is still necessary, since multiple tenants may share the same shard,
+ * but each tenant's queries only need to open the readers of that tenant's shard.
+ */
+public class ShardMultiTenancyStrategy extends DiscriminatorMultiTenancyStrategy {
+
+	@Override
+	public String toShardRoutingKey(String tenantId, String routingKey) {
+		return tenantId;
+	}
+
+	@Override
+	public Set<String> toShardRoutingKeys(Set<String> tenantIds, Set<String> routingKeys) {
+		// Routing keys are still applied as filters, but they no longer select shards.
+		return tenantIds;
+	}
+
+	@Override
+	public boolean isRoutingToShardsByTenantId() {
+		return true;
+	}
+}
@@ -22,9 +22,13 @@
 
 	@Override
 	public void submitTo(LuceneBatchedWorkProcessor processor) {
+		processor.submit( this );
+	}
+
+	void execute(LuceneBatchedWorkProcessor processor) {
 		try {
 			T result = processor.submit( work );
-			future.complete( result );
+			processor.completeWhenDurable( future, result );
 		}
 		catch (RuntimeException e) {
 			markAsFailed( e );
@@ -6,11 +6,20 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.work.impl.CoalescableIndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.CoalescedEntryWritesWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 /**
@@ -20,13 +29,27 @@
  */
 public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
+	/**
+	 * Works that were applied, but will only be durable after the translog is synced.
+	 * Shared among all queues, since a single sync of the translog makes works from all queues durable.
+	 */
+	private final Queue<PendingCompletion<?>> pendingCompletions;
 
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
 			IndexAccessor indexAccessor) {
 		this.indexAccessor = indexAccessor;
 		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
+		this.pendingCompletions = new ConcurrentLinkedQueue<>();
+	}
+
+	LuceneBatchedWorkProcessor(LuceneBatchedWorkProcessor other) {
+		this.indexAccessor = other.indexAccessor;
+		this.context = other.context;
+		this.pendingCompletions = other.pendingCompletions;
 	}
 
 	@Override
@@ -36,25 +59,125 @@ public void beginBatch() {
 
 	@Override
 	public CompletableFuture<?> endBatch() {
-		try {
-			indexAccessor.commitOrDelay();
-		}
-		catch (RuntimeException e) {
-			indexAccessor.cleanUpAfterFailure( e, "Commit after a batch of index works" );
-			// The exception was reported to the failure handler, no need to propagate it.
-		}
+		commitOrDelay( "Commit after a batch of index works" );
 		// Everything was already executed, so just return a completed future.
 		return CompletableFuture.completedFuture( null );
 	}
 
 	@Override
 	public void complete() {
+		commitOrDelay( "Commit after completion of all remaining index works" );
+	}
+
+	private void commitOrDelay(String operationDescription) {
+		// Only complete works that were applied before the commit or translog sync starts.
+		List<PendingCompletion<?>> completions = new ArrayList<>();
+		PendingCompletion<?> completion;
+		while ( ( completion = pendingCompletions.poll() ) != null ) {
+			completions.add( completion );
+		}
 		try {
 			indexAccessor.commitOrDelay();
 		}
 		catch (RuntimeException e) {
-			indexAccessor.cleanUpAfterFailure( e, "Commit after completion of all remaining index works" );
+			indexAccessor.cleanUpAfterFailure( e, operationDescription );
 			// The exception was reported to the failure handler, no need to propagate it.
+			// However, works that were not made durable must be reported as failed.
+			for ( PendingCompletion<?> failedCompletion : completions ) {
+				failedCompletion.future.completeExceptionally( e );
+			}
+			return;
+		}
+		for ( PendingCompletion<?> successfulCompletion : completions ) {
+			successfulCompletion.complete();
+		}
+	}
+
+	void submit(LuceneBatchedWork<?> work) {
+		work.execute( this );
+	}
+
+	/**
+	 * Applies the given works in order,
+	 * applying consecutive {@link CoalescableIndexingWork adds and updates} of distinct documents
+	 * in a single call to the index writer.
+	 *
+	 * @param works The works to apply.
+	 * @param maxCoalescedWorks The maximum number of works to apply in a single call to the index writer.
+	 */
+	void submitAll(List<LuceneBatchedWork<?>> works, int maxCoalescedWorks) {
+		if ( maxCoalescedWorks <= 1 ) {
+			for ( LuceneBatchedWork<?> work : works ) {
+				work.execute( this );
+			}
+			return;
+		}
+		List<LuceneBatchedWork<Long>> coalescedWorks = new ArrayList<>();
+		CoalescedEntryWritesWork.Builder builder = CoalescedEntryWritesWork.builder( maxCoalescedWorks );
+		for ( LuceneBatchedWork<?> work : works ) {
+			if ( !( work.work instanceof CoalescableIndexingWork ) ) {
+				submitCoalesced( coalescedWorks, builder );
+				builder = CoalescedEntryWritesWork.builder( maxCoalescedWorks );
+				work.execute( this );
+				continue;
+			}
+			CoalescableIndexingWork coalescableWork = (CoalescableIndexingWork) work.work;
+			if ( !coalescableWork.coalesceInto( builder ) ) {
+				submitCoalesced( coalescedWorks, builder );
+				builder = CoalescedEntryWritesWork.builder( maxCoalescedWorks );
+				// Always succeeds on an empty builder.
+				coalescableWork.coalesceInto( builder );
+			}
+			@SuppressWarnings("unchecked") // Coalescable works are single-document works, which return a Long
+			LuceneBatchedWork<Long> castedWork = (LuceneBatchedWork<Long>) work;
+			coalescedWorks.add( castedWork );
+		}
+		submitCoalesced( coalescedWorks, builder );
+	}
+
+	private void submitCoalesced(List<LuceneBatchedWork<Long>> coalescedWorks,
+			CoalescedEntryWritesWork.Builder builder) {
+		if ( coalescedWorks.isEmpty() ) {
+			return;
+		}
+		if ( coalescedWorks.size() == 1 ) {
+			coalescedWorks.get( 0 ).execute( this );
+			coalescedWorks.clear();
+			return;
+		}
+		Long result;
+		try {
+			result = builder.build().execute( context );
+		}
+		catch (RuntimeException e) {
+			// Documents are added atomically, so none of them were indexed.
+			// Apply works one by one, so that only the works that actually fail are reported as failed,
+			// and so that the index writer gets cleaned up as usual if necessary.
+			log.debugf( e, "Unable to apply %d indexing works in a single call to the index writer;"
+					+ " applying them one by one", coalescedWorks.size() );
+			for ( LuceneBatchedWork<Long> work : coalescedWorks ) {
+				work.execute( this );
+			}
+			coalescedWorks.clear();
+			return;
+		}
+		for ( LuceneBatchedWork<Long> work : coalescedWorks ) {
+			completeWhenDurable( work.future, result );
+		}
+		coalescedWorks.clear();
+	}
+
+	/**
+	 * Completes the given future with the given result,
+	 * or, if the work that produced the result is recorded in a translog,
+	 * at the end of the current batch, once the translog has been synced.
+	 */
+	<T> void completeWhenDurable(CompletableFuture<T> future, T result) {
+		if ( indexAccessor.hasTranslog() ) {
+			pendingCompletions.add( new PendingCompletion<>( future, result ) );
+		}
+		else {
+			future.complete( result );
 		}
 	}
 
@@ -86,4 +209,18 @@ public void forceRefresh() {
 		indexAccessor.refresh();
 	}
 
+	private static final class PendingCompletion<T> {
+		private final CompletableFuture<T> future;
+		private final T result;
+
+		private PendingCompletion(CompletableFuture<T> future, T result) {
+			this.future = future;
+			this.result = result;
+		}
+
+		private void complete() {
+			future.complete( result );
+		}
+	}
+
 }
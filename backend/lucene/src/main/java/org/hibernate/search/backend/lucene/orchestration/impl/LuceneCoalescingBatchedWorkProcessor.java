@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A processor applying consecutive adds and updates of distinct documents within a batch
+ * in a single call to the index writer.
+ * <p>
+ * Works are buffered until the end of the batch, then applied in order from the current thread.
+ * See {@link LuceneBatchedWorkProcessor#submitAll(List, int)}.
+ * <p>
+ * Unlike {@link LuceneBatchedWorkProcessor}, this processor holds state about the current batch
+ * and must not be shared among multiple queues.
+ */
+final class LuceneCoalescingBatchedWorkProcessor extends LuceneBatchedWorkProcessor {
+
+	private final int maxCoalescedWorks;
+	private final List<LuceneBatchedWork<?>> works = new ArrayList<>();
+
+	LuceneCoalescingBatchedWorkProcessor(LuceneBatchedWorkProcessor delegate, int maxCoalescedWorks) {
+		super( delegate );
+		this.maxCoalescedWorks = maxCoalescedWorks;
+	}
+
+	@Override
+	public void beginBatch() {
+		works.clear();
+		super.beginBatch();
+	}
+
+	@Override
+	void submit(LuceneBatchedWork<?> work) {
+		works.add( work );
+	}
+
+	@Override
+	public CompletableFuture<?> endBatch() {
+		try {
+			submitAll( works, maxCoalescedWorks );
+		}
+		catch (Throwable e) {
+			for ( LuceneBatchedWork<?> work : works ) {
+				// No-op for works that were already completed.
+				work.markAsFailed( e );
+			}
+		}
+		finally {
+			works.clear();
+		}
+		return super.endBatch();
+	}
+
+}
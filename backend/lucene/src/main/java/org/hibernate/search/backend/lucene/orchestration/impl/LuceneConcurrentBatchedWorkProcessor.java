@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.data.impl.HashTable;
+import org.hibernate.search.util.common.data.impl.Murmur3HashFunction;
+import org.hibernate.search.util.common.data.impl.RangeHashTable;
+
+/**
+ * A processor applying each batch of write works using multiple threads.
+ * <p>
+ * Works are buffered until the end of the batch,
+ * then split into partitions based on the hash of their queuing key (the document ID),
+ * and each partition is applied sequentially, concurrently with other partitions.
+ * Thus the relative order of works affecting the same document is preserved,
+ * while works affecting different documents are analyzed and written concurrently
+ * to the (thread-safe) index writer.
+ * Commits are still executed once per batch, after all partitions have been applied.
+ * <p>
+ * Unlike {@link LuceneBatchedWorkProcessor}, this processor holds state about the current batch
+ * and must not be shared among multiple queues.
+ */
+final class LuceneConcurrentBatchedWorkProcessor extends LuceneBatchedWorkProcessor {
+
+	private final SimpleScheduledExecutor executor;
+	private final int maxCoalescedWorks;
+	// Use a different hash function than the one used to pick a queue,
+	// so that works from a single queue are spread evenly among partitions.
+	private final HashTable<List<LuceneBatchedWork<?>>> partitions;
+
+	LuceneConcurrentBatchedWorkProcessor(LuceneBatchedWorkProcessor delegate, int parallelism,
+			SimpleScheduledExecutor executor, int maxCoalescedWorks) {
+		super( delegate );
+		this.executor = executor;
+		this.maxCoalescedWorks = maxCoalescedWorks;
+		this.partitions = new RangeHashTable<>( Murmur3HashFunction.INSTANCE, parallelism );
+		for ( int i = 0; i < partitions.size(); i++ ) {
+			partitions.set( i, new ArrayList<>() );
+		}
+	}
+
+	@Override
+	public void beginBatch() {
+		for ( List<LuceneBatchedWork<?>> partition : partitions ) {
+			partition.clear();
+		}
+		super.beginBatch();
+	}
+
+	@Override
+	void submit(LuceneBatchedWork<?> work) {
+		partitions.get( work.getQueuingKey() ).add( work );
+	}
+
+	@Override
+	public CompletableFuture<?> endBatch() {
+		applyPartitions();
+		return super.endBatch();
+	}
+
+	private void applyPartitions() {
+		List<FutureTask<?>> tasks = new ArrayList<>( partitions.size() );
+		for ( List<LuceneBatchedWork<?>> partition : partitions ) {
+			if ( !partition.isEmpty() ) {
+				tasks.add( new FutureTask<>( () -> apply( partition ), null ) );
+			}
+		}
+
+		// Let other threads pick up all partitions but the first one.
+		for ( int i = 1; i < tasks.size(); i++ ) {
+			try {
+				executor.submit( tasks.get( i ) );
+			}
+			catch (RejectedExecutionException e) {
+				// The executor is shutting down: the task will be run in the current thread below.
+				break;
+			}
+		}
+
+		// Run in the current thread any task that wasn't picked up by another thread yet:
+		// this avoids starvation when all threads of the executor are busy,
+		// e.g. applying batches from other queues.
+		// Running a task that was already started by another thread is a no-op.
+		for ( FutureTask<?> task : tasks ) {
+			task.run();
+		}
+
+		// At this point, each task is either done or running in another thread.
+		// Wait for all of them even if interrupted: the commit must include all works of this batch,
+		// and the next batch must not start while partitions of this batch are still being applied.
+		// We don't cancel running tasks, since interrupting a thread that is writing to the index writer
+		// would close the index writer.
+		boolean interrupted = false;
+		try {
+			for ( FutureTask<?> task : tasks ) {
+				while ( true ) {
+					try {
+						task.get();
+						break;
+					}
+					catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			}
+		}
+		catch (ExecutionException e) {
+			throw new AssertionFailure( "Unexpected failure while applying a partition of index works", e );
+		}
+		finally {
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void apply(List<LuceneBatchedWork<?>> partition) {
+		try {
+			submitAll( partition, maxCoalescedWorks );
+		}
+		catch (Throwable e) {
+			for ( LuceneBatchedWork<?> work : partition ) {
+				// No-op for works that were already completed.
+				work.markAsFailed( e );
+			}
+		}
+	}
+
+}
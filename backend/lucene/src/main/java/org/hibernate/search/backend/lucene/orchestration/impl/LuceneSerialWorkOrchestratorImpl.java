@@ -37,6 +37,18 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> BATCH_PARALLELISM =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BATCH_PARALLELISM )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BATCH_PARALLELISM )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_COALESCED_WORKS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_MAX_COALESCED_WORKS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_MAX_COALESCED_WORKS )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -73,12 +85,27 @@ public void forceRefreshInCurrentThread() {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		int batchParallelism = BATCH_PARALLELISM.get( propertySource );
+		int maxCoalescedWorks = MAX_COALESCED_WORKS.get( propertySource );
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
+			// The default processor is thread-safe and can be shared among queues,
+			// but concurrent and coalescing processors hold the state of the current batch and must not be shared.
+			LuceneBatchedWorkProcessor queueProcessor;
+			if ( batchParallelism > 1 ) {
+				queueProcessor = new LuceneConcurrentBatchedWorkProcessor( processor, batchParallelism,
+						threads.getWriteExecutor(), maxCoalescedWorks );
+			}
+			else if ( maxCoalescedWorks > 1 ) {
+				queueProcessor = new LuceneCoalescingBatchedWorkProcessor( processor, maxCoalescedWorks );
+			}
+			else {
+				queueProcessor = processor;
+			}
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
-					processor,
+					queueProcessor,
 					queueSize,
 					true,
 					failureHandler,
@@ -96,8 +123,11 @@ protected void doSubmit(LuceneBatchedWork<?> work, OperationSubmitter operationS
 		executors.get( work.getQueuingKey() ).submit( work, operationSubmitter );
 	}
 
+	/**
+	 * @return A future that completes when all works submitted so far are completely executed.
+	 */
 	@Override
-	protected CompletableFuture<?> completion() {
+	public CompletableFuture<?> completion() {
 		CompletableFuture<?>[] completions = new CompletableFuture[executors.size()];
 		for ( int i = 0; i < executors.size(); i++ ) {
 			completions[i] = executors.get( i ).completion();
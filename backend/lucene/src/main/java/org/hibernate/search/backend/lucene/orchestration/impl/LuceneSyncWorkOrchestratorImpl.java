@@ -11,12 +11,15 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.MultiReaderCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -38,13 +41,23 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
+	private final int sliceMaxDocs;
+	private final int sliceMaxSegments;
+	private final MultiReaderCache multiReaderCache;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext,
+			BackendThreads threads, int sliceMaxDocs, int sliceMaxSegments,
+			MultiReaderCache multiReaderCache) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
+		this.sliceMaxDocs = sliceMaxDocs;
+		this.sliceMaxSegments = sliceMaxSegments;
+		this.multiReaderCache = multiReaderCache;
 	}
 
 	@Override
@@ -52,7 +65,7 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 			Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				this, indexNames, indexManagerContexts, routingKeys, work, indexReader
 		);
 		Throwable throwable = null;
 		try {
@@ -102,40 +115,42 @@ protected void doStop() {
 	}
 
 	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
-		private final Similarity similarity;
+		private final LuceneSyncWorkOrchestratorImpl orchestrator;
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
-		private final LuceneQueryCachingContext cachingContext;
 
 		private T result;
 
-		WorkExecution(Similarity similarity, Set<String> indexNames,
+		WorkExecution(LuceneSyncWorkOrchestratorImpl orchestrator, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 				Set<String> routingKeys, ReadWork<T> work,
-				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
-			this.similarity = similarity;
+				HibernateSearchMultiReader indexReader) {
+			this.orchestrator = orchestrator;
 			this.indexNames = indexNames;
 			this.work = work;
 
 			if ( indexReader == null ) {
-				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+				this.indexReader = orchestrator.multiReaderCache.open( indexNames, indexManagerContexts, routingKeys );
 				this.closeIndexReader = true;
 			}
 			else {
 				this.indexReader = indexReader;
 				this.closeIndexReader = false;
 			}
-			this.cachingContext = cachingContext;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
-			searcher.setSimilarity( similarity );
-
+			Executor searchExecutor = orchestrator.threads.getSearchExecutorOrNull();
+			IndexSearcher searcher = searchExecutor == null
+					? new IndexSearcher( indexReader )
+					: new SlicingIndexSearcher( indexReader, searchExecutor,
+							orchestrator.sliceMaxDocs, orchestrator.sliceMaxSegments );
+			searcher.setSimilarity( orchestrator.similarity );
+
+			LuceneQueryCachingContext cachingContext = orchestrator.cachingContext;
 			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
 			cachingContext.queryCachingPolicy().ifPresent( searcher::setQueryCachingPolicy );
 
@@ -153,7 +168,13 @@ public EventContext getEventContext() {
 		}
 
 		public void execute() {
-			result = work.execute( this );
+			long searchStartToken = indexReader.searchStarted();
+			try {
+				result = work.execute( this );
+			}
+			finally {
+				indexReader.searchFinished( searchStartToken );
+			}
 		}
 
 		public T getResult() {
@@ -167,7 +188,9 @@ public void close() {
 			}
 
 			try {
-				indexReader.close();
+				// The reader may be shared with other works through the cache:
+				// release our reference, but don't close the reader itself.
+				indexReader.decRef();
 			}
 			catch (IOException | RuntimeException e) {
 				log.unableToCloseIndexReader( getEventContext(), e );
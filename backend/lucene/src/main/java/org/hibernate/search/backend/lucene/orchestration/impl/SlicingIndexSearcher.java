@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * An index searcher that searches slices of index segments concurrently,
+ * with configurable limits on the size of each slice.
+ * <p>
+ * Concurrency only applies to searches relying on a {@link org.apache.lucene.search.CollectorManager};
+ * searches relying on a single {@link org.apache.lucene.search.Collector} are still executed in the calling thread.
+ */
+final class SlicingIndexSearcher extends IndexSearcher {
+
+	private final int sliceMaxDocs;
+	private final int sliceMaxSegments;
+
+	SlicingIndexSearcher(IndexReader reader, Executor executor, int sliceMaxDocs, int sliceMaxSegments) {
+		// Slices are computed lazily, on first use, so it's fine to initialize the limits after super().
+		super( reader, executor );
+		this.sliceMaxDocs = sliceMaxDocs;
+		this.sliceMaxSegments = sliceMaxSegments;
+	}
+
+	@Override
+	protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+		return slices( leaves, sliceMaxDocs, sliceMaxSegments );
+	}
+}
@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -27,10 +31,20 @@ public class BackendThreads {
 							.asBeanReference( LuceneWorkExecutorProvider.class )
 							.withDefault( LuceneBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 							.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor writeExecutor;
+	private ExecutorService searchExecutor;
+	private ExecutorService publicationExecutor;
+	private SimpleScheduledExecutor readerRefreshExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -64,11 +78,22 @@ public String recommendedThreadNamePrefix() {
 				}
 			} );
 		}
+
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource );
+		if ( searchThreadPoolSize > 0 ) {
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool( searchThreadPoolSize,
+					prefix + " - Search thread" );
+		}
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SimpleScheduledExecutor::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
+			synchronized (this) {
+				closer.push( ExecutorService::shutdownNow, publicationExecutor );
+				closer.push( SimpleScheduledExecutor::shutdownNow, readerRefreshExecutor );
+			}
 		}
 	}
 
@@ -82,6 +107,46 @@ public SimpleScheduledExecutor getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use to search multiple index slices concurrently,
+	 * or {@code null} if search queries should be executed in the calling thread only.
+	 */
+	public ExecutorService getSearchExecutorOrNull() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	/**
+	 * @return The executor to use to publish commits of primary indexes for replication.
+	 * Separate from the write executor, so that long publications do not delay indexing.
+	 */
+	public synchronized ExecutorService getPublicationExecutor() {
+		checkStarted();
+		if ( publicationExecutor == null ) {
+			// Only created when needed, as most applications do not use replication.
+			publicationExecutor = threadPoolProvider.newFixedThreadPool( 1, prefix + " - Publication thread" );
+		}
+		return publicationExecutor;
+	}
+
+	/**
+	 * @return The executor to use to refresh and warm up index readers in the background,
+	 * including fetching replicated commits.
+	 * Separate from the write executor, so that slow index reader warmers do not delay indexing.
+	 */
+	public synchronized SimpleScheduledExecutor getReaderRefreshExecutor() {
+		checkStarted();
+		if ( readerRefreshExecutor == null ) {
+			// Only created when needed, as background refresh is disabled by default
+			// and most applications do not use replication.
+			readerRefreshExecutor = new DelegatingSimpleScheduledExecutor(
+					threadPoolProvider.newScheduledExecutor( 1, prefix + " - Reader refresh thread" ),
+					threadPoolProvider.isScheduledExecutorBlocking()
+			);
+		}
+		return readerRefreshExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
@@ -9,8 +9,15 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexContext;
 
+import org.apache.lucene.search.Sort;
+
 public interface LuceneScopeIndexManagerContext extends LuceneSearchIndexContext {
 
 	LuceneIndexModel model();
 
+	/**
+	 * @return The index sort, or {@code null} if documents are not sorted within segments.
+	 */
+	Sort indexSortOrNull();
+
 }
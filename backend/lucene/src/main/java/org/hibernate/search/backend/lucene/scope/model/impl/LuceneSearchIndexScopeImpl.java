@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.scope.model.impl;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -55,6 +57,8 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 
 public final class LuceneSearchIndexScopeImpl
 		extends AbstractSearchIndexScope<
@@ -199,6 +203,12 @@ public Query filterOrNull(String tenantId) {
 		return multiTenancyStrategy.filterOrNull( tenantId );
 	}
 
+	@Override
+	public Set<String> toShardRoutingKeys(String tenantId, Set<String> routingKeys) {
+		return multiTenancyStrategy.toShardRoutingKeys(
+				tenantId == null ? Collections.emptySet() : Collections.singleton( tenantId ), routingKeys );
+	}
+
 	@Override
 	public TimeoutManager createTimeoutManager(Long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
 		return TimeoutManager.of( timingSource, timeout, timeUnit, exceptionOnTimeout );
@@ -224,6 +234,22 @@ public boolean hasNestedDocuments() {
 		return false;
 	}
 
+	@Override
+	public boolean isIndexSortPrefix(List<SortField> sortFields) {
+		for ( LuceneScopeIndexManagerContext element : indexes() ) {
+			Sort indexSort = element.indexSortOrNull();
+			if ( indexSort == null ) {
+				return false;
+			}
+			List<SortField> indexSortFields = Arrays.asList( indexSort.getSort() );
+			if ( sortFields.size() > indexSortFields.size()
+					|| !sortFields.equals( indexSortFields.subList( 0, sortFields.size() ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	protected LuceneSearchIndexCompositeNodeContext createMultiIndexSearchRootContext(
 			List<LuceneSearchIndexCompositeNodeContext> rootForEachIndex) {
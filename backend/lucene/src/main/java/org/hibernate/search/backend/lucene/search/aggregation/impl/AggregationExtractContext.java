@@ -7,12 +7,12 @@
 package org.hibernate.search.backend.lucene.search.aggregation.impl;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.Query;
 
 public class AggregationExtractContext {
@@ -20,13 +20,15 @@ public class AggregationExtractContext {
 	private final IndexReader indexReader;
 	private final FromDocumentValueConvertContext fromDocumentValueConvertContext;
 	private final CollectorSet collectors;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
 
 	public AggregationExtractContext(IndexReader indexReader,
 			FromDocumentValueConvertContext fromDocumentValueConvertContext,
-			CollectorSet collectors) {
+			CollectorSet collectors, GlobalOrdinalsCache globalOrdinalsCache) {
 		this.indexReader = indexReader;
 		this.fromDocumentValueConvertContext = fromDocumentValueConvertContext;
 		this.collectors = collectors;
+		this.globalOrdinalsCache = globalOrdinalsCache;
 	}
 
 	public IndexReader getIndexReader() {
@@ -37,7 +39,11 @@ public FromDocumentValueConvertContext fromDocumentValueConvertContext() {
 		return fromDocumentValueConvertContext;
 	}
 
-	public <C extends Collector> C getCollector(CollectorKey<C> key) {
+	public GlobalOrdinalsCache getGlobalOrdinalsCache() {
+		return globalOrdinalsCache;
+	}
+
+	public <T> T getCollector(CollectorKey<T> key) {
 		return collectors.get( key );
 	}
 
@@ -9,8 +9,6 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
 
-import org.apache.lucene.search.Collector;
-
 public final class AggregationRequestContext {
 
 	private final ExtractionRequirements.Builder extractionRequirementsBuilder;
@@ -19,7 +17,7 @@ public AggregationRequestContext(ExtractionRequirements.Builder extractionRequir
 		this.extractionRequirementsBuilder = extractionRequirementsBuilder;
 	}
 
-	public <C extends Collector> void requireCollector(CollectorFactory<C> collectorFactory) {
+	public void requireCollector(CollectorFactory<?, ?> collectorFactory) {
 		extractionRequirementsBuilder.requireCollectorForAllMatchingDocs( collectorFactory );
 	}
 }
@@ -62,4 +62,15 @@ public boolean hasTermVectorsConfigured() {
 		return fromTypeIfCompatible( LuceneSearchIndexValueFieldTypeContext::hasTermVectorsConfigured, Object::equals,
 				"hasTermVectorsConfigured" );
 	}
+
+	@Override
+	public boolean hasExactDocValues() {
+		// Not a compatibility requirement: we'll just fall back to stored fields if one index lacks doc values.
+		for ( LuceneSearchIndexValueFieldContext<F> indexElement : nodeForEachIndex ) {
+			if ( !indexElement.type().hasExactDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
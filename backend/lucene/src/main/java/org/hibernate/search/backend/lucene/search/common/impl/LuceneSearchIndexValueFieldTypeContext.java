@@ -17,4 +17,10 @@
 
 	boolean hasTermVectorsConfigured();
 
+	/**
+	 * @return {@code true} if values of this field can be extracted from doc values instead of stored fields.
+	 * @see org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec#hasExactDocValues()
+	 */
+	boolean hasExactDocValues();
+
 }
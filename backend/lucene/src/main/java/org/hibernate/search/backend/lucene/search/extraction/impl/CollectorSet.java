@@ -7,7 +7,12 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,27 +23,198 @@
 import org.hibernate.search.engine.common.timing.Deadline;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TimeLimitingCollector;
 
+/**
+ * A set of collectors to apply during a search.
+ * <p>
+ * Collectors are created through {@link CollectorManager}s, one per index slice,
+ * so that slices can be collected concurrently when the index searcher has an executor.
+ * The collectors of all slices are reduced at the end of the search,
+ * and the result can then be retrieved with {@link #get(CollectorKey)}.
+ * <p>
+ * A collector set is meant to be used for a single search.
+ */
 public class CollectorSet {
 
-	private final Collector composed;
-	private final Map<CollectorKey<?>, Collector> components;
+	private final List<Component<?, ?>> components;
+	private final TimeoutManager timeoutManager;
+
+	private final Map<CollectorKey<?>, Object> collected = new HashMap<>();
+	private volatile TimeLimitingCollector.TimeExceededException timeExceededException;
 
-	private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> components) {
-		this.composed = composed;
+	private CollectorSet(List<Component<?, ?>> components, TimeoutManager timeoutManager) {
 		this.components = components;
+		this.timeoutManager = timeoutManager;
+	}
+
+	/**
+	 * Collects all documents matching the given query,
+	 * concurrently over multiple index slices if the index searcher has an executor.
+	 *
+	 * @param indexSearcher The index searcher.
+	 * @param query The query.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 * @throws TimeLimitingCollector.TimeExceededException If the timeout was reached;
+	 * data collected before the timeout can still be retrieved with {@link #get(CollectorKey)}.
+	 */
+	public void collect(IndexSearcher indexSearcher, Query query) throws IOException {
+		if ( components.isEmpty() ) {
+			return;
+		}
+		indexSearcher.search( query, new SliceCollectorManager() );
+		rethrowTimeExceededIfNecessary();
 	}
 
-	public Collector getComposed() {
-		return composed;
+	/**
+	 * Collects all documents matching the given query in the current thread,
+	 * regardless of whether the index searcher has an executor.
+	 * <p>
+	 * Useful when collectors share state that cannot be accessed concurrently.
+	 *
+	 * @param indexSearcher The index searcher.
+	 * @param query The query.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 * @throws TimeLimitingCollector.TimeExceededException If the timeout was reached;
+	 * data collected before the timeout can still be retrieved with {@link #get(CollectorKey)}.
+	 */
+	public void collectInCurrentThread(IndexSearcher indexSearcher, Query query) throws IOException {
+		if ( components.isEmpty() ) {
+			return;
+		}
+		SliceCollectorManager manager = new SliceCollectorManager();
+		indexSearcher.search( query, manager.newCollector() );
+		manager.reduce( Collections.emptyList() );
+		rethrowTimeExceededIfNecessary();
 	}
 
 	@SuppressWarnings("unchecked")
-	public <C extends Collector> C get(CollectorKey<C> key) {
-		return (C) components.get( key );
+	public <T> T get(CollectorKey<T> key) {
+		return (T) collected.get( key );
+	}
+
+	private void rethrowTimeExceededIfNecessary() {
+		if ( timeExceededException != null ) {
+			throw timeExceededException;
+		}
+	}
+
+	private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector) {
+		final Deadline deadline = timeoutManager.deadlineOrNull();
+		if ( deadline != null ) {
+			TimeLimitingCollector wrapped = new TimeLimitingCollector( collector,
+					new LuceneCounterAdapter( timeoutManager.timingSource() ),
+					deadline.checkRemainingTimeMillis() );
+			// The timeout starts from the given baseline, not from when the collector is first used.
+			// This is important because some collectors are applied during a second search.
+			wrapped.setBaseline( timeoutManager.timeoutBaseline() );
+			return new TimeoutTrackingCollector( wrapped );
+		}
+		return collector;
+	}
+
+	private CollectionTerminatedException onTimeExceeded(TimeLimitingCollector.TimeExceededException e) {
+		if ( timeExceededException == null ) {
+			timeExceededException = e;
+		}
+		// Stop collecting this slice, but let the search go on for other slices,
+		// so that collectors of all slices can be reduced.
+		return new CollectionTerminatedException();
+	}
+
+	private final class SliceCollectorManager implements CollectorManager<Collector, Void> {
+		@Override
+		public Collector newCollector() throws IOException {
+			Collector composed;
+			if ( components.size() == 1 ) {
+				// avoid to use a multi collector if we have just one collector,
+				// as MultiCollector explicitly ignores the total hit count optimization
+				composed = components.get( 0 ).newCollector();
+			}
+			else {
+				List<Collector> sliceCollectors = new ArrayList<>( components.size() );
+				for ( Component<?, ?> component : components ) {
+					sliceCollectors.add( component.newCollector() );
+				}
+				composed = MultiCollector.wrap( sliceCollectors );
+			}
+			return wrapTimeLimitingCollectorIfNecessary( composed );
+		}
+
+		@Override
+		public Void reduce(Collection<Collector> collectors) throws IOException {
+			// Each component keeps track of its own collectors.
+			for ( Component<?, ?> component : components ) {
+				collected.put( component.key, component.reduce() );
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Turns timeouts into a graceful termination of the collection of the current index slice,
+	 * while remembering the timeout so that it can be reported once all slices have been collected.
+	 * <p>
+	 * Letting the exception propagate would abort the search while other slices are possibly still being collected,
+	 * and would prevent the (partial) results of all slices from being reduced.
+	 */
+	private final class TimeoutTrackingCollector extends FilterCollector {
+		private TimeoutTrackingCollector(Collector in) {
+			super( in );
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			LeafCollector leafCollector;
+			try {
+				leafCollector = super.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				throw onTimeExceeded( e );
+			}
+			return new FilterLeafCollector( leafCollector ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						throw onTimeExceeded( e );
+					}
+				}
+			};
+		}
+	}
+
+	private static final class Component<C extends Collector, T> {
+		private final CollectorKey<T> key;
+		private final CollectorManager<C, ? extends T> manager;
+		private final List<C> sliceCollectors = new ArrayList<>();
+
+		private Component(CollectorKey<T> key, CollectorManager<C, ? extends T> manager) {
+			this.key = key;
+			this.manager = manager;
+		}
+
+		Collector newCollector() throws IOException {
+			C collector = manager.newCollector();
+			sliceCollectors.add( collector );
+			return collector;
+		}
+
+		T reduce() throws IOException {
+			return manager.reduce( sliceCollectors );
+		}
 	}
 
 	public static class Builder {
@@ -46,53 +222,29 @@ public static class Builder {
 		private final CollectorExecutionContext executionContext;
 		private final TimeoutManager timeoutManager;
 
-		private final Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
+		private final Map<CollectorKey<?>, Component<?, ?>> components = new LinkedHashMap<>();
 
 		public Builder(CollectorExecutionContext executionContext, TimeoutManager timeoutManager) {
 			this.executionContext = executionContext;
 			this.timeoutManager = timeoutManager;
 		}
 
-		public <C extends Collector> void add(CollectorKey<C> key, C collector) {
-			components.put( key, collector );
+		public <C extends Collector, T> void add(CollectorKey<T> key, CollectorManager<C, ? extends T> manager) {
+			components.put( key, new Component<>( key, manager ) );
 		}
 
-		public void addAll(Set<CollectorFactory<?>> collectorFactories) throws IOException {
-			for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
-				Collector collector = collectorFactory.createCollector( executionContext );
-				components.put( collectorFactory.getCollectorKey(), collector );
+		public void addAll(Set<CollectorFactory<?, ?>> collectorFactories) throws IOException {
+			for ( CollectorFactory<?, ?> collectorFactory : collectorFactories ) {
+				add( collectorFactory );
 			}
 		}
 
-		public CollectorSet build() {
-			if ( components.isEmpty() ) {
-				return new CollectorSet( null, components );
-			}
+		private <C extends Collector, T> void add(CollectorFactory<C, T> collectorFactory) throws IOException {
+			add( collectorFactory.getCollectorKey(), collectorFactory.createCollectorManager( executionContext ) );
+		}
 
-			Collector composed = wrapTimeLimitingCollectorIfNecessary(
-					// avoid to use a multi collector if we have just one collector,
-					// as MultiCollector explicitly ignores the total hit count optimization
-					( components.size() == 1 )
-							? components.values().iterator().next()
-							: MultiCollector.wrap( components.values() ),
-					timeoutManager
-			);
-
-			return new CollectorSet( composed, components );
-		}
-
-		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
-			final Deadline deadline = timeoutManager.deadlineOrNull();
-			if ( deadline != null ) {
-				TimeLimitingCollector wrapped = new TimeLimitingCollector( collector,
-						new LuceneCounterAdapter( timeoutManager.timingSource() ),
-						deadline.checkRemainingTimeMillis() );
-				// The timeout starts from the given baseline, not from when the collector is first used.
-				// This is important because some collectors are applied during a second search.
-				wrapped.setBaseline( timeoutManager.timeoutBaseline() );
-				return wrapped;
-			}
-			return collector;
+		public CollectorSet build() {
+			return new CollectorSet( new ArrayList<>( components.values() ), timeoutManager );
 		}
 	}
 
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
@@ -22,7 +23,6 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.AssertionFailure;
 
-import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -30,16 +30,14 @@
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopFieldDocs;
-import org.apache.lucene.search.TotalHitCountCollector;
 import org.apache.lucene.search.TotalHits;
 
 public class LuceneCollectors {
 
-	static final CollectorKey<TotalHitCountCollector> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
-	static final CollectorKey<TopDocsCollector<?>> TOP_DOCS_KEY = CollectorKey.create();
+	static final CollectorKey<Integer> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
+	static final CollectorKey<TopDocs> TOP_DOCS_KEY = CollectorKey.create();
 
 	private final IndexReaderMetadataResolver metadataResolver;
 
@@ -91,10 +89,7 @@ public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 		}
 
 		try {
-			Collector composed = collectorsForAllMatchingDocs.getComposed();
-			if ( composed != null ) {
-				indexSearcher.search( rewrittenLuceneQuery, composed );
-			}
+			collectorsForAllMatchingDocs.collect( indexSearcher, rewrittenLuceneQuery );
 		}
 		catch (TimeLimitingCollector.TimeExceededException e) {
 			Deadline deadline = timeoutManager.deadlineOrNull();
@@ -113,22 +108,22 @@ private void processCollectedMatchingDocs(int offset, Integer limit) throws IOEx
 			resultTotal = SimpleSearchResultTotal.exact( indexSearcher.getIndexReader().numDocs() );
 		}
 		else {
-			TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
-			if ( totalHitCountCollector != null ) {
+			Integer totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+			if ( totalHitCount != null ) {
 				boolean exact = !timeoutManager.isTimedOut();
-				resultTotal = SimpleSearchResultTotal.of( totalHitCountCollector.getTotalHits(), exact );
+				resultTotal = SimpleSearchResultTotal.of( totalHitCount, exact );
 			}
 		}
 
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		TopDocs collectedTopDocs = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		if ( collectedTopDocs == null ) {
 			if ( resultTotal == null ) {
 				resultTotal = SimpleSearchResultTotal.lowerBound( 0 );
 			}
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
+		extractTopDocs( collectedTopDocs, offset, limit );
 		if ( resultTotal == null ) {
 			boolean exact = TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation )
 					&& !timeoutManager.isTimedOut();
@@ -168,7 +163,9 @@ public <T> List<T> collectTopDocsData(TopDocsDataCollector.Factory<T> collectorF
 			ScoreDoc[] scoreDocs = topDocs.scoreDocs;
 			ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
 			CollectorSet collectorsForTopDocs = buildTopDocsDataCollectors( collectorFactory );
-			indexSearcher.search( topDocsQuery, collectorsForTopDocs.getComposed() );
+			// Top docs data collectors share state (stored fields visitor, ...) and only visit top docs,
+			// so there is no point in collecting them concurrently.
+			collectorsForTopDocs.collectInCurrentThread( indexSearcher, topDocsQuery );
 			TopDocsDataCollector<T> topDocsDataCollector = collectorsForTopDocs.get( collectorFactory );
 			for ( int i = startInclusive; i < endExclusive; i++ ) {
 				extractedData.add( topDocsDataCollector.get( scoreDocs[i].doc ) );
@@ -192,28 +189,18 @@ public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
-	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
-		if ( offset >= topDocsCollector.getTotalHits() ) {
-			// Hack.
-			// In this case, we cannot execute the code below as Lucene considers we passed incorrect arguments
-			// and returns a TopDocs instance with no ScoreDocs (correct)
-			// and a total hit count set to 0 (not always correct).
-			// Also, we cannot reconstruct the total hit count from just the collector
-			// since we don't have access to the relation (EQUAL/GT_OR_EQUAL).
-			// So we get just one topDoc, and infer everything from there.
-			TopDocs firstTopDoc = topDocsCollector.topDocs( 0, 1 );
-			topDocs = firstTopDoc instanceof TopFieldDocs
-					? new TopFieldDocs( firstTopDoc.totalHits, new FieldDoc[0], ( (TopFieldDocs) firstTopDoc ).fields )
-					: new TopDocs( firstTopDoc.totalHits, new ScoreDoc[0] );
-			return;
-		}
-
-		if ( limit == null ) {
-			topDocs = topDocsCollector.topDocs( offset );
-		}
-		else {
-			topDocs = topDocsCollector.topDocs( offset, limit );
-		}
+	private void extractTopDocs(TopDocs collectedTopDocs, int offset, Integer limit) {
+		// The collected top docs include all docs up to offset + limit, merged from all index slices:
+		// only keep the requested page.
+		ScoreDoc[] collectedScoreDocs = collectedTopDocs.scoreDocs;
+		int start = Math.min( offset, collectedScoreDocs.length );
+		int end = limit == null
+				? collectedScoreDocs.length
+				: (int) Math.min( (long) start + limit, collectedScoreDocs.length );
+		ScoreDoc[] scoreDocs = Arrays.copyOfRange( collectedScoreDocs, start, end );
+		topDocs = collectedTopDocs instanceof TopFieldDocs
+				? new TopFieldDocs( collectedTopDocs.totalHits, scoreDocs, ( (TopFieldDocs) collectedTopDocs ).fields )
+				: new TopDocs( collectedTopDocs.totalHits, scoreDocs );
 	}
 
 	private void handleRescoring() throws IOException {
@@ -242,7 +229,7 @@ private <T> CollectorSet buildTopDocsDataCollectors(TopDocsDataCollector.Factory
 
 		CollectorSet.Builder collectorForTopDocsBuilder =
 				new CollectorSet.Builder( executionContext, timeoutManager );
-		collectorForTopDocsBuilder.add( collectorFactory, collectorFactory.create( executionContext ) );
+		collectorForTopDocsBuilder.add( collectorFactory, TopDocsDataCollector.manager( collectorFactory, executionContext ) );
 		return collectorForTopDocsBuilder.build();
 	}
 }
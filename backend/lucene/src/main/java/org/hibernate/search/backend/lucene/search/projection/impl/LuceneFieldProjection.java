@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.function.Function;
 
@@ -13,6 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.Values;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -33,6 +35,9 @@
 
 /**
  * A projection on the values of an index field.
+ * <p>
+ * Values are extracted from stored fields, or from doc values when possible,
+ * which avoids loading stored fields (and decompressing blocks of stored fields) for each hit.
  *
  * @param <F> The type of individual field values obtained from the backend (before conversion).
  * @param <V> The type of individual field values after conversion.
@@ -45,17 +50,27 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, F> decodeFunction;
+	private final LuceneFieldCodec<F> docValuesCodecOrNull;
 	private final ProjectionConverter<F, ? extends V> converter;
 	private final ProjectionAccumulator.Provider<V, P> accumulatorProvider;
 
 	private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
-		this( builder.scope, builder.field, builder.codec::decode, builder.converter, accumulatorProvider );
+		this( builder.scope, builder.field, builder.codec::decode, builder.converter, accumulatorProvider,
+				canUseDocValues( builder.field ) ? builder.codec : null );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
 			LuceneSearchIndexValueFieldContext<?> field,
 			Function<IndexableField, F> decodeFunction, ProjectionConverter<F, ? extends V> converter,
 			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+		this( scope, field, decodeFunction, converter, accumulatorProvider, null );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, F> decodeFunction, ProjectionConverter<F, ? extends V> converter,
+			ProjectionAccumulator.Provider<V, P> accumulatorProvider,
+			LuceneFieldCodec<F> docValuesCodecOrNull) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
@@ -63,6 +78,7 @@ private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator.Provi
 				? field.closestMultiValuedParentAbsolutePath()
 				: null;
 		this.decodeFunction = decodeFunction;
+		this.docValuesCodecOrNull = docValuesCodecOrNull;
 		this.converter = converter;
 		this.accumulatorProvider = accumulatorProvider;
 	}
@@ -83,10 +99,29 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw log.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValuesCodecOrNull == null ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
 		return new ValueFieldExtractor<>( context.absoluteCurrentNestedFieldPath(), accumulatorProvider.get() );
 	}
 
+	private static boolean canUseDocValues(LuceneSearchIndexValueFieldContext<?> field) {
+		if ( !field.type().hasExactDocValues() || field.multiValued() ) {
+			// Doc values are sorted: for multi-valued fields, we need stored fields to preserve the order of values.
+			return false;
+		}
+		String multiValuedParentPath = field.closestMultiValuedParentAbsolutePath();
+		if ( multiValuedParentPath == null ) {
+			return true;
+		}
+		// Values within a multi-valued nested object end up in separate nested documents,
+		// but values within a multi-valued flattened object end up in the same document.
+		String nestedDocumentPath = field.nestedDocumentPath();
+		return nestedDocumentPath != null
+				&& ( nestedDocumentPath.equals( multiValuedParentPath )
+						|| nestedDocumentPath.startsWith( multiValuedParentPath + "." ) );
+	}
+
 	/**
 	 * @param <A> The type of the temporary storage for accumulated values, before and after being transformed.
 	 */
@@ -110,9 +145,37 @@ public String toString() {
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
+			if ( docValuesCodecOrNull != null ) {
+				return new DocValuesFieldValues( accumulator, context.collectorExecutionContext() );
+			}
 			return new StoredFieldValues( accumulator, context.collectorExecutionContext() );
 		}
 
+		private class DocValuesFieldValues extends AbstractNestingAwareAccumulatingValues<F, A> {
+			private DecodedDocValues<F> currentLeafValues;
+
+			public DocValuesFieldValues(ProjectionAccumulator<F, V, A, P> accumulator,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = docValuesCodecOrNull.docValues( context.reader(), absoluteFieldPath );
+				return null;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					while ( currentLeafValues.hasNextValue() ) {
+						accumulated = accumulator.accumulate( accumulated, currentLeafValues.nextValue() );
+					}
+				}
+				return accumulated;
+			}
+		}
+
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<F, A> {
 			private final StoredFieldsValuesDelegate delegate;
 
@@ -91,6 +91,18 @@ public int hitSize() {
 		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
 	}
 
+	/**
+	 * @return The last collected top doc, to be used as the starting point of the next page when scrolling,
+	 * or {@code null} if no top doc was collected.
+	 */
+	ScoreDoc lastScoreDoc() {
+		TopDocs topDocs = luceneCollectors.getTopDocs();
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		return topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+	}
+
 	SearchResultTotal total() {
 		return luceneCollectors.getResultTotal();
 	}
@@ -112,7 +124,8 @@ private List<Object> extractHits(ProjectionHitMapper<?> projectionHitMapper, int
 		AggregationExtractContext aggregationExtractContext = new AggregationExtractContext(
 				indexSearcher.getIndexReader(),
 				fromDocumentValueConvertContext,
-				luceneCollectors.getCollectorsForAllMatchingDocs()
+				luceneCollectors.getCollectorsForAllMatchingDocs(),
+				requestContext.getGlobalOrdinalsCache()
 		);
 
 		Map<AggregationKey<?>, Object> extractedMap = new LinkedHashMap<>();
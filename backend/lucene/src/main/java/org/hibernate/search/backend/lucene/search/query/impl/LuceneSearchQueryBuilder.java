@@ -19,6 +19,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
@@ -59,6 +60,7 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
 
 	private final LuceneSearchQueryIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
@@ -69,6 +71,7 @@
 
 	private Query luceneQuery;
 	private List<SortField> sortFields;
+	private List<SortField> indexSortFields;
 	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private Long timeout;
 	private TimeUnit timeUnit;
@@ -80,12 +83,14 @@
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneSyncWorkOrchestrator queryOrchestrator,
+			GlobalOrdinalsCache globalOrdinalsCache,
 			LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
 			LuceneSearchProjection<H> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.globalOrdinalsCache = globalOrdinalsCache;
 
 		this.scope = scope;
 		this.sessionContext = sessionContext;
@@ -177,10 +182,7 @@ public void highlighter(String highlighterName, SearchHighlighter highlighter) {
 
 	@Override
 	public void collectSortField(SortField sortField) {
-		if ( sortFields == null ) {
-			sortFields = new ArrayList<>( 5 );
-		}
-		sortFields.add( sortField );
+		collectSortField( sortField, (SortField) null );
 	}
 
 	@Override
@@ -188,6 +190,22 @@ public void collectSortField(SortField sortField, LuceneFieldComparatorSource ne
 		collectSortField( sortField );
 	}
 
+	@Override
+	public void collectSortField(SortField sortField, SortField indexSortField) {
+		if ( sortFields == null ) {
+			sortFields = new ArrayList<>( 5 );
+			indexSortFields = new ArrayList<>( 5 );
+		}
+		sortFields.add( sortField );
+		if ( indexSortFields != null && indexSortField != null ) {
+			indexSortFields.add( indexSortField );
+		}
+		else {
+			// At least one sort field cannot match the index sort.
+			indexSortFields = null;
+		}
+	}
+
 	@Override
 	public void collectSortFields(SortField[] sortFields) {
 		if ( sortFields == null || sortFields.length == 0 ) {
@@ -198,6 +216,7 @@ public void collectSortFields(SortField[] sortFields) {
 			this.sortFields = new ArrayList<>( sortFields.length );
 		}
 		Collections.addAll( this.sortFields, sortFields );
+		indexSortFields = null;
 	}
 
 	@Override
@@ -223,12 +242,18 @@ public LuceneSearchQuery<H> build() {
 		Query definitiveLuceneQuery = luceneQueryBuilder.build();
 
 		Sort luceneSort = null;
-		if ( sortFields != null && !sortFields.isEmpty() ) {
+		if ( indexSortFields != null
+				&& !indexSortFields.isEmpty()
+				&& scope.isIndexSortPrefix( indexSortFields ) ) {
+			// Lucene will be able to stop collecting top docs early in each segment.
+			luceneSort = new Sort( indexSortFields.toArray( new SortField[0] ) );
+		}
+		else if ( sortFields != null && !sortFields.isEmpty() ) {
 			luceneSort = new Sort( sortFields.toArray( new SortField[0] ) );
 		}
 
 		LuceneSearchQueryRequestContext requestContext = new LuceneSearchQueryRequestContext(
-				sessionContext, loadingContext, definitiveLuceneQuery, luceneSort
+				sessionContext, loadingContext, definitiveLuceneQuery, luceneSort, globalOrdinalsCache
 		);
 
 		LuceneAbstractSearchHighlighter resolvedGlobalHighlighter =
@@ -283,7 +308,7 @@ public LuceneSearchQuery<H> build() {
 				scope,
 				sessionContext,
 				loadingContext,
-				routingKeys,
+				scope.toShardRoutingKeys( sessionContext.tenantIdentifier(), routingKeys ),
 				timeoutManager,
 				definitiveLuceneQuery,
 				luceneSort,
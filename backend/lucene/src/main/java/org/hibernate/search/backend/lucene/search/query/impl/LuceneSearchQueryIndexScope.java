@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
@@ -27,6 +29,7 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public interface LuceneSearchQueryIndexScope<S extends LuceneSearchQueryIndexScope<?>>
 		extends SearchQueryIndexScope<S>, LuceneSearchIndexScope<S>,
@@ -51,6 +54,8 @@ <P> LuceneSearchQueryBuilder<P> select(BackendSessionContext sessionContext,
 
 	Query filterOrNull(String tenantId);
 
+	Set<String> toShardRoutingKeys(String tenantId, Set<String> routingKeys);
+
 	TimeoutManager createTimeoutManager(Long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout);
 
 	Collection<? extends LuceneSearchIndexContext> indexes();
@@ -59,4 +64,10 @@ <P> LuceneSearchQueryBuilder<P> select(BackendSessionContext sessionContext,
 
 	boolean hasNestedDocuments();
 
+	/**
+	 * @param sortFields Standard Lucene sort fields.
+	 * @return {@code true} if the given sort fields are a prefix of the index sort of every targeted index.
+	 */
+	boolean isIndexSortPrefix(List<SortField> sortFields);
+
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 
@@ -22,16 +23,19 @@ class LuceneSearchQueryRequestContext {
 	private final SearchLoadingContext<?> loadingContext;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
 
 	LuceneSearchQueryRequestContext(
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?> loadingContext,
 			Query luceneQuery,
-			Sort luceneSort) {
+			Sort luceneSort,
+			GlobalOrdinalsCache globalOrdinalsCache) {
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.globalOrdinalsCache = globalOrdinalsCache;
 	}
 
 	BackendSessionContext getSessionContext() {
@@ -50,4 +54,8 @@ Sort getLuceneSort() {
 		return luceneSort;
 	}
 
+	GlobalOrdinalsCache getGlobalOrdinalsCache() {
+		return globalOrdinalsCache;
+	}
+
 }
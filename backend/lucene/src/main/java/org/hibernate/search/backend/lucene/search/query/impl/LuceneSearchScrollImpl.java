@@ -24,6 +24,17 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * A scroll over the results of a Lucene search query.
+ * <p>
+ * Top docs are collected in pages of a few chunks,
+ * each page starting right after the last top doc of the previous page ("search after"),
+ * against an index reader that is kept open for the whole duration of the scroll.
+ * Thus, collecting a page has the same cost regardless of how far the scroll has progressed,
+ * and memory usage depends on the chunk size only.
+ */
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -40,11 +51,10 @@
 	// specific to this scroll instance:
 	private final HibernateSearchMultiReader indexReader;
 	private final int chunkSize;
+	private final int pageSize;
 
-	private int nextChunkOffset = 0;
-	private int currentPageLimit;
 	private LuceneExtractableSearchResult<H> currentPage;
-	private int currentPageOffset = 0;
+	private int nextChunkStartIndexInPage = 0;
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
@@ -62,7 +72,8 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
-		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
+		// Fetch the top docs for 4 chunks at a time
+		this.pageSize = (int) Math.min( (long) chunkSize * 4, Integer.MAX_VALUE );
 	}
 
 	@Override
@@ -87,18 +98,20 @@ public LuceneSearchScrollResult<H> next() {
 	}
 
 	private LuceneSearchScrollResult<H> doNext() {
-		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
-			if ( currentPage != null ) {
-				currentPageLimit *= 2;
+		if ( currentPage == null || nextChunkStartIndexInPage + chunkSize > pageSize ) {
+			// Only top docs sorted after the last top doc of the current page will be collected.
+			ScoreDoc after = currentPage == null ? null : currentPage.lastScoreDoc();
+			if ( currentPage != null && after == null ) {
+				// The current page was empty: there are no more results.
+				return new LuceneSearchScrollResultImpl<>( currentPage.total(), false, Collections.emptyList(),
+						timeoutManager.tookTime(), timeoutManager.isTimedOut() );
 			}
-			currentPageOffset = nextChunkOffset;
 			currentPage = doSubmitWithIndexReader(
-					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
+					workFactory.scroll( searcher, after, pageSize, totalHitCountThreshold ),
 					indexReader );
+			nextChunkStartIndexInPage = 0;
 		}
 
-		int nextChunkStartIndexInPage = nextChunkOffset - currentPageOffset;
-
 		// no more results check
 		if ( nextChunkStartIndexInPage >= currentPage.hitSize() ) {
 			return new LuceneSearchScrollResultImpl<>( currentPage.total(), false, Collections.emptyList(),
@@ -126,7 +139,7 @@ private LuceneSearchScrollResult<H> doNext() {
 		LuceneSearchResult<H> result = loadableSearchResult.loadBlocking();
 
 		// increasing the index for further next(s)
-		nextChunkOffset += chunkSize;
+		nextChunkStartIndexInPage += chunkSize;
 		return new LuceneSearchScrollResultImpl<>( currentPage.total(), true, result.hits(),
 				result.took(), result.timedOut() );
 	}
@@ -23,6 +23,14 @@ public interface LuceneSearchSortCollector {
 
 	void collectSortField(SortField sortField, LuceneFieldComparatorSource nestedFieldSort);
 
+	/**
+	 * @param sortField The sort field to use in general.
+	 * @param indexSortField A standard sort field that sorts documents exactly like {@code sortField},
+	 * to use instead of {@code sortField} if all collected sort fields
+	 * have such an equivalent that matches a prefix of the index sort.
+	 */
+	void collectSortField(SortField sortField, SortField indexSortField);
+
 	void collectSortFields(SortField[] sortFields);
 
 }
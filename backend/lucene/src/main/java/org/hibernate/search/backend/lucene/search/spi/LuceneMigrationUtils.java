@@ -44,6 +44,11 @@ public void collectSortField(SortField sortField, LuceneFieldComparatorSource ne
 				result.add( sortField );
 			}
 
+			@Override
+			public void collectSortField(SortField sortField, SortField indexSortField) {
+				result.add( sortField );
+			}
+
 			@Override
 			public void collectSortFields(SortField[] sortFields) {
 				Collections.addAll( result, sortFields );
@@ -93,7 +93,7 @@ public final Map<K, Long> extract(AggregationExtractContext context) throws IOEx
 		return toMap( convertContext, buckets );
 	}
 
-	abstract FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
+	abstract FacetResult getTopChildren(AggregationExtractContext context, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider, int limit)
 			throws IOException;
 
@@ -122,7 +122,7 @@ private List<Bucket<T>> getTopBuckets(AggregationExtractContext context) throws
 		 *  To improve on this, we would need to re-implement the facet collections.
 		 */
 		int limit = maxTermCount;
-		FacetResult facetResult = getTopChildren( context.getIndexReader(), facetsCollector, nestedDocsProvider, limit );
+		FacetResult facetResult = getTopChildren( context, facetsCollector, nestedDocsProvider, limit );
 
 		List<Bucket<T>> buckets = new ArrayList<>();
 
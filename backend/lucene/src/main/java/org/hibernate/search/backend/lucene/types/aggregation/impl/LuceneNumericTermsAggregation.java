@@ -12,6 +12,7 @@
 import java.util.TreeSet;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -51,7 +52,7 @@ private LuceneNumericTermsAggregation(Builder<F, E, K> builder) {
 	}
 
 	@Override
-	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
+	FacetResult getTopChildren(AggregationExtractContext context, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider, int limit)
 			throws IOException {
 		Facets facetCounts = numericDomain.createTermsFacetCounts(
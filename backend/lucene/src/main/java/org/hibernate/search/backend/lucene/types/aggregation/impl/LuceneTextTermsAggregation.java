@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.TextMultiValueFacetCounts;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -42,14 +43,15 @@ private LuceneTextTermsAggregation(Builder<K> builder) {
 	}
 
 	@Override
-	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
+	FacetResult getTopChildren(AggregationExtractContext context, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider, int limit)
 			throws IOException {
 		JoiningTextMultiValuesSource valueSource = JoiningTextMultiValuesSource.fromField(
 				absoluteFieldPath, nestedDocsProvider
 		);
 		TextMultiValueFacetCounts facetCounts = new TextMultiValueFacetCounts(
-				reader, absoluteFieldPath, valueSource, facetsCollector
+				context.getIndexReader(), absoluteFieldPath, valueSource, facetsCollector,
+				context.getGlobalOrdinalsCache()
 		);
 
 		return facetCounts.getTopChildren( limit, absoluteFieldPath );
@@ -6,8 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
+import org.apache.lucene.index.LeafReader;
+
 public abstract class AbstractLuceneNumericFieldCodec<F, E extends Number>
 		implements LuceneStandardFieldCodec<F, E> {
 
@@ -63,6 +68,26 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	@Override
+	public final boolean hasExactDocValues() {
+		return DocValues.ENABLED == docValues && isDecodingLossless();
+	}
+
+	@Override
+	public final DecodedDocValues<F> docValues(LeafReader reader, String absoluteFieldPath) throws IOException {
+		LuceneNumericDomain<E> domain = getDomain();
+		return DecodedDocValues.fromSortedNumeric( reader, absoluteFieldPath,
+				value -> decode( domain.sortedDocValueToTerm( value ) ) );
+	}
+
+	/**
+	 * @return {@code true} if {@link #decode(Number)} returns the exact value that was passed to {@link #encode(Object)},
+	 * e.g. without truncating or normalizing it.
+	 */
+	boolean isDecodingLossless() {
+		return false;
+	}
+
 	public abstract F decode(E encoded);
 
 	public abstract LuceneNumericDomain<E> getDomain();
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+
+public abstract class AbstractLuceneVectorFieldCodec<F> implements LuceneFieldCodec<F> {
+
+	private final Class<F> vectorType;
+	private final int dimension;
+	private final VectorSimilarityFunction similarityFunction;
+	private final Indexing indexing;
+	private final Storage storage;
+
+	protected AbstractLuceneVectorFieldCodec(Class<F> vectorType, int dimension,
+			VectorSimilarityFunction similarityFunction, Indexing indexing, Storage storage) {
+		this.vectorType = vectorType;
+		this.dimension = dimension;
+		this.similarityFunction = similarityFunction;
+		this.indexing = indexing;
+		this.storage = storage;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "dimension=" + dimension
+				+ ", similarityFunction=" + similarityFunction
+				+ "]";
+	}
+
+	@Override
+	public void addToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, F value) {
+		if ( value == null ) {
+			return;
+		}
+
+		if ( Indexing.ENABLED == indexing ) {
+			documentBuilder.addField( toIndexedField( absoluteFieldPath, value ) );
+		}
+		else {
+			// For the "exists" predicate
+			documentBuilder.addFieldName( absoluteFieldPath );
+		}
+
+		if ( Storage.ENABLED == storage ) {
+			documentBuilder.addField( new StoredField( absoluteFieldPath, toStoredBytes( value ) ) );
+		}
+	}
+
+	@Override
+	public F decode(IndexableField field) {
+		return fromStoredBytes( field.binaryValue() );
+	}
+
+	@Override
+	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( getClass() != obj.getClass() ) {
+			return false;
+		}
+		AbstractLuceneVectorFieldCodec<?> other = (AbstractLuceneVectorFieldCodec<?>) obj;
+		return dimension == other.dimension
+				&& similarityFunction == other.similarityFunction;
+	}
+
+	public Class<F> vectorType() {
+		return vectorType;
+	}
+
+	public int dimension() {
+		return dimension;
+	}
+
+	public VectorSimilarityFunction similarityFunction() {
+		return similarityFunction;
+	}
+
+	/**
+	 * @param vector A vector, which must have the same type and dimension as vectors indexed by this codec.
+	 * @return The number of components of the given vector.
+	 */
+	public abstract int dimension(F vector);
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param vector The vector to find the nearest neighbours of.
+	 * @param k The number of nearest neighbours to find.
+	 * @param filterOrNull A query that nearest neighbours must match, or {@code null}.
+	 * @return An approximate k-nearest-neighbours query.
+	 */
+	public abstract Query createKnnQuery(String absoluteFieldPath, F vector, int k, Query filterOrNull);
+
+	protected abstract IndexableField toIndexedField(String absoluteFieldPath, F value);
+
+	protected abstract BytesRef toStoredBytes(F value);
+
+	protected abstract F fromStoredBytes(BytesRef bytesRef);
+
+}
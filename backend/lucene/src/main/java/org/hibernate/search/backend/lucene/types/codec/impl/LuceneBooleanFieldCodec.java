@@ -36,6 +36,11 @@ public Integer encode(Boolean value) {
 		return value ? 1 : 0;
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public Boolean decode(Integer encoded) {
 		return encoded > 0;
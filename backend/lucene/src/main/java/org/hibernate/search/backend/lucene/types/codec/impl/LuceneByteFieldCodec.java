@@ -36,6 +36,11 @@ public Integer encode(Byte value) {
 		return (int) value;
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public Byte decode(Integer encoded) {
 		return encoded.byteValue();
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.util.Arrays;
+
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.KnnByteVectorField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.KnnByteVectorQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+
+public final class LuceneByteVectorFieldCodec extends AbstractLuceneVectorFieldCodec<byte[]> {
+
+	private final FieldType fieldType;
+
+	public LuceneByteVectorFieldCodec(int dimension, VectorSimilarityFunction similarityFunction,
+			Indexing indexing, Storage storage) {
+		super( byte[].class, dimension, similarityFunction, indexing, storage );
+		// Reused for every indexed value, as creating a field type is not free.
+		this.fieldType = KnnByteVectorField.createFieldType( dimension, similarityFunction );
+	}
+
+	@Override
+	public int dimension(byte[] vector) {
+		return vector.length;
+	}
+
+	@Override
+	public Query createKnnQuery(String absoluteFieldPath, byte[] vector, int k, Query filterOrNull) {
+		return new KnnByteVectorQuery( absoluteFieldPath, vector, k, filterOrNull );
+	}
+
+	@Override
+	protected IndexableField toIndexedField(String absoluteFieldPath, byte[] value) {
+		return new KnnByteVectorField( absoluteFieldPath, value, fieldType );
+	}
+
+	@Override
+	protected BytesRef toStoredBytes(byte[] value) {
+		return new BytesRef( value );
+	}
+
+	@Override
+	protected byte[] fromStoredBytes(BytesRef bytesRef) {
+		return Arrays.copyOfRange( bytesRef.bytes, bytesRef.offset, bytesRef.offset + bytesRef.length );
+	}
+}
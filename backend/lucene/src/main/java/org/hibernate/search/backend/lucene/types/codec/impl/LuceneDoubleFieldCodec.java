@@ -35,6 +35,11 @@ public Double encode(Double value) {
 		return value;
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public Double decode(Double encoded) {
 		return encoded;
@@ -6,7 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
+import org.hibernate.search.util.common.AssertionFailure;
+
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 
 /**
  * Defines how a given value will be encoded in the Lucene document and how it will be decoded.
@@ -37,6 +43,32 @@
 	 */
 	F decode(IndexableField field);
 
+	/**
+	 * Determine whether this codec adds doc values holding the exact values being indexed,
+	 * i.e. whether {@link #docValues(LeafReader, String)} returns the same values as {@link #decode(IndexableField)},
+	 * albeit possibly in a different order.
+	 *
+	 * @return {@code true} if values can be extracted from doc values. {@code false} otherwise, or when in doubt.
+	 */
+	default boolean hasExactDocValues() {
+		return false;
+	}
+
+	/**
+	 * Extract values from the doc values of the given leaf.
+	 * <p>
+	 * Typically used in projections, as a cheaper alternative to stored fields.
+	 * Must only be called if {@link #hasExactDocValues()} returns {@code true}.
+	 *
+	 * @param reader The leaf reader.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return The decoded doc values.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	default DecodedDocValues<F> docValues(LeafReader reader, String absoluteFieldPath) throws IOException {
+		throw new AssertionFailure( "Cannot extract values from doc values with codec " + this );
+	}
+
 	/**
 	 * Determine whether the given codec provides an encoding that is compatible with this codec,
 	 * i.e. whether its {@link #decode(IndexableField)}
@@ -35,6 +35,11 @@ public Float encode(Float value) {
 		return value;
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public Float decode(Float encoded) {
 		return encoded;
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.KnnFloatVectorQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+
+public final class LuceneFloatVectorFieldCodec extends AbstractLuceneVectorFieldCodec<float[]> {
+
+	private final FieldType fieldType;
+
+	public LuceneFloatVectorFieldCodec(int dimension, VectorSimilarityFunction similarityFunction,
+			Indexing indexing, Storage storage) {
+		super( float[].class, dimension, similarityFunction, indexing, storage );
+		// Reused for every indexed value, as creating a field type is not free.
+		this.fieldType = KnnFloatVectorField.createFieldType( dimension, similarityFunction );
+	}
+
+	@Override
+	public int dimension(float[] vector) {
+		return vector.length;
+	}
+
+	@Override
+	public Query createKnnQuery(String absoluteFieldPath, float[] vector, int k, Query filterOrNull) {
+		return new KnnFloatVectorQuery( absoluteFieldPath, vector, k, filterOrNull );
+	}
+
+	@Override
+	protected IndexableField toIndexedField(String absoluteFieldPath, float[] value) {
+		return new KnnFloatVectorField( absoluteFieldPath, value, fieldType );
+	}
+
+	@Override
+	protected BytesRef toStoredBytes(float[] value) {
+		ByteBuffer buffer = ByteBuffer.allocate( value.length * Float.BYTES ).order( ByteOrder.LITTLE_ENDIAN );
+		buffer.asFloatBuffer().put( value );
+		return new BytesRef( buffer.array() );
+	}
+
+	@Override
+	protected float[] fromStoredBytes(BytesRef bytesRef) {
+		float[] result = new float[bytesRef.length / Float.BYTES];
+		ByteBuffer.wrap( bytesRef.bytes, bytesRef.offset, bytesRef.length ).order( ByteOrder.LITTLE_ENDIAN )
+				.asFloatBuffer().get( result );
+		return result;
+	}
+}
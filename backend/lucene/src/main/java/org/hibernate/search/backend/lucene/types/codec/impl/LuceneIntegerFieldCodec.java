@@ -35,6 +35,11 @@ public Integer encode(Integer value) {
 		return value;
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public Integer decode(Integer encoded) {
 		return encoded;
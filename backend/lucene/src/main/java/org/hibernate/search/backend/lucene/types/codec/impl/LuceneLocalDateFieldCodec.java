@@ -56,6 +56,11 @@ public Long encode(LocalDate value) {
 		return value == null ? null : value.toEpochDay();
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LocalDate decode(Long encoded) {
 		return LocalDate.ofEpochDay( encoded );
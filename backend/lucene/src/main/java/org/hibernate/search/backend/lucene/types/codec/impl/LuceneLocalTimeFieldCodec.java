@@ -64,6 +64,11 @@ public Long encode(LocalTime value) {
 		return value == null ? null : value.toNanoOfDay();
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LocalTime decode(Long encoded) {
 		return LocalTime.ofNanoOfDay( encoded );
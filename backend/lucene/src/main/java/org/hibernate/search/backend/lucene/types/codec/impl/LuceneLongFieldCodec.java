@@ -35,6 +35,11 @@ public Long encode(Long value) {
 		return value;
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public Long decode(Long encoded) {
 		return encoded;
@@ -62,6 +62,11 @@ public Integer encode(MonthDay value) {
 		return 100 * value.getMonthValue() + value.getDayOfMonth();
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public MonthDay decode(Integer encoded) {
 		return MonthDay.of( encoded / 100, encoded % 100 );
@@ -36,6 +36,11 @@ public Integer encode(Short value) {
 		return (int) value;
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public Short decode(Integer encoded) {
 		return encoded.shortValue();
@@ -6,13 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.BytesRef;
 
 public final class LuceneStringFieldCodec implements LuceneStandardFieldCodec<String, String> {
@@ -60,6 +64,17 @@ public String decode(IndexableField field) {
 		return field.stringValue();
 	}
 
+	@Override
+	public boolean hasExactDocValues() {
+		// Doc values hold the normalized value, which may differ from the original value.
+		return DocValues.ENABLED.equals( docValues ) && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
+
+	@Override
+	public DecodedDocValues<String> docValues(LeafReader reader, String absoluteFieldPath) throws IOException {
+		return DecodedDocValues.fromSortedSet( reader, absoluteFieldPath, BytesRef::utf8ToString );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -38,6 +38,11 @@ public Integer encode(Year value) {
 		return value.getValue();
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public Year decode(Integer encoded) {
 		return Year.of( encoded );
@@ -64,6 +64,11 @@ public Long encode(YearMonth value) {
 		return value == null ? null : value.getLong( ChronoField.PROLEPTIC_MONTH );
 	}
 
+	@Override
+	boolean isDecodingLossless() {
+		return true;
+	}
+
 	@Override
 	public YearMonth decode(Long encoded) {
 		return SOME_YEAR_MONTH.with( ChronoField.PROLEPTIC_MONTH, encoded );
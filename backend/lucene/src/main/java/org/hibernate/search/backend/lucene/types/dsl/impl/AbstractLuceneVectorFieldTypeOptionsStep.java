@@ -0,0 +1,125 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.dsl.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjection;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneVectorFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.Indexing;
+import org.hibernate.search.backend.lucene.types.codec.impl.Storage;
+import org.hibernate.search.backend.lucene.types.impl.LuceneIndexValueFieldType;
+import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneExistsPredicate;
+import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneKnnPredicate;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
+import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.index.VectorSimilarityFunction;
+
+/**
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <F> The type of field values.
+ */
+abstract class AbstractLuceneVectorFieldTypeOptionsStep<S extends AbstractLuceneVectorFieldTypeOptionsStep<?, F>, F>
+		extends AbstractLuceneIndexFieldTypeOptionsStep<S, F>
+		implements VectorFieldTypeOptionsStep<S, F> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private int dimension = 0;
+	private VectorSimilarity vectorSimilarity = VectorSimilarity.DEFAULT;
+	private Projectable projectable = Projectable.DEFAULT;
+	private Searchable searchable = Searchable.DEFAULT;
+
+	AbstractLuceneVectorFieldTypeOptionsStep(LuceneIndexFieldTypeBuildContext buildContext, Class<F> valueType) {
+		super( buildContext, valueType );
+	}
+
+	@Override
+	public S dimension(int dimension) {
+		this.dimension = dimension;
+		return thisAsS();
+	}
+
+	@Override
+	public S vectorSimilarity(VectorSimilarity vectorSimilarity) {
+		this.vectorSimilarity = vectorSimilarity;
+		return thisAsS();
+	}
+
+	@Override
+	public S projectable(Projectable projectable) {
+		this.projectable = projectable;
+		return thisAsS();
+	}
+
+	@Override
+	public S searchable(Searchable searchable) {
+		this.searchable = searchable;
+		return thisAsS();
+	}
+
+	@Override
+	public LuceneIndexValueFieldType<F> toIndexFieldType() {
+		if ( dimension <= 0 || dimension > KnnVectorsFormat.DEFAULT_MAX_DIMENSIONS ) {
+			throw log.invalidVectorDimension( dimension, KnnVectorsFormat.DEFAULT_MAX_DIMENSIONS,
+					buildContext.getEventContext() );
+		}
+
+		boolean resolvedProjectable = AbstractLuceneStandardIndexFieldTypeOptionsStep.resolveDefault( projectable );
+		boolean resolvedSearchable = AbstractLuceneStandardIndexFieldTypeOptionsStep.resolveDefault( searchable );
+
+		Indexing indexing = resolvedSearchable ? Indexing.ENABLED : Indexing.DISABLED;
+		Storage storage = resolvedProjectable ? Storage.ENABLED : Storage.DISABLED;
+
+		AbstractLuceneVectorFieldCodec<F> codec = createCodec( dimension, resolveDefault( vectorSimilarity ),
+				indexing, storage );
+		builder.codec( codec );
+
+		if ( resolvedSearchable ) {
+			builder.searchable( true );
+			// Vector fields are supported by FieldExistsQuery.
+			builder.queryElementFactory( PredicateTypeKeys.EXISTS,
+					new LuceneExistsPredicate.DocValuesOrNormsBasedFactory<>() );
+			builder.queryElementFactory( PredicateTypeKeys.KNN, new LuceneKnnPredicate.Factory<>( codec ) );
+		}
+
+		if ( resolvedProjectable ) {
+			builder.projectable( true );
+			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new LuceneFieldProjection.Factory<>( codec ) );
+		}
+
+		return builder.build();
+	}
+
+	protected abstract AbstractLuceneVectorFieldCodec<F> createCodec(int dimension,
+			VectorSimilarityFunction similarityFunction, Indexing indexing, Storage storage);
+
+	private static VectorSimilarityFunction resolveDefault(VectorSimilarity vectorSimilarity) {
+		switch ( vectorSimilarity ) {
+			case DEFAULT:
+			case L2:
+				return VectorSimilarityFunction.EUCLIDEAN;
+			case DOT_PRODUCT:
+				return VectorSimilarityFunction.DOT_PRODUCT;
+			case COSINE:
+				return VectorSimilarityFunction.COSINE;
+			case MAX_INNER_PRODUCT:
+				return VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT;
+			default:
+				throw new AssertionFailure( "Unexpected value for VectorSimilarity: " + vectorSimilarity );
+		}
+	}
+}
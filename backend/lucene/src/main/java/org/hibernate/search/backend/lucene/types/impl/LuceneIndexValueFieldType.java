@@ -53,6 +53,11 @@ public boolean hasTermVectorsConfigured() {
 		return hasTermVectorsConfigured;
 	}
 
+	@Override
+	public boolean hasExactDocValues() {
+		return codec.hasExactDocValues();
+	}
+
 	public static class Builder<F>
 			extends AbstractIndexValueFieldType.Builder<
 					LuceneSearchIndexScope<?>,
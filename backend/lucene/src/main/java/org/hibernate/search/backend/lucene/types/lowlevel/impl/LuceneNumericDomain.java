@@ -19,6 +19,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public interface LuceneNumericDomain<E extends Number> {
 
@@ -40,6 +41,8 @@
 
 	E sortedDocValueToTerm(long longValue);
 
+	SortField.Type getSortFieldType();
+
 	Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider)
 			throws IOException;
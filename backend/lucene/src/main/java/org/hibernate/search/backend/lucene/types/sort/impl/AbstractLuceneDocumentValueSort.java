@@ -33,16 +33,23 @@ public abstract class AbstractLuceneDocumentValueSort extends AbstractLuceneReve
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	protected final SortField sortField;
+	private final SortField indexSortFieldOrNull;
 
 	protected AbstractLuceneDocumentValueSort(AbstractBuilder builder) {
 		super( builder );
 		LuceneFieldComparatorSource fieldComparatorSource = builder.toFieldComparatorSource();
 		sortField = new SortField( builder.absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
+		indexSortFieldOrNull = builder.toIndexSortFieldOrNull();
 	}
 
 	@Override
 	public void toSortFields(LuceneSearchSortCollector collector) {
-		collector.collectSortField( sortField );
+		if ( indexSortFieldOrNull != null ) {
+			collector.collectSortField( sortField, indexSortFieldOrNull );
+		}
+		else {
+			collector.collectSortField( sortField );
+		}
 	}
 
 	public abstract static class AbstractBuilder extends AbstractLuceneReversibleSort.AbstractBuilder {
@@ -82,6 +89,21 @@ public void filter(SearchPredicate filter) {
 
 		protected abstract LuceneFieldComparatorSource toFieldComparatorSource();
 
+		/**
+		 * @return A standard Lucene sort field that sorts documents exactly like
+		 * the sort field built from {@link #toFieldComparatorSource()},
+		 * and that can thus match a prefix of the index sort,
+		 * or {@code null} if there is no such sort field.
+		 * @see LuceneIndexSortFields
+		 */
+		protected SortField toIndexSortFieldOrNull() {
+			return null;
+		}
+
+		protected final boolean isIndexSortCompatible() {
+			return nestedDocumentPath == null && nestedFilter == null;
+		}
+
 		protected final MultiValueMode getMultiValueMode() {
 			MultiValueMode multiValueMode;
 			if ( mode == null ) {
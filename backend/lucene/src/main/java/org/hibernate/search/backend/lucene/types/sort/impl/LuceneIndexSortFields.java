@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.sort.impl;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexValueField;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
+
+/**
+ * Creates standard Lucene sort fields, that can be used both as part of an index sort
+ * and as an equivalent of some of our own sort fields in search queries.
+ * <p>
+ * Lucene only terminates the collection of hits early in a segment
+ * if the query sort fields are {@link SortField#equals(Object) equal} to a prefix of the index sort fields,
+ * so index sorts and query sorts must be created through the same methods.
+ */
+public final class LuceneIndexSortFields {
+
+	private LuceneIndexSortFields() {
+	}
+
+	/**
+	 * @param field A value field.
+	 * @param reverse Whether the sort is in descending order.
+	 * @return A sort field sorting on the given field with the default missing value and multi-value mode
+	 * of the search DSL, or {@code null} if the field cannot be used in an index sort.
+	 */
+	public static SortField forIndexSortOrNull(LuceneIndexValueField<?> field, boolean reverse) {
+		if ( !field.type().sortable() ) {
+			return null;
+		}
+		LuceneFieldCodec<?> codec = field.type().codec();
+		MultiValueMode multiValueMode = reverse ? MultiValueMode.MAX : MultiValueMode.MIN;
+		// Missing values are sorted last, like in the search DSL.
+		if ( codec instanceof AbstractLuceneNumericFieldCodec ) {
+			return numeric( field.absolutePath(), ( (AbstractLuceneNumericFieldCodec<?, ?>) codec ).getDomain(),
+					reverse, multiValueMode );
+		}
+		else if ( codec instanceof LuceneStringFieldCodec ) {
+			return text( field.absolutePath(), reverse, multiValueMode,
+					reverse ? SortField.STRING_FIRST : SortField.STRING_LAST );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static <E extends Number> SortField numeric(String absoluteFieldPath, LuceneNumericDomain<E> domain,
+			boolean reverse, MultiValueMode multiValueMode) {
+		return numeric( absoluteFieldPath, domain, reverse, multiValueMode,
+				reverse ? domain.getMinValue() : domain.getMaxValue() );
+	}
+
+	/**
+	 * @return A sort field equivalent to a {@link org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource}
+	 * on a root field, without nested filter, or {@code null} if there is no such equivalent.
+	 */
+	static <E extends Number> SortField numeric(String absoluteFieldPath, LuceneNumericDomain<E> domain,
+			boolean reverse, MultiValueMode multiValueMode, E missingValue) {
+		SortedNumericSelector.Type selector = toNumericSelectorOrNull( multiValueMode );
+		if ( selector == null || missingValue == null ) {
+			return null;
+		}
+		SortField sortField = new SortedNumericSortField( absoluteFieldPath, domain.getSortFieldType(), reverse,
+				selector );
+		sortField.setMissingValue( missingValue );
+		return sortField;
+	}
+
+	/**
+	 * @return A sort field equivalent to a {@link org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneTextFieldComparatorSource}
+	 * on a root field, without nested filter, or {@code null} if there is no such equivalent.
+	 */
+	static SortField text(String absoluteFieldPath, boolean reverse, MultiValueMode multiValueMode,
+			Object effectiveMissingValue) {
+		SortedSetSelector.Type selector = toTextSelectorOrNull( multiValueMode );
+		if ( selector == null
+				|| effectiveMissingValue != SortField.STRING_FIRST && effectiveMissingValue != SortField.STRING_LAST ) {
+			// Custom missing values are not supported by SortedSetSortField.
+			return null;
+		}
+		SortField sortField = new SortedSetSortField( absoluteFieldPath, reverse, selector );
+		sortField.setMissingValue( effectiveMissingValue );
+		return sortField;
+	}
+
+	private static SortedNumericSelector.Type toNumericSelectorOrNull(MultiValueMode multiValueMode) {
+		switch ( multiValueMode ) {
+			case MIN:
+				return SortedNumericSelector.Type.MIN;
+			case MAX:
+				return SortedNumericSelector.Type.MAX;
+			default:
+				return null;
+		}
+	}
+
+	private static SortedSetSelector.Type toTextSelectorOrNull(MultiValueMode multiValueMode) {
+		switch ( multiValueMode ) {
+			case MIN:
+				return SortedSetSelector.Type.MIN;
+			case MAX:
+				return SortedSetSelector.Type.MAX;
+			default:
+				return null;
+		}
+	}
+}
@@ -162,6 +162,16 @@ protected LuceneFieldComparatorSource toFieldComparatorSource() {
 			return new LuceneNumericFieldComparatorSource<>( nestedDocumentPath, codec.getDomain(),
 					(E) getEffectiveMissingValue(), getMultiValueMode(), getNestedFilter() );
 		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected SortField toIndexSortFieldOrNull() {
+			if ( !isIndexSortCompatible() ) {
+				return null;
+			}
+			return LuceneIndexSortFields.numeric( absoluteFieldPath, codec.getDomain(), order == SortOrder.DESC,
+					getMultiValueMode(), (E) getEffectiveMissingValue() );
+		}
 	}
 
 	public static class TextFieldFactory<F>
@@ -208,6 +218,15 @@ protected LuceneFieldComparatorSource toFieldComparatorSource() {
 					getMultiValueMode(), getNestedFilter() );
 		}
 
+		@Override
+		protected SortField toIndexSortFieldOrNull() {
+			if ( !isIndexSortCompatible() ) {
+				return null;
+			}
+			return LuceneIndexSortFields.text( absoluteFieldPath, order == SortOrder.DESC,
+					getMultiValueMode(), getEffectiveMissingValue() );
+		}
+
 		private BytesRef normalize(String value) {
 			if ( value == null ) {
 				return null;
@@ -100,35 +100,39 @@ public CompletableFuture<?> delete(DocumentReferenceProvider referenceProvider,
 	private <T> CompletableFuture<T> submit(String documentId, String routingKey, IndexingWork<T> work,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
 			OperationSubmitter operationSubmitter) {
-		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( documentId, routingKey );
-
-		CompletableFuture<T> futureForOrchestrator = new CompletableFuture<>();
-		CompletableFuture<T> futureForCaller;
-
-		boolean needsCommit = DocumentCommitStrategy.FORCE.equals( commitStrategy );
-		boolean needsRefresh = DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
-		if ( needsCommit || needsRefresh ) {
-			// Add the handler to the future *before* submitting the works,
-			// so as to be sure that the commit/refresh is executed in the background,
-			// not in the current thread.
-			// It's important because we don't want to block the current thread.
-			futureForCaller = futureForOrchestrator.thenApply( result -> {
-				if ( needsCommit ) {
-					orchestrator.forceCommitInCurrentThread();
-				}
-				if ( needsRefresh ) {
-					orchestrator.forceRefreshInCurrentThread();
-				}
-				return result;
-			} );
-		}
-		else {
-			futureForCaller = futureForOrchestrator;
-		}
-
-		orchestrator.submit( futureForOrchestrator, work, operationSubmitter );
-
-		return futureForCaller;
+		return indexManagerContext.withStableIndexingRouting( () -> {
+			// Route the work to the appropriate shard,
+			// and submit it before the routing can change: see ShardHolder#splitShards.
+			LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( tenantId, documentId,
+					routingKey );
+
+			CompletableFuture<T> futureForOrchestrator = new CompletableFuture<>();
+			CompletableFuture<T> futureForCaller;
+
+			boolean needsCommit = DocumentCommitStrategy.FORCE.equals( commitStrategy );
+			boolean needsRefresh = DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
+			if ( needsCommit || needsRefresh ) {
+				// Add the handler to the future *before* submitting the works,
+				// so as to be sure that the commit/refresh is executed in the background,
+				// not in the current thread.
+				// It's important because we don't want to block the current thread.
+				futureForCaller = futureForOrchestrator.thenApply( result -> {
+					if ( needsCommit ) {
+						orchestrator.forceCommitInCurrentThread();
+					}
+					if ( needsRefresh ) {
+						orchestrator.forceRefreshInCurrentThread();
+					}
+					return result;
+				} );
+			}
+			else {
+				futureForCaller = futureForOrchestrator;
+			}
+
+			orchestrator.submit( futureForOrchestrator, work, operationSubmitter );
+
+			return futureForCaller;
+		} );
 	}
 }
@@ -37,7 +37,8 @@ public class LuceneIndexIndexingPlan implements IndexIndexingPlan {
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
 
-	private final Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+	// Works are only routed to shards when they are submitted, since the routing may change in-between.
+	private final List<RoutableWork> works = new ArrayList<>();
 
 	public LuceneIndexIndexingPlan(LuceneWorkFactory factory,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -95,39 +96,55 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 	@Override
 	public CompletableFuture<MultiEntityOperationExecutionReport> executeAndReport(OperationSubmitter operationSubmitter) {
 		try {
-			List<CompletableFuture<MultiEntityOperationExecutionReport>> shardReportFutures = new ArrayList<>();
-			for ( Map.Entry<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> entry : worksByOrchestrator
-					.entrySet() ) {
-				LuceneSerialWorkOrchestrator orchestrator = entry.getKey();
-				List<SingleDocumentIndexingWork> works = entry.getValue();
-				LuceneIndexIndexingPlanExecution execution = new LuceneIndexIndexingPlanExecution(
-						orchestrator, entityReferenceFactory,
-						commitStrategy, refreshStrategy,
-						works
-				);
-				shardReportFutures.add( execution.execute( operationSubmitter ) );
-			}
-			return MultiEntityOperationExecutionReport.allOf( shardReportFutures );
+			return indexManagerContext.withStableIndexingRouting( () -> {
+				// Route the works to the appropriate shards,
+				// and submit them before the routing can change: see ShardHolder#splitShards.
+				Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+				for ( RoutableWork routableWork : works ) {
+					LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( tenantId,
+							routableWork.documentId, routableWork.routingKey );
+					worksByOrchestrator.computeIfAbsent( orchestrator, ignored -> new ArrayList<>() )
+							.add( routableWork.work );
+				}
+
+				List<CompletableFuture<MultiEntityOperationExecutionReport>> shardReportFutures = new ArrayList<>();
+				for ( Map.Entry<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> entry : worksByOrchestrator
+						.entrySet() ) {
+					LuceneSerialWorkOrchestrator orchestrator = entry.getKey();
+					List<SingleDocumentIndexingWork> orchestratorWorks = entry.getValue();
+					LuceneIndexIndexingPlanExecution execution = new LuceneIndexIndexingPlanExecution(
+							orchestrator, entityReferenceFactory,
+							commitStrategy, refreshStrategy,
+							orchestratorWorks
+					);
+					shardReportFutures.add( execution.execute( operationSubmitter ) );
+				}
+				return MultiEntityOperationExecutionReport.allOf( shardReportFutures );
+			} );
 		}
 		finally {
-			worksByOrchestrator.clear();
+			works.clear();
 		}
 	}
 
 	@Override
 	public void discard() {
-		worksByOrchestrator.clear();
+		works.clear();
 	}
 
 	private void collect(String documentId, String routingKey, SingleDocumentIndexingWork work) {
-		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( documentId, routingKey );
+		works.add( new RoutableWork( documentId, routingKey, work ) );
+	}
+
+	private static final class RoutableWork {
+		private final String documentId;
+		private final String routingKey;
+		private final SingleDocumentIndexingWork work;
 
-		List<SingleDocumentIndexingWork> works = worksByOrchestrator.get( orchestrator );
-		if ( works == null ) {
-			works = new ArrayList<>();
-			worksByOrchestrator.put( orchestrator, works );
+		private RoutableWork(String documentId, String routingKey, SingleDocumentIndexingWork work) {
+			this.documentId = documentId;
+			this.routingKey = routingKey;
+			this.work = work;
 		}
-		works.add( work );
 	}
 }
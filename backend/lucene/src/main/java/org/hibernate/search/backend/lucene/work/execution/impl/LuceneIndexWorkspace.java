@@ -42,7 +42,7 @@ public CompletableFuture<?> mergeSegments(OperationSubmitter operationSubmitter,
 	public CompletableFuture<?> purge(Set<String> routingKeys, OperationSubmitter operationSubmitter,
 			UnsupportedOperationBehavior unsupportedOperationBehavior) {
 		return doSubmit(
-				indexManagerContext.managementOrchestrators( routingKeys ),
+				indexManagerContext.managementOrchestrators( tenantIds, routingKeys ),
 				factory.deleteAll( tenantIds, routingKeys ),
 				true, operationSubmitter
 		);
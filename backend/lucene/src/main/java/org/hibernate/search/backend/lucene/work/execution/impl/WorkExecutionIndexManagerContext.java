@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
@@ -27,9 +28,23 @@ public interface WorkExecutionIndexManagerContext {
 
 	String mappedTypeName();
 
-	LuceneSerialWorkOrchestrator indexingOrchestrator(String documentId, String routingKey);
+	LuceneSerialWorkOrchestrator indexingOrchestrator(String tenantId, String documentId, String routingKey);
 
-	List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys);
+	/**
+	 * Executes the given action while preventing the routing of indexing works from changing,
+	 * e.g. because shards are being split.
+	 * <p>
+	 * Indexing works must be routed with {@link #indexingOrchestrator(String, String, String)}
+	 * and submitted to the resulting orchestrator within the same action,
+	 * so that they cannot end up in a shard that no longer holds their document.
+	 *
+	 * @param action The action routing and submitting indexing works.
+	 * @param <T> The type of the action's result.
+	 * @return The result of the action.
+	 */
+	<T> T withStableIndexingRouting(Supplier<T> action);
+
+	List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> tenantIds, Set<String> routingKeys);
 
 	List<LuceneParallelWorkOrchestrator> allManagementOrchestrators();
 }
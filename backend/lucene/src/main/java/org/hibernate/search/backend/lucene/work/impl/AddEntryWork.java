@@ -14,7 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-public class AddEntryWork extends AbstractSingleDocumentIndexingWork {
+public class AddEntryWork extends AbstractSingleDocumentIndexingWork implements CoalescableIndexingWork {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -39,4 +39,9 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean coalesceInto(CoalescedEntryWritesWork.Builder builder) {
+		return builder.add( documentIdentifier, indexEntry );
+	}
+
 }
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+/**
+ * A single-document indexing work that can be applied along with other similar works
+ * in a single call to the index writer: see {@link CoalescedEntryWritesWork}.
+ */
+public interface CoalescableIndexingWork extends SingleDocumentIndexingWork {
+
+	/**
+	 * @param builder A builder of coalesced works.
+	 * @return {@code true} if this work was added to the builder,
+	 * {@code false} if it cannot be applied in the same call as works previously added to the builder.
+	 */
+	boolean coalesceInto(CoalescedEntryWritesWork.Builder builder);
+
+}
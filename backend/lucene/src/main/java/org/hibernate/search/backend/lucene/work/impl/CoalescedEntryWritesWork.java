@@ -0,0 +1,156 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+
+/**
+ * A work applying multiple {@link CoalescableIndexingWork adds and updates} of distinct documents
+ * in a single call to the index writer.
+ * <p>
+ * All documents are added as a single block, atomically, after deleting previous versions of updated documents.
+ * This avoids the per-call overhead of the index writer (locking, flush control, ...),
+ * but also means that a failure to index any of the documents will fail the whole block:
+ * callers are expected to apply works one by one in that case.
+ */
+public final class CoalescedEntryWritesWork extends AbstractIndexingWork<Long> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static Builder builder(int maxWorks) {
+		return new Builder( maxWorks );
+	}
+
+	private final String firstDocumentIdentifier;
+	private final List<LuceneIndexEntry> indexEntries;
+	private final Set<String> updatedDocumentIdentifiers;
+	private final Query updateFilter;
+
+	private CoalescedEntryWritesWork(Builder builder) {
+		super( "coalescedEntryWrites" );
+		this.firstDocumentIdentifier = builder.documentIdentifiers.iterator().next();
+		this.indexEntries = builder.indexEntries;
+		this.updatedDocumentIdentifiers = builder.updatedDocumentIdentifiers;
+		this.updateFilter = builder.updateFilter;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "entryCount=" ).append( indexEntries.size() )
+				.append( ", updatedEntryCount=" ).append( updatedDocumentIdentifiers.size() )
+				.append( "]" );
+		return sb.toString();
+	}
+
+	@Override
+	public Long execute(IndexingWorkExecutionContext context) {
+		List<Document> documents = new ArrayList<>();
+		for ( LuceneIndexEntry indexEntry : indexEntries ) {
+			for ( Document document : indexEntry ) {
+				documents.add( document );
+			}
+		}
+		try {
+			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
+			if ( updatedDocumentIdentifiers.isEmpty() ) {
+				return indexWriterDelegator.addDocuments( documents );
+			}
+			Query deleteQuery = Queries.anyTerm( MetadataFields.idFieldName(), updatedDocumentIdentifiers );
+			if ( updateFilter != null ) {
+				deleteQuery = Queries.boolFilter( deleteQuery, updateFilter );
+			}
+			// Deletes only apply to documents added before this call, not to the documents added by this call.
+			return indexWriterDelegator.updateDocuments( deleteQuery, documents );
+		}
+		catch (IOException e) {
+			throw log.unableToIndexEntries( indexEntries.size(), e.getMessage(), context.getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String getQueuingKey() {
+		return firstDocumentIdentifier;
+	}
+
+	public static final class Builder {
+
+		private final int maxWorks;
+		// Deletes are applied through a boolean query with one clause per updated document.
+		private final int maxUpdates = IndexSearcher.getMaxClauseCount() - 1;
+
+		private final Set<String> documentIdentifiers = new HashSet<>();
+		private final List<LuceneIndexEntry> indexEntries = new ArrayList<>();
+		private final Set<String> updatedDocumentIdentifiers = new LinkedHashSet<>();
+		private Query updateFilter;
+
+		private Builder(int maxWorks) {
+			this.maxWorks = maxWorks;
+		}
+
+		/**
+		 * @return The number of works added to this builder.
+		 */
+		public int size() {
+			return indexEntries.size();
+		}
+
+		public CoalescedEntryWritesWork build() {
+			return new CoalescedEntryWritesWork( this );
+		}
+
+		boolean add(String documentIdentifier, LuceneIndexEntry indexEntry) {
+			if ( !accepts( documentIdentifier ) ) {
+				return false;
+			}
+			documentIdentifiers.add( documentIdentifier );
+			indexEntries.add( indexEntry );
+			return true;
+		}
+
+		boolean update(String documentIdentifier, Query filter, LuceneIndexEntry indexEntry) {
+			if ( !accepts( documentIdentifier ) || updatedDocumentIdentifiers.size() >= maxUpdates ) {
+				return false;
+			}
+			if ( updatedDocumentIdentifiers.isEmpty() ) {
+				updateFilter = filter;
+			}
+			else if ( !Objects.equals( updateFilter, filter ) ) {
+				// Updates from different tenants cannot share the same delete query.
+				return false;
+			}
+			documentIdentifiers.add( documentIdentifier );
+			indexEntries.add( indexEntry );
+			updatedDocumentIdentifiers.add( documentIdentifier );
+			return true;
+		}
+
+		private boolean accepts(String documentIdentifier) {
+			// Works on the same document must be applied in order, so they cannot be part of the same call.
+			return indexEntries.size() < maxWorks && !documentIdentifiers.contains( documentIdentifier );
+		}
+	}
+}
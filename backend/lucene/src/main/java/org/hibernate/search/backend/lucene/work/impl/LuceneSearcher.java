@@ -14,6 +14,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R, ER> {
 
@@ -21,8 +22,13 @@ R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolv
 			int offset, Integer limit, int totalHitCountThreshold)
 			throws IOException;
 
+	/**
+	 * @param after The last top doc of the previous page,
+	 * or {@code null} to start from the first top doc.
+	 * Only top docs sorted after this one will be collected.
+	 */
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold)
+			ScoreDoc after, int limit, int totalHitCountThreshold)
 			throws IOException;
 
 	int count(IndexSearcher indexSearcher) throws IOException;
@@ -18,6 +18,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public final class LuceneWorkFactory {
 
@@ -91,8 +92,9 @@ public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Int
 		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
 	}
 
-	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
-		return new ScrollWork<>( searcher, offset, limit, totalHitCountThreshold );
+	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, ScoreDoc after, int limit,
+			int totalHitCountThreshold) {
+		return new ScrollWork<>( searcher, after, limit, totalHitCountThreshold );
 	}
 
 	public ReadWork<Integer> count(LuceneSearcher<?, ?> searcher) {
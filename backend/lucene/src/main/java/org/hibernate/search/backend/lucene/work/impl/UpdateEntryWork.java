@@ -20,7 +20,7 @@
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
 
-public class UpdateEntryWork extends AbstractSingleDocumentIndexingWork {
+public class UpdateEntryWork extends AbstractSingleDocumentIndexingWork implements CoalescableIndexingWork {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -55,4 +55,9 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean coalesceInto(CoalescedEntryWritesWork.Builder builder) {
+		return builder.update( documentIdentifier, filter, indexEntry );
+	}
+
 }
@@ -62,7 +62,7 @@ public class IndexAccessorTest {
 
 	@Before
 	public void start() throws IOException {
-		accessor = new IndexAccessorImpl( indexEventContext, directoryHolderMock,
+		accessor = new IndexAccessorImpl( indexEventContext, directoryHolderMock, false,
 				indexWriterProviderMock, indexReaderProviderMock );
 	}
 
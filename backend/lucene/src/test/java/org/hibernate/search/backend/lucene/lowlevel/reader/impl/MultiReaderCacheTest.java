@@ -0,0 +1,206 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+public class MultiReaderCacheTest {
+
+	private static final Set<String> INDEX_NAMES = Collections.singleton( "index" );
+
+	private final StubIndex index1 = new StubIndex();
+	private final StubIndex index2 = new StubIndex();
+	private final List<StubIndex> indexes = Arrays.asList( index1, index2 );
+
+	@Before
+	public void setup() throws IOException {
+		index1.open();
+		index2.open();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		index1.close();
+		index2.close();
+	}
+
+	@Test
+	public void reuse() throws IOException {
+		MultiReaderCache cache = new MultiReaderCache( 10 );
+
+		HibernateSearchMultiReader reader1 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		reader1.decRef();
+		HibernateSearchMultiReader reader2 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		assertThat( reader2 ).isSameAs( reader1 );
+		assertThat( reader2.getRefCount() ).isEqualTo( 2 );
+		assertThat( reader2.cacheKeyOrNull() ).isNotNull();
+		reader2.decRef();
+
+		// Different routing keys: different reader
+		HibernateSearchMultiReader reader3 = cache.open( INDEX_NAMES, indexes, Collections.singleton( "key" ) );
+		assertThat( reader3 ).isNotSameAs( reader1 );
+		reader3.decRef();
+
+		cache.clear();
+		assertThat( reader1.getRefCount() ).isZero();
+		assertThat( reader3.getRefCount() ).isZero();
+	}
+
+	@Test
+	public void refresh() throws IOException {
+		MultiReaderCache cache = new MultiReaderCache( 10 );
+
+		HibernateSearchMultiReader reader1 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		DirectoryReader staleDirectoryReader = index2.reader;
+		index2.addDocumentAndRefresh();
+
+		HibernateSearchMultiReader reader2 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		assertThat( reader2 ).isNotSameAs( reader1 );
+		assertThat( reader2.numDocs() ).isEqualTo( 3 );
+		// The stale reader is still in use: it must not be closed yet.
+		assertThat( reader1.getRefCount() ).isEqualTo( 1 );
+		assertThat( reader1.numDocs() ).isEqualTo( 2 );
+
+		reader1.decRef();
+		assertThat( reader1.getRefCount() ).isZero();
+		assertThat( staleDirectoryReader.getRefCount() ).isZero();
+		reader2.decRef();
+		assertThat( reader2.getRefCount() ).isEqualTo( 1 );
+
+		cache.clear();
+		assertThat( reader2.getRefCount() ).isZero();
+	}
+
+	@Test
+	public void refresh_evictSuperseded() throws IOException {
+		MultiReaderCache cache = new MultiReaderCache( 10 );
+
+		HibernateSearchMultiReader reader1 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		reader1.decRef();
+		DirectoryReader staleDirectoryReader = index2.reader;
+		assertThat( staleDirectoryReader.getRefCount() ).isEqualTo( 2 );
+
+		// Simulate an index reader provider replacing its reader, without any further search query.
+		index2.addDocumentAndRefresh();
+		cache.evict( staleDirectoryReader );
+		// The cached multi-reader no longer pins the stale reader.
+		assertThat( reader1.getRefCount() ).isZero();
+		assertThat( staleDirectoryReader.getRefCount() ).isZero();
+
+		HibernateSearchMultiReader reader2 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		assertThat( reader2 ).isNotSameAs( reader1 );
+		assertThat( reader2.numDocs() ).isEqualTo( 3 );
+		reader2.decRef();
+		assertThat( reader2.getRefCount() ).isEqualTo( 1 );
+
+		cache.clear();
+		assertThat( reader2.getRefCount() ).isZero();
+	}
+
+	@Test
+	public void refresh_supersededDuringOpen() throws IOException {
+		MultiReaderCache cache = new MultiReaderCache( 10 );
+
+		// Simulate a search query that retrieved a directory reader right before it got superseded.
+		index2.reader.incRef();
+		DirectoryReader staleDirectoryReader = index2.reader;
+		index2.addDocumentAndRefresh();
+		cache.evict( staleDirectoryReader );
+		StubIndex staleIndex = new StubIndex() {
+			@Override
+			public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) {
+				readerCollector.collect( "type", staleDirectoryReader, null );
+			}
+		};
+
+		HibernateSearchMultiReader reader1 =
+				cache.open( INDEX_NAMES, Arrays.asList( index1, staleIndex ), Collections.emptySet() );
+		// The multi-reader wraps a stale reader: it must not be cached.
+		assertThat( reader1.cacheKeyOrNull() ).isNull();
+		reader1.decRef();
+		assertThat( reader1.getRefCount() ).isZero();
+		assertThat( staleDirectoryReader.getRefCount() ).isZero();
+	}
+
+	@Test
+	public void maxEntries() throws IOException {
+		MultiReaderCache cache = new MultiReaderCache( 1 );
+
+		HibernateSearchMultiReader reader1 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		reader1.decRef();
+		HibernateSearchMultiReader reader2 = cache.open( INDEX_NAMES, indexes, Collections.singleton( "key" ) );
+		reader2.decRef();
+		// The first reader was evicted to make room for the second one.
+		assertThat( reader1.getRefCount() ).isZero();
+		assertThat( reader2.getRefCount() ).isEqualTo( 1 );
+
+		cache.evict( "index" );
+		assertThat( reader2.getRefCount() ).isZero();
+	}
+
+	@Test
+	public void disabled() throws IOException {
+		MultiReaderCache cache = new MultiReaderCache( 0 );
+
+		HibernateSearchMultiReader reader1 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		HibernateSearchMultiReader reader2 = cache.open( INDEX_NAMES, indexes, Collections.emptySet() );
+		assertThat( reader2 ).isNotSameAs( reader1 );
+		assertThat( reader1.cacheKeyOrNull() ).isNull();
+		reader1.decRef();
+		reader2.decRef();
+		assertThat( reader1.getRefCount() ).isZero();
+		assertThat( reader2.getRefCount() ).isZero();
+	}
+
+	private static class StubIndex implements ReadIndexManagerContext {
+		private final ByteBuffersDirectory directory = new ByteBuffersDirectory();
+		private IndexWriter writer;
+		private DirectoryReader reader;
+
+		void open() throws IOException {
+			writer = new IndexWriter( directory, new IndexWriterConfig() );
+			writer.addDocument( new Document() );
+			writer.commit();
+			reader = DirectoryReader.open( writer );
+		}
+
+		void addDocumentAndRefresh() throws IOException {
+			writer.addDocument( new Document() );
+			DirectoryReader newReader = DirectoryReader.openIfChanged( reader, writer );
+			reader.decRef();
+			reader = newReader;
+		}
+
+		void close() throws IOException {
+			reader.decRef();
+			writer.close();
+			directory.close();
+		}
+
+		@Override
+		public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) {
+			reader.incRef();
+			readerCollector.collect( "type", reader, null );
+		}
+	}
+}
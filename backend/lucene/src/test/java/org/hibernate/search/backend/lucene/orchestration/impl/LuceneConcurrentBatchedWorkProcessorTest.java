@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.engine.common.execution.spi.DelegatingSimpleScheduledExecutor;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.data.impl.Murmur3HashFunction;
+import org.hibernate.search.util.common.data.impl.RangeHashTable;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+public class LuceneConcurrentBatchedWorkProcessorTest {
+
+	private static final int PARALLELISM = 2;
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private IndexAccessor indexAccessorMock;
+
+	private SimpleScheduledExecutor executor;
+
+	private LuceneConcurrentBatchedWorkProcessor processor;
+
+	@Before
+	public void setup() {
+		executor = new DelegatingSimpleScheduledExecutor( Executors.newScheduledThreadPool( 1 ), false );
+		processor = new LuceneConcurrentBatchedWorkProcessor(
+				new LuceneBatchedWorkProcessor( EventContexts.fromIndexName( "SomeIndexName" ), indexAccessorMock ),
+				PARALLELISM, executor, 1
+		);
+	}
+
+	@After
+	public void cleanup() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void interruptedWhileWaitingForPartitions() throws InterruptedException {
+		String firstPartitionKey = keyInPartition( 0 );
+		String secondPartitionKey = keyInPartition( 1 );
+
+		CountDownLatch secondPartitionStarted = new CountDownLatch( 1 );
+		CountDownLatch secondPartitionUnblocked = new CountDownLatch( 1 );
+		CountDownLatch firstPartitionDone = new CountDownLatch( 1 );
+
+		// The first partition is applied by the batch thread, once the second one is being applied by the executor.
+		IndexingWork<Object> firstWork = workMock( firstPartitionKey, () -> {
+			secondPartitionStarted.await();
+			firstPartitionDone.countDown();
+			return null;
+		} );
+		IndexingWork<Object> secondWork = workMock( secondPartitionKey, () -> {
+			secondPartitionStarted.countDown();
+			secondPartitionUnblocked.await();
+			return null;
+		} );
+		CompletableFuture<Object> secondWorkFuture = new CompletableFuture<>();
+
+		AtomicBoolean interruptedAfterBatch = new AtomicBoolean();
+		Thread batchThread = new Thread( () -> {
+			processor.beginBatch();
+			processor.submit( new LuceneBatchedWork<>( firstWork, new CompletableFuture<>() ) );
+			processor.submit( new LuceneBatchedWork<>( secondWork, secondWorkFuture ) );
+			processor.endBatch();
+			interruptedAfterBatch.set( Thread.currentThread().isInterrupted() );
+		} );
+		batchThread.start();
+
+		// Interrupt the batch thread while it waits for the second partition.
+		await().until( () -> firstPartitionDone.getCount() == 0 && batchThread.getState() == Thread.State.WAITING );
+		batchThread.interrupt();
+
+		// The batch must not be committed while the second partition is still being applied.
+		batchThread.join( 200 );
+		assertThat( batchThread.isAlive() ).isTrue();
+		verify( indexAccessorMock, never() ).commitOrDelay();
+
+		secondPartitionUnblocked.countDown();
+		batchThread.join( TimeUnit.SECONDS.toMillis( 10 ) );
+		assertThat( batchThread.isAlive() ).isFalse();
+
+		assertThat( secondWorkFuture ).isCompleted();
+		verify( indexAccessorMock ).commitOrDelay();
+		// The interruption must not be lost.
+		assertThat( interruptedAfterBatch ).isTrue();
+	}
+
+	private static String keyInPartition(int partitionIndex) {
+		RangeHashTable<Object> table = new RangeHashTable<>( Murmur3HashFunction.INSTANCE, PARALLELISM );
+		for ( int i = 0;; i++ ) {
+			String key = String.valueOf( i );
+			if ( table.computeIndex( key ) == partitionIndex ) {
+				return key;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
+	private static IndexingWork<Object> workMock(String queuingKey, Callable<Object> behavior) {
+		IndexingWork<Object> workMock = mock( IndexingWork.class,
+				withSettings().name( "work_" + queuingKey ).strictness( Strictness.LENIENT ) );
+		when( workMock.getQueuingKey() ).thenReturn( queuingKey );
+		when( workMock.execute( any() ) ).thenAnswer( ignored -> behavior.call() );
+		return workMock;
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.types;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Defines a function to calculate the vector similarity, i.e. the distance between two vectors,
+ * used to rank documents in a {@code knn} predicate.
+ */
+@Incubating
+public enum VectorSimilarity {
+	/**
+	 * Use the backend-specific default.
+	 * <ul>
+	 *     <li>Lucene's default value is {@code L2}</li>
+	 *     <li>Elasticsearch's default value is {@code COSINE}</li>
+	 * </ul>
+	 */
+	DEFAULT,
+	/**
+	 * L2 (Euclidean) norm, which is a sensible default for most scenarios.
+	 */
+	L2,
+	/**
+	 * Dot product.
+	 * <p>
+	 * <strong>WARNING:</strong> all vectors, both indexed and used in queries,
+	 * must be of unit length (normalized).
+	 */
+	DOT_PRODUCT,
+	/**
+	 * Cosine similarity.
+	 */
+	COSINE,
+	/**
+	 * Maximum inner product, similar to {@link #DOT_PRODUCT}, but does not require vectors to be of unit length.
+	 */
+	MAX_INNER_PRODUCT
+}
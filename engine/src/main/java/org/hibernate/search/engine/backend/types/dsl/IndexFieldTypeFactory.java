@@ -21,6 +21,7 @@
 
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A factory for types of index fields.
@@ -166,6 +167,22 @@ public interface IndexFieldTypeFactory {
 	 */
 	ScaledNumberIndexFieldTypeOptionsStep<?, BigInteger> asBigInteger();
 
+	/**
+	 * Define a field type whose values are represented as a {@code float[]} vector in Hibernate Search,
+	 * to be searched with a {@code knn} predicate.
+	 * @return A DSL step where the index field type can be defined in more details.
+	 */
+	@Incubating
+	VectorFieldTypeOptionsStep<?, float[]> asFloatVector();
+
+	/**
+	 * Define a field type whose values are represented as a {@code byte[]} vector in Hibernate Search,
+	 * to be searched with a {@code knn} predicate.
+	 * @return A DSL step where the index field type can be defined in more details.
+	 */
+	@Incubating
+	VectorFieldTypeOptionsStep<?, byte[]> asByteVector();
+
 	/**
 	 * Extend the current factory with the given extension,
 	 * resulting in an extended factory offering more field types.
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.types.dsl;
+
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The initial and final step in a "vector" index field type definition, where optional parameters can be set.
+ * <p>
+ * Vector fields are single-valued, and can be searched with a {@code knn} predicate
+ * to retrieve the documents whose vectors are the nearest to a given vector.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <F> The type of field values: either {@code float[]} or {@code byte[]}.
+ */
+@Incubating
+public interface VectorFieldTypeOptionsStep<S extends VectorFieldTypeOptionsStep<?, F>, F>
+		extends IndexFieldTypeOptionsStep<S, F> {
+
+	/**
+	 * @param dimension The number of components in each vector of this field.
+	 * This option is mandatory: all vectors indexed in this field, as well as vectors used in predicates,
+	 * must have exactly this dimension.
+	 * @return {@code this}, for method chaining.
+	 */
+	S dimension(int dimension);
+
+	/**
+	 * @param vectorSimilarity The function used to compute the similarity between two vectors.
+	 * @return {@code this}, for method chaining.
+	 * @see VectorSimilarity
+	 */
+	S vectorSimilarity(VectorSimilarity vectorSimilarity);
+
+	/**
+	 * @param projectable Whether projections are enabled for this field.
+	 * @return {@code this}, for method chaining.
+	 * @see Projectable
+	 */
+	S projectable(Projectable projectable);
+
+	/**
+	 * @param searchable Whether this field should be searchable.
+	 * @return {@code this}, for method chaining.
+	 * @see Searchable
+	 */
+	S searchable(Searchable searchable);
+
+}
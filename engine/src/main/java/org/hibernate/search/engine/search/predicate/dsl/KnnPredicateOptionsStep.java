@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The final step in a "knn" predicate definition, where optional parameters can be set.
+ */
+@Incubating
+public interface KnnPredicateOptionsStep
+		extends PredicateFinalStep, PredicateScoreStep<KnnPredicateOptionsStep> {
+
+	/**
+	 * Only consider documents matching the given predicate when looking for the nearest neighbours.
+	 * <p>
+	 * Unlike a "filter" clause in a boolean predicate wrapping the "knn" predicate,
+	 * this filter is applied <em>while</em> looking for the nearest neighbours,
+	 * so the "knn" predicate will still return up to {@code k} documents
+	 * even if most of the nearest neighbours do not match the filter.
+	 *
+	 * @param searchPredicate The predicate that documents must match.
+	 * @return {@code this}, for method chaining.
+	 */
+	KnnPredicateOptionsStep filter(SearchPredicate searchPredicate);
+
+	/**
+	 * Only consider documents matching the given predicate when looking for the nearest neighbours.
+	 *
+	 * @param dslFinalStep A final step in the predicate DSL allowing the retrieval of a {@link SearchPredicate}.
+	 * @return {@code this}, for method chaining.
+	 * @see #filter(SearchPredicate)
+	 */
+	default KnnPredicateOptionsStep filter(PredicateFinalStep dslFinalStep) {
+		return filter( dslFinalStep.toPredicate() );
+	}
+
+	/**
+	 * Only consider documents matching the predicate defined by the given function
+	 * when looking for the nearest neighbours.
+	 *
+	 * @param clauseContributor A function that will use the factory passed in parameter to create a predicate,
+	 * returning the final step in the predicate DSL.
+	 * Should generally be a lambda expression.
+	 * @return {@code this}, for method chaining.
+	 * @see #filter(SearchPredicate)
+	 */
+	KnnPredicateOptionsStep filter(Function<? super SearchPredicateFactory, ? extends PredicateFinalStep> clauseContributor);
+
+}
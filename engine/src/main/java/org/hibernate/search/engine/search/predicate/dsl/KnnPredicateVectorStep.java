@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The step in a "knn" predicate definition where the vector to match is defined.
+ */
+@Incubating
+public interface KnnPredicateVectorStep {
+
+	/**
+	 * @param vector The vector from which to compute the distance to vectors in the indexed field.
+	 * Must have the same dimension as vectors in the indexed field, which must be a {@code float[]} vector field.
+	 * @return The next step.
+	 */
+	KnnPredicateOptionsStep matching(float... vector);
+
+	/**
+	 * @param vector The vector from which to compute the distance to vectors in the indexed field.
+	 * Must have the same dimension as vectors in the indexed field, which must be a {@code byte[]} vector field.
+	 * @return The next step.
+	 */
+	KnnPredicateOptionsStep matching(byte... vector);
+
+}
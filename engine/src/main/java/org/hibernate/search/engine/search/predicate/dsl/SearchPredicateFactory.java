@@ -263,6 +263,31 @@ SimpleBooleanPredicateOptionsStep<?> or(PredicateFinalStep firstSearchPredicate,
 	 */
 	SpatialPredicateInitialStep spatial();
 
+	/**
+	 * Match the {@code k} documents whose vector field is the nearest to a given vector.
+	 * <p>
+	 * The nearest neighbours are found through approximate search,
+	 * so the resulting documents may not be the exact {@code k} nearest neighbours,
+	 * but the cost of the search is much lower than the cost of an exact search on large indexes.
+	 * <p>
+	 * This predicate can be combined with other predicates, e.g. in a {@link #bool() boolean predicate};
+	 * to only look for nearest neighbours among documents matching a filter, see
+	 * {@link KnnPredicateOptionsStep#filter(SearchPredicate)}.
+	 * <p>
+	 * With the Elasticsearch backend, the nearest neighbours are looked for in each shard independently,
+	 * so on indexes with multiple shards this predicate may match up to {@code k} documents <em>per shard</em>,
+	 * whereas the Lucene backend matches up to {@code k} documents across all shards.
+	 * The Elasticsearch backend logs a warning whenever such a query is executed on multiple shards.
+	 * Since the score of matching documents reflects their similarity to the given vector,
+	 * sorting by score and fetching {@code k} hits returns the {@code k} nearest neighbours with both backends.
+	 *
+	 * @param k The number of nearest neighbours to match.
+	 * @return The initial step of a DSL where the "knn" predicate can be defined.
+	 * @see KnnPredicateFieldStep
+	 */
+	@Incubating
+	KnnPredicateFieldStep knn(int k);
+
 	/**
 	 * Match documents if they match a combination of defined named predicate clauses.
 	 *
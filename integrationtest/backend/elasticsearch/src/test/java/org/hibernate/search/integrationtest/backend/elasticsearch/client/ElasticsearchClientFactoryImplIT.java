@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.client;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
@@ -23,11 +25,15 @@
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -37,6 +43,7 @@
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import javax.net.ssl.SSLContext;
 
@@ -89,6 +96,7 @@
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 
+import org.apache.http.Header;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpResponseInterceptor;
 import org.apache.http.config.RegistryBuilder;
@@ -216,6 +224,50 @@ public void simple_httpClientConfigurer() throws Exception {
 		verify( responseInterceptor, times( 1 ) ).process( any(), any() );
 	}
 
+	@Test
+	public void compression() throws IOException {
+		String payload = "{ \"foo\": \"bar\" }";
+		JsonArray hits = new JsonArray();
+		for ( int i = 0; i < 100; i++ ) {
+			hits.add( JsonParser.parseString( "{ \"_source\": { \"someLongFieldName\": \"someValue\" } }" ) );
+		}
+		JsonObject responseBody = new JsonObject();
+		responseBody.add( "hits", hits );
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withHeader( "Content-Encoding", equalTo( "gzip" ) )
+				.withHeader( "Accept-Encoding", containing( "gzip" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn( elasticsearchResponse().withStatus( 200 )
+						.withHeader( "Content-Encoding", "gzip" )
+						.withBody( gzip( responseBody.toString() ) ) ) );
+
+		List<String> responseContentEncodings = new ArrayList<>();
+		try ( ElasticsearchClientImplementor client = createClient( properties -> {
+			properties.accept( ElasticsearchBackendSettings.COMPRESSION_ENABLED, true );
+			properties.accept( ElasticsearchBackendSettings.CLIENT_CONFIGURER,
+					(ElasticsearchHttpClientConfigurer) context -> context.clientBuilder()
+							.addInterceptorFirst( (HttpResponseInterceptor) (response, httpContext) -> {
+								Header contentEncoding = response.getEntity().getContentEncoding();
+								responseContentEncodings.add( contentEncoding == null ? null : contentEncoding.getValue() );
+							} ) );
+		} ) ) {
+			ElasticsearchResponse result = doPost( client, "/myIndex/myType", payload );
+			assertThat( result.statusCode() ).as( "status code" ).isEqualTo( 200 );
+			assertJsonEquals( responseBody.toString(), result.body().toString() );
+		}
+
+		// The response was compressed by the server, and decompressed by the client.
+		assertThat( responseContentEncodings ).containsExactly( "gzip" );
+	}
+
+	private static byte[] gzip(String content) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try ( GZIPOutputStream gzipStream = new GZIPOutputStream( outputStream ) ) {
+			gzipStream.write( content.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		return outputStream.toByteArray();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-4099")
 	public void uris_http() {
@@ -0,0 +1,237 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchPointInTime;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchPointInTimeScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchTckBackendFeatures;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+
+public class ElasticsearchSearchPointInTimeIT {
+
+	private static final int DOCUMENT_COUNT = 500;
+	private static final int CHUNK_SIZE = 30;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		assumeTrue(
+				"This test only is only relevant if the Elasticsearch cluster supports points in time.",
+				ElasticsearchTckBackendFeatures.supportsPointInTime()
+		);
+
+		setupHelper.start().withIndex( index ).setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	@Test
+	public void scroll_sorted() {
+		try ( ElasticsearchSearchPointInTime<DocumentReference> pointInTime = sortedQuery().openPointInTime() ) {
+			List<String> hitIds = new ArrayList<>();
+			try ( ElasticsearchSearchPointInTimeScroll<DocumentReference> scroll = pointInTime.scroll( CHUNK_SIZE ) ) {
+				consume( scroll, hitIds, Integer.MAX_VALUE );
+			}
+			List<String> expected = new ArrayList<>();
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				expected.add( docId( i ) );
+			}
+			assertThat( hitIds ).containsExactlyElementsOf( expected );
+		}
+	}
+
+	@Test
+	public void scroll_sameScore() {
+		// All documents have the same score: the tiebreaker must prevent skipping or repeating documents.
+		try ( ElasticsearchSearchPointInTime<DocumentReference> pointInTime = matchAllQuery().openPointInTime() ) {
+			List<String> hitIds = new ArrayList<>();
+			try ( ElasticsearchSearchPointInTimeScroll<DocumentReference> scroll = pointInTime.scroll( CHUNK_SIZE ) ) {
+				consume( scroll, hitIds, Integer.MAX_VALUE );
+			}
+			assertThat( hitIds ).hasSize( DOCUMENT_COUNT ).doesNotHaveDuplicates();
+		}
+	}
+
+	@Test
+	public void scroll_snapshot() {
+		try ( ElasticsearchSearchPointInTime<DocumentReference> pointInTime = matchAllQuery().openPointInTime() ) {
+			// Changes after the point in time was opened must not be visible.
+			index.bulkIndexer()
+					.add( 10, i -> documentProvider(
+							docId( DOCUMENT_COUNT + i ),
+							document -> document.addValue( index.binding().integer, DOCUMENT_COUNT + i )
+					) )
+					.join();
+
+			List<String> hitIds = new ArrayList<>();
+			try ( ElasticsearchSearchPointInTimeScroll<DocumentReference> scroll = pointInTime.scroll( CHUNK_SIZE ) ) {
+				consume( scroll, hitIds, Integer.MAX_VALUE );
+			}
+			assertThat( hitIds ).hasSize( DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void resume() {
+		try ( ElasticsearchSearchPointInTime<DocumentReference> pointInTime = sortedQuery().openPointInTime() ) {
+			List<String> hitIds = new ArrayList<>();
+			JsonArray searchAfter;
+			try ( ElasticsearchSearchPointInTimeScroll<DocumentReference> scroll = pointInTime.scroll( CHUNK_SIZE ) ) {
+				assertThat( scroll.searchAfter() ).isNull();
+				// Simulate a failure after the third chunk
+				consume( scroll, hitIds, 3 );
+				searchAfter = scroll.searchAfter();
+			}
+			assertThat( searchAfter ).isNotNull();
+			assertThat( hitIds ).hasSize( 3 * CHUNK_SIZE );
+
+			try ( ElasticsearchSearchPointInTimeScroll<DocumentReference> scroll =
+					pointInTime.scroll( CHUNK_SIZE, searchAfter ) ) {
+				consume( scroll, hitIds, Integer.MAX_VALUE );
+			}
+			List<String> expected = new ArrayList<>();
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				expected.add( docId( i ) );
+			}
+			assertThat( hitIds ).containsExactlyElementsOf( expected );
+		}
+	}
+
+	@Test
+	public void slices_parallel() {
+		int sliceCount = 3;
+		try ( ElasticsearchSearchPointInTime<DocumentReference> pointInTime = matchAllQuery().openPointInTime() ) {
+			List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+			for ( int sliceId = 0; sliceId < sliceCount; sliceId++ ) {
+				int finalSliceId = sliceId;
+				futures.add( CompletableFuture.supplyAsync( () -> {
+					List<String> sliceHitIds = new ArrayList<>();
+					try ( ElasticsearchSearchPointInTimeScroll<DocumentReference> scroll =
+							pointInTime.slice( finalSliceId, sliceCount, CHUNK_SIZE ) ) {
+						consume( scroll, sliceHitIds, Integer.MAX_VALUE );
+					}
+					return sliceHitIds;
+				} ) );
+			}
+
+			Set<String> allHitIds = new HashSet<>();
+			int hitCount = 0;
+			for ( CompletableFuture<List<String>> future : futures ) {
+				List<String> sliceHitIds = future.join();
+				hitCount += sliceHitIds.size();
+				allHitIds.addAll( sliceHitIds );
+			}
+			// Slices are disjoint and cover all hits
+			assertThat( hitCount ).isEqualTo( DOCUMENT_COUNT );
+			assertThat( allHitIds ).hasSize( DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void slice_invalid() {
+		try ( ElasticsearchSearchPointInTime<DocumentReference> pointInTime = matchAllQuery().openPointInTime() ) {
+			assertThatThrownBy( () -> pointInTime.slice( 3, 3, CHUNK_SIZE ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Invalid slice", "'3'" );
+			assertThatThrownBy( () -> pointInTime.slice( 0, 0, CHUNK_SIZE ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Invalid slice", "'0'" );
+		}
+	}
+
+	@Test
+	public void close() {
+		ElasticsearchSearchPointInTime<DocumentReference> pointInTime = matchAllQuery().openPointInTime();
+		ElasticsearchSearchPointInTimeScroll<DocumentReference> scroll = pointInTime.scroll( CHUNK_SIZE );
+		assertThat( scroll.next().hasHits() ).isTrue();
+
+		pointInTime.close();
+		// Closing twice is fine
+		pointInTime.close();
+
+		// The point in time was released on the Elasticsearch side
+		assertThatThrownBy( scroll::next )
+				.isInstanceOf( SearchException.class );
+	}
+
+	private static void consume(ElasticsearchSearchPointInTimeScroll<DocumentReference> scroll, List<String> hitIds,
+			int maxChunks) {
+		for ( int chunks = 0; chunks < maxChunks; chunks++ ) {
+			ElasticsearchSearchScrollResult<DocumentReference> chunk = scroll.next();
+			if ( !chunk.hasHits() ) {
+				return;
+			}
+			for ( DocumentReference hit : chunk.hits() ) {
+				hitIds.add( hit.id() );
+			}
+		}
+	}
+
+	private ElasticsearchSearchQuery<DocumentReference> sortedQuery() {
+		return index.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private ElasticsearchSearchQuery<DocumentReference> matchAllQuery() {
+		return index.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
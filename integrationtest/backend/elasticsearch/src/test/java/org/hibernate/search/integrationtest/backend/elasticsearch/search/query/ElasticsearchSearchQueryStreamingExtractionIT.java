@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Checks that results are extracted correctly when
+ * {@link ElasticsearchBackendSettings#QUERY_STREAMING_EXTRACTION_ENABLED streaming extraction} is enabled.
+ */
+public class ElasticsearchSearchQueryStreamingExtractionIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "categories" );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendSettings.QUERY_STREAMING_EXTRACTION_ENABLED, true )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> {
+							document.addValue( index.binding().integer, i );
+							document.addValue( index.binding().category, "category" + ( i % 4 ) );
+						}
+				) )
+				.join();
+	}
+
+	@Test
+	public void fetch() {
+		ElasticsearchSearchResult<List<?>> result = query().fetch( 10, 20 );
+
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		List<List<?>> expectedHits = new ArrayList<>();
+		for ( int i = 10; i < 30; i++ ) {
+			expectedHits.add( List.of( docId( i ), i, "category" + ( i % 4 ) ) );
+		}
+		assertThat( result.hits() ).containsExactlyElementsOf( expectedHits );
+		assertThat( result.aggregation( AGGREGATION_KEY ) )
+				.containsOnly(
+						Map.entry( "category0", 25L ), Map.entry( "category1", 25L ),
+						Map.entry( "category2", 25L ), Map.entry( "category3", 25L )
+				);
+	}
+
+	@Test
+	public void fetch_responseBody() {
+		ElasticsearchSearchResult<List<?>> result = query().fetch( 5 );
+
+		JsonObject responseBody = result.responseBody();
+		assertThat( responseBody.has( "took" ) ).isTrue();
+		assertThat( responseBody.getAsJsonObject( "hits" ).has( "total" ) ).isTrue();
+		// Only metadata is retained for hits, but aggregations are retained as usual.
+		JsonObject firstHit = responseBody.getAsJsonObject( "hits" ).getAsJsonArray( "hits" )
+				.get( 0 ).getAsJsonObject();
+		assertThat( firstHit.get( "_id" ).getAsString() ).isEqualTo( docId( 0 ) );
+		assertThat( firstHit.has( "sort" ) ).isTrue();
+		assertThat( firstHit.has( "_source" ) ).isFalse();
+		assertThat( responseBody.getAsJsonObject( "aggregations" ).has( AGGREGATION_KEY.name() ) ).isTrue();
+	}
+
+	@Test
+	public void fetch_noHits() {
+		ElasticsearchSearchResult<List<?>> result = index.query()
+				.extension( ElasticsearchExtension.get() )
+				.select( f -> f.composite( f.id( String.class ), f.field( "integer", Integer.class ),
+						f.field( "category", String.class ) ) )
+				.where( f -> f.match().field( "category" ).matching( "unknown" ) )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "category", String.class ) )
+				.fetch( 10 );
+
+		assertThat( result.total().hitCount() ).isZero();
+		assertThat( result.hits() ).isEmpty();
+		assertThat( result.aggregation( AGGREGATION_KEY ) ).isEmpty();
+	}
+
+	@Test
+	public void scroll() {
+		List<Object> hitIds = new ArrayList<>();
+		try ( ElasticsearchSearchScroll<List<?>> scroll = query().scroll( 30 ) ) {
+			for ( ElasticsearchSearchScrollResult<List<?>> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				for ( List<?> hit : chunk.hits() ) {
+					hitIds.add( hit.get( 0 ) );
+				}
+			}
+		}
+		List<Object> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( docId( i ) );
+		}
+		assertThat( hitIds ).containsExactlyElementsOf( expected );
+	}
+
+	private ElasticsearchSearchQuery<List<?>> query() {
+		return index.query()
+				.extension( ElasticsearchExtension.get() )
+				.select( f -> f.composite( f.id( String.class ), f.field( "integer", Integer.class ),
+						f.field( "category", String.class ) ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "category", String.class ) )
+				.toQuery();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString().aggregable( Aggregable.YES )
+					.projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -188,6 +188,25 @@ public boolean supportsHighlighterUnifiedPhraseMatching() {
 		);
 	}
 
+	@Override
+	public boolean supportsVectorSearch() {
+		return isActualVersion(
+				// "knn" queries, in particular nested in boolean queries, require Elasticsearch 8.12+
+				es -> !es.isLessThan( "8.12" ),
+				os -> false,
+				aoss -> false
+		);
+	}
+
+	public static boolean supportsPointInTime() {
+		return isActualVersion(
+				es -> true,
+				// OpenSearch exposes points in time through different endpoints
+				os -> false,
+				aoss -> false
+		);
+	}
+
 	public static boolean supportsIndexClosingAndOpening() {
 		return isActualVersion(
 				// See https://docs.aws.amazon.com/opensearch-service/latest/developerguide/supported-operations.html#version_7_10
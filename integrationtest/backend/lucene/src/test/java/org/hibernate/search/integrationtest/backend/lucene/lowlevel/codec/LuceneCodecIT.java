@@ -0,0 +1,230 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.codec.impl.BloomFilterPostingsFormat;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.codecs.lucene90.Lucene90StoredFieldsFormat;
+import org.apache.lucene.codecs.perfield.PerFieldDocValuesFormat;
+import org.apache.lucene.codecs.perfield.PerFieldPostingsFormat;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+
+/**
+ * Checks that codec settings are applied to written segments,
+ * and that updates and deletes work correctly with bloom-filtered identifiers.
+ */
+public class LuceneCodecIT {
+
+	private static final String INDEX_NAME = "codecIndex";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+
+	@Test
+	public void defaults() throws IOException {
+		setupHelper.start().withIndex( index ).setup();
+
+		indexBatch( 0, 10, "text" );
+
+		assertThat( perFieldPostingsFormats( MetadataFields.idFieldName() ) )
+				.isNotEmpty()
+				.doesNotContain( BloomFilterPostingsFormat.NAME );
+		assertThat( storedFieldsModes() )
+				.isNotEmpty()
+				.containsOnly( Lucene90StoredFieldsFormat.Mode.BEST_SPEED.name() );
+	}
+
+	@Test
+	public void idPostingsFormat_bloomFilter() throws IOException {
+		setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_WRITER_CODEC_ID_POSTINGS_FORMAT, "bloom-filter" )
+				.withIndex( index )
+				.setup();
+
+		// Each batch is committed separately, creating multiple segments.
+		indexBatch( 0, 50, "text" );
+		indexBatch( 50, 100, "text" );
+		// Updates and deletes of documents located in other segments.
+		indexBatch( 0, 10, "updated" );
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+		for ( int i = 90; i < 100; i++ ) {
+			plan.delete( referenceProvider( String.valueOf( i ) ) );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertThat( perFieldPostingsFormats( MetadataFields.idFieldName() ) )
+				.isNotEmpty()
+				.containsOnly( BloomFilterPostingsFormat.NAME );
+		// Other fields are not affected.
+		assertThat( perFieldPostingsFormats( "text" ) )
+				.isNotEmpty()
+				.doesNotContain( BloomFilterPostingsFormat.NAME );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 90L );
+		assertThat( index.query().where( f -> f.match().field( "text" ).matching( "updated" ) ).fetchTotalHitCount() )
+				.isEqualTo( 10L );
+		assertThat( index.query().where( f -> f.id().matching( "42" ) ).fetchTotalHitCount() ).isEqualTo( 1L );
+		assertThat( index.query().where( f -> f.id().matching( "95" ) ).fetchTotalHitCount() ).isZero();
+
+		// Merged segments keep the bloom filter.
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.mergeSegments( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		workspace.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		indexBatch( 10, 20, "updated" );
+
+		assertThat( perFieldPostingsFormats( MetadataFields.idFieldName() ) )
+				.isNotEmpty()
+				.containsOnly( BloomFilterPostingsFormat.NAME );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 90L );
+		assertThat( index.query().where( f -> f.match().field( "text" ).matching( "updated" ) ).fetchTotalHitCount() )
+				.isEqualTo( 20L );
+	}
+
+	@Test
+	public void storedFieldsCompression_size() throws IOException {
+		setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_WRITER_CODEC_STORED_FIELDS_COMPRESSION, "size" )
+				.withIndex( index )
+				.setup();
+
+		indexBatch( 0, 10, "text" );
+
+		assertThat( storedFieldsModes() )
+				.isNotEmpty()
+				.containsOnly( Lucene90StoredFieldsFormat.Mode.BEST_COMPRESSION.name() );
+		assertThat( index.query().select( f -> f.field( "text", String.class ) )
+				.where( f -> f.id().matching( "3" ) ).fetchAllHits() )
+				.containsExactly( "text3" );
+	}
+
+	@Test
+	public void docValuesFormat() throws IOException {
+		setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_WRITER_CODEC_DOC_VALUES_FORMAT, "Lucene90" )
+				.withIndex( index )
+				.setup();
+
+		indexBatch( 0, 10, "text" );
+
+		assertThat( perFieldDocValuesFormats( "text" ) )
+				.isNotEmpty()
+				.containsOnly( "Lucene90" );
+		assertThat( index.query().select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() ).sort( f -> f.field( "text" ).desc() ).fetchHits( 2 ) )
+				.containsExactly( "text9", "text8" );
+	}
+
+	@Test
+	public void invalidIdPostingsFormat() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_WRITER_CODEC_ID_POSTINGS_FORMAT, "memory" )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid id postings format name: 'memory'" );
+	}
+
+	@Test
+	public void invalidStoredFieldsCompression() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_WRITER_CODEC_STORED_FIELDS_COMPRESSION, "fast" )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid stored fields compression name: 'fast'" );
+	}
+
+	@Test
+	public void invalidDocValuesFormat() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_WRITER_CODEC_DOC_VALUES_FORMAT, "NotAFormat" )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid doc values format name: 'NotAFormat'" )
+				.hasMessageContaining( "Lucene90" );
+	}
+
+	private void indexBatch(int startInclusive, int endExclusive, String textPrefix) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		for ( int i = startInclusive; i < endExclusive; i++ ) {
+			String text = "updated".equals( textPrefix ) ? textPrefix : textPrefix + i;
+			plan.addOrUpdate( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().text, text ) );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private List<String> perFieldPostingsFormats(String field) throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, INDEX_NAME,
+				reader -> fieldAttributes( reader, field, PerFieldPostingsFormat.PER_FIELD_FORMAT_KEY ) );
+	}
+
+	private List<String> perFieldDocValuesFormats(String field) throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, INDEX_NAME,
+				reader -> fieldAttributes( reader, field, PerFieldDocValuesFormat.PER_FIELD_FORMAT_KEY ) );
+	}
+
+	private List<String> storedFieldsModes() throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, INDEX_NAME, reader -> {
+			List<String> result = new ArrayList<>();
+			for ( LeafReaderContext leaf : reader.leaves() ) {
+				result.add( ( (SegmentReader) leaf.reader() ).getSegmentInfo().info
+						.getAttribute( Lucene90StoredFieldsFormat.MODE_KEY ) );
+			}
+			return result;
+		} );
+	}
+
+	private static List<String> fieldAttributes(DirectoryReader reader, String field, String attribute) {
+		List<String> result = new ArrayList<>();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			result.add( leaf.reader().getFieldInfos().fieldInfo( field ).getAttribute( attribute ) );
+		}
+		return result;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -8,15 +8,26 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
 import org.hibernate.search.backend.lucene.index.impl.Shard;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
 import org.hibernate.search.util.impl.test.annotation.PortedFromSearch5;
@@ -31,6 +42,7 @@
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 public class LuceneLocalFileSystemDirectoryIT extends AbstractBuiltInDirectoryIT {
 
@@ -115,6 +127,39 @@ public void filesystemAccessStrategy_invalid() {
 				);
 	}
 
+	@Test
+	public void nrtCache() throws IOException {
+		Path indexDirectory = temporaryFolder.getRoot().toPath().resolve( index.name() );
+
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT,
+				temporaryFolder.getRoot().getAbsolutePath() )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHE_ENABLED, true )
+				// Avoid periodic commits: we want to control when commits happen.
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 1_000_000 ) );
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		Directory directory = luceneIndexManager.getShardsForTests().get( 0 )
+				.indexAccessorForTests().getDirectoryForTests();
+		assertThat( directory ).isInstanceOf( NRTCachingDirectory.class );
+		NRTCachingDirectory nrtCachingDirectory = (NRTCachingDirectory) directory;
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "nrt" ), document -> addStringValue( document, "text nrt" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// The refreshed segment is searchable, but only exists in the heap.
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 1L );
+		assertThat( nrtCachingDirectory.listCachedFiles() ).isNotEmpty();
+		assertThat( fileNames( indexDirectory ) ).doesNotContainAnyElementsOf(
+				Arrays.asList( nrtCachingDirectory.listCachedFiles() ) );
+
+		index.createWorkspace().flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+
+		// The commit wrote the segment to the filesystem.
+		assertThat( nrtCachingDirectory.listCachedFiles() ).isEmpty();
+		assertThat( fileNames( indexDirectory ) ).anySatisfy( name -> assertThat( name ).endsWith( ".si" ) );
+	}
+
 	@Override
 	protected Object getDirectoryType() {
 		return "local-filesystem";
@@ -157,6 +202,17 @@ private void testFileSystemAccessStrategy(String strategyName,
 				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( expectedDirectoryClass ) );
 	}
 
+	private static void addStringValue(DocumentElement document, String value) {
+		// The index binding is private to the parent class: refer to the field by name.
+		document.addValue( "string", value );
+	}
+
+	private static List<String> fileNames(Path directory) throws IOException {
+		try ( Stream<Path> files = Files.list( directory ) ) {
+			return files.map( p -> p.getFileName().toString() ).collect( Collectors.toList() );
+		}
+	}
+
 	private static long directorySize(Path directory) throws IOException {
 		return Files.walk( directory )
 				.filter( p -> p.toFile().isFile() )
@@ -7,10 +7,24 @@
 package org.hibernate.search.integrationtest.backend.lucene.lowlevel.directory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
 import org.hibernate.search.backend.lucene.index.impl.Shard;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
 import org.hibernate.search.util.impl.test.annotation.PortedFromSearch5;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
 
@@ -41,6 +55,73 @@ public void test() {
 				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( ByteBuffersDirectory.class ) );
 	}
 
+	@Test
+	public void snapshot_restart() throws IOException {
+		Path snapshotRoot = temporaryFolder.newFolder( "snapshot" ).toPath();
+		setupWithSnapshot( snapshotRoot, StubMappingSchemaManagementStrategy.NONE );
+		checkIndexingAndQuerying();
+		mapping.close();
+
+		setupWithSnapshot( snapshotRoot, StubMappingSchemaManagementStrategy.NONE );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 3L );
+
+		// Changes after a restore are included in the next snapshot.
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "4" ), document -> addStringValue( document, "text 4" ) );
+		plan.delete( referenceProvider( "1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+		mapping.close();
+
+		setupWithSnapshot( snapshotRoot, StubMappingSchemaManagementStrategy.NONE );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 3L );
+		assertThat( index.query().where( f -> f.id().matching( "4" ) ).fetchTotalHitCount() ).isEqualTo( 1L );
+		assertThat( index.query().where( f -> f.id().matching( "1" ) ).fetchTotalHitCount() ).isZero();
+	}
+
+	@Test
+	public void snapshot_dropIndex() throws IOException {
+		Path snapshotRoot = temporaryFolder.newFolder( "snapshot" ).toPath();
+		setupWithSnapshot( snapshotRoot, StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+		checkIndexingAndQuerying();
+		mapping.close();
+
+		// The index was dropped on shutdown: it must not be restored.
+		setupWithSnapshot( snapshotRoot, StubMappingSchemaManagementStrategy.NONE );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isZero();
+	}
+
+	@Test
+	public void snapshot_corrupted() throws IOException {
+		Path snapshotRoot = temporaryFolder.newFolder( "snapshot" ).toPath();
+		setupWithSnapshot( snapshotRoot, StubMappingSchemaManagementStrategy.NONE );
+		checkIndexingAndQuerying();
+		mapping.close();
+
+		List<Path> segmentFiles;
+		try ( Stream<Path> files = Files.list( snapshotRoot.resolve( index.name() ) ) ) {
+			segmentFiles = files.filter( file -> !file.getFileName().toString().startsWith( "segments" )
+					&& !file.getFileName().toString().endsWith( ".lock" ) )
+					.collect( Collectors.toList() );
+		}
+		assertThat( segmentFiles ).isNotEmpty();
+		for ( Path file : segmentFiles ) {
+			byte[] content = Files.readAllBytes( file );
+			// Flip a byte in the middle of the file: the checksum will no longer match.
+			content[content.length / 2] ^= 1;
+			Files.write( file, content, StandardOpenOption.TRUNCATE_EXISTING );
+		}
+
+		// The corrupted snapshot is ignored and the index starts empty.
+		setupWithSnapshot( snapshotRoot, StubMappingSchemaManagementStrategy.NONE );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isZero();
+		checkIndexingAndQuerying();
+	}
+
+	private void setupWithSnapshot(Path snapshotRoot, StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_SNAPSHOT_ROOT, snapshotRoot.toString() )
+				.withSchemaManagement( schemaManagementStrategy ) );
+	}
+
 	@Override
 	protected Object getDirectoryType() {
 		return "local-heap";
@@ -56,4 +137,9 @@ protected String getDefaultLockClassName() {
 		return SINGLE_INSTANCE_LOCK_FQN;
 	}
 
+	private static void addStringValue(DocumentElement document, String value) {
+		// The index binding is private to the parent class: refer to the field by name.
+		document.addValue( "string", value );
+	}
+
 }
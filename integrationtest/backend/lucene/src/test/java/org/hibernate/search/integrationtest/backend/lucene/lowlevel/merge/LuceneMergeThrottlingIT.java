@@ -0,0 +1,154 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.merge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that merges are deferred outside of quiet windows, up to the maximum segment count,
+ * and that throttled merges still produce a correct index.
+ */
+public class LuceneMergeThrottlingIT {
+
+	private static final String INDEX_NAME = "mergeThrottlingIndex";
+	private static final int MAX_SEGMENT_COUNT = 8;
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( "HH:mm", Locale.ROOT );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+
+	@Test
+	public void outsideQuietWindow() throws IOException {
+		LocalTime now = LocalTime.now( ZoneId.systemDefault() );
+		setup( window( now.plusHours( 2 ), now.plusHours( 3 ) ) );
+
+		// Each batch is committed separately, creating one segment per batch.
+		for ( int i = 0; i < MAX_SEGMENT_COUNT - 1; i++ ) {
+			indexBatch( i );
+		}
+
+		// Merges were deferred.
+		assertThat( segmentCount() ).isEqualTo( MAX_SEGMENT_COUNT - 1 );
+
+		for ( int i = MAX_SEGMENT_COUNT - 1; i < 3 * MAX_SEGMENT_COUNT; i++ ) {
+			indexBatch( i );
+		}
+
+		// Merges were no longer deferred when the maximum segment count was reached.
+		// Merges are asynchronous, so allow for a segment that was flushed while merges were running.
+		assertThat( segmentCount() ).isLessThanOrEqualTo( MAX_SEGMENT_COUNT + 1 );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( 3L * MAX_SEGMENT_COUNT );
+	}
+
+	@Test
+	public void insideQuietWindow() throws IOException {
+		LocalTime now = LocalTime.now( ZoneId.systemDefault() );
+		setup( window( now.minusHours( 1 ), now.plusHours( 1 ) ) );
+
+		for ( int i = 0; i < 3 * MAX_SEGMENT_COUNT; i++ ) {
+			indexBatch( i );
+		}
+
+		// Merges were not deferred.
+		assertThat( segmentCount() ).isLessThan( MAX_SEGMENT_COUNT - 1 );
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( 3L * MAX_SEGMENT_COUNT );
+	}
+
+	@Test
+	public void throttling() throws IOException {
+		setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_MERGE_THROTTLING_ENABLED, true )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_MERGE_THROTTLING_MIN_RATE, 1 )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_MERGE_THROTTLING_SEARCH_CONCURRENCY, 1 )
+				.withIndex( index )
+				.setup();
+
+		for ( int i = 0; i < 10; i++ ) {
+			indexBatch( i );
+			// Searches between batches affect the throttling rate of merges.
+			assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( i + 1L );
+		}
+
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.mergeSegments( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		workspace.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+
+		assertThat( segmentCount() ).isEqualTo( 1 );
+		assertThat( index.query().where( f -> f.match().field( "text" ).matching( "text5" ) ).fetchTotalHitCount() )
+				.isEqualTo( 1L );
+	}
+
+	@Test
+	public void invalidQuietWindow() {
+		assertThatThrownBy( () -> setup( "01:00-05:00,tonight" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid merge quiet window: 'tonight'" );
+	}
+
+	private void setup(String quietWindows) {
+		setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_MERGE_QUIET_WINDOWS, quietWindows )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_MERGE_DEFERRED_MIN_SIZE, 0 )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_MERGE_MAX_SEGMENT_COUNT, MAX_SEGMENT_COUNT )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_MERGE_FACTOR, 2 )
+				.withIndex( index )
+				.setup();
+	}
+
+	private static String window(LocalTime start, LocalTime end) {
+		return FORMATTER.format( start ) + "-" + FORMATTER.format( end );
+	}
+
+	private void indexBatch(int i) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( String.valueOf( i ) ),
+				document -> document.addValue( index.binding().text, "text" + i ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private int segmentCount() throws IOException {
+		return LuceneIndexContentUtils.readIndex( setupHelper, INDEX_NAME, reader -> reader.leaves().size() );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
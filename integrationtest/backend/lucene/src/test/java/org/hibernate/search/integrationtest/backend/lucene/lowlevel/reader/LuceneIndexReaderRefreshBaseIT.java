@@ -6,10 +6,17 @@
  */
 package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
@@ -17,6 +24,7 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
@@ -155,6 +163,89 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_backgroundRefresh() {
+		AtomicInteger warmedLeafCount = new AtomicInteger();
+		IndexReaderWarmer warmer = context -> warmedLeafCount.addAndGet( context.newLeaves().size() );
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, NON_ZERO_DELAY )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.withBackendProperty( LuceneIndexSettings.IO_BACKGROUND_REFRESH, true )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMERS, BeanReference.ofInstance( warmer ) )
+				.setup();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasNoHits();
+
+		// ... but they should be after the background refresh, and the new segment should have been warmed up
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+		assertThat( warmedLeafCount ).hasPositiveValue();
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_backgroundRefresh_slowWarmer() throws Exception {
+		CountDownLatch warmingStarted = new CountDownLatch( 1 );
+		CountDownLatch unblockWarming = new CountDownLatch( 1 );
+		IndexReaderWarmer warmer = context -> {
+			if ( !context.newLeaves().isEmpty() ) {
+				warmingStarted.countDown();
+				try {
+					unblockWarming.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		setupHelper.start()
+				.withIndex( index )
+				// A single indexing thread: indexing would hang if warmers ran in that thread.
+				.withBackendProperty( LuceneBackendSettings.THREAD_POOL_SIZE, 1 )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, 100 )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.withBackendProperty( LuceneIndexSettings.IO_BACKGROUND_REFRESH, true )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMERS, BeanReference.ofInstance( warmer ) )
+				.setup();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		try {
+			assertThatQuery( query ).hasNoHits();
+
+			IndexIndexingPlan plan = index.createIndexingPlan( commitStrategy, DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+			plan.execute( OperationSubmitter.blocking() ).join();
+			assertThat( warmingStarted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+			// While the background refresh is stuck in the warmer, indexing and search queries still work.
+			plan = index.createIndexingPlan( commitStrategy, DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().textField, "text2" ) );
+			plan.execute( OperationSubmitter.blocking() ).get( 10, TimeUnit.SECONDS );
+			assertThatQuery( query ).hasNoHits();
+		}
+		finally {
+			unblockWarming.countDown();
+		}
+
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 2 ) );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.replication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Checks that a read-only index running in another Hibernate Search instance,
+ * on the same directory as the index being written to, sees new commits
+ * and rejects writes.
+ */
+public class LuceneReadOnlyIT {
+
+	private static final String INDEX_NAME = "shared";
+	private static final int POLL_INTERVAL = 100;
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> writerIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> readOnlyIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+
+	@Before
+	public void setup() throws Exception {
+		String sharedRoot = temporaryFolder.newFolder( "shared" ).toString();
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, sharedRoot )
+				.withIndex( writerIndex )
+				.setup();
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, sharedRoot )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_ROLE, "read-only" )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_POLL_INTERVAL, POLL_INTERVAL )
+				.withIndex( readOnlyIndex )
+				.setup();
+	}
+
+	@Test
+	public void newCommits() {
+		IndexIndexingPlan plan = writerIndex.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( writerIndex.binding().text, "one" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( writerIndex.binding().text, "two" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		Awaitility.await().untilAsserted( () -> assertThat( readOnlyIndex.query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrder( "one", "two" ) );
+
+		plan = writerIndex.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		plan.addOrUpdate( referenceProvider( "1" ),
+				document -> document.addValue( writerIndex.binding().text, "one updated" ) );
+		plan.delete( referenceProvider( "2" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		Awaitility.await().untilAsserted( () -> assertThat( readOnlyIndex.query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrder( "one updated" ) );
+	}
+
+	@Test
+	public void write() {
+		assertThatThrownBy( () -> readOnlyIndex.bulkIndexer()
+				.add( 1, i -> documentProvider( String.valueOf( i ),
+						document -> document.addValue( readOnlyIndex.binding().text, "text" ) ) )
+				.join() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to write to this index: this index is read-only" );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.replication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannel;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationChannelCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.replication.spi.ReplicationTransport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.store.Directory;
+import org.awaitility.Awaitility;
+
+/**
+ * Checks that commits of a primary index are copied to a replica index
+ * running in another Hibernate Search instance, with its own local directory,
+ * and that the replica rejects writes.
+ */
+public class LuceneReplicationIT {
+
+	private static final String INDEX_NAME = "replicated";
+	private static final int POLL_INTERVAL = 100;
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> primaryIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> replicaIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+
+	@Test
+	public void replication() throws Exception {
+		setup();
+
+		IndexIndexingPlan plan = primaryIndex.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( primaryIndex.binding().text, "one" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( primaryIndex.binding().text, "two" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		Awaitility.await().untilAsserted( () -> assertThat( replicaIndex.query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrder( "one", "two" ) );
+
+		// Updates and deletes are replicated too.
+		plan = primaryIndex.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		plan.addOrUpdate( referenceProvider( "1" ),
+				document -> document.addValue( primaryIndex.binding().text, "one updated" ) );
+		plan.delete( referenceProvider( "2" ) );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( primaryIndex.binding().text, "three" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		Awaitility.await().untilAsserted( () -> assertThat( replicaIndex.query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrder( "one updated", "three" ) );
+	}
+
+	@Test
+	public void replication_mergeSegments() throws Exception {
+		setup();
+
+		for ( int i = 0; i < 5; i++ ) {
+			int id = i;
+			IndexIndexingPlan plan = primaryIndex.createIndexingPlan( DocumentCommitStrategy.FORCE,
+					DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( String.valueOf( id ) ),
+					document -> document.addValue( primaryIndex.binding().text, "text" + id ) );
+			plan.execute( OperationSubmitter.blocking() ).join();
+		}
+		IndexWorkspace workspace = primaryIndex.createWorkspace();
+		workspace.mergeSegments( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		workspace.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+
+		Awaitility.await().untilAsserted( () -> assertThat( replicaIndex.query()
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount() )
+				.isEqualTo( 5L ) );
+	}
+
+	@Test
+	public void publicationDoesNotBlockCommits() throws Exception {
+		BlockingReplicationTransport transport = new BlockingReplicationTransport();
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT,
+						temporaryFolder.newFolder( "primary" ).toString() )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_ROLE, "primary" )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_TRANSPORT,
+						BeanReference.ofInstance( transport ) )
+				.withIndex( primaryIndex )
+				.setup();
+
+		try {
+			for ( int i = 0; i < 3; i++ ) {
+				int id = i;
+				IndexIndexingPlan plan = primaryIndex.createIndexingPlan( DocumentCommitStrategy.FORCE,
+						DocumentRefreshStrategy.NONE );
+				plan.add( referenceProvider( String.valueOf( id ) ),
+						document -> document.addValue( primaryIndex.binding().text, "text" + id ) );
+				// Commits must not wait for the (blocked) publication of previous commits.
+				plan.execute( OperationSubmitter.blocking() ).get( 10, TimeUnit.SECONDS );
+			}
+			Awaitility.await().untilAsserted( () -> assertThat( transport.publicationsStarted.get() ).isEqualTo( 1 ) );
+		}
+		finally {
+			transport.unblock.countDown();
+		}
+
+		// Intermediate commits are skipped: only the latest one is published next.
+		Awaitility.await().untilAsserted( () -> assertThat( transport.lastPublishedDocCount )
+				.isEqualTo( 3 ) );
+		assertThat( transport.publicationsStarted.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void replica_write() throws Exception {
+		setup();
+
+		assertThatThrownBy( () -> replicaIndex.bulkIndexer()
+				.add( 1, i -> documentProvider( String.valueOf( i ),
+						document -> document.addValue( replicaIndex.binding().text, "text" ) ) )
+				.join() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to write to this index: this index is a replica" );
+	}
+
+	@Test
+	public void missingRoot() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_ROLE, "primary" )
+				.withIndex( primaryIndex )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "When using replication transport 'local-filesystem',"
+						+ " this configuration property must be set" );
+	}
+
+	@Test
+	public void invalidRole() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_ROLE, "secondary" )
+				.withIndex( primaryIndex )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid replication role name: 'secondary'" );
+	}
+
+	private void setup() throws Exception {
+		Path replicationRoot = temporaryFolder.newFolder( "replication" ).toPath();
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT,
+						temporaryFolder.newFolder( "primary" ).toString() )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_ROLE, "primary" )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_ROOT, replicationRoot.toString() )
+				.withIndex( primaryIndex )
+				.setup();
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT,
+						temporaryFolder.newFolder( "replica" ).toString() )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_ROLE, "replica" )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_ROOT, replicationRoot.toString() )
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.REPLICATION_POLL_INTERVAL, POLL_INTERVAL )
+				.withIndex( replicaIndex )
+				.setup();
+	}
+
+	private static class BlockingReplicationTransport implements ReplicationTransport, ReplicationChannel {
+		private final CountDownLatch unblock = new CountDownLatch( 1 );
+		private final AtomicInteger publicationsStarted = new AtomicInteger();
+		private volatile int lastPublishedDocCount = -1;
+
+		@Override
+		public ReplicationChannel createChannel(ReplicationChannelCreationContext context) {
+			return this;
+		}
+
+		@Override
+		public void publish(IndexCommit commit) throws IOException {
+			publicationsStarted.incrementAndGet();
+			try {
+				unblock.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException( e );
+			}
+			// The commit must still be readable, even though other commits happened in the meantime.
+			try ( DirectoryReader reader = DirectoryReader.open( commit ) ) {
+				lastPublishedDocCount = reader.numDocs();
+			}
+		}
+
+		@Override
+		public boolean fetch(Directory target) {
+			return false;
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do.
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.translog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * Checks that index changes that were not committed are recorded in the translog,
+ * replayed after a crash, and removed from the translog once committed.
+ */
+public class LuceneTranslogIT {
+
+	private static final String INDEX_NAME = "translogged";
+	// Large enough that changes are never committed during a test, unless forced.
+	private static final int COMMIT_INTERVAL = 1_000_000;
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> restartedIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+
+	@Test
+	public void replayAfterCrash() throws IOException {
+		Path directoryRoot = temporaryFolder.newFolder( "index" ).toPath();
+		Path translogRoot = temporaryFolder.newFolder( "translog" ).toPath();
+		setup( index, directoryRoot, translogRoot, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "one" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "two" ) );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().text, "three" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.addOrUpdate( referenceProvider( "1" ),
+				document -> document.addValue( index.binding().text, "one updated" ) );
+		plan.delete( referenceProvider( "2" ) );
+		plan.add( referenceProvider( "4" ), document -> document.addValue( index.binding().text, "four" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// The changes are not committed...
+		assertThat( countDocsOnDisk( directoryRoot ) ).isEqualTo( 3 );
+		// ... but they are in the translog.
+		assertThat( translogFiles( translogRoot ) ).anySatisfy( file -> assertThat( Files.size( file ) )
+				.isGreaterThan( 8L ) );
+
+		// Simulate a crash by copying the files of the running index.
+		Path crashedDirectoryRoot = temporaryFolder.newFolder( "crashed-index" ).toPath();
+		Path crashedTranslogRoot = temporaryFolder.newFolder( "crashed-translog" ).toPath();
+		copy( directoryRoot.resolve( INDEX_NAME ), crashedDirectoryRoot.resolve( INDEX_NAME ) );
+		copy( translogRoot.resolve( INDEX_NAME ), crashedTranslogRoot.resolve( INDEX_NAME ) );
+
+		setup( restartedIndex, crashedDirectoryRoot, crashedTranslogRoot, StubMappingSchemaManagementStrategy.NONE );
+		assertThat( restartedIndex.query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrder( "one updated", "three", "four" );
+
+		// Replayed operations are committed, and removed from the translog.
+		assertThat( countDocsOnDisk( crashedDirectoryRoot ) ).isEqualTo( 3 );
+		assertThat( translogFiles( crashedTranslogRoot ) ).hasSize( 1 )
+				.allSatisfy( file -> assertThat( Files.size( file ) ).isEqualTo( 8L ) );
+	}
+
+	@Test
+	public void commitTrimsTranslog() throws IOException {
+		Path directoryRoot = temporaryFolder.newFolder( "index" ).toPath();
+		Path translogRoot = temporaryFolder.newFolder( "translog" ).toPath();
+		setup( index, directoryRoot, translogRoot, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		for ( int i = 0; i < 3; i++ ) {
+			int id = i;
+			IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE,
+					DocumentRefreshStrategy.NONE );
+			plan.add( referenceProvider( String.valueOf( id ) ),
+					document -> document.addValue( index.binding().text, "text" + id ) );
+			plan.execute( OperationSubmitter.blocking() ).join();
+		}
+		assertThat( countDocsOnDisk( directoryRoot ) ).isZero();
+
+		index.createWorkspace().flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+
+		assertThat( countDocsOnDisk( directoryRoot ) ).isEqualTo( 3 );
+		assertThat( translogFiles( translogRoot ) ).hasSize( 1 )
+				.allSatisfy( file -> assertThat( Files.size( file ) ).isEqualTo( 8L ) );
+	}
+
+	@Test
+	public void missingRoot() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( INDEX_NAME, LuceneIndexSettings.IO_TRANSLOG_ENABLED, true )
+				.withIndex( index )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( LuceneIndexSettings.IO_TRANSLOG_ROOT,
+						"When the translog is enabled, this configuration property must be set" );
+	}
+
+	private void setup(SimpleMappedIndex<IndexBinding> index, Path directoryRoot, Path translogRoot,
+			StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, directoryRoot.toString() )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, COMMIT_INTERVAL )
+				.withBackendProperty( LuceneIndexSettings.IO_TRANSLOG_ENABLED, true )
+				.withBackendProperty( LuceneIndexSettings.IO_TRANSLOG_ROOT, translogRoot.toString() )
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex( index )
+				.setup();
+	}
+
+	private static int countDocsOnDisk(Path directoryRoot) throws IOException {
+		try ( Directory directory = FSDirectory.open( directoryRoot.resolve( INDEX_NAME ) );
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private static List<Path> translogFiles(Path translogRoot) throws IOException {
+		try ( Stream<Path> files = Files.list( translogRoot.resolve( INDEX_NAME ) ) ) {
+			return files.collect( Collectors.toList() );
+		}
+	}
+
+	private static void copy(Path source, Path target) throws IOException {
+		Files.createDirectories( target );
+		try ( Stream<Path> files = Files.list( source ) ) {
+			for ( Path file : (Iterable<Path>) files::iterator ) {
+				String fileName = file.getFileName().toString();
+				if ( !"write.lock".equals( fileName ) ) {
+					Files.copy( file, target.resolve( fileName ) );
+				}
+			}
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
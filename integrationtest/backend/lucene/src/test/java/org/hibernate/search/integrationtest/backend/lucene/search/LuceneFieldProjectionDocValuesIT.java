@@ -0,0 +1,222 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Checks that field projections return the exact indexed values
+ * when they are extracted from doc values instead of stored fields,
+ * and that they fall back to stored fields whenever doc values would not return the exact indexed values.
+ */
+public class LuceneFieldProjectionDocValuesIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String OTHER_INDEX_DOCUMENT = "other";
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index =
+			SimpleMappedIndex.of( IndexBinding::new ).name( "main" );
+	private static final SimpleMappedIndex<OtherIndexBinding> otherIndex =
+			SimpleMappedIndex.of( OtherIndexBinding::new ).name( "other" );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndexes( index, otherIndex ).setup();
+		initData();
+	}
+
+	@Test
+	public void numeric() {
+		assertThat( index.query()
+				.select( f -> f.composite().from( f.field( "integer", Integer.class ), f.field( "long", Long.class ),
+						f.field( "double", Double.class ) ).asList() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits() )
+				.containsExactly( Arrays.asList( 42, Long.MIN_VALUE, -0.0 ) );
+		assertThat( index.query()
+				.select( f -> f.composite().from( f.field( "integer", Integer.class ), f.field( "long", Long.class ),
+						f.field( "double", Double.class ) ).asList() )
+				.where( f -> f.id().matching( DOCUMENT_2 ) )
+				.fetchAllHits() )
+				.containsExactly( Arrays.asList( -7, Long.MAX_VALUE, Double.MAX_VALUE ) );
+	}
+
+	@Test
+	public void temporal() {
+		assertThat( index.query()
+				.select( f -> f.composite().from( f.field( "localDate", LocalDate.class ),
+						f.field( "localTime", LocalTime.class ) ).asList() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits() )
+				.containsExactly( Arrays.asList( LocalDate.of( -2000, 2, 29 ), LocalTime.of( 13, 14, 15, 123456789 ) ) );
+	}
+
+	@Test
+	public void lossyDocValues_fallsBackToStoredFields() {
+		// Doc values only hold milliseconds.
+		assertThat( index.query()
+				.select( f -> f.field( "instant", Instant.class ) )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits() )
+				.containsExactly( Instant.parse( "2020-01-01T00:00:00.123456789Z" ) );
+	}
+
+	@Test
+	public void string() {
+		assertThat( index.query()
+				.select( f -> f.field( "string", String.class ) )
+				.where( f -> f.id().matchingAny( Arrays.asList( DOCUMENT_1, DOCUMENT_2 ) ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.fetchAllHits() )
+				.containsExactly( "Some Value", "another value" );
+	}
+
+	@Test
+	public void missingValue() {
+		assertThat( index.query()
+				.select( f -> f.field( "localDate", LocalDate.class ) )
+				.where( f -> f.id().matching( DOCUMENT_2 ) )
+				.fetchAllHits() )
+				.containsExactly( (LocalDate) null );
+	}
+
+	@Test
+	public void nested() {
+		List<List<?>> hit = index.query()
+				.select( f -> f.object( "nested" )
+						.from( f.field( "nested.integer", Integer.class ) )
+						.asList()
+						.multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits()
+				.get( 0 );
+		assertThat( hit ).containsExactly( List.of( 3 ), List.of( 1 ) );
+	}
+
+	@Test
+	public void flattened_preservesOrder() {
+		// Doc values would be sorted: this requires stored fields.
+		assertThat( index.query()
+				.select( f -> f.field( "flattened.string", String.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits() )
+				.containsExactly( List.of( "b", "a" ) );
+	}
+
+	@Test
+	public void multiIndex_docValuesInOneIndexOnly() {
+		assertThat( index.createScope( otherIndex ).query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.id().matchingAny( Arrays.asList( DOCUMENT_1, OTHER_INDEX_DOCUMENT ) ) )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrder( 42, 1000 );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					IndexBinding binding = index.binding();
+					document.addValue( binding.integer, 42 );
+					document.addValue( binding.longField, Long.MIN_VALUE );
+					document.addValue( binding.doubleField, -0.0 );
+					document.addValue( binding.localDate, LocalDate.of( -2000, 2, 29 ) );
+					document.addValue( binding.localTime, LocalTime.of( 13, 14, 15, 123456789 ) );
+					document.addValue( binding.instant, Instant.parse( "2020-01-01T00:00:00.123456789Z" ) );
+					document.addValue( binding.string, "Some Value" );
+					DocumentElement nested = document.addObject( binding.nested );
+					nested.addValue( binding.nestedInteger, 3 );
+					nested = document.addObject( binding.nested );
+					nested.addValue( binding.nestedInteger, 1 );
+					DocumentElement flattened = document.addObject( binding.flattened );
+					flattened.addValue( binding.flattenedString, "b" );
+					flattened = document.addObject( binding.flattened );
+					flattened.addValue( binding.flattenedString, "a" );
+				} )
+				.add( DOCUMENT_2, document -> {
+					IndexBinding binding = index.binding();
+					document.addValue( binding.integer, -7 );
+					document.addValue( binding.longField, Long.MAX_VALUE );
+					document.addValue( binding.doubleField, Double.MAX_VALUE );
+					document.addValue( binding.string, "another value" );
+				} )
+				.join( otherIndex.bulkIndexer()
+						.add( OTHER_INDEX_DOCUMENT, document -> document.addValue( otherIndex.binding().integer, 1000 ) ) );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Long> longField;
+		final IndexFieldReference<Double> doubleField;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<LocalTime> localTime;
+		final IndexFieldReference<Instant> instant;
+		final IndexFieldReference<String> string;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+		final IndexObjectFieldReference flattened;
+		final IndexFieldReference<String> flattenedString;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			longField = root.field( "long", f -> f.asLong()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			doubleField = root.field( "double", f -> f.asDouble()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			localTime = root.field( "localTime", f -> f.asLocalTime()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			instant = root.field( "instant", f -> f.asInstant()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			string = root.field( "string", f -> f.asString()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectStructure.NESTED ).multiValued();
+			nestedInteger = nestedField.field( "integer", f -> f.asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			nested = nestedField.toReference();
+			IndexSchemaObjectField flattenedField = root.objectField( "flattened", ObjectStructure.FLATTENED )
+					.multiValued();
+			flattenedString = flattenedField.field( "string", f -> f.asString()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) ).toReference();
+			flattened = flattenedField.toReference();
+		}
+	}
+
+	private static class OtherIndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		OtherIndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ) ).toReference();
+		}
+	}
+}
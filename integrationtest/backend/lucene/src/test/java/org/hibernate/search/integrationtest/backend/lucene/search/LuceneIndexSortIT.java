@@ -0,0 +1,241 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that index sorts are applied, that they do not affect search results,
+ * and that queries whose sort is a prefix of the index sort may report a lower bound of the total hit count
+ * when a total hit count threshold is set.
+ */
+public class LuceneIndexSortIT {
+
+	private static final int INDEX_SIZE = 200;
+	private static final int CATEGORY_COUNT = 3;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void sortPrefix_totalHitCountThreshold() {
+		setup( "rating:desc,title" );
+
+		SearchResult<String> result = index.query()
+				.select( f -> f.field( "title", String.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 0 ) )
+				.sort( f -> f.field( "rating" ).desc().then().field( "title" ) )
+				.totalHitCountThreshold( 10 )
+				.fetch( 10 );
+
+		assertThat( result.hits() ).containsExactlyElementsOf( expectedTitles( 10 ) );
+		assertThat( result.total().isHitCountExact() ).isFalse();
+		assertThat( result.total().hitCountLowerBound() ).isBetween( 10L, (long) INDEX_SIZE );
+	}
+
+	@Test
+	public void sortPrefix_exactTotalHitCount() {
+		setup( "rating:desc,title" );
+
+		SearchResult<String> result = index.query()
+				.select( f -> f.field( "title", String.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 0 ) )
+				.sort( f -> f.field( "rating" ).desc() )
+				.fetch( 10 );
+
+		assertThat( result.hits() ).containsExactlyElementsOf( expectedTitles( 10 ) );
+		assertThat( result.total().isHitCountExact() ).isTrue();
+		assertThat( result.total().hitCount() ).isEqualTo( INDEX_SIZE );
+	}
+
+	@Test
+	public void sortPrefix_aggregation() {
+		setup( "rating:desc" );
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "categories" );
+
+		SearchResult<String> result = index.query()
+				.select( f -> f.field( "title", String.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 0 ) )
+				.sort( f -> f.field( "rating" ).desc() )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", String.class ) )
+				.totalHitCountThreshold( 10 )
+				.fetch( 10 );
+
+		assertThat( result.total().isHitCountExact() ).isFalse();
+		// Aggregations must still take into account all matching documents.
+		Map<String, Long> expected = new LinkedHashMap<>();
+		for ( int i = 0; i < INDEX_SIZE; i++ ) {
+			expected.merge( category( i ), 1L, Long::sum );
+		}
+		assertThat( result.aggregation( aggregationKey ) ).containsExactlyInAnyOrderEntriesOf( expected );
+	}
+
+	@Test
+	public void notPrefix() {
+		setup( "rating:desc,title" );
+
+		List<String> expected = IntStream.range( 0, INDEX_SIZE ).mapToObj( LuceneIndexSortIT::title )
+				.sorted( Comparator.reverseOrder() )
+				.limit( 10 )
+				.collect( Collectors.toList() );
+		assertThat( index.query()
+				.select( f -> f.field( "title", String.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 0 ) )
+				.sort( f -> f.field( "title" ).desc() )
+				.totalHitCountThreshold( 10 )
+				.fetchHits( 10 ) )
+				.containsExactlyElementsOf( expected );
+
+		// Missing values sorted first: this does not match the index sort, but must still work.
+		assertThat( index.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 0 ) )
+				.sort( f -> f.field( "rating" ).desc().missing().first().then().field( "number" ) )
+				.totalHitCountThreshold( 10 )
+				.fetchHits( 3 ) )
+				.containsExactly( 0, 13, 26 );
+	}
+
+	@Test
+	public void invalidField() {
+		assertThatThrownBy( () -> setup( "rating,unknown:desc" ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.indexFieldContext( "unknown" )
+						.failure( "Invalid index sort: unable to sort the index on field 'unknown'" ) );
+	}
+
+	@Test
+	public void notSortableField() {
+		assertThatThrownBy( () -> setup( "category" ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.indexFieldContext( "category" )
+						.failure( "Invalid index sort: unable to sort the index on field 'category'" ) );
+	}
+
+	@Test
+	public void invalidOrder() {
+		assertThatThrownBy( () -> setup( "rating:up" ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.indexFieldContext( "rating" )
+						.failure( "Invalid index sort: invalid sort order 'up' for field 'rating'" ) );
+	}
+
+	@Test
+	public void nestedDocuments() {
+		SimpleMappedIndex<IndexBinding> nestedIndex = SimpleMappedIndex.of( root -> {
+			root.objectField( "nested", ObjectStructure.NESTED ).multiValued().toReference();
+			return new IndexBinding( root );
+		} ).name( "nested" );
+
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexProperty( nestedIndex.name(), LuceneIndexSettings.IO_WRITER_INDEX_SORT, "rating" )
+				.withIndex( nestedIndex )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( nestedIndex.name() )
+						.failure( "Invalid index sort: this index contains nested documents" ) );
+	}
+
+	private void setup(String indexSort) {
+		setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.IO_WRITER_INDEX_SORT, indexSort )
+				.withIndex( index )
+				.setup();
+		index.bulkIndexer()
+				.add( INDEX_SIZE, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().number, i );
+							document.addValue( index.binding().rating, rating( i ) );
+							document.addValue( index.binding().title, title( i ) );
+							document.addValue( index.binding().category, category( i ) );
+						}
+				) )
+				.join();
+	}
+
+	private static List<String> expectedTitles(int limit) {
+		List<Integer> numbers = new ArrayList<>();
+		for ( int i = 0; i < INDEX_SIZE; i++ ) {
+			numbers.add( i );
+		}
+		// Missing ratings last, then by title.
+		numbers.sort( Comparator.<Integer, Integer>comparing( i -> rating( i ) == null ? Integer.MIN_VALUE : rating( i ) )
+				.reversed()
+				.thenComparing( LuceneIndexSortIT::title ) );
+		return numbers.stream().limit( limit ).map( LuceneIndexSortIT::title ).collect( Collectors.toList() );
+	}
+
+	private static Integer rating(int i) {
+		return i % 13 == 0 ? null : i % 7;
+	}
+
+	private static String title(int i) {
+		return String.format( Locale.ROOT, "title%03d", ( i * 37 ) % INDEX_SIZE );
+	}
+
+	private static String category(int i) {
+		return "category" + ( i % CATEGORY_COUNT );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<Integer> rating;
+		final IndexFieldReference<String> title;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			rating = root.field( "rating", c -> c.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			title = root.field( "title", c -> c.asString()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", c -> c.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
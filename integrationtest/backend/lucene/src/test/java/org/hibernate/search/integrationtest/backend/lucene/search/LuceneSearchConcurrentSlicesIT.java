@@ -0,0 +1,154 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Checks that search queries return the same results
+ * when index slices are collected concurrently in the search thread pool.
+ */
+public class LuceneSearchConcurrentSlicesIT {
+
+	private static final int INDEX_SIZE = 1_000;
+	private static final int CATEGORY_COUNT = 7;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 4 )
+				// Force one slice per segment, and use multiple shards to get multiple segments.
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS, 1 )
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS, 1 )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 4 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	public void sort_offsetAndLimit() {
+		List<Integer> hits = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 100 ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetchHits( 15, 10 );
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = INDEX_SIZE - 1 - 15; expected.size() < 10; i-- ) {
+			expected.add( i );
+		}
+		assertThat( hits ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void sort_offsetBeyondTotalHitCount() {
+		SearchResult<Integer> result = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).atLeast( 990 ) )
+				.sort( f -> f.field( "number" ) )
+				.fetch( 20, 10 );
+
+		assertThat( result.hits() ).isEmpty();
+		assertThat( result.total().hitCount() ).isEqualTo( 10L );
+	}
+
+	@Test
+	public void totalHitCount() {
+		SearchResult<Integer> result = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.range().field( "number" ).between( 100, 599 ) )
+				.fetch( 5 );
+
+		assertThat( result.hits() ).hasSize( 5 );
+		assertThat( result.total().hitCount() ).isEqualTo( 500L );
+		assertThat( result.total().isHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void count() {
+		long count = index.createScope().query()
+				.where( f -> f.range().field( "number" ).lessThan( 300 ) )
+				.fetchTotalHitCount();
+
+		assertThat( count ).isEqualTo( 300L );
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "categories" );
+
+		SearchResult<Integer> result = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", String.class ) )
+				.fetch( 0 );
+
+		Map<String, Long> expected = new LinkedHashMap<>();
+		for ( int i = 0; i < INDEX_SIZE; i++ ) {
+			expected.merge( category( i ), 1L, Long::sum );
+		}
+		assertThat( result.aggregation( aggregationKey ) ).containsExactlyInAnyOrderEntriesOf( expected );
+	}
+
+	private static String category(int i) {
+		return "category" + ( i % CATEGORY_COUNT );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( INDEX_SIZE, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().number, i );
+							document.addValue( index.binding().category, category( i ) );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", c -> c.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
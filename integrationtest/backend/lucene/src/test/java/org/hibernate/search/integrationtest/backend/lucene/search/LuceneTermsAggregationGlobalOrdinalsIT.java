@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that terms aggregations on text fields return correct results
+ * when global ordinals are cached and built eagerly on refresh,
+ * including over multiple segments and multiple shards.
+ */
+@RunWith(Parameterized.class)
+public class LuceneTermsAggregationGlobalOrdinalsIT {
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "categories" );
+
+	@Parameters(name = "Cache max entries {0}, {1} shard(s)")
+	public static Object[][] data() {
+		return new Object[][] {
+				{ 100, 1 },
+				{ 100, 3 },
+				{ 0, 1 },
+				{ 0, 3 }
+		};
+	}
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final int cacheMaxEntries;
+	private final int shardCount;
+
+	public LuceneTermsAggregationGlobalOrdinalsIT(int cacheMaxEntries, int shardCount) {
+		this.cacheMaxEntries = cacheMaxEntries;
+		this.shardCount = shardCount;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES, cacheMaxEntries )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, shardCount )
+				.withIndex( index )
+				.setup();
+	}
+
+	@Test
+	public void multipleSegments_refresh() {
+		// Each batch is committed and refreshed separately, creating multiple segments.
+		indexBatch( 0, 30, "category" );
+		indexBatch( 30, 60, "category" );
+
+		Map<String, Long> expected = new LinkedHashMap<>();
+		expected.put( "category0", 12L );
+		expected.put( "category1", 12L );
+		expected.put( "category2", 12L );
+		expected.put( "category3", 12L );
+		expected.put( "category4", 12L );
+		assertThat( aggregate( 10 ) ).containsExactlyEntriesOf( expected );
+		// Same reader: results must not change when global ordinals are retrieved from the cache.
+		assertThat( aggregate( 10 ) ).containsExactlyEntriesOf( expected );
+
+		// New terms in a new segment, and updates in existing segments: global ordinals must be rebuilt.
+		indexBatch( 60, 63, "newCategory" );
+		indexBatch( 0, 10, "otherCategory" );
+
+		expected = new LinkedHashMap<>();
+		expected.put( "otherCategory0", 2L );
+		expected.put( "otherCategory1", 2L );
+		expected.put( "otherCategory2", 2L );
+		expected.put( "otherCategory3", 2L );
+		expected.put( "otherCategory4", 2L );
+		expected.put( "category0", 10L );
+		expected.put( "category1", 10L );
+		expected.put( "category2", 10L );
+		expected.put( "category3", 10L );
+		expected.put( "category4", 10L );
+		expected.put( "newCategory0", 1L );
+		expected.put( "newCategory1", 1L );
+		expected.put( "newCategory2", 1L );
+		// Sort by count descending, then by term ascending
+		Map<String, Long> sortedExpected = new LinkedHashMap<>();
+		expected.entrySet().stream()
+				.sorted( Map.Entry.<String, Long>comparingByValue().reversed()
+						.thenComparing( Map.Entry.comparingByKey() ) )
+				.forEach( e -> sortedExpected.put( e.getKey(), e.getValue() ) );
+		assertThat( aggregate( 20 ) ).containsExactlyEntriesOf( sortedExpected );
+	}
+
+	@Test
+	public void equalCounts_maxTermCount() {
+		indexBatch( 0, 5, "a" );
+		indexBatch( 5, 10, "a" );
+
+		// All terms have the same count: the first terms in natural order must be returned.
+		Map<String, Long> expected = new LinkedHashMap<>();
+		expected.put( "a0", 2L );
+		expected.put( "a1", 2L );
+		assertThat( aggregate( 2 ) ).containsExactlyEntriesOf( expected );
+	}
+
+	private Map<String, Long> aggregate(int maxTermCount) {
+		return index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "category", String.class )
+						.maxTermCount( maxTermCount ) )
+				.fetch( 0 )
+				.aggregation( AGGREGATION_KEY );
+	}
+
+	private void indexBatch(int startInclusive, int endExclusive, String categoryPrefix) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		for ( int i = startInclusive; i < endExclusive; i++ ) {
+			String category = categoryPrefix + ( i % 5 );
+			plan.addOrUpdate( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().category, category ) );
+		}
+		plan.execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			category = root.field( "category", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Checks that the "shard" multi-tenancy strategy routes all documents of a tenant to the same shard,
+ * and that searches and purges for a tenant only affect that tenant.
+ */
+public class LuceneShardMultiTenancyIT {
+
+	private static final String TENANT_1 = "tenant1";
+	private static final String TENANT_2 = "tenant2";
+	private static final String TENANT_3 = "tenant3";
+	private static final int DOCUMENT_COUNT_PER_TENANT = 20;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private StubMapping mapping;
+
+	@Test
+	public void explicit() {
+		setup( "explicit" );
+		indexAll();
+
+		List<Set<String>> tenantsPerShard = tenantsPerShard();
+		assertThat( tenantsPerShard ).hasSize( 3 );
+		assertThat( tenantsPerShard ).containsExactlyInAnyOrder(
+				Collections.singleton( TENANT_1 ),
+				Collections.singleton( TENANT_2 ),
+				Collections.singleton( TENANT_3 ) );
+		assertTenantDocuments();
+	}
+
+	@Test
+	public void hash() {
+		setup( "hash" );
+		indexAll();
+
+		// A tenant is never split between shards.
+		Set<String> allTenants = new HashSet<>();
+		for ( Set<String> tenants : tenantsPerShard() ) {
+			for ( String tenant : tenants ) {
+				assertThat( allTenants.add( tenant ) ).as( "Tenant " + tenant + " is in a single shard" ).isTrue();
+			}
+		}
+		assertThat( allTenants ).containsExactlyInAnyOrder( TENANT_1, TENANT_2, TENANT_3 );
+		assertTenantDocuments();
+	}
+
+	@Test
+	public void routingKeysAreFilters() {
+		setup( "explicit" );
+		indexAll();
+
+		assertThat( index.createScope().query( mapping.session( TENANT_1 ) )
+				.where( f -> f.matchAll() )
+				.routing( "key0" )
+				.fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT_PER_TENANT / 2 );
+
+		workspace( TENANT_2 ).purge( Collections.singleton( "key1" ), OperationSubmitter.blocking(),
+				UnsupportedOperationBehavior.FAIL ).join();
+		workspace( TENANT_2 ).refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+
+		assertThat( count( TENANT_1 ) ).isEqualTo( DOCUMENT_COUNT_PER_TENANT );
+		assertThat( count( TENANT_2 ) ).isEqualTo( DOCUMENT_COUNT_PER_TENANT / 2 );
+		assertThat( count( TENANT_3 ) ).isEqualTo( DOCUMENT_COUNT_PER_TENANT );
+	}
+
+	@Test
+	public void purge() {
+		setup( "explicit" );
+		indexAll();
+
+		workspace( TENANT_2 ).purge( Collections.emptySet(), OperationSubmitter.blocking(),
+				UnsupportedOperationBehavior.FAIL ).join();
+		workspace( TENANT_2 ).flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		workspace( TENANT_2 ).refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+
+		assertThat( count( TENANT_1 ) ).isEqualTo( DOCUMENT_COUNT_PER_TENANT );
+		assertThat( count( TENANT_2 ) ).isZero();
+		assertThat( count( TENANT_3 ) ).isEqualTo( DOCUMENT_COUNT_PER_TENANT );
+		assertThat( tenantsPerShard() ).containsExactlyInAnyOrder(
+				Collections.singleton( TENANT_1 ),
+				Collections.emptySet(),
+				Collections.singleton( TENANT_3 ) );
+	}
+
+	private void setup(String shardingStrategy) {
+		mapping = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, MultiTenancyStrategyName.SHARD )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, shardingStrategy )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS,
+						TENANT_1 + "," + TENANT_2 + "," + TENANT_3 )
+				.withMultiTenancy()
+				.withIndex( index )
+				.setup();
+	}
+
+	private void indexAll() {
+		for ( String tenantId : new String[] { TENANT_1, TENANT_2, TENANT_3 } ) {
+			IndexIndexingPlan plan = index.createIndexingPlan( mapping.session( tenantId ),
+					DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+			for ( int i = 0; i < DOCUMENT_COUNT_PER_TENANT; i++ ) {
+				String value = tenantId + "_" + i;
+				plan.add( referenceProvider( String.valueOf( i ), "key" + ( i % 2 ) ),
+						document -> document.addValue( index.binding().text, value ) );
+			}
+			plan.execute( OperationSubmitter.blocking() ).join();
+		}
+	}
+
+	private void assertTenantDocuments() {
+		for ( String tenantId : new String[] { TENANT_1, TENANT_2, TENANT_3 } ) {
+			assertThat( index.createScope().query( mapping.session( tenantId ) )
+					.select( f -> f.field( "text", String.class ) )
+					.where( f -> f.matchAll() )
+					.fetchAllHits() )
+					.hasSize( DOCUMENT_COUNT_PER_TENANT )
+					.allSatisfy( text -> assertThat( text ).startsWith( tenantId + "_" ) );
+		}
+	}
+
+	private long count(String tenantId) {
+		return index.createScope().query( mapping.session( tenantId ) )
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCount();
+	}
+
+	private IndexWorkspace workspace(String tenantId) {
+		return index.createWorkspace( mapping.session( tenantId ) );
+	}
+
+	private List<Set<String>> tenantsPerShard() {
+		List<Set<String>> result = new ArrayList<>();
+		for ( Shard shard : index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() ) {
+			Set<String> tenants = new HashSet<>();
+			try ( DirectoryReader reader = DirectoryReader.open(
+					shard.indexAccessorForTests().getDirectoryForTests() ) ) {
+				IndexSearcher searcher = new IndexSearcher( reader );
+				Terms terms = MultiTerms.getTerms( reader, MetadataFields.tenantIdFieldName() );
+				if ( terms != null ) {
+					TermsEnum termsEnum = terms.iterator();
+					for ( BytesRef term = termsEnum.next(); term != null; term = termsEnum.next() ) {
+						// Ignore tenants whose documents were all deleted.
+						if ( searcher.count( new TermQuery( new Term( MetadataFields.tenantIdFieldName(), term ) ) ) > 0 ) {
+							tenants.add( term.utf8ToString() );
+						}
+					}
+				}
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+			result.add( tenants );
+		}
+		return result;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,310 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that shards of an index using the "hash" sharding strategy can be split without reindexing,
+ * that documents end up in the shard they are routed to,
+ * and that the new number of shards is used after a restart.
+ */
+public class LuceneShardSplitIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int ROUTING_KEY_COUNT = 5;
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void split() {
+		setup( "hash", StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		indexAll( "initial" );
+		assertThat( shardCount() ).isEqualTo( 2 );
+
+		indexManager().splitShards( 3 );
+
+		assertThat( shardCount() ).isEqualTo( 6 );
+		assertAllDocuments( "initial" );
+
+		// If a document ended up in the wrong shard, updating it would result in a duplicate.
+		indexAll( "updated" );
+		assertAllDocuments( "updated" );
+
+		// Splitting again should work too.
+		indexManager().splitShards( 2 );
+		assertThat( shardCount() ).isEqualTo( 12 );
+		assertAllDocuments( "updated" );
+	}
+
+	@Test
+	public void split_indexingPlanRoutedBeforeSplit() {
+		setup( "hash", StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		indexAll( "initial" );
+
+		// Works are added to the plan before the split, but executed after the split:
+		// they must be routed to the new shards, otherwise updates would result in duplicates.
+		IndexIndexingPlan plan = createIndexingPlan( "updated" );
+		indexManager().splitShards( 2 );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertThat( shardCount() ).isEqualTo( 4 );
+		assertAllDocuments( "updated" );
+	}
+
+	@Test
+	public void split_concurrentIndexing() throws Exception {
+		setup( "hash", StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		indexAll( "initial" );
+
+		int roundCount = 20;
+		CountDownLatch indexingStarted = new CountDownLatch( 1 );
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> indexingFuture = executor.submit( () -> {
+				for ( int round = 0; round < roundCount; round++ ) {
+					IndexIndexingPlan plan = createIndexingPlan( "round" + round + "-" );
+					indexingStarted.countDown();
+					plan.execute( OperationSubmitter.blocking() ).join();
+				}
+			} );
+			indexingStarted.await();
+			// Split while documents are being updated.
+			indexManager().splitShards( 2 );
+			indexManager().splitShards( 2 );
+			indexingFuture.get();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( shardCount() ).isEqualTo( 8 );
+		// If an update was executed against a shard that no longer holds the document,
+		// we would get duplicates or lost updates.
+		assertAllDocuments( "round" + ( roundCount - 1 ) + "-" );
+	}
+
+	@Test
+	public void split_concurrentSearch() throws Exception {
+		setup( "hash", StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		indexAll( "initial" );
+		String routingKey = routingKey( 1 );
+		long routedCount = valuesForRoutingKey( "initial", routingKey ).size();
+
+		AtomicBoolean splitDone = new AtomicBoolean( false );
+		CountDownLatch searchStarted = new CountDownLatch( 1 );
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<List<Long>> searchFuture = executor.submit( () -> {
+				List<Long> unexpectedCounts = new ArrayList<>();
+				do {
+					long count = index.query().where( f -> f.matchAll() ).fetchTotalHitCount();
+					if ( count != DOCUMENT_COUNT ) {
+						unexpectedCounts.add( count );
+					}
+					long routed = index.query().where( f -> f.matchAll() ).routing( routingKey )
+							.fetchTotalHitCount();
+					if ( routed < routedCount ) {
+						unexpectedCounts.add( routed );
+					}
+					searchStarted.countDown();
+				}
+				while ( !splitDone.get() );
+				return unexpectedCounts;
+			} );
+			searchStarted.await();
+			// Searches must see either all documents before the split or all documents after the split.
+			indexManager().splitShards( 2 );
+			indexManager().splitShards( 3 );
+			splitDone.set( true );
+			assertThat( searchFuture.get() ).isEmpty();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( shardCount() ).isEqualTo( 12 );
+		assertAllDocuments( "initial" );
+	}
+
+	@Test
+	public void restart() throws Exception {
+		String root = temporaryFolder.getRoot().toString();
+		StubMapping mapping = setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY )
+				.withIndex( index )
+				.setup();
+		indexAll( "initial" );
+		indexManager().splitShards( 2 );
+		mapping.close();
+
+		// The configured number of shards is still 2, but the index now has 4 shards.
+		index = SimpleMappedIndex.of( IndexBinding::new );
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, root )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.NONE )
+				.withIndex( index )
+				.setup();
+		assertThat( shardCount() ).isEqualTo( 4 );
+		assertAllDocuments( "initial" );
+		indexAll( "updated" );
+		assertAllDocuments( "updated" );
+	}
+
+	@Test
+	public void invalidShardingStrategy() {
+		setup( "explicit", StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		assertThatThrownBy( () -> indexManager().splitShards( 2 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to split the shards of this index",
+						"shard splitting requires the 'hash' sharding strategy" );
+	}
+
+	private void setup(String shardingStrategy, StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, shardingStrategy )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 2 )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS, "a,b" )
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex( index )
+				.setup();
+	}
+
+	private LuceneIndexManager indexManager() {
+		return index.toApi().unwrap( LuceneIndexManager.class );
+	}
+
+	private int shardCount() {
+		return index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests().size();
+	}
+
+	private void indexAll(String prefix) {
+		createIndexingPlan( prefix ).execute( OperationSubmitter.blocking() ).join();
+	}
+
+	private IndexIndexingPlan createIndexingPlan(String prefix) {
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE );
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			String value = prefix + i;
+			// Some documents are routed according to a routing key, others according to their identifier.
+			String routingKey = i % 2 == 0 ? null : routingKey( i );
+			plan.addOrUpdate( referenceProvider( id, routingKey ), document -> {
+				document.addValue( index.binding().text, value );
+				DocumentElement nested = document.addObject( index.binding().nested );
+				nested.addValue( index.binding().nestedText, value );
+			} );
+		}
+		return plan;
+	}
+
+	private void assertAllDocuments(String prefix) {
+		List<String> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( prefix + i );
+		}
+		assertThat( index.query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrderElementsOf( expected );
+
+		// Nested documents must have been moved along with their root document.
+		assertThat( index.query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.nested( "nested" ).add( f.match().field( "nested.text" ).matching( prefix + 3 ) ) )
+				.fetchAllHits() )
+				.containsExactly( prefix + 3 );
+
+		// Routing must target the right shards.
+		for ( int k = 0; k < ROUTING_KEY_COUNT; k++ ) {
+			String routingKey = "routingKey" + k;
+			assertThat( index.query()
+					.select( f -> f.field( "text", String.class ) )
+					.where( f -> f.matchAll() )
+					.routing( routingKey )
+					.fetchAllHits() )
+					.contains( valuesForRoutingKey( prefix, routingKey ).toArray( new String[0] ) );
+		}
+	}
+
+	private List<String> valuesForRoutingKey(String prefix, String routingKey) {
+		List<String> values = new ArrayList<>();
+		for ( int i = 1; i < DOCUMENT_COUNT; i += 2 ) {
+			if ( routingKey( i ).equals( routingKey ) ) {
+				values.add( prefix + i );
+			}
+		}
+		return values;
+	}
+
+	private static String routingKey(int i) {
+		return "routingKey" + ( i % ROUTING_KEY_COUNT );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<String> nestedText;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectStructure.NESTED );
+			nested = nestedField.toReference();
+			nestedText = nestedField.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that indexing works are applied correctly, and in order for each document,
+ * when batches from a single indexing queue are applied by multiple threads.
+ */
+public class LuceneIndexingBatchParallelismIT {
+
+	private static final int DOCUMENT_COUNT = 2_000;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.THREAD_POOL_SIZE, 4 )
+				// Force all works into a single queue, so that only batch parallelism can help.
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_BATCH_PARALLELISM, 4 )
+				.withIndex( index )
+				.setup();
+	}
+
+	@Test
+	public void addUpdateDelete_preservesOrderPerDocument() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+
+		IndexIndexingPlan plan = createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().number, value ) );
+		}
+		futures.add( plan.execute( OperationSubmitter.blocking() ) );
+
+		plan = createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i + DOCUMENT_COUNT;
+			plan.addOrUpdate( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().number, value ) );
+		}
+		futures.add( plan.execute( OperationSubmitter.blocking() ) );
+
+		plan = createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i += 2 ) {
+			plan.delete( referenceProvider( String.valueOf( i ) ) );
+		}
+		futures.add( plan.execute( OperationSubmitter.blocking() ) );
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+		index.createWorkspace().refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 1; i < DOCUMENT_COUNT; i += 2 ) {
+			expected.add( i + DOCUMENT_COUNT );
+		}
+		List<Integer> hits = index.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.fetchAllHits();
+		assertThat( hits ).containsExactlyElementsOf( expected );
+
+		List<DocumentReference> deleted = index.query()
+				.where( f -> f.id().matchingAny( List.of( "0", "2", "4" ) ) )
+				.fetchAllHits();
+		assertThat( deleted ).isEmpty();
+	}
+
+	private IndexIndexingPlan createIndexingPlan() {
+		return index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
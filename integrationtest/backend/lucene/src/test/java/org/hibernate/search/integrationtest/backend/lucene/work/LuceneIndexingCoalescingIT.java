@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.common.EntityReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubEntityReference;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that adds and updates applied in a single call to the index writer
+ * produce the same results as adds and updates applied one by one,
+ * including for nested documents and when some documents cannot be indexed.
+ */
+@RunWith(Parameterized.class)
+public class LuceneIndexingCoalescingIT {
+
+	private static final int DOCUMENT_COUNT = 1_000;
+
+	@Parameters(name = "Batch parallelism {0}")
+	public static Object[][] data() {
+		return new Object[][] { { 1 }, { 4 } };
+	}
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final int batchParallelism;
+
+	public LuceneIndexingCoalescingIT(int batchParallelism) {
+		this.batchParallelism = batchParallelism;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				// Force all works into a single queue, so that batches are large.
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_BATCH_PARALLELISM, batchParallelism )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_MAX_COALESCED_WORKS, 100 )
+				.withIndex( index )
+				.setup();
+	}
+
+	@Test
+	public void addUpdate_nested() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+
+		IndexIndexingPlan plan = createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String value = "initial" + i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> index.binding().contribute( document, value ) );
+		}
+		futures.add( plan.execute( OperationSubmitter.blocking() ) );
+
+		// Updates of the same documents will most likely end up in the same batch as adds:
+		// they must be applied after the adds.
+		plan = createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i += 2 ) {
+			String value = "updated" + i;
+			plan.addOrUpdate( referenceProvider( String.valueOf( i ) ),
+					document -> index.binding().contribute( document, value ) );
+		}
+		futures.add( plan.execute( OperationSubmitter.blocking() ) );
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+		refresh();
+
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+		assertThat( idsMatchingNested( "initial0" ) ).isEmpty();
+		assertThat( idsMatchingNested( "updated0" ) ).containsExactly( "0" );
+		assertThat( idsMatchingNested( "initial1" ) ).containsExactly( "1" );
+		assertThat( idsMatchingNested( "updated1" ) ).isEmpty();
+		// Each nested document must still be attached to the right root document.
+		assertThat( index.query().where( f -> f.nested( "nested" )
+				.add( f.match().field( "nested.text" ).matching( "updated998" ) ) )
+				.fetchAllHits() )
+				.extracting( DocumentReference::id )
+				.containsExactly( "998" );
+	}
+
+	@Test
+	public void failure_onlyFailingDocumentReported() {
+		IndexIndexingPlan plan = createIndexingPlan();
+		for ( int i = 0; i < 20; i++ ) {
+			// Terms longer than 32766 bytes cannot be indexed.
+			String value = i == 7 ? "a".repeat( 40_000 ) : "value" + i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> index.binding().contribute( document, value ) );
+		}
+		List<EntityReference> failingReferences = plan.executeAndReport( OperationSubmitter.blocking() )
+				.join().failingEntityReferences();
+		assertThat( failingReferences )
+				.containsExactly( new StubEntityReference( DocumentReference.class, index.typeName(), "7" ) );
+
+		refresh();
+		assertThat( index.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 19 );
+	}
+
+	private List<String> idsMatchingNested(String value) {
+		List<String> ids = new ArrayList<>();
+		for ( DocumentReference reference : index.query()
+				.where( f -> f.match().field( "nested.text" ).matching( value ) )
+				.fetchAllHits() ) {
+			ids.add( reference.id() );
+		}
+		return ids;
+	}
+
+	private void refresh() {
+		index.createWorkspace().refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+	}
+
+	private IndexIndexingPlan createIndexingPlan() {
+		return index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<String> nestedText;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", c -> c.asString() ).toReference();
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectStructure.NESTED );
+			nested = nestedField.toReference();
+			nestedText = nestedField.field( "text", c -> c.asString() ).toReference();
+		}
+
+		void contribute(DocumentElement document, String value) {
+			document.addValue( text, value );
+			DocumentElement nestedObject = document.addObject( nested );
+			nestedObject.addValue( nestedText, value );
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.junit.Assume.assumeTrue;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Checks that vector fields can be indexed, projected on,
+ * and searched with a "knn" predicate, with or without a filter.
+ */
+public class KnnPredicateSpecificsIT {
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		assumeTrue( "This test is only relevant if the backend supports vector search",
+				TckConfiguration.get().getBackendFeatures().supportsVectorSearch() );
+
+		setupHelper.start().withIndex( index ).setup();
+
+		BulkIndexer indexer = index.bulkIndexer();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			indexer.add( String.valueOf( i ), document -> {
+				document.addValue( index.binding().floatVector, new float[] { value, 0.0f } );
+				document.addValue( index.binding().byteVector, new byte[] { (byte) value, 0 } );
+				document.addValue( index.binding().parity, value % 2 == 0 ? "even" : "odd" );
+			} );
+		}
+		indexer.join();
+	}
+
+	@Test
+	public void floatVector() {
+		assertThatQuery( index.query()
+				.where( f -> f.knn( 3 ).field( "floatVector" ).matching( 0.0f, 0.0f ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "0", "1", "2" );
+	}
+
+	@Test
+	public void byteVector() {
+		assertThatQuery( index.query()
+				.where( f -> f.knn( 2 ).field( "byteVector" ).matching( (byte) 9, (byte) 0 ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "9", "8" );
+	}
+
+	@Test
+	public void filter() {
+		// The filter is applied while looking for the nearest neighbours: we still get k hits.
+		assertThatQuery( index.query()
+				.where( f -> f.knn( 3 ).field( "floatVector" ).matching( 0.0f, 0.0f )
+						.filter( f.match().field( "parity" ).matching( "odd" ) ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "3", "5" );
+	}
+
+	@Test
+	public void boolFilter() {
+		// A filter outside of the knn predicate is applied after looking for the nearest neighbours.
+		assertThatQuery( index.query()
+				.where( f -> f.bool()
+						.must( f.knn( 3 ).field( "floatVector" ).matching( 0.0f, 0.0f ) )
+						.filter( f.match().field( "parity" ).matching( "odd" ) ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "1" );
+	}
+
+	@Test
+	public void projection() {
+		assertThat( index.query()
+				.select( f -> f.field( "floatVector", float[].class ) )
+				.where( f -> f.id().matching( "4" ) )
+				.fetchAllHits() )
+				.containsExactly( new float[] { 4.0f, 0.0f } );
+		assertThat( index.query()
+				.select( f -> f.field( "byteVector", byte[].class ) )
+				.where( f -> f.id().matching( "4" ) )
+				.fetchAllHits() )
+				.containsExactly( new byte[] { 4, 0 } );
+	}
+
+	@Test
+	public void invalidVectorDimension() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.knn( 3 ).field( "floatVector" ).matching( 0.0f, 0.0f, 0.0f ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid vector for the 'knn' predicate",
+						"this field expects vectors of dimension 2, but the given vector has dimension 3" );
+	}
+
+	@Test
+	public void invalidVectorType() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.knn( 3 ).field( "floatVector" ).matching( (byte) 0, (byte) 0 ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid vector for the 'knn' predicate",
+						"this field expects vectors of type 'float[]', but the given vector is of type 'byte[]'" );
+	}
+
+	@Test
+	public void invalidK() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.knn( 0 ).field( "floatVector" ).matching( 0.0f, 0.0f ) ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'k' must be strictly positive" );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<float[]> floatVector;
+		final IndexFieldReference<byte[]> byteVector;
+		final IndexFieldReference<String> parity;
+
+		IndexBinding(IndexSchemaElement root) {
+			floatVector = root.field( "floatVector", f -> f.asFloatVector().dimension( 2 )
+					.projectable( Projectable.YES ) )
+					.toReference();
+			byteVector = root.field( "byteVector", f -> f.asByteVector().dimension( 2 )
+					.projectable( Projectable.YES ) )
+					.toReference();
+			parity = root.field( "parity", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -14,8 +14,10 @@
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assume.assumeTrue;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -111,6 +113,25 @@ public void firstHalf_largerPage() {
 		}
 	}
 
+	@Test
+	public void all_sameScore() {
+		// All documents have the same score:
+		// moving from one chunk to the next must not skip or repeat documents.
+		Set<String> hitIds = new HashSet<>();
+		int hitCount = 0;
+		try ( SearchScroll<DocumentReference> scroll = matchAllWithConditionSortedByScoreQuery().scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				for ( DocumentReference hit : chunk.hits() ) {
+					hitIds.add( hit.id() );
+					++hitCount;
+				}
+			}
+		}
+		assertThat( hitCount ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( hitIds ).hasSize( DOCUMENT_COUNT );
+	}
+
 	@Test
 	public void tookAndTimedOut() {
 		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( CHUNK_SIZE ) ) {
@@ -111,6 +111,10 @@ public boolean supportsHighlighterUnifiedPhraseMatching() {
 		return false;
 	}
 
+	public boolean supportsVectorSearch() {
+		return true;
+	}
+
 	public boolean supportsExplicitMergeSegments() {
 		return true;
 	}
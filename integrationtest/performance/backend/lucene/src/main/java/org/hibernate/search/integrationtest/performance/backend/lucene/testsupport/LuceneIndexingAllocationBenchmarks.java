@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.integrationtest.performance.backend.base.AbstractBackendBenchmarks;
+import org.hibernate.search.integrationtest.performance.backend.base.WriteCounters;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.dataset.Dataset;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.dataset.DatasetHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.IndexInitializer;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * JMH benchmarks measuring the memory allocated on the Lucene write path, per indexed document.
+ * <p>
+ * Documents are added from a single thread, without commits or refreshes,
+ * so that the measured allocations are dominated by document building and the index writer.
+ * Run with {@code -prof gc} and read the {@code gc.alloc.rate.norm} metric,
+ * which is the number of bytes allocated per indexed document.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class LuceneIndexingAllocationBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final int BATCH_SIZE = 100;
+
+	private MappedIndex index;
+	private IndexIndexer indexer;
+	private Dataset dataset;
+
+	private long currentDocumentIdInThread = 0L;
+
+	@Setup(Level.Trial)
+	public void setupTrial(LuceneBackendHolder backendHolder, IndexInitializer indexInitializer,
+			ThreadParams threadParams) {
+		doSetupTrial( backendHolder, indexInitializer, threadParams );
+	}
+
+	@Setup(Level.Iteration)
+	public void prepareIteration(DatasetHolder datasetHolder) {
+		index = getIndexPartition().getIndex();
+		indexer = index.createIndexer();
+		dataset = datasetHolder.getDataset();
+	}
+
+	@Benchmark
+	@Threads(1)
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void addDocuments(WriteCounters counters) throws InterruptedException {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[BATCH_SIZE];
+
+		for ( int i = 0; i < BATCH_SIZE; ++i ) {
+			long documentId = getIndexPartition().toDocumentId( currentDocumentIdInThread++ );
+			futures[i] = indexer.add(
+					StubMapperUtils.referenceProvider( String.valueOf( documentId ) ),
+					document -> dataset.populate( index, document, documentId, 0L ),
+					DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, OperationSubmitter.blocking()
+			);
+		}
+
+		// Do not return until works are *actually* executed
+		Futures.unwrappedExceptionGet( CompletableFuture.allOf( futures ) );
+
+		counters.write += BATCH_SIZE;
+	}
+
+}
@@ -18,6 +18,7 @@
 import org.hibernate.search.engine.backend.types.Searchable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.types.TermVector;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.predicate.definition.PredicateDefinition;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -232,6 +233,16 @@ public Builder termVector(TermVector termVector) {
 			return this;
 		}
 
+		public Builder dimension(int dimension) {
+			attribute( "dimension", dimension );
+			return this;
+		}
+
+		public Builder vectorSimilarity(VectorSimilarity vectorSimilarity) {
+			attribute( "vectorSimilarity", vectorSimilarity );
+			return this;
+		}
+
 		public Builder highlightable(Collection<Highlightable> highlightable) {
 			attribute( "highlightable", highlightable.toArray() );
 			return this;
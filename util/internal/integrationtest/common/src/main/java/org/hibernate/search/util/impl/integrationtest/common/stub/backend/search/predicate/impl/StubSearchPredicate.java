@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.SimpleQueryFlag;
 import org.hibernate.search.engine.search.predicate.spi.BooleanPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.ExistsPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchAllPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchIdPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchNonePredicateBuilder;
@@ -116,6 +117,7 @@ public void flags(Set<SimpleQueryFlag> flags) {
 			SpatialWithinCirclePredicateBuilder,
 			SpatialWithinPolygonPredicateBuilder,
 			SpatialWithinBoundingBoxPredicateBuilder,
+			KnnPredicateBuilder,
 			NamedPredicateBuilder {
 		private boolean hasClause = false;
 
@@ -259,6 +261,21 @@ public void factory(SearchPredicateFactory factory) {
 		public void param(String name, Object value) {
 			// No-op, just simulates a call on this object
 		}
+
+		@Override
+		public void k(int k) {
+			// No-op
+		}
+
+		@Override
+		public void vector(float[] vector) {
+			// No-op
+		}
+
+		@Override
+		public void vector(byte[] vector) {
+			// No-op
+		}
 	}
 
 	private static class StubFieldState implements SimpleQueryStringPredicateBuilder.FieldState {
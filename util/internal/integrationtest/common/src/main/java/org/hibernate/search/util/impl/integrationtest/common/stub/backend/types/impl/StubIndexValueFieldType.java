@@ -70,7 +70,8 @@ public Builder(Class<F> valueClass) {
 					PredicateTypeKeys.TERMS,
 					PredicateTypeKeys.SPATIAL_WITHIN_CIRCLE,
 					PredicateTypeKeys.SPATIAL_WITHIN_POLYGON,
-					PredicateTypeKeys.SPATIAL_WITHIN_BOUNDING_BOX
+					PredicateTypeKeys.SPATIAL_WITHIN_BOUNDING_BOX,
+					PredicateTypeKeys.KNN
 			);
 			stubFactories(
 					new StubSearchPredicate.RegexpFactory(),